@@ -1,6 +1,10 @@
 package com.blinkfox.stalker;
 
 import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.monitor.MemoryMonitor;
+import com.blinkfox.stalker.result.MeasureResult;
 import com.blinkfox.stalker.runner.MeasureRunnerContext;
 import lombok.experimental.UtilityClass;
 
@@ -13,6 +17,16 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class Assert {
 
+    /**
+     * 断言没有内存分配时，平均每次运行允许分配的字节数.
+     *
+     * <p>JVM 在 JIT 编译切换等时刻可能会在测量线程中产生少量的一次性内存分配，而待测量方法只要每次运行都分配对象，
+     * 平均每次运行就至少会分配 16 字节，因此平均每次运行分配的字节数小于此值时，即认为没有内存分配.</p>
+     *
+     * @since v1.3.0
+     */
+    public static final double ZERO_ALLOCATION_BYTES_PER_OP = 0.1;
+
     /**
      * 测试失败.
      */
@@ -23,15 +37,82 @@ public class Assert {
     /**
      * 断言 runnable1 比 runnable2 的实例程序执行的平均时间更快.
      *
+     * <p>选项参数中开启了交替对比测量（{@link Options#interleave(int)}）时，两者会在同一次测量中按轮次交替运行，
+     * 只有 runnable2 相对于 runnable1 的平均耗时差异的 95% 置信区间的下限大于 {@code 0}，即 runnable1 显著更快时断言才会通过.</p>
+     *
      * @param options 两个Runnable需要测量运行的参数选项
      * @param runnable1 可运行实例1
      * @param runnable2 可运行实例2
      */
     public void assertFaster(Options options, Runnable runnable1, Runnable runnable2) {
         MeasureRunnerContext runnerContext = new MeasureRunnerContext(options);
+        if (options.getInterleave() > 0) {
+            MeasureResult second = runnerContext.runInterleaved(runnable1, runnable2)[1];
+            if (second.getRelativeDiffLower() <= 0) {
+                throw new AssertionError(StrKit.format("【Stalker 断言失败】期望 runnable1 显著快于 runnable2，"
+                        + "实际 runnable2 的平均耗时相对于 runnable1 的差异为 {}%（95% 置信区间为 [{}%, {}%]，共 {} 轮）.",
+                        StrKit.roundToString(second.getRelativeDiff()),
+                        StrKit.roundToString(second.getRelativeDiffLower()),
+                        StrKit.roundToString(second.getRelativeDiffUpper()), second.getInterleaveRounds()));
+            }
+            return;
+        }
+
         if (runnerContext.run(runnable1).getSum() >= runnerContext.run(runnable2).getSum()) {
             fail();
         }
     }
 
+    /**
+     * 断言 runnable 在正式测量期间平均每次运行分配的字节数不超过给定的字节数.
+     *
+     * <p>runnable 会经过正常的预热和测量流程来运行，并且会在 options 的副本上强制开启 {@link Options#memoryStats(boolean)}，
+     * 只有正式测量期间测量线程中分配的内存才会被统计. 为了使 JIT 编译（如逃逸分析）生效，应设置足够多的预热次数和运行次数，
+     * 运行次数过少时，测量框架自身在 JIT 编译切换期间的少量内存分配也可能会被计入；
+     * 在多线程并发测量时，测量框架自身可能会有少量的一次性内存分配，单线程测量时的结果最为精确.</p>
+     *
+     * @param options 测量运行的参数选项
+     * @param bytesPerOp 平均每次运行最多允许分配的字节数
+     * @param runnable 可运行实例
+     * @return 测量统计结果
+     * @throws StalkerException 当前 JVM 不支持统计线程的内存分配量时抛出此异常
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public MeasureResult assertAllocatesAtMost(Options options, double bytesPerOp, Runnable runnable) {
+        if (bytesPerOp < 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】bytesPerOp 不能小于 0.");
+        }
+        if (!MemoryMonitor.isAllocationSupported()) {
+            throw new StalkerException("【Stalker 异常】当前 JVM 不支持统计线程的内存分配量，无法断言内存分配情况.");
+        }
+
+        // 先用空任务和相同的监视器完整运行一次测量流程，使测量框架自身在测量窗口内用到的类都已经加载和初始化了，避免其内存分配被计入.
+        new MeasureRunnerContext(Options.of(1).warmups(0).sharedCounters(null).memoryStats(true)
+                .cpuStats(options.isCpuStats()).jitStats(options.isJitStats())).run(() -> { });
+        MeasureResult result = new MeasureRunnerContext(options.copy().memoryStats(true)).run(runnable);
+        if (result.getAllocatedBytesPerOp() > bytesPerOp) {
+            throw new AssertionError(StrKit.format("【Stalker 断言失败】期望平均每次运行最多分配 {} 字节，"
+                    + "实际平均每次运行分配了 {} 字节（共运行 {} 次，总分配 {}）.",
+                    StrKit.roundToString(bytesPerOp), StrKit.roundToString(result.getAllocatedBytesPerOp()),
+                    result.getTotal(), result.getEasyReadAllocatedBytes()));
+        }
+        return result;
+    }
+
+    /**
+     * 断言 runnable 在正式测量期间没有分配内存，即平均每次运行分配的字节数不超过 {@link #ZERO_ALLOCATION_BYTES_PER_OP}.
+     *
+     * @param options 测量运行的参数选项
+     * @param runnable 可运行实例
+     * @return 测量统计结果
+     * @throws StalkerException 当前 JVM 不支持统计线程的内存分配量时抛出此异常
+     * @author blinkfox on 2026-10-19.
+     * @see #assertAllocatesAtMost(Options, double, Runnable)
+     * @since v1.3.0
+     */
+    public MeasureResult assertZeroAllocation(Options options, Runnable runnable) {
+        return assertAllocatesAtMost(options, ZERO_ALLOCATION_BYTES_PER_OP, runnable);
+    }
+
 }
@@ -2,7 +2,9 @@ package com.blinkfox.stalker;
 
 import com.blinkfox.stalker.config.Options;
 import com.blinkfox.stalker.config.RunDuration;
+import com.blinkfox.stalker.monitor.SlowestInvocationsMonitor;
 import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.remote.ForkRunner;
 import com.blinkfox.stalker.result.MeasureResult;
 import com.blinkfox.stalker.result.StalkerFuture;
 import com.blinkfox.stalker.runner.MeasureRunnerContext;
@@ -76,6 +78,8 @@ public class Stalker {
     /**
      * 测量要执行的各个代码的性能并输出统计数据的结果数组.
      *
+     * <p>选项参数中开启了交替对比测量（{@link Options#interleave(int)}）且有多个任务时，会在同一次测量中按轮次交替运行各个任务.</p>
+     *
      * @param options 参数选项
      * @param runnables 可运行的任务
      * @return 各个运行结果统计数据的数组
@@ -88,6 +92,10 @@ public class Stalker {
             throw new IllegalArgumentException("【Stalker 参数异常】options or runnables is null (or empty)!");
         }
 
+        if (options.getInterleave() > 0 && len > 1) {
+            return new MeasureRunnerContext(options).runInterleaved(runnables);
+        }
+
         // 循环遍历测量各个 Runnable 实例的性能结果，然后将各个结果存放到数组中，最后统一输出出来.
         MeasureResult[] measurements = new MeasureResult[len];
         for (int i = 0; i < len; i++) {
@@ -96,6 +104,46 @@ public class Stalker {
         return measurements;
     }
 
+    /**
+     * 在新启动的子 JVM 中测量各个待测量任务的性能并输出结果，各个任务之间不会共享 JIT 编译信息和堆状态.
+     *
+     * @param options 参数选项，通过 {@link Options#forks(int)} 设置每个任务运行的子 JVM 个数
+     * @param tasks 待测量任务的类名（需要实现 {@link Runnable} 接口），或者 {@code 类名#方法名}（需要是公共的无参方法）
+     * @return 运行的输出结果集合
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public List<Object> runForked(Options options, String... tasks) {
+        return new MeasureOutputContext().output(options, runStatisForked(options, tasks));
+    }
+
+    /**
+     * 在新启动的子 JVM 中测量各个待测量任务的性能，并返回统计数据的结果数组.
+     *
+     * <p>每个任务都会依次在 {@link Options#getForks()} 个新启动的子 JVM 中单独预热和正式测量，子 JVM 使用与当前 JVM
+     * 相同的 {@code java} 命令和类路径，以及 {@link Options#forkJvmArgs(String...)} 设置的 JVM 参数，
+     * 各个子 JVM 的测量结果会被合并为该任务的测量结果，并带有子 JVM 之间的差异. 子 JVM 个数为 {@code 0} 时直接在当前 JVM 中运行.</p>
+     *
+     * @param options 参数选项
+     * @param tasks 待测量任务的类名（需要实现 {@link Runnable} 接口），或者 {@code 类名#方法名}（需要是公共的无参方法）
+     * @return 各个运行结果统计数据的数组
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public MeasureResult[] runStatisForked(Options options, String... tasks) {
+        int len;
+        if (options == null || tasks == null || (len = tasks.length) == 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】options or tasks is null (or empty)!");
+        }
+        options.valid();
+
+        MeasureResult[] measurements = new MeasureResult[len];
+        for (int i = 0; i < len; i++) {
+            measurements[i] = ForkRunner.run(options, tasks[i]);
+        }
+        return measurements;
+    }
+
     /**
      * 根据 {@link Options} 和 {@link MeasureResult} 来动态计算出运行任务的进度值，值的范围在 {@code 0 ~ 100} 之间.
      *
@@ -106,11 +154,41 @@ public class Stalker {
      * @since v1.2.2
      */
     public double getProgress(Options options, MeasureResult result) {
+        return getProgress(options, result.getTotal(), result.getCosts());
+    }
+
+    /**
+     * 根据 {@link Options}、已运行的总次数和已运行的总耗时来动态计算出运行任务的进度值，值的范围在 {@code 0 ~ 100} 之间.
+     *
+     * <p>对于按次数运行的任务，总的运行次数是 {@code threads * runs}.</p>
+     *
+     * @param options 选项参数
+     * @param total 已运行的总次数
+     * @param costs 已运行的总耗时，单位纳秒({@code ns})
+     * @return 进度的 double 值，值的范围在 {@code 0 ~ 100} 之间.
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double getProgress(Options options, long total, long costs) {
         RunDuration duration = options.getDuration();
         double progress = duration != null
-                ? (result.getCosts() * 100d) / duration.getAmountNanoTime()
-                : (result.getTotal() * 100d) / options.getThreads();
+                ? (costs * 100d) / duration.getAmountNanoTime()
+                : (total * 100d) / ((long) options.getThreads() * options.getRuns());
         return progress > 100 ? 100d : progress;
     }
 
+    /**
+     * 在待测量的方法中为当前这次执行设置一个标签（如请求的类型、输入数据的规模等），
+     * 该次执行如果是耗时最长的若干次执行之一，其记录中就会带上该标签，便于定位是哪一类的输入导致了最慢的执行.
+     *
+     * <p>标签只对调用时正在执行的这一次执行有效，不在测量线程中调用时不做任何处理.</p>
+     *
+     * @param tag 标签
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public void tag(String tag) {
+        SlowestInvocationsMonitor.tag(tag);
+    }
+
 }
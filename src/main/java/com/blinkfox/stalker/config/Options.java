@@ -68,6 +68,181 @@ public class Options {
      */
     private ScheduledUpdater scheduledUpdater;
 
+    /**
+     * 发布内存映射共享计数器文件的目录，为空时表示不发布，默认为空.
+     *
+     * @since v1.3.0
+     */
+    private String sharedCountersDir;
+
+    /**
+     * 是否统计测量期间的内存分配和 GC 数据，默认是 true.
+     *
+     * @since v1.3.0
+     */
+    private boolean memoryStats;
+
+    /**
+     * 是否统计测量线程和 JVM 进程在测量期间的 CPU 时间，默认是 true.
+     *
+     * @since v1.3.0
+     */
+    private boolean cpuStats;
+
+    /**
+     * 是否统计预热期间和正式测量期间的 JIT 编译活动，默认是 true.
+     *
+     * @since v1.3.0
+     */
+    private boolean jitStats;
+
+    /**
+     * 是否统计测量线程在正式测量期间的线程状态分布和锁竞争情况，默认是 false.
+     *
+     * @since v1.3.0
+     */
+    private boolean threadStats;
+
+    /**
+     * 是否在正式测量期间检测 JVM 和操作系统层面的停顿（hiccup），默认是 false.
+     *
+     * @since v1.3.0
+     */
+    private boolean hiccupStats;
+
+    /**
+     * 是否将耗时样本与正式测量期间的 GC 停顿进行关联，默认是 true.
+     *
+     * @since v1.3.0
+     */
+    private boolean gcPauseStats;
+
+    /**
+     * 是否在 Linux 系统中通过 {@code /proc} 和 {@code /sys} 统计正式测量期间的运行环境数据，默认是 false.
+     *
+     * @since v1.3.0
+     */
+    private boolean procStats;
+
+    /**
+     * 对测量线程的调用栈进行采样分析的时间间隔，单位为纳秒(ns)，为 {@code 0} 时表示不进行采样分析，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private long profileInterval;
+
+    /**
+     * 写入采样分析得到的折叠调用栈文件的目录，为空时表示不写入文件，默认为空.
+     *
+     * @since v1.3.0
+     */
+    private String profileDir;
+
+    /**
+     * 记录正式测量期间耗时最长的执行的次数，为 {@code 0} 时表示不记录，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private int slowest;
+
+    /**
+     * 单次执行的耗时超过该阈值时对测量线程的调用栈进行采样的阈值，单位为纳秒(ns)，为 {@code 0} 时表示不采样，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private long slowestStackThreshold;
+
+    /**
+     * 是否在正式测量期间定时采样 GC 后的堆内存、存活线程数等资源的使用量，并判断其是否在持续增长，默认是 true.
+     *
+     * @since v1.3.0
+     */
+    private boolean trendStats;
+
+    /**
+     * 采样资源使用量的时间间隔，单位为纳秒(ns)，为 {@code 0} 时表示根据测量方式自动选择，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private long trendInterval;
+
+    /**
+     * 是否在正式测量期间按固定的时间间隔对吞吐量和平均耗时做快照，并查找两者发生显著突变的变点，默认是 true.
+     *
+     * @since v1.3.0
+     */
+    private boolean changePointStats;
+
+    /**
+     * 对吞吐量和平均耗时做快照的时间间隔，单位为纳秒(ns)，为 {@code 0} 时表示根据测量方式自动选择，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private long changePointInterval;
+
+    /**
+     * 是否在测量期间发送 Stalker 自定义的 JFR 事件，仅在 Java 11 及以上的版本中有效，默认是 false.
+     *
+     * @since v1.3.0
+     */
+    private boolean jfrEvents;
+
+    /**
+     * 单次执行的耗时超过该阈值时发送慢执行的 JFR 事件，单位为纳秒(ns)，为 {@code 0} 时表示不发送，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private long jfrSlowThreshold;
+
+    /**
+     * 写入只覆盖本次测量任务的 JFR 记录文件的目录，为空时表示不开启 JFR 记录，默认为空.
+     *
+     * @since v1.3.0
+     */
+    private String jfrRecordingDir;
+
+    /**
+     * 在多少个新启动的子 JVM 中依次运行测量任务，为 {@code 0} 时表示在当前 JVM 中运行，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private int forks;
+
+    /**
+     * 启动子 JVM 时使用的 JVM 参数.
+     *
+     * @since v1.3.0
+     */
+    private List<String> forkJvmArgs = new ArrayList<>();
+
+    /**
+     * 正式测量的迭代次数，每次迭代都会完整地运行一遍正式测量，默认是 1.
+     *
+     * @since v1.3.0
+     */
+    private int iterations = 1;
+
+    /**
+     * 相邻两次迭代之间的停顿时间，单位为纳秒(ns)，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private long iterationPause;
+
+    /**
+     * 是否在相邻两次迭代之间执行一次 GC，默认是 false.
+     *
+     * @since v1.3.0
+     */
+    private boolean gcBetweenIterations;
+
+    /**
+     * 交替对比测量多个任务时每一轮中每个任务连续运行的次数，为 {@code 0} 时表示依次测量各个任务，默认是 0.
+     *
+     * @since v1.3.0
+     */
+    private int interleave;
+
     /**
      * 根据'执行次数'来构建Options实例.
      *
@@ -82,7 +257,31 @@ public class Options {
                 .warmups(defaultOptions.getWarmups())
                 .runs(defaultOptions.getRuns())
                 .printErrorLog(defaultOptions.isPrintErrorLog())
-                .outputs(defaultOptions.getOutputs());
+                .outputs(defaultOptions.getOutputs())
+                .sharedCounters(defaultOptions.getSharedCountersDir())
+                .memoryStats(defaultOptions.isMemoryStats())
+                .cpuStats(defaultOptions.isCpuStats())
+                .jitStats(defaultOptions.isJitStats())
+                .threadStats(defaultOptions.isThreadStats())
+                .hiccupStats(defaultOptions.isHiccupStats())
+                .gcPauseStats(defaultOptions.isGcPauseStats())
+                .procStats(defaultOptions.isProcStats())
+                .profile(defaultOptions.getProfileInterval(), TimeUnit.NANOSECONDS)
+                .profileDir(defaultOptions.getProfileDir())
+                .slowest(defaultOptions.getSlowest())
+                .slowestStackThreshold(defaultOptions.getSlowestStackThreshold(), TimeUnit.NANOSECONDS)
+                .trendStats(defaultOptions.isTrendStats())
+                .trendInterval(defaultOptions.getTrendInterval(), TimeUnit.NANOSECONDS)
+                .changePointStats(defaultOptions.isChangePointStats())
+                .changePointInterval(defaultOptions.getChangePointInterval(), TimeUnit.NANOSECONDS)
+                .jfrEvents(defaultOptions.isJfrEvents())
+                .jfrSlowThreshold(defaultOptions.getJfrSlowThreshold(), TimeUnit.NANOSECONDS)
+                .jfrRecordingDir(defaultOptions.getJfrRecordingDir())
+                .forks(defaultOptions.getForks())
+                .iterations(defaultOptions.getIterations())
+                .iterationPause(defaultOptions.getIterationPause(), TimeUnit.NANOSECONDS)
+                .gcBetweenIterations(defaultOptions.isGcBetweenIterations())
+                .interleave(defaultOptions.getInterleave());
     }
 
     /**
@@ -260,7 +459,23 @@ public class Options {
         if (this.verify(this.getThreads() <= 0, "Options 中的线程数 threads 的值必须大于0.")
                 || this.verify(this.getConcurrens() <= 0, "Options 中的线程数 concurrens 的值必须大于0.")
                 || this.verify(this.getWarmups() < 0, "Options 中的线程数 warmups 的值必须大于0.")
-                || this.verify(this.getRuns() <= 0, "Options 中的线程数 runs 的值必须大于0.")) {
+                || this.verify(this.getRuns() <= 0, "Options 中的线程数 runs 的值必须大于0.")
+                || this.verify(this.getProfileInterval() < 0, "Options 中的采样间隔 profileInterval 的值不能小于0.")
+                || this.verify(this.getSlowest() < 0, "Options 中的最慢执行记录数 slowest 的值不能小于0.")
+                || this.verify(this.getSlowestStackThreshold() < 0,
+                        "Options 中的调用栈采样阈值 slowestStackThreshold 的值不能小于0.")
+                || this.verify(this.getTrendInterval() < 0, "Options 中的采样间隔 trendInterval 的值不能小于0.")
+                || this.verify(this.getChangePointInterval() < 0,
+                        "Options 中的快照间隔 changePointInterval 的值不能小于0.")
+                || this.verify(this.getJfrSlowThreshold() < 0,
+                        "Options 中的慢执行事件阈值 jfrSlowThreshold 的值不能小于0.")
+                || this.verify(this.getForks() < 0, "Options 中的子 JVM 个数 forks 的值不能小于0.")
+                || this.verify(this.getIterations() <= 0, "Options 中的迭代次数 iterations 的值必须大于0.")
+                || this.verify(this.getIterationPause() < 0,
+                        "Options 中的迭代间停顿时间 iterationPause 的值不能小于0.")
+                || this.verify(this.getInterleave() < 0, "Options 中的交替运行次数 interleave 的值不能小于0.")
+                || this.verify(this.getInterleave() > 0 && this.getConcurrens() > 1,
+                        "Options 中的交替对比测量只支持单线程运行，并发数 concurrens 的值必须为1.")) {
             throw new IllegalArgumentException(this.message);
         }
     }
@@ -279,6 +494,52 @@ public class Options {
         return condition;
     }
 
+    /**
+     * 复制出一个与本实例各个属性值都相同的新 Options 实例，修改新实例的属性值不会影响本实例.
+     *
+     * @return 新的 Options 实例
+     * @since v1.3.0
+     */
+    public Options copy() {
+        Options options = new Options();
+        options.name = this.name;
+        options.threads = this.threads;
+        options.concurrens = this.concurrens;
+        options.warmups = this.warmups;
+        options.runs = this.runs;
+        options.duration = this.duration;
+        options.printErrorLog = this.printErrorLog;
+        options.outputs = this.outputs == null ? null : new ArrayList<>(this.outputs);
+        options.message = this.message;
+        options.scheduledUpdater = this.scheduledUpdater;
+        options.sharedCountersDir = this.sharedCountersDir;
+        options.memoryStats = this.memoryStats;
+        options.cpuStats = this.cpuStats;
+        options.jitStats = this.jitStats;
+        options.threadStats = this.threadStats;
+        options.hiccupStats = this.hiccupStats;
+        options.gcPauseStats = this.gcPauseStats;
+        options.procStats = this.procStats;
+        options.profileInterval = this.profileInterval;
+        options.profileDir = this.profileDir;
+        options.slowest = this.slowest;
+        options.slowestStackThreshold = this.slowestStackThreshold;
+        options.trendStats = this.trendStats;
+        options.trendInterval = this.trendInterval;
+        options.changePointStats = this.changePointStats;
+        options.changePointInterval = this.changePointInterval;
+        options.jfrEvents = this.jfrEvents;
+        options.jfrSlowThreshold = this.jfrSlowThreshold;
+        options.jfrRecordingDir = this.jfrRecordingDir;
+        options.forks = this.forks;
+        options.forkJvmArgs = new ArrayList<>(this.forkJvmArgs);
+        options.iterations = this.iterations;
+        options.iterationPause = this.iterationPause;
+        options.gcBetweenIterations = this.gcBetweenIterations;
+        options.interleave = this.interleave;
+        return options;
+    }
+
     /**
      * 设置测量名称 name 的属性值.
      *
@@ -301,6 +562,19 @@ public class Options {
         return this;
     }
 
+    /**
+     * 将并发数设置为当前进程可以使用的 CPU 核数，在 Docker 或 Kubernetes 等容器中会考虑 cgroup 的 CPU 配额，
+     * 避免并发数超过 CPU 配额而在测量期间被 CPU 限流.
+     *
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options concurrensByCpus() {
+        this.concurrens = StalkerConfigManager.getInstance().getAvailableCpus();
+        return this;
+    }
+
     /**
      * 设置线程数 concurrens 的属性值.
      *
@@ -422,4 +696,359 @@ public class Options {
         return this;
     }
 
+    /**
+     * 设置发布内存映射共享计数器文件的目录，设置之后，运行中的测量任务会定时将计数器和耗时直方图发布到该目录下的文件中，
+     * 便于外部进程通过 {@link com.blinkfox.stalker.monitor.StalkerTop} 等工具以零拷贝的方式实时观察多个测量进程.
+     *
+     * @param dir 共享计数器文件的目录，为空时表示不发布
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options sharedCounters(String dir) {
+        this.sharedCountersDir = dir;
+        return this;
+    }
+
+    /**
+     * 设置是否统计测量期间的内存分配和 GC 数据，开启后会统计出每次运行的平均分配字节数、分配速率和 GC 的次数及耗时等.
+     *
+     * @param memoryStats 是否统计内存分配和 GC 数据
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options memoryStats(boolean memoryStats) {
+        this.memoryStats = memoryStats;
+        return this;
+    }
+
+    /**
+     * 设置是否统计测量线程和 JVM 进程在测量期间的 CPU 时间，开启后会按批次统计每次运行的 CPU 时间、墙上时间与 CPU 时间的比值，
+     * 以及 JVM 进程平均使用的 CPU 核数、CPU 使用率和每 CPU 秒的运行次数.
+     *
+     * @param cpuStats 是否统计 CPU 时间
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options cpuStats(boolean cpuStats) {
+        this.cpuStats = cpuStats;
+        return this;
+    }
+
+    /**
+     * 设置是否统计预热期间和正式测量期间的 JIT 编译活动，开启后如果正式测量期间仍有明显的 JIT 编译，输出结果中会给出警示.
+     *
+     * @param jitStats 是否统计 JIT 编译活动
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options jitStats(boolean jitStats) {
+        this.jitStats = jitStats;
+        return this;
+    }
+
+    /**
+     * 设置是否统计测量线程在正式测量期间的线程状态分布和锁竞争情况，开启后会在测量期间开启 JVM 的线程竞争监控，
+     * 并统计出测量线程处于 {@code RUNNABLE}、{@code BLOCKED} 和 {@code WAITING} 状态的时间占比、平均每次运行的阻塞和等待次数及耗时，
+     * 以及竞争最多的若干个锁.
+     *
+     * @param threadStats 是否统计线程状态和锁竞争
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options threadStats(boolean threadStats) {
+        this.threadStats = threadStats;
+        return this;
+    }
+
+    /**
+     * 设置是否在正式测量期间检测 JVM 和操作系统层面的停顿（hiccup），开启后会由一个单独的线程不断地休眠 {@code 1} 毫秒，
+     * 并统计每次醒来时超出预期的时间分布，与待测量方法的耗时分布一起展示，用于区分耗时的异常值是否由运行平台引起.
+     *
+     * @param hiccupStats 是否检测停顿
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options hiccupStats(boolean hiccupStats) {
+        this.hiccupStats = hiccupStats;
+        return this;
+    }
+
+    /**
+     * 设置是否将耗时样本与正式测量期间的 GC 停顿进行关联，开启后会根据 HotSpot 性能计数器判断慢样本是否与 GC 停顿重叠，
+     * 并统计出排除这些样本之后的耗时百分位值，以及耗时不小于 {@code p99} 的尾部样本中与 GC 停顿重叠的比例.
+     *
+     * @param gcPauseStats 是否关联 GC 停顿
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options gcPauseStats(boolean gcPauseStats) {
+        this.gcPauseStats = gcPauseStats;
+        return this;
+    }
+
+    /**
+     * 设置是否在 Linux 系统中通过 {@code /proc} 和 {@code /sys} 统计正式测量期间的运行环境数据，包括测量线程的上下文切换次数、
+     * JVM 进程的用户态和内核态 CPU 时间、系统的 CPU 使用率和平均负载、CPU 频率的变化、容器的 CPU 限流等，非 Linux 系统中会被忽略.
+     *
+     * @param procStats 是否统计运行环境数据
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options procStats(boolean procStats) {
+        this.procStats = procStats;
+        return this;
+    }
+
+    /**
+     * 设置在正式测量期间对测量线程的调用栈进行采样分析的时间间隔，开启后测量结果中会包含位于栈顶的采样次数最多的若干个热点栈帧，
+     * 采样间隔越小，采样结果越精确，但对测量结果的干扰也越大，通常设置为 {@code 1 ~ 20} 毫秒即可.
+     *
+     * @param interval 采样的时间间隔，为 {@code 0} 时表示不进行采样分析
+     * @param timeUnit 时间单位
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options profile(long interval, TimeUnit timeUnit) {
+        this.profileInterval = timeUnit.toNanos(interval);
+        return this;
+    }
+
+    /**
+     * 设置写入采样分析得到的折叠调用栈文件的目录，设置之后，测量结束时会将折叠调用栈写入到该目录下的
+     * {@code 名称-进程ID-序号.collapsed} 文件中，可直接用于 FlameGraph 等工具生成火焰图.
+     *
+     * @param dir 折叠调用栈文件的目录，为空时表示不写入文件
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options profileDir(String dir) {
+        this.profileDir = dir;
+        return this;
+    }
+
+    /**
+     * 设置需要记录的正式测量期间耗时最长的执行的次数，测量结果中会按耗时从长到短列出这些执行的耗时、开始时刻、所在线程和标签等信息，
+     * 耗时未超过已记录的最短耗时的执行只需一次比较，不会分配内存.
+     *
+     * @param slowest 记录的次数，为 {@code 0} 时表示不记录
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options slowest(int slowest) {
+        this.slowest = slowest;
+        return this;
+    }
+
+    /**
+     * 设置对耗时最长的执行进行调用栈采样的阈值，设置之后会由一个单独的线程定时检查各个测量线程，
+     * 如果某次执行在超过该阈值后仍未结束，就采样一次该测量线程的调用栈，并附加到该次执行的记录中.
+     *
+     * @param threshold 耗时阈值，为 {@code 0} 时表示不采样
+     * @param timeUnit 时间单位
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options slowestStackThreshold(long threshold, TimeUnit timeUnit) {
+        this.slowestStackThreshold = timeUnit.toNanos(threshold);
+        return this;
+    }
+
+    /**
+     * 设置是否在正式测量期间定时采样 GC 后的堆内存、存活线程数、打开的文件描述符数和直接内存的使用量，
+     * 开启后测量结果中会列出各项资源的增长速率，并标出单调增长（即可能存在资源泄漏）的资源，适合长时间的稳定性测试.
+     *
+     * @param trendStats 是否采样
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options trendStats(boolean trendStats) {
+        this.trendStats = trendStats;
+        return this;
+    }
+
+    /**
+     * 设置采样资源使用量的时间间隔，未设置时按持续时间测量的会在整个测量期间采样约 {@code 120} 次（间隔至少为 {@code 1} 秒），
+     * 按执行次数测量的则每秒采样一次.
+     *
+     * @param interval 采样的时间间隔，为 {@code 0} 时表示自动选择
+     * @param timeUnit 时间单位
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options trendInterval(long interval, TimeUnit timeUnit) {
+        this.trendInterval = timeUnit.toNanos(interval);
+        return this;
+    }
+
+    /**
+     * 设置是否在正式测量期间按固定的时间间隔对吞吐量和平均耗时做快照，并查找两者发生显著突变的变点，
+     * 开启后测量结果中会列出各个变点发生的时刻和前后的均值，避免阶跃式的性能变化被累计的测量结果平均掉.
+     *
+     * @param changePointStats 是否查找变点
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options changePointStats(boolean changePointStats) {
+        this.changePointStats = changePointStats;
+        return this;
+    }
+
+    /**
+     * 设置对吞吐量和平均耗时做快照的时间间隔，未设置时按持续时间测量的会在整个测量期间快照约 {@code 100} 次
+     * （间隔至少为 {@code 100} 毫秒），按执行次数测量的则每秒快照一次.
+     *
+     * @param interval 快照的时间间隔，为 {@code 0} 时表示自动选择
+     * @param timeUnit 时间单位
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options changePointInterval(long interval, TimeUnit timeUnit) {
+        this.changePointInterval = timeUnit.toNanos(interval);
+        return this;
+    }
+
+    /**
+     * 设置是否在测量期间发送 Stalker 自定义的 JFR 事件，包括测量任务、预热和正式测量阶段、每秒的吞吐量和耗时快照等事件，
+     * 便于在 JDK Mission Control 中与同一时间段内的 GC、锁和 I/O 等事件关联起来分析，仅在 Java 11 及以上的版本中有效.
+     *
+     * @param jfrEvents 是否发送 JFR 事件
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options jfrEvents(boolean jfrEvents) {
+        this.jfrEvents = jfrEvents;
+        return this;
+    }
+
+    /**
+     * 设置发送慢执行的 JFR 事件的耗时阈值，开启了 JFR 事件后，耗时超过该阈值的单次执行会由测量线程发送一个慢执行事件.
+     *
+     * @param threshold 耗时阈值，为 {@code 0} 时表示不发送
+     * @param timeUnit 时间单位
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options jfrSlowThreshold(long threshold, TimeUnit timeUnit) {
+        this.jfrSlowThreshold = timeUnit.toNanos(threshold);
+        return this;
+    }
+
+    /**
+     * 设置写入 JFR 记录文件的目录，设置之后会在预热开始前以 JFR 的 {@code default} 配置开启一个只覆盖本次测量任务的 JFR 记录，
+     * 并在正式测量结束时写入到该目录下的 {@code 名称-进程ID-序号.jfr} 文件中，同时也会发送 Stalker 自定义的 JFR 事件.
+     *
+     * @param dir JFR 记录文件的目录，为空时表示不开启 JFR 记录
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options jfrRecordingDir(String dir) {
+        this.jfrRecordingDir = dir;
+        return this;
+    }
+
+    /**
+     * 设置在多少个新启动的子 JVM 中依次运行测量任务，每个子 JVM 都会单独预热和正式测量，从而避免前面的测量任务留下的 JIT 编译
+     * 信息（如变为多态的调用点）和堆状态影响后面的测量任务，最终的测量结果由各个子 JVM 的测量结果合并而成，
+     * 并会给出子 JVM 之间的差异，仅对 {@code Stalker.runForked} 等按类名或方法名运行的测量任务有效.
+     *
+     * @param forks 子 JVM 的个数，为 {@code 0} 时表示在当前 JVM 中运行
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options forks(int forks) {
+        this.forks = forks;
+        return this;
+    }
+
+    /**
+     * 添加启动子 JVM 时使用的 JVM 参数，如：{@code -Xmx512m}.
+     *
+     * @param args JVM 参数
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options forkJvmArgs(String... args) {
+        this.forkJvmArgs.addAll(Arrays.asList(args));
+        return this;
+    }
+
+    /**
+     * 设置正式测量的迭代次数，预热之后会依次运行多次完整的正式测量，测量结果中会带有各次迭代的测量结果，
+     * 以及各次迭代的平均耗时的均值和 95% 置信区间. 同一次测量中相邻执行的耗时往往是自相关的，单次测量的置信区间会明显偏窄，
+     * 而各次迭代的平均耗时之间更接近独立，其置信区间更能反映测量结果的真实波动，仅对同步运行的测量任务有效.
+     *
+     * @param iterations 迭代次数，为 {@code 1} 时表示只运行一次正式测量
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options iterations(int iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * 设置相邻两次迭代之间的停顿时间，用于等待上一次迭代遗留的后台活动（如 GC 线程、JIT 编译线程等）平静下来.
+     *
+     * @param pause 停顿时间
+     * @param timeUnit 时间单位
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options iterationPause(long pause, TimeUnit timeUnit) {
+        this.iterationPause = timeUnit.toNanos(pause);
+        return this;
+    }
+
+    /**
+     * 设置是否在相邻两次迭代之间执行一次 GC，使每次迭代都从相近的堆状态开始.
+     *
+     * @param gcBetweenIterations 是否执行 GC
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options gcBetweenIterations(boolean gcBetweenIterations) {
+        this.gcBetweenIterations = gcBetweenIterations;
+        return this;
+    }
+
+    /**
+     * 设置交替对比测量多个任务时每一轮中每个任务连续运行的次数. 开启后 {@code Stalker.run} 等方法在测量多个任务时，
+     * 不再依次测量各个任务，而是在同一次测量中按轮次交替运行各个任务（每一轮中的顺序随机），使 CPU 降频、后台任务等环境的变化
+     * 均匀地影响各个任务，并给出各个任务相对于第一个任务的平均耗时的差异及其 95% 置信区间，只支持单线程运行，
+     * 按执行次数测量时每个任务都会在当前线程中运行 {@code threads * runs} 次.
+     *
+     * @param runs 每一轮中每个任务连续运行的次数，为 {@code 0} 时表示依次测量各个任务
+     * @return 本 {@link Options} 实例
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public Options interleave(int runs) {
+        this.interleave = runs;
+        return this;
+    }
+
 }
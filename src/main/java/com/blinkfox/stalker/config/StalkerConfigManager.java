@@ -1,5 +1,6 @@
 package com.blinkfox.stalker.config;
 
+import com.blinkfox.stalker.monitor.CgroupFs;
 import com.blinkfox.stalker.output.OutputConsole;
 import lombok.Getter;
 
@@ -28,16 +29,35 @@ public final class StalkerConfigManager {
     @Getter
     private ScheduledUpdater defaultScheduledUpdater;
 
+    /**
+     * 当前进程可以使用的 CPU 核数，在容器中会考虑 cgroup 的 CPU 配额.
+     *
+     * @since v1.3.0
+     */
+    @Getter
+    private final int availableCpus;
+
     /**
      * 私有构造方法，构造默认的选项参数数据.
      */
     private StalkerConfigManager() {
+        this.availableCpus = CgroupFs.getInstance().getAvailableCpus();
         this.defaultOptions = new Options()
                 .threads(1)
                 .concurrens(1)
                 .warmups(5)
                 .runs(10)
                 .printErrorLog(false)
+                .memoryStats(true)
+                .cpuStats(true)
+                .jitStats(true)
+                .threadStats(false)
+                .hiccupStats(false)
+                .gcPauseStats(true)
+                .procStats(false)
+                .slowest(0)
+                .trendStats(true)
+                .changePointStats(true)
                 .outputs(new OutputConsole());
 
         this.defaultScheduledUpdater = ScheduledUpdater.ofSeconds(10).disable();
@@ -0,0 +1,88 @@
+package com.blinkfox.stalker.kit;
+
+import com.blinkfox.stalker.exception.StalkerException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * 内存屏障工具类，用于在普通的（非 volatile 的）内存读写之间建立顺序，如内存映射文件中的顺序锁(seqlock)协议.
+ *
+ * <p>Java 8 中只有 {@code sun.misc.Unsafe} 提供了显式的读写屏障，本类通过反射获取其 {@code storeFence} 和 {@code loadFence}
+ * 方法，并转换为常量的方法句柄，JIT 编译后与直接调用 {@code Unsafe} 相同；无法获取 {@code Unsafe} 时，
+ * 则使用 Java 9 及之后版本中 {@code VarHandle} 上同名的静态方法.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public final class FenceKit {
+
+    /**
+     * 写屏障的方法句柄.
+     */
+    private static final MethodHandle STORE_FENCE = findFence("storeFence");
+
+    /**
+     * 读屏障的方法句柄.
+     */
+    private static final MethodHandle LOAD_FENCE = findFence("loadFence");
+
+    /**
+     * 私有构造方法.
+     */
+    private FenceKit() {
+    }
+
+    /**
+     * 查找指定名称的无参屏障方法，并转换为参数和返回值都为空的方法句柄.
+     *
+     * @param name 方法名称
+     * @return 方法句柄
+     */
+    private static MethodHandle findFence(String name) {
+        MethodType type = MethodType.methodType(void.class);
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup().findVirtual(unsafeClass, name, type).bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            try {
+                return MethodHandles.publicLookup().findStatic(Class.forName("java.lang.invoke.VarHandle"), name, type);
+            } catch (ReflectiveOperationException ex) {
+                throw new StalkerException("【Stalker 错误提示】当前 JVM 不支持内存屏障方法【" + name + "】！", ex);
+            }
+        }
+    }
+
+    /**
+     * 写屏障，保证本屏障之前的写入不会与之后的写入重排序.
+     */
+    public static void storeFence() {
+        invoke(STORE_FENCE);
+    }
+
+    /**
+     * 读屏障，保证本屏障之前的读取不会与之后的读取和写入重排序.
+     */
+    public static void loadFence() {
+        invoke(LOAD_FENCE);
+    }
+
+    /**
+     * 调用屏障方法的方法句柄.
+     *
+     * @param fence 方法句柄
+     */
+    private static void invoke(MethodHandle fence) {
+        try {
+            fence.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new StalkerException("【Stalker 错误提示】调用内存屏障方法时出错！", e);
+        }
+    }
+
+}
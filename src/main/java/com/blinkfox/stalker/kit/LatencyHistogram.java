@@ -0,0 +1,288 @@
+package com.blinkfox.stalker.kit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 支持高并发写入的耗时直方图，单位为纳秒({@code ns}).
+ *
+ * <p>桶的划分方式是"对数-线性"的：小于 {@code 32} 的值每个值一个桶，其余的值按 2 的幂次分段，
+ * 每段再线性划分为 {@code 32} 个子桶，所以各个值落入桶后的相对误差不超过约 {@code 3%}，
+ * 且整个直方图只占用固定的约 {@code 15KB} 的内存，记录数据时也不会产生任何对象分配.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个 2 的幂次段中子桶数量的二进制位数.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * 每个 2 的幂次段中子桶的数量.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 直方图中桶的总数量，能够覆盖所有正的 long 值.
+     */
+    public static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    /**
+     * 各个桶中记录的次数.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * 默认构造方法.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+    }
+
+    /**
+     * 根据各个桶的计数值来构造直方图实例.
+     *
+     * @param counts 各个桶的计数值，长度不能超过 {@link #BUCKET_COUNT}
+     * @return {@link LatencyHistogram} 实例
+     */
+    public static LatencyHistogram ofCounts(long[] counts) {
+        if (counts == null || counts.length > BUCKET_COUNT) {
+            throw new IllegalArgumentException("【Stalker 参数异常】直方图的桶计数数组为空或长度超过了【"
+                    + BUCKET_COUNT + "】.");
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < counts.length; ++i) {
+            histogram.counts.set(i, counts[i]);
+        }
+        return histogram;
+    }
+
+    /**
+     * 计算某个值所对应的桶的索引.
+     *
+     * @param value 值
+     * @return 桶索引
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * 获取某个桶所能表示的最小值.
+     *
+     * @param index 桶索引
+     * @return 最小值
+     */
+    static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int exp = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long sub = index % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + sub) << (exp - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * 获取某个桶所能表示的最大值.
+     *
+     * @param index 桶索引
+     * @return 最大值
+     */
+    static long upperBoundOf(int index) {
+        return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowerBoundOf(index + 1) - 1;
+    }
+
+    /**
+     * 记录一次耗时值，负数会被当作 {@code 0} 来记录.
+     *
+     * @param value 耗时值，单位纳秒({@code ns})
+     */
+    public void record(long value) {
+        this.counts.incrementAndGet(indexOf(value));
+    }
+
+    /**
+     * 获取直方图中记录的总次数.
+     *
+     * @return 总次数
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            total += this.counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 获取某个索引桶中的计数值.
+     *
+     * @param index 桶索引
+     * @return 计数值
+     */
+    public long getCount(int index) {
+        return this.counts.get(index);
+    }
+
+    /**
+     * 复制出当前各个桶中计数值的数组快照.
+     *
+     * @return 计数值数组
+     */
+    public long[] getCounts() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            snapshot[i] = this.counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 复制出当前直方图的快照副本.
+     *
+     * @return 新的 {@link LatencyHistogram} 实例
+     */
+    public LatencyHistogram copy() {
+        return ofCounts(this.getCounts());
+    }
+
+    /**
+     * 将另一个直方图中的数据累加到本直方图中.
+     *
+     * @param other 另一个直方图
+     * @return 本直方图实例
+     */
+    public LatencyHistogram add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                this.counts.addAndGet(i, count);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 计算出本直方图相对于之前某个快照直方图之间新增数据的直方图，常用于计算某段时间区间内的数据.
+     *
+     * @param before 之前的快照直方图
+     * @return 新的 {@link LatencyHistogram} 实例
+     */
+    public LatencyHistogram since(LatencyHistogram before) {
+        long[] delta = this.getCounts();
+        if (before != null) {
+            for (int i = 0; i < BUCKET_COUNT; ++i) {
+                delta[i] = Math.max(0, delta[i] - before.counts.get(i));
+            }
+        }
+        return ofCounts(delta);
+    }
+
+    /**
+     * 获取指定百分位处的耗时值，返回的是该值所在桶的中间值，如果直方图中没有任何数据，将返回 {@code 0}.
+     *
+     * @param percentile 百分位，取值范围是 {@code 0 ~ 100}，如：{@code 99.9}
+     * @return 耗时值，单位纳秒({@code ns})
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = this.getCounts();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        // 求出百分位对应的排名，然后从低到高累加各个桶的计数，直到累计值达到该排名.
+        double p = Math.min(Math.max(percentile, 0d), 100d);
+        long rank = Math.max(1, (long) Math.ceil(p / 100d * total));
+        long accumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            accumulated += snapshot[i];
+            if (accumulated >= rank) {
+                return this.medianOf(i);
+            }
+        }
+        return this.medianOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 获取直方图中所有记录值的平均值，按各个桶的中间值来计算，如果直方图中没有任何数据，将返回 {@code 0}.
+     *
+     * @return 平均值，单位纳秒({@code ns})
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double getMean() {
+        long total = 0;
+        double sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            long count = this.counts.get(i);
+            if (count > 0) {
+                total += count;
+                sum += (double) count * this.medianOf(i);
+            }
+        }
+        return total == 0 ? 0 : sum / total;
+    }
+
+    /**
+     * 获取直方图中不小于指定值所在桶的下界的记录次数，即大于或约等于该值的记录次数，常用于统计尾部样本的数量.
+     *
+     * @param value 值，单位纳秒({@code ns})
+     * @return 记录次数
+     */
+    public long getCountAtOrAbove(long value) {
+        long count = 0;
+        for (int i = indexOf(value); i < BUCKET_COUNT; ++i) {
+            count += this.counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * 获取直方图中记录的最大值所在桶的上界值，如果直方图中没有任何数据，将返回 {@code 0}.
+     *
+     * @return 最大值
+     */
+    public long getMaxValue() {
+        for (int i = BUCKET_COUNT - 1; i >= 0; --i) {
+            if (this.counts.get(i) > 0) {
+                return upperBoundOf(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 清空直方图中的所有数据.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            this.counts.set(i, 0);
+        }
+    }
+
+    /**
+     * 获取某个桶的中间值.
+     *
+     * @param index 桶索引
+     * @return 中间值
+     */
+    private long medianOf(int index) {
+        long lower = lowerBoundOf(index);
+        return lower + (upperBoundOf(index) - lower) / 2;
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.blinkfox.stalker.kit;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -11,6 +14,18 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class MathKit {
 
+    /**
+     * 自由度为 {@code 1 ~ 30} 时，学生 t 分布的双侧 95% 分位值（即 {@code 0.975} 分位值）.
+     */
+    private static final double[] T_975 = {12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+
+    /**
+     * 标准正态分布的 {@code 0.975} 分位值.
+     */
+    private static final double Z_975 = 1.959964;
+
     /**
      * 根据执行总数和消耗的总时间来计算吞吐率.
      *
@@ -24,4 +39,236 @@ public class MathKit {
         return costs == 0 ? 0.0d : count / ((double) costs / 1e9);
     }
 
+    /**
+     * 根据数据的个数、和与平方和计算各个数据与均值的偏差平方和（{@code M2}），浮点误差可能会使其为极小的负数，这里取 {@code 0}.
+     *
+     * <p>该公式需要将两个非常接近的大数相减，数据很多且变异系数很小时会损失大部分有效数字，因此只适用于数据较少的情况，
+     * 数据较多时应使用 Welford 算法在线累计偏差平方和，再通过 {@link #mergeM2} 合并.</p>
+     *
+     * @param count 数据的个数
+     * @param sum 数据的和
+     * @param squareSum 数据的平方和
+     * @return 偏差平方和，数据个数不大于 {@code 0} 时返回 {@code 0}
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double calcM2(long count, long sum, double squareSum) {
+        return count <= 0 ? 0 : Math.max(squareSum - sum * ((double) sum / count), 0);
+    }
+
+    /**
+     * 使用 Chan 等人的并行算法合并两组数据各自的偏差平方和，得出合并后整组数据与均值的偏差平方和，结果与直接对整组数据计算的结果相同.
+     *
+     * @param count1 第一组数据的个数
+     * @param sum1 第一组数据的和
+     * @param m2a 第一组数据的偏差平方和
+     * @param count2 第二组数据的个数
+     * @param sum2 第二组数据的和
+     * @param m2b 第二组数据的偏差平方和
+     * @return 合并后的偏差平方和
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double mergeM2(long count1, long sum1, double m2a, long count2, long sum2, double m2b) {
+        if (count1 <= 0 || count2 <= 0) {
+            return count1 <= 0 ? m2b : m2a;
+        }
+
+        double delta = (double) sum2 / count2 - (double) sum1 / count1;
+        return m2a + m2b + delta * delta * ((double) count1 * count2 / (count1 + count2));
+    }
+
+    /**
+     * 计算前 {@code n} 个数据的样本标准差（即以 {@code n - 1} 为分母的标准差），常用于估计多次独立重复测量之间的差异.
+     *
+     * @param ys 数据数组
+     * @param n 数据的个数
+     * @return 样本标准差，数据少于 {@code 2} 个时返回 {@code 0}
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double calcSampleStdDev(double[] ys, int n) {
+        if (n < 2) {
+            return 0;
+        }
+
+        double mean = 0;
+        for (int i = 0; i < n; ++i) {
+            mean += ys[i];
+        }
+        mean /= n;
+
+        double m2 = 0;
+        for (int i = 0; i < n; ++i) {
+            m2 += (ys[i] - mean) * (ys[i] - mean);
+        }
+        return Math.sqrt(m2 / (n - 1));
+    }
+
+    /**
+     * 获取学生 t 分布的双侧 95% 分位值，用于根据少量独立样本（如多次迭代的均值）计算均值的 95% 置信区间.
+     *
+     * <p>自由度不大于 {@code 30} 时查表，大于 {@code 30} 时使用 Cornish-Fisher 展开近似，误差小于 {@code 0.001}.</p>
+     *
+     * @param df 自由度，即样本数减 {@code 1}
+     * @return 分位值，自由度小于 {@code 1} 时返回 {@code 0}
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double calcStudentT975(int df) {
+        if (df < 1) {
+            return 0;
+        } else if (df <= T_975.length) {
+            return T_975[df - 1];
+        }
+
+        double z3 = Z_975 * Z_975 * Z_975;
+        double z5 = z3 * Z_975 * Z_975;
+        return Z_975 + (z3 + Z_975) / (4.0 * df) + (5 * z5 + 16 * z3 + 3 * Z_975) / (96.0 * df * df);
+    }
+
+    /**
+     * 使用最小二乘法计算前 {@code n} 个数据点的线性回归的斜率.
+     *
+     * @param xs 自变量数组
+     * @param ys 因变量数组
+     * @param n 数据点的个数
+     * @return 斜率，数据点少于 {@code 2} 个或自变量都相同时返回 {@code 0}
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double calcSlope(double[] xs, double[] ys, int n) {
+        if (n < 2) {
+            return 0;
+        }
+
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; ++i) {
+            meanX += xs[i];
+            meanY += ys[i];
+        }
+        meanX /= n;
+        meanY /= n;
+
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < n; ++i) {
+            covariance += (xs[i] - meanX) * (ys[i] - meanY);
+            variance += (xs[i] - meanX) * (xs[i] - meanX);
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    /**
+     * 计算前 {@code n} 个按时间顺序排列的数据点的 Kendall 秩相关系数（即 Mann-Kendall 趋势检验中的 {@code tau}），
+     * 用于判断数据是否单调变化：越接近 {@code 1} 说明越是单调递增，越接近 {@code -1} 说明越是单调递减，相等的数据对不计入.
+     *
+     * @param ys 按时间顺序排列的数据数组
+     * @param n 数据点的个数
+     * @return 相关系数，范围为 {@code -1 ~ 1}，数据点少于 {@code 2} 个时返回 {@code 0}
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double calcKendallTau(double[] ys, int n) {
+        if (n < 2) {
+            return 0;
+        }
+
+        long score = 0;
+        for (int i = 0; i < n - 1; ++i) {
+            for (int j = i + 1; j < n; ++j) {
+                score += Double.compare(ys[j], ys[i]);
+            }
+        }
+        return score * 2.0 / ((long) n * (n - 1));
+    }
+
+    /**
+     * 使用二分分割法找出前 {@code n} 个按时间顺序排列的数据点中均值发生显著突变的变点.
+     *
+     * <p>先用相邻数据点之差的中位数绝对值稳健地估计出噪声的标准差，再对每个分段求出使前后两段均值之差的 {@code z} 值
+     * （即 CUSUM 统计量的标准化形式）最大的分割位置，如果该 {@code z} 值不小于 {@code minZ}，且均值的相对变化不小于
+     * {@code minRatio}，就将其作为一个变点，并继续对前后两段递归查找.</p>
+     *
+     * @param ys 按时间顺序排列的数据数组
+     * @param n 数据点的个数
+     * @param minSegment 每个分段最少的数据点个数
+     * @param minZ 判定为变点的最小 {@code z} 值
+     * @param minRatio 判定为变点的前后两段均值的最小相对变化
+     * @return 升序排列的变点数组，每个变点都是突变后第一个数据点的索引
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public int[] findChangePoints(double[] ys, int n, int minSegment, double minZ, double minRatio) {
+        if (n < 2 * minSegment || n < 3) {
+            return new int[0];
+        }
+
+        double[] diffs = new double[n - 1];
+        for (int i = 0; i < n - 1; ++i) {
+            diffs[i] = Math.abs(ys[i + 1] - ys[i]);
+        }
+        Arrays.sort(diffs);
+        double median = diffs.length % 2 == 1
+                ? diffs[diffs.length / 2]
+                : (diffs[diffs.length / 2 - 1] + diffs[diffs.length / 2]) / 2;
+        // 对于正态分布的噪声，相邻两点之差的中位数绝对值约为 0.6745 * sqrt(2) * sigma.
+        double sigma = Math.max(median / (0.6745 * Math.sqrt(2)), Double.MIN_NORMAL);
+
+        double[] prefix = new double[n + 1];
+        for (int i = 0; i < n; ++i) {
+            prefix[i + 1] = prefix[i] + ys[i];
+        }
+
+        List<Integer> points = new ArrayList<>();
+        splitChangePoints(prefix, 0, n, minSegment, minZ * sigma, minRatio, points);
+        int[] result = new int[points.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = points.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 在 {@code [from, to)} 分段中递归查找变点.
+     *
+     * @param prefix 数据的前缀和数组
+     * @param from 分段的开始索引（包含）
+     * @param to 分段的结束索引（不包含）
+     * @param minSegment 每个分段最少的数据点个数
+     * @param minScore 判定为变点的最小的未除以标准差的 {@code z} 值
+     * @param minRatio 判定为变点的前后两段均值的最小相对变化
+     * @param points 找到的变点集合
+     */
+    private void splitChangePoints(double[] prefix, int from, int to, int minSegment, double minScore,
+            double minRatio, List<Integer> points) {
+        int bestSplit = -1;
+        double bestScore = 0;
+        for (int k = from + minSegment; k <= to - minSegment; ++k) {
+            int left = k - from;
+            int right = to - k;
+            double diff = (prefix[to] - prefix[k]) / right - (prefix[k] - prefix[from]) / left;
+            double score = Math.abs(diff) / Math.sqrt(1.0 / left + 1.0 / right);
+            if (score > bestScore) {
+                bestScore = score;
+                bestSplit = k;
+            }
+        }
+        if (bestSplit < 0 || bestScore < minScore) {
+            return;
+        }
+
+        double before = (prefix[bestSplit] - prefix[from]) / (bestSplit - from);
+        double after = (prefix[to] - prefix[bestSplit]) / (to - bestSplit);
+        if (Math.abs(after - before) < Math.abs(before) * minRatio) {
+            return;
+        }
+
+        points.add(bestSplit);
+        splitChangePoints(prefix, from, bestSplit, minSegment, minScore, minRatio, points);
+        splitChangePoints(prefix, bestSplit, to, minSegment, minScore, minRatio, points);
+    }
+
 }
@@ -78,6 +78,26 @@ public class StrKit {
         }
     }
 
+    /**
+     * 将字节数转为与其最贴近的字节单位，如：{@code 1536} 字节会转为 {@code 1.50 KB}.
+     *
+     * @param n 字节数
+     * @return 其他单位的字节数字符串
+     * @since v1.3.0
+     */
+    public String convertBytes(Number n) {
+        double d = n.doubleValue();
+        if (d < 1024) {
+            return roundToString(d, "B");
+        } else if (d < 1024 * 1024) {
+            return roundToString(d / 1024, "KB");
+        } else if (d < 1024 * 1024 * 1024) {
+            return roundToString(d / (1024 * 1024), "MB");
+        } else {
+            return roundToString(d / (1024d * 1024 * 1024), "GB");
+        }
+    }
+
     /**
      * 将纳秒的时间转为与其最贴近的时间单位.
      *
@@ -0,0 +1,211 @@
+package com.blinkfox.stalker.monitor;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Linux 中当前进程所在的 cgroup 的 CPU 控制器的读取器，同时支持 cgroup v1 和 v2，用于读取容器的 CPU 配额和 CPU 限流的统计数据.
+ *
+ * <p>先通过 {@code /proc/self/mountinfo} 找到 CPU 控制器的挂载点（cgroup v1 中包含 {@code cpu} 控制器的挂载点优先，
+ * 其次为 cgroup v2 的挂载点），再通过 {@code /proc/self/cgroup} 找到当前进程所在的 cgroup 目录. 与 {@link ProcFs} 一样，
+ * 所有文件都相对于构造时传入的根目录来读取，便于在单元测试中使用伪造的 cgroup 文件系统，读取失败时不会抛出异常.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see ProcFs
+ * @since v1.3.0
+ */
+public final class CgroupFs {
+
+    /**
+     * 当前系统中的实例.
+     */
+    private static final CgroupFs INSTANCE = new CgroupFs(new File("/"));
+
+    /**
+     * 当前进程所在的 cgroup 的 CPU 控制器目录，找不到时为 {@code null}.
+     */
+    private final File cpuDir;
+
+    /**
+     * 是否为 cgroup v2.
+     */
+    private final boolean v2;
+
+    /**
+     * 构造方法，构造时就会找出当前进程所在的 cgroup 的 CPU 控制器目录.
+     *
+     * @param root 根目录
+     */
+    CgroupFs(File root) {
+        File v1Dir = null;
+        File v2Dir = null;
+        String mountinfo = ProcFs.read(new File(root, "proc/self/mountinfo"));
+        String cgroup = ProcFs.read(new File(root, "proc/self/cgroup"));
+        if (mountinfo != null && cgroup != null) {
+            for (String line : mountinfo.split("\n")) {
+                // 每行的格式为：ID 父ID 设备号 挂载的根路径 挂载点 挂载选项 [可选字段...] - 文件系统类型 来源 超级块选项.
+                int separator = line.indexOf(" - ");
+                if (separator < 0) {
+                    continue;
+                }
+                String[] fields = line.substring(0, separator).split(" ");
+                String[] types = line.substring(separator + 3).split(" ");
+                if (fields.length < 5 || types.length < 3) {
+                    continue;
+                }
+
+                if (v1Dir == null && "cgroup".equals(types[0])
+                        && Arrays.asList(types[2].split(",")).contains("cpu")) {
+                    v1Dir = resolve(root, fields[3], fields[4], findPath(cgroup, false));
+                } else if (v2Dir == null && "cgroup2".equals(types[0])) {
+                    v2Dir = resolve(root, fields[3], fields[4], findPath(cgroup, true));
+                }
+            }
+        }
+
+        this.v2 = v1Dir == null && v2Dir != null;
+        this.cpuDir = this.v2 ? v2Dir : v1Dir;
+    }
+
+    /**
+     * 获取当前系统中的实例.
+     *
+     * @return {@link CgroupFs} 实例
+     */
+    public static CgroupFs getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 从 {@code /proc/self/cgroup} 的内容中找出当前进程在 CPU 控制器中的 cgroup 路径.
+     *
+     * @param cgroup {@code /proc/self/cgroup} 的内容
+     * @param v2 是否为 cgroup v2
+     * @return cgroup 路径，找不到时返回 {@code null}
+     */
+    private static String findPath(String cgroup, boolean v2) {
+        for (String line : cgroup.split("\n")) {
+            // 每行的格式为：层级ID:控制器列表:路径，cgroup v2 的层级 ID 为 0 且控制器列表为空.
+            String[] fields = line.split(":", 3);
+            if (fields.length < 3) {
+                continue;
+            }
+            if (v2 ? "0".equals(fields[0]) && fields[1].isEmpty()
+                    : Arrays.asList(fields[1].split(",")).contains("cpu")) {
+                return fields[2];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据挂载的根路径、挂载点和 cgroup 路径解析出 cgroup 目录，解析出的目录不存在时（如容器中的 cgroup 命名空间）使用挂载点.
+     *
+     * @param root 根目录
+     * @param mountRoot 挂载的根路径
+     * @param mountPoint 挂载点
+     * @param path cgroup 路径
+     * @return cgroup 目录
+     */
+    private static File resolve(File root, String mountRoot, String mountPoint, String path) {
+        File mountDir = new File(root, mountPoint);
+        if (path == null) {
+            return mountDir;
+        }
+
+        String relative = path.startsWith(mountRoot) ? path.substring(mountRoot.length()) : path;
+        File dir = new File(mountDir, relative);
+        return dir.isDirectory() ? dir : mountDir;
+    }
+
+    /**
+     * 判断是否找到了当前进程所在的 cgroup 的 CPU 控制器目录.
+     *
+     * @return 布尔值
+     */
+    public boolean isAvailable() {
+        return this.cpuDir != null && this.cpuDir.isDirectory();
+    }
+
+    /**
+     * 读取 CPU 配额，即每个调度周期内可以使用的 CPU 时间与调度周期的比值，来自于 cgroup v2 的 {@code cpu.max}，
+     * 或 cgroup v1 的 {@code cpu.cfs_quota_us} 和 {@code cpu.cfs_period_us}.
+     *
+     * @return 可以使用的 CPU 核数，可以是小数，没有限制或读取失败时返回 {@code -1}
+     */
+    public double readCpuQuota() {
+        if (!this.isAvailable()) {
+            return -1;
+        }
+
+        long quota;
+        long period;
+        if (this.v2) {
+            String max = ProcFs.read(new File(this.cpuDir, "cpu.max"));
+            String[] fields = max == null ? new String[0] : max.trim().split("\\s+");
+            if (fields.length < 2 || "max".equals(fields[0])) {
+                return -1;
+            }
+            quota = ProcFs.parseLong(fields[0]);
+            period = ProcFs.parseLong(fields[1]);
+        } else {
+            String quotaValue = ProcFs.read(new File(this.cpuDir, "cpu.cfs_quota_us"));
+            String periodValue = ProcFs.read(new File(this.cpuDir, "cpu.cfs_period_us"));
+            if (quotaValue == null || periodValue == null) {
+                return -1;
+            }
+            quota = ProcFs.parseLong(quotaValue);
+            period = ProcFs.parseLong(periodValue);
+        }
+        return quota > 0 && period > 0 ? quota * 1.0 / period : -1;
+    }
+
+    /**
+     * 获取当前进程可以使用的 CPU 核数，即 JVM 可用的处理器数与 CPU 配额向上取整后的较小值，至少为 {@code 1}.
+     *
+     * @return CPU 核数
+     */
+    public int getAvailableCpus() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        double quota = this.readCpuQuota();
+        return quota > 0 ? Math.max(1, Math.min(processors, (int) Math.ceil(quota))) : processors;
+    }
+
+    /**
+     * 读取 CPU 限流的累计统计数据，来自于 {@code cpu.stat}.
+     *
+     * @return 长度为 {@code 3} 的数组，分别为调度周期数、被限流的周期数和被限流的总时间（纳秒），读取失败时返回 {@code null}
+     */
+    public long[] readThrottling() {
+        String stat = this.isAvailable() ? ProcFs.read(new File(this.cpuDir, "cpu.stat")) : null;
+        if (stat == null) {
+            return null;
+        }
+
+        long[] values = {-1, -1, -1};
+        for (String line : stat.split("\n")) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length < 2) {
+                continue;
+            }
+            switch (fields[0]) {
+                case "nr_periods":
+                    values[0] = ProcFs.parseLong(fields[1]);
+                    break;
+                case "nr_throttled":
+                    values[1] = ProcFs.parseLong(fields[1]);
+                    break;
+                case "throttled_usec":
+                    values[2] = ProcFs.parseLong(fields[1]) * 1000;
+                    break;
+                case "throttled_time":
+                    values[2] = ProcFs.parseLong(fields[1]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return values[0] < 0 || values[1] < 0 || values[2] < 0 ? null : values;
+    }
+
+}
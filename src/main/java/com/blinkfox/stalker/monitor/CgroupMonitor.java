@@ -0,0 +1,104 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 统计正式测量期间当前进程所在的 cgroup（如 Docker 或 Kubernetes 容器）的 CPU 限流情况的监视器.
+ *
+ * <p>容器的 CPU 配额是按调度周期（通常为 {@code 100} 毫秒）分配的，一旦某个周期内的 CPU 时间用完，进程中的所有线程都会被暂停到下一个周期，
+ * 这会使测量结果出现与待测量代码无关的长尾. 本监视器在正式测量开始和结束时分别读取 {@code cpu.stat}，得出测量期间被限流的周期数和时间.
+ * 如果并发数超过了 CPU 配额所允许的核数，还会在开始时给出警示.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see CgroupFs
+ * @since v1.3.0
+ */
+@Slf4j
+public class CgroupMonitor implements MeasureMonitor {
+
+    /**
+     * cgroup 的读取器.
+     */
+    private final CgroupFs cgroupFs;
+
+    /**
+     * CPU 配额，没有限制时为 {@code -1}.
+     */
+    private double cpuQuota;
+
+    /**
+     * 正式测量开始时的 CPU 限流统计数据，不支持时为 {@code null}.
+     */
+    private long[] startThrottling;
+
+    /**
+     * 正式测量结束时的 CPU 限流统计数据，未结束时为 {@code null}.
+     */
+    private volatile long[] endThrottling;
+
+    /**
+     * 构造方法.
+     */
+    public CgroupMonitor() {
+        this(CgroupFs.getInstance());
+    }
+
+    /**
+     * 使用指定的读取器来构造实例.
+     *
+     * @param cgroupFs cgroup 的读取器
+     */
+    CgroupMonitor(CgroupFs cgroupFs) {
+        this.cgroupFs = cgroupFs;
+    }
+
+    /**
+     * 在正式测量开始时读取 CPU 配额和 CPU 限流的统计数据.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.cpuQuota = this.cgroupFs.readCpuQuota();
+        this.startThrottling = this.cgroupFs.readThrottling();
+        if (this.cpuQuota > 0 && options.getConcurrens() > Math.ceil(this.cpuQuota)) {
+            log.warn("【Stalker 警示】并发数【{}】超过了容器的 CPU 配额【{}】核，测量期间很可能会被 CPU 限流，建议使用"
+                    + " Options.concurrensByCpus() 来设置并发数.", options.getConcurrens(), this.cpuQuota);
+        }
+    }
+
+    /**
+     * 在正式测量结束时读取 CPU 限流的统计数据.
+     */
+    @Override
+    public void stop() {
+        if (this.startThrottling != null) {
+            this.endThrottling = this.cgroupFs.readThrottling();
+        }
+    }
+
+    /**
+     * 将 CPU 配额和测量期间的 CPU 限流数据填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        long[] start = this.startThrottling;
+        long[] end = this.endThrottling == null ? this.cgroupFs.readThrottling() : this.endThrottling;
+        if (start == null || end == null) {
+            return;
+        }
+
+        result.setCgroupTracked(true)
+                .setCpuQuota(this.cpuQuota)
+                .setCpuPeriods(end[0] - start[0])
+                .setThrottledPeriods(end[1] - start[1])
+                .setThrottledTime(end[2] - start[2]);
+    }
+
+}
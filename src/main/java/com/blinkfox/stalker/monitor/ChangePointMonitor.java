@@ -0,0 +1,289 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.ChangePoint;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按固定的时间间隔对正式测量期间的吞吐量和平均耗时做快照，并据此找出两者发生显著突变的变点的监视器.
+ *
+ * <p>长时间运行的测量（如对缓存的测量在开始淘汰数据时）常常会出现吞吐量的阶跃式变化，而累计的测量结果会把这种变化平均掉.
+ * 本监视器由一个单独的线程每隔一段时间读取一次运行器中累计的成功次数和耗时直方图，得出每个时间区间内的吞吐量和平均耗时，
+ * 测量结束时再用 {@link MathKit#findChangePoints} 对这两个序列分别查找变点. 快照次数超过 {@link #MAX_SNAPSHOTS} 时会合并相邻的快照，
+ * 并将快照间隔加倍，从而在长时间的测量中也只占用固定的内存.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see ChangePoint
+ * @since v1.3.0
+ */
+public class ChangePointMonitor implements MeasureMonitor {
+
+    /**
+     * 最多保留的快照次数.
+     */
+    static final int MAX_SNAPSHOTS = 1024;
+
+    /**
+     * 变点前后的每个分段最少的快照次数.
+     */
+    static final int MIN_SEGMENT = 3;
+
+    /**
+     * 判定为变点的最小 {@code z} 值.
+     */
+    static final double MIN_Z = 5;
+
+    /**
+     * 判定为变点的前后两段均值的最小相对变化.
+     */
+    static final double MIN_RATIO = 0.05;
+
+    /**
+     * 按执行次数测量时，默认的快照时间间隔，单位纳秒(ns).
+     */
+    private static final long DEFAULT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 按持续时间测量时，最小的快照时间间隔，单位纳秒(ns).
+     */
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 按持续时间测量时，整个测量期间期望的快照次数.
+     */
+    private static final int EXPECTED_SNAPSHOTS = 100;
+
+    /**
+     * 各个快照区间的开始时刻相对于正式测量开始时刻的偏移量，单位纳秒(ns).
+     */
+    private final long[] offsets = new long[MAX_SNAPSHOTS];
+
+    /**
+     * 各个快照区间的时长，单位纳秒(ns).
+     */
+    private final long[] spans = new long[MAX_SNAPSHOTS];
+
+    /**
+     * 各个快照区间内成功执行的次数.
+     */
+    private final long[] ops = new long[MAX_SNAPSHOTS];
+
+    /**
+     * 各个快照区间内成功执行的耗时之和，由耗时直方图估算得出，单位纳秒(ns).
+     */
+    private final double[] costs = new double[MAX_SNAPSHOTS];
+
+    /**
+     * 正在运行的测量运行器.
+     */
+    private MeasureRunner runner;
+
+    /**
+     * 快照的时间间隔，单位纳秒(ns).
+     */
+    private long interval;
+
+    /**
+     * 已保留的快照次数.
+     */
+    private int count;
+
+    /**
+     * 快照步长，即每隔多少次定时任务做一次快照.
+     */
+    private int stride = 1;
+
+    /**
+     * 定时任务的执行次数.
+     */
+    private long ticks;
+
+    /**
+     * 上一次快照的时刻，单位纳秒(ns).
+     */
+    private long lastTime;
+
+    /**
+     * 上一次快照时的成功次数.
+     */
+    private long lastSuccess;
+
+    /**
+     * 上一次快照时的耗时直方图.
+     */
+    private LatencyHistogram lastHistogram;
+
+    /**
+     * 定时快照的线程池.
+     */
+    private ScheduledExecutorService snapshotExecutor;
+
+    /**
+     * 根据选项参数得出快照的时间间隔，未设置时按持续时间测量的快照 {@link #EXPECTED_SNAPSHOTS} 次，最小为 {@code 100} 毫秒，
+     * 按执行次数测量的则每秒快照一次.
+     *
+     * @param options 运行的配置选项实例
+     * @return 快照的时间间隔，单位纳秒(ns)
+     */
+    static long getIntervalNanos(Options options) {
+        if (options.getChangePointInterval() > 0) {
+            return options.getChangePointInterval();
+        }
+        return options.getDuration() == null
+                ? DEFAULT_INTERVAL_NANOS
+                : Math.max(MIN_INTERVAL_NANOS, options.getDuration().getAmountNanoTime() / EXPECTED_SNAPSHOTS);
+    }
+
+    /**
+     * 在正式测量开始时记录初始的数据，并开启定时快照的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.runner = runner;
+        this.interval = getIntervalNanos(options);
+        this.lastTime = System.nanoTime();
+        this.lastSuccess = runner.getSuccess();
+        this.lastHistogram = runner.getHistogram().copy();
+        this.snapshotExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-change-point");
+        this.snapshotExecutor.scheduleAtFixedRate(this::tick, this.interval, this.interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 执行一次定时任务，按快照步长决定是否做一次快照.
+     */
+    private synchronized void tick() {
+        if (++this.ticks % this.stride == 0) {
+            this.snapshot(System.nanoTime());
+        }
+    }
+
+    /**
+     * 对上一次快照以来的区间做一次快照，快照已满时合并相邻的快照并将快照步长加倍.
+     *
+     * @param now 当前时刻，单位纳秒(ns)
+     */
+    private synchronized void snapshot(long now) {
+        if (this.count == MAX_SNAPSHOTS) {
+            for (int i = 0; i < MAX_SNAPSHOTS / 2; i++) {
+                this.offsets[i] = this.offsets[i * 2];
+                this.spans[i] = this.spans[i * 2] + this.spans[i * 2 + 1];
+                this.ops[i] = this.ops[i * 2] + this.ops[i * 2 + 1];
+                this.costs[i] = this.costs[i * 2] + this.costs[i * 2 + 1];
+            }
+            this.count = MAX_SNAPSHOTS / 2;
+            this.stride *= 2;
+        }
+
+        long success = this.runner.getSuccess();
+        LatencyHistogram histogram = this.runner.getHistogram().copy();
+        final LatencyHistogram delta = histogram.since(this.lastHistogram);
+        this.offsets[this.count] = this.lastTime - this.runner.getStartNanoTime();
+        this.spans[this.count] = now - this.lastTime;
+        this.ops[this.count] = success - this.lastSuccess;
+        this.costs[this.count] = delta.getMean() * delta.getTotalCount();
+        this.count++;
+        this.lastTime = now;
+        this.lastSuccess = success;
+        this.lastHistogram = histogram;
+    }
+
+    /**
+     * 停止定时快照的任务，如果最后一个未完成的区间不短于快照间隔的一半，就将其也作为一次快照.
+     */
+    @Override
+    public void stop() {
+        if (this.snapshotExecutor == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.snapshotExecutor);
+        try {
+            this.snapshotExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - this.lastTime >= this.interval * this.stride / 2) {
+                this.snapshot(now);
+            }
+        }
+    }
+
+    /**
+     * 对各个快照区间的吞吐量和平均耗时分别查找变点，并将找到的变点按时间顺序填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public synchronized void fill(MeasureResult result) {
+        int n = this.count;
+        if (n < 2 * MIN_SEGMENT) {
+            return;
+        }
+
+        double[] throughputs = new double[n];
+        double[] latencies = new double[n];
+        double lastLatency = 0;
+        for (int i = 0; i < n; i++) {
+            throughputs[i] = MathKit.calcThroughput(this.ops[i], this.spans[i]);
+            // 没有成功执行的区间沿用上一个区间的平均耗时，避免将停顿误判为耗时的下降.
+            lastLatency = this.ops[i] > 0 ? this.costs[i] / this.ops[i] : lastLatency;
+            latencies[i] = lastLatency;
+        }
+
+        List<ChangePoint> changePoints = new ArrayList<>();
+        this.addChangePoints(changePoints, false, throughputs, n);
+        this.addChangePoints(changePoints, true, latencies, n);
+        changePoints.sort(Comparator.comparingLong(ChangePoint::getOffset));
+        result.setChangePoints(changePoints);
+    }
+
+    /**
+     * 查找某个序列中的变点，并以变点前后相邻的两个分段的均值构造出 {@link ChangePoint} 实例.
+     *
+     * @param changePoints 变点集合
+     * @param latency 是否为平均耗时的序列
+     * @param ys 序列
+     * @param n 序列的长度
+     */
+    private void addChangePoints(List<ChangePoint> changePoints, boolean latency, double[] ys, int n) {
+        int[] points = MathKit.findChangePoints(ys, n, MIN_SEGMENT, MIN_Z, MIN_RATIO);
+        for (int i = 0; i < points.length; i++) {
+            int from = i == 0 ? 0 : points[i - 1];
+            int to = i == points.length - 1 ? n : points[i + 1];
+            changePoints.add(new ChangePoint(latency, this.offsets[points[i]],
+                    mean(ys, from, points[i]), mean(ys, points[i], to)));
+        }
+    }
+
+    /**
+     * 计算序列中 {@code [from, to)} 分段的均值.
+     *
+     * @param ys 序列
+     * @param from 开始索引（包含）
+     * @param to 结束索引（不包含）
+     * @return 均值
+     */
+    private static double mean(double[] ys, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += ys[i];
+        }
+        return sum / (to - from);
+    }
+
+}
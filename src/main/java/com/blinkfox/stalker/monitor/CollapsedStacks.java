@@ -0,0 +1,147 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.result.HotFrame;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 以折叠调用栈（collapsed stacks）的格式聚合采样到的调用栈的聚合器.
+ *
+ * <p>折叠调用栈的每一行由从栈底到栈顶、以分号分隔的各个栈帧和该调用栈的采样次数组成，如：
+ * {@code java.lang.Thread.run;com.example.Foo.bar;com.example.Foo.baz 42}，
+ * 可以直接交给 FlameGraph、speedscope 等火焰图工具来生成火焰图.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public final class CollapsedStacks {
+
+    /**
+     * 栈帧之间的分隔符.
+     */
+    private static final char FRAME_SEPARATOR = ';';
+
+    /**
+     * Lambda 表达式生成的隐藏类的类名标识.
+     */
+    private static final String LAMBDA_MARKER = "$$Lambda";
+
+    /**
+     * 各个折叠调用栈与其采样次数的映射.
+     */
+    private final Map<String, long[]> stacks = new HashMap<>();
+
+    /**
+     * 总的采样次数.
+     */
+    private long samples;
+
+    /**
+     * 添加一个采样到的调用栈，空的调用栈会被忽略.
+     *
+     * @param stackTrace 调用栈，下标 {@code 0} 为栈顶
+     */
+    public synchronized void add(StackTraceElement[] stackTrace) {
+        if (stackTrace == null || stackTrace.length == 0) {
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder(stackTrace.length * 48);
+        for (int i = stackTrace.length - 1; i >= 0; --i) {
+            appendClassName(sb, stackTrace[i].getClassName()).append('.').append(stackTrace[i].getMethodName());
+            if (i > 0) {
+                sb.append(FRAME_SEPARATOR);
+            }
+        }
+        this.stacks.computeIfAbsent(sb.toString(), k -> new long[1])[0]++;
+        this.samples++;
+    }
+
+    /**
+     * 追加类名，Lambda 表达式生成的隐藏类的类名中的序号和地址（如：{@code Foo$$Lambda$1/0x0000000800c03000}）每次运行都可能不同，
+     * 因此只保留到 {@code Foo$$Lambda}，便于合并和对比多次运行的折叠调用栈.
+     *
+     * @param sb 字符串
+     * @param className 类名
+     * @return 字符串
+     */
+    private static StringBuilder appendClassName(StringBuilder sb, String className) {
+        int index = className.indexOf(LAMBDA_MARKER);
+        return index < 0 ? sb.append(className) : sb.append(className, 0, index + LAMBDA_MARKER.length());
+    }
+
+    /**
+     * 获取总的采样次数.
+     *
+     * @return 采样次数
+     */
+    public synchronized long getSamples() {
+        return this.samples;
+    }
+
+    /**
+     * 计算出位于栈顶的采样次数最多的前 {@code n} 个热点栈帧，位于栈顶的采样次数相同时按包含该栈帧的采样次数排序.
+     *
+     * @param n 热点栈帧的数量
+     * @return 热点栈帧集合
+     */
+    public synchronized List<HotFrame> topFrames(int n) {
+        Map<String, long[]> frames = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (Map.Entry<String, long[]> entry : this.stacks.entrySet()) {
+            long count = entry.getValue()[0];
+            String[] stackFrames = entry.getKey().split(String.valueOf(FRAME_SEPARATOR));
+
+            // 数组中的下标 0 为栈顶和栈帧的自身次数，下标 1 为包含该栈帧的次数，递归调用的栈帧只计算一次.
+            frames.computeIfAbsent(stackFrames[stackFrames.length - 1], k -> new long[2])[0] += count;
+            seen.clear();
+            for (String frame : stackFrames) {
+                if (seen.add(frame)) {
+                    frames.computeIfAbsent(frame, k -> new long[2])[1] += count;
+                }
+            }
+        }
+
+        List<HotFrame> hotFrames = new ArrayList<>(frames.size());
+        for (Map.Entry<String, long[]> entry : frames.entrySet()) {
+            if (entry.getValue()[0] > 0) {
+                hotFrames.add(new HotFrame(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+            }
+        }
+        hotFrames.sort(Comparator.comparingLong(HotFrame::getSelfSamples)
+                .thenComparingLong(HotFrame::getTotalSamples).reversed()
+                .thenComparing(HotFrame::getFrame));
+        return hotFrames.size() > n ? new ArrayList<>(hotFrames.subList(0, n)) : hotFrames;
+    }
+
+    /**
+     * 将聚合后的折叠调用栈按采样次数从多到少写入到文件中.
+     *
+     * @param file 文件
+     * @throws IOException 写入文件出错时抛出的异常
+     */
+    public synchronized void writeTo(File file) throws IOException {
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(this.stacks.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, long[]> entry : entries) {
+                writer.write(entry.getKey());
+                writer.write(' ');
+                writer.write(Long.toString(entry.getValue()[0]));
+                writer.write('\n');
+            }
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 统计测量线程在测量期间消耗的 CPU 时间，并与对应的墙上时间（实际经过的时间）作对比的监视器.
+ *
+ * <p>为了降低开销，本监视器不会在每次运行前后都读取线程的 CPU 时间，而是按批次读取，
+ * 并将每批次的 CPU 时间平均到该批次的每次运行上，因此最小值和最大值是各个批次的平均值中的最小值和最大值.
+ * 墙上时间与 CPU 时间的比值越接近 {@code 1}，说明待测量方法越偏向于计算密集型，比值越大，说明等待（锁、I/O 等）的时间越多.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public class CpuTimeMonitor implements MeasureMonitor {
+
+    /**
+     * 支持读取当前线程 CPU 时间的 {@link ThreadMXBean} 实例，如果当前 JVM 不支持，则为 {@code null}.
+     */
+    private static final ThreadMXBean THREAD_BEAN = initThreadBean();
+
+    /**
+     * 每个测量线程当前批次的开始数据，数组中第一个元素为 CPU 时间，第二个元素为墙上时间.
+     */
+    private final ThreadLocal<long[]> batchStarts = new ThreadLocal<>();
+
+    /**
+     * 各个批次的 CPU 时间之和，单位纳秒(ns).
+     */
+    private final LongAdder cpuTime = new LongAdder();
+
+    /**
+     * 各个批次的墙上时间之和，单位纳秒(ns).
+     */
+    private final LongAdder wallTime = new LongAdder();
+
+    /**
+     * 各个批次的运行次数之和.
+     */
+    private final LongAdder ops = new LongAdder();
+
+    /**
+     * 各个批次中平均每次运行的 CPU 时间的最小值，单位纳秒(ns).
+     */
+    private final LongAccumulator minCpuTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    /**
+     * 各个批次中平均每次运行的 CPU 时间的最大值，单位纳秒(ns).
+     */
+    private final LongAccumulator maxCpuTime = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 初始化支持读取当前线程 CPU 时间的 {@link ThreadMXBean} 实例.
+     *
+     * @return {@link ThreadMXBean} 实例，不支持时返回 {@code null}
+     */
+    private static ThreadMXBean initThreadBean() {
+        try {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (!threadBean.isCurrentThreadCpuTimeSupported()) {
+                return null;
+            }
+            if (!threadBean.isThreadCpuTimeEnabled()) {
+                threadBean.setThreadCpuTimeEnabled(true);
+            }
+            return threadBean;
+        } catch (Exception e) {
+            log.debug("【Stalker 提示】当前 JVM 不支持读取线程的 CPU 时间.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 判断当前 JVM 是否支持读取线程的 CPU 时间.
+     *
+     * @return 布尔值
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * 启动本监视器，CPU 时间都在测量线程中统计，这里不需要做任何处理.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        // 各个数据均在测量线程的批次中统计.
+    }
+
+    /**
+     * 停止本监视器，这里不需要做任何处理.
+     */
+    @Override
+    public void stop() {
+        // 各个数据均在测量线程的批次中统计.
+    }
+
+    /**
+     * 在测量窗口开始时，记录当前线程第一个批次的开始数据.
+     */
+    @Override
+    public void onWorkerStart() {
+        if (THREAD_BEAN != null) {
+            long[] starts = new long[2];
+            this.batchStarts.set(starts);
+            starts[1] = System.nanoTime();
+            starts[0] = THREAD_BEAN.getCurrentThreadCpuTime();
+        }
+    }
+
+    /**
+     * 在每个批次结束时，累加本批次的 CPU 时间和墙上时间，并开始下一个批次，本方法不会分配内存.
+     *
+     * @param batchOps 本批次执行的测量任务的次数
+     */
+    @Override
+    public void onWorkerBatch(int batchOps) {
+        long[] starts;
+        if (THREAD_BEAN == null || (starts = this.batchStarts.get()) == null) {
+            return;
+        }
+
+        long cpu = THREAD_BEAN.getCurrentThreadCpuTime();
+        long wall = System.nanoTime();
+        long cpuDelta = cpu - starts[0];
+        this.cpuTime.add(cpuDelta);
+        this.wallTime.add(wall - starts[1]);
+        this.ops.add(batchOps);
+        this.minCpuTime.accumulate(cpuDelta / batchOps);
+        this.maxCpuTime.accumulate(cpuDelta / batchOps);
+        starts[0] = cpu;
+        starts[1] = wall;
+    }
+
+    /**
+     * 在测量窗口结束时，清除当前线程的批次数据.
+     */
+    @Override
+    public void onWorkerEnd() {
+        this.batchStarts.remove();
+    }
+
+    /**
+     * 将 CPU 时间的统计数据填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        long currOps = this.ops.sum();
+        if (THREAD_BEAN == null || currOps == 0) {
+            return;
+        }
+
+        long currCpuTime = this.cpuTime.sum();
+        result.setCpuTracked(true)
+                .setCpuTime(currCpuTime)
+                .setCpuAvg(currCpuTime / currOps)
+                .setCpuMin(this.minCpuTime.get())
+                .setCpuMax(this.maxCpuTime.get())
+                .setWallCpuRatio(currCpuTime == 0 ? 0 : (double) this.wallTime.sum() / currCpuTime);
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 将待测量方法的耗时样本与正式测量期间的 GC 停顿相关联的监视器，用于回答"耗时的长尾是不是由 GC 引起的".
+ *
+ * <p>HotSpot 的性能计数器中记录了各个收集器（均为停顿，如：{@code G1 young collection pauses}）最近一次停顿的结束时间，
+ * 且该值会在停顿结束、测量线程恢复运行之前就被更新. 由于与 GC 停顿重叠的样本的耗时必然不小于停顿时间，
+ * 所以测量线程只需在执行完耗时不小于 {@link #CANDIDATE_NANOS} 的慢样本时，判断是否有收集器最近一次停顿的结束时间晚于该样本的开始时间，
+ * 如果是，说明该样本的执行期间与 GC 停顿有重叠，就将其记录到单独的直方图中，从而得出排除这些样本之后的耗时百分位值，
+ * 以及尾部样本中与 GC 停顿重叠的比例. 整个判断过程只读取映射内存，不加锁也不分配内存.</p>
+ *
+ * <p>注意：计数器的时间基准是通过 JVM 的运行时长换算到 {@link System#nanoTime()} 上的，会有亚毫秒级的误差.
+ * 如果当前 JVM 不是 HotSpot 或者禁用了 {@code -XX:-UsePerfData}，将不会关联 GC 停顿.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see HotSpotPerfData
+ * @since v1.3.0
+ */
+public class GcPauseMonitor implements MeasureMonitor {
+
+    /**
+     * 需要与 GC 停顿进行关联的慢样本的最小耗时，单位纳秒(ns)，比它更短的停顿对耗时长尾的影响可以忽略.
+     */
+    static final long CANDIDATE_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * HotSpot 性能计数器中收集器的最大数量.
+     */
+    private static final int MAX_COLLECTORS = 8;
+
+    /**
+     * 校准时间基准时等待 JVM 运行时长的毫秒值发生变化的最长时间，单位纳秒(ns).
+     */
+    private static final long CALIBRATE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * 与 GC 停顿重叠的样本的耗时直方图.
+     */
+    private final LatencyHistogram overlapped = new LatencyHistogram();
+
+    /**
+     * HotSpot 的性能计数器.
+     */
+    private final HotSpotPerfData perfData = HotSpotPerfData.getInstance();
+
+    /**
+     * 各个收集器最近一次停顿的结束时间的计数器偏移量，未启动或不支持时为空数组.
+     */
+    private int[] lastExitOffsets = new int[0];
+
+    /**
+     * 各个收集器的停顿次数的计数器名称.
+     */
+    private final List<String> invocationCounters = new ArrayList<>();
+
+    /**
+     * 各个收集器的停顿总耗时的计数器名称.
+     */
+    private final List<String> timeCounters = new ArrayList<>();
+
+    /**
+     * 正式测量开始时各个收集器的停顿次数之和.
+     */
+    private long startInvocations;
+
+    /**
+     * 正式测量开始时各个收集器的停顿总耗时之和，单位为计数器的时钟周期.
+     */
+    private long startTicks;
+
+    /**
+     * 计数器时钟周期的频率，即每秒的时钟周期数.
+     */
+    private long frequency;
+
+    /**
+     * 计数器时钟周期为 {@code 0} 时刻对应的 {@link System#nanoTime()} 值.
+     */
+    private long baseNanos;
+
+    /**
+     * 正在运行的测量运行器.
+     */
+    private MeasureRunner runner;
+
+    /**
+     * 在正式测量开始时找出各个收集器的计数器，并校准计数器的时间基准.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.frequency = this.perfData.getLong("sun.os.hrt.frequency");
+        if (this.frequency <= 0) {
+            return;
+        }
+
+        List<Integer> offsets = new ArrayList<>();
+        for (int i = 0; i < MAX_COLLECTORS; ++i) {
+            String prefix = "sun.gc.collector." + i + ".";
+            int offset = this.perfData.offsetOf(prefix + "lastExitTime");
+            if (offset >= 0) {
+                offsets.add(offset);
+                this.invocationCounters.add(prefix + "invocations");
+                this.timeCounters.add(prefix + "time");
+            }
+        }
+
+        this.baseNanos = calibrateBaseNanos();
+        this.startInvocations = this.sum(this.invocationCounters);
+        this.startTicks = this.sum(this.timeCounters);
+        this.runner = runner;
+        this.lastExitOffsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 校准计数器时钟周期为 {@code 0} 时刻（即 JVM 启动时刻）对应的 {@link System#nanoTime()} 值.
+     *
+     * <p>JVM 的运行时长只精确到毫秒，所以这里会等待其毫秒值发生变化的那一刻再进行换算，以减小误差.</p>
+     *
+     * @return {@link System#nanoTime()} 值
+     */
+    private static long calibrateBaseNanos() {
+        RuntimeMXBean runtimeBean = ManagementFactory.getRuntimeMXBean();
+        long deadline = System.nanoTime() + CALIBRATE_TIMEOUT_NANOS;
+        long before = runtimeBean.getUptime();
+        long uptime;
+        while ((uptime = runtimeBean.getUptime()) == before && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(uptime);
+    }
+
+    /**
+     * 计算多个计数器的当前值之和，不存在的计数器会被忽略.
+     *
+     * @param counters 计数器名称集合
+     * @return 和
+     */
+    private long sum(List<String> counters) {
+        long sum = 0;
+        for (String counter : counters) {
+            sum += Math.max(this.perfData.getLong(counter), 0);
+        }
+        return sum;
+    }
+
+    /**
+     * 关注耗时不小于 {@link #CANDIDATE_NANOS} 的慢样本.
+     *
+     * @return 耗时阈值
+     */
+    @Override
+    public long getSlowSampleNanos() {
+        return CANDIDATE_NANOS;
+    }
+
+    /**
+     * 如果有收集器最近一次停顿的结束时间晚于慢样本的开始时间，就将该样本记录为与 GC 停顿重叠的样本.
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     * @param cost 本次执行的耗时，单位纳秒(ns)
+     */
+    @Override
+    public void onWorkerSlowSample(long startNanos, long cost) {
+        for (int offset : this.lastExitOffsets) {
+            long lastExitTicks = this.perfData.getLongAt(offset);
+            if (lastExitTicks > 0 && this.toNanos(lastExitTicks) > startNanos) {
+                this.overlapped.record(cost);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 将计数器的时钟周期换算为 {@link System#nanoTime()} 的值.
+     *
+     * @param ticks 时钟周期
+     * @return 纳秒值
+     */
+    private long toNanos(long ticks) {
+        return this.baseNanos + (this.frequency == 1_000_000_000L
+                ? ticks
+                : (long) (ticks * (1_000_000_000.0 / this.frequency)));
+    }
+
+    /**
+     * 停止时不需要做任何处理.
+     */
+    @Override
+    public void stop() {
+        // 本监视器没有需要停止的后台任务.
+    }
+
+    /**
+     * 将 GC 停顿的次数和耗时、排除与 GC 停顿重叠的样本之后的耗时百分位值、尾部样本中与 GC 停顿重叠的比例填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.runner == null) {
+            return;
+        }
+
+        // 尾部样本是指耗时不小于 p99 的样本.
+        LatencyHistogram all = this.runner.getHistogram().copy();
+        LatencyHistogram gcSamples = this.overlapped.copy();
+        LatencyHistogram withoutGc = all.since(gcSamples);
+        long p99 = all.getValueAtPercentile(99);
+        long tailSamples = all.getCountAtOrAbove(p99);
+        long gcTailSamples = gcSamples.getCountAtOrAbove(p99);
+        result.setGcPauseTracked(true)
+                .setGcPauses(this.sum(this.invocationCounters) - this.startInvocations)
+                .setGcPauseTime((long) ((this.sum(this.timeCounters) - this.startTicks)
+                        * (1_000_000_000.0 / this.frequency)))
+                .setGcOverlappedSamples(gcSamples.getTotalCount())
+                .setLatencyP50WithoutGc(withoutGc.getValueAtPercentile(50))
+                .setLatencyP99WithoutGc(withoutGc.getValueAtPercentile(99))
+                .setLatencyP999WithoutGc(withoutGc.getValueAtPercentile(99.9))
+                .setGcTailPercent(tailSamples > 0 ? Math.min(gcTailSamples * 100.0 / tailSamples, 100) : 0);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 在正式测量期间检测 JVM 和操作系统层面停顿（hiccup）的监视器，原理与 jHiccup 相同.
+ *
+ * <p>由一个单独的线程不断地休眠固定的时间间隔，并将每次实际醒来的时间超出预期的部分记录到直方图中.
+ * 该线程本身几乎不做任何工作，所以超出的延迟只可能来自于 GC 安全点停顿、操作系统调度、CPU 限流或同一宿主机上其他进程的干扰等，
+ * 将其分布与待测量方法的耗时分布放在一起对比，就可以区分出耗时的异常值是由待测量代码引起的，还是由运行平台引起的.</p>
+ *
+ * <p>与 jHiccup 一样，一次较长的停顿会按休眠间隔补录出停顿期间本应产生的各个样本，以避免"协调遗漏"导致低估停顿的分布.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class HiccupMonitor implements MeasureMonitor {
+
+    /**
+     * 每次休眠的时间间隔，单位纳秒(ns).
+     */
+    static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * 记录停顿时间的直方图.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * 测量到的最大停顿时间，单位纳秒(ns).
+     */
+    private volatile long maxHiccup;
+
+    /**
+     * 是否已经停止.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * 运行检测任务的线程池.
+     */
+    private ExecutorService hiccupExecutor;
+
+    /**
+     * 在正式测量开始时开启检测停顿的线程.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.hiccupExecutor = StalkerExecutors.newSingleThreadExecutor("stalker-hiccup");
+        this.hiccupExecutor.execute(this::detect);
+    }
+
+    /**
+     * 不断地休眠固定的时间间隔，并记录每次醒来时超出预期的时间，直到停止.
+     */
+    private void detect() {
+        long max = 0;
+        while (!this.stopped && !Thread.currentThread().isInterrupted()) {
+            long start = System.nanoTime();
+            LockSupport.parkNanos(RESOLUTION_NANOS);
+            long hiccup = Math.max(System.nanoTime() - start - RESOLUTION_NANOS, 0);
+            if (this.stopped) {
+                break;
+            }
+
+            this.record(hiccup);
+            if (hiccup > max) {
+                max = hiccup;
+                this.maxHiccup = max;
+            }
+        }
+    }
+
+    /**
+     * 记录一次停顿时间，并按休眠间隔补录出停顿期间本应产生的各个样本.
+     *
+     * @param hiccup 停顿时间，单位纳秒(ns)
+     */
+    void record(long hiccup) {
+        this.histogram.record(hiccup);
+        for (long missing = hiccup - RESOLUTION_NANOS; missing >= RESOLUTION_NANOS; missing -= RESOLUTION_NANOS) {
+            this.histogram.record(missing);
+        }
+    }
+
+    /**
+     * 停止检测停顿的线程.
+     */
+    @Override
+    public void stop() {
+        if (this.hiccupExecutor == null) {
+            return;
+        }
+
+        this.stopped = true;
+        StalkerExecutors.shutdownNow(this.hiccupExecutor);
+        try {
+            this.hiccupExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 将停顿时间的分布填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.hiccupExecutor == null) {
+            return;
+        }
+
+        result.setHiccupTracked(true)
+                .setHiccupSamples(this.histogram.getTotalCount())
+                .setHiccupP50(this.histogram.getValueAtPercentile(50))
+                .setHiccupP99(this.histogram.getValueAtPercentile(99))
+                .setHiccupP999(this.histogram.getValueAtPercentile(99.9))
+                .setHiccupMax(this.maxHiccup);
+    }
+
+}
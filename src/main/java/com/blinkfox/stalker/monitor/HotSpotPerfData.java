@@ -0,0 +1,185 @@
+package com.blinkfox.stalker.monitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 以只读的内存映射方式读取当前 HotSpot JVM 自身的性能计数器文件（即 {@code jstat} 所读取的 {@code hsperfdata} 文件）的读取器.
+ *
+ * <p>该文件由 JVM 在运行期间原地更新，因此只需在首次使用时解析出各个 {@code long} 类型计数器的位置，
+ * 之后每次读取都是直接读取映射内存. 如果当前 JVM 不是 HotSpot 或者禁用了 {@code -XX:-UsePerfData}，
+ * 各个计数器都将读取为 {@code -1}.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+final class HotSpotPerfData {
+
+    /**
+     * 性能计数器文件的魔数.
+     */
+    private static final int MAGIC = 0xcafec0c0;
+
+    /**
+     * 文件头中字节序所在的偏移量.
+     */
+    private static final int BYTE_ORDER_OFFSET = 4;
+
+    /**
+     * 文件头中第一个计数器条目的偏移量所在的偏移量.
+     */
+    private static final int ENTRY_OFFSET_OFFSET = 24;
+
+    /**
+     * 文件头中计数器条目的数量所在的偏移量.
+     */
+    private static final int NUM_ENTRIES_OFFSET = 28;
+
+    /**
+     * {@code long} 类型计数器的类型标识.
+     */
+    private static final byte TYPE_LONG = 'J';
+
+    /**
+     * 全局唯一的实例.
+     */
+    private static final HotSpotPerfData INSTANCE = new HotSpotPerfData();
+
+    /**
+     * 映射的内存缓冲区，不可用时为 {@code null}.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * 各个 {@code long} 类型计数器的名称与其数据所在偏移量的映射.
+     */
+    private final Map<String, Integer> offsets;
+
+    /**
+     * 私有构造方法，映射并解析当前 JVM 的性能计数器文件.
+     */
+    private HotSpotPerfData() {
+        MappedByteBuffer mapped = null;
+        Map<String, Integer> entries = Collections.emptyMap();
+        // Linux 下的 JVM 总是将该文件放在 /tmp 目录下，其他操作系统下则与 java.io.tmpdir 目录一致.
+        String tmpDir = System.getProperty("os.name", "").toLowerCase().contains("linux")
+                ? "/tmp" : System.getProperty("java.io.tmpdir");
+        File file = new File(new File(tmpDir, "hsperfdata_" + System.getProperty("user.name")),
+                String.valueOf(SharedCountersLayout.currentPid()));
+        if (file.isFile()) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+                entries = parse(mapped);
+            } catch (IOException | RuntimeException e) {
+                log.debug("【Stalker 提示】读取 JVM 性能计数器文件【{}】失败.", file, e);
+                mapped = null;
+            }
+        }
+        this.buffer = entries.isEmpty() ? null : mapped;
+        this.offsets = entries;
+    }
+
+    /**
+     * 获取全局唯一的实例.
+     *
+     * @return {@link HotSpotPerfData} 实例
+     */
+    static HotSpotPerfData getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 解析出各个 {@code long} 类型计数器的名称与其数据所在偏移量的映射.
+     *
+     * @param buffer 映射的内存缓冲区
+     * @return 映射
+     */
+    private static Map<String, Integer> parse(MappedByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            return Collections.emptyMap();
+        }
+
+        buffer.order(buffer.get(BYTE_ORDER_OFFSET) == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        int entryStart = buffer.getInt(ENTRY_OFFSET_OFFSET);
+        int numEntries = buffer.getInt(NUM_ENTRIES_OFFSET);
+        Map<String, Integer> entries = new HashMap<>(numEntries * 2);
+        for (int i = 0; i < numEntries; ++i) {
+            // 条目头依次为：条目长度、名称偏移量、数组长度、数据类型、标志、单位、可变性、数据偏移量.
+            int entryLength = buffer.getInt(entryStart);
+            int nameOffset = buffer.getInt(entryStart + 4);
+            int vectorLength = buffer.getInt(entryStart + 8);
+            byte dataType = buffer.get(entryStart + 12);
+            int dataOffset = buffer.getInt(entryStart + 16);
+            if (entryLength <= 0) {
+                break;
+            }
+
+            if (dataType == TYPE_LONG && vectorLength == 0) {
+                int nameStart = entryStart + nameOffset;
+                int nameEnd = nameStart;
+                while (buffer.get(nameEnd) != 0) {
+                    ++nameEnd;
+                }
+                byte[] name = new byte[nameEnd - nameStart];
+                for (int j = 0; j < name.length; ++j) {
+                    name[j] = buffer.get(nameStart + j);
+                }
+                entries.put(new String(name, StandardCharsets.US_ASCII), entryStart + dataOffset);
+            }
+            entryStart += entryLength;
+        }
+        return entries;
+    }
+
+    /**
+     * 判断当前 JVM 的性能计数器是否可用.
+     *
+     * @return 布尔值
+     */
+    boolean isAvailable() {
+        return this.buffer != null;
+    }
+
+    /**
+     * 读取某个 {@code long} 类型计数器的当前值，如果不可用或者不存在该计数器，则返回 {@code -1}.
+     *
+     * @param name 计数器名称，如：{@code sun.ci.totalCompiles}
+     * @return 计数器的值
+     */
+    long getLong(String name) {
+        Integer offset = this.offsets.get(name);
+        return this.buffer == null || offset == null ? -1 : this.buffer.getLong(offset);
+    }
+
+    /**
+     * 获取某个 {@code long} 类型计数器的数据所在的偏移量，便于之后频繁地通过 {@link #getLongAt(int)} 方法读取，不存在时返回 {@code -1}.
+     *
+     * @param name 计数器名称
+     * @return 偏移量
+     */
+    int offsetOf(String name) {
+        Integer offset = this.offsets.get(name);
+        return this.buffer == null || offset == null ? -1 : offset;
+    }
+
+    /**
+     * 读取某个偏移量处的 {@code long} 类型计数器的当前值，读取时不会分配内存.
+     *
+     * @param offset 通过 {@link #offsetOf(String)} 方法获取到的偏移量
+     * @return 计数器的值
+     */
+    long getLongAt(int offset) {
+        return this.buffer.getLong(offset);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import java.lang.reflect.Constructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Java Flight Recorder（JFR）集成的入口类，用于在支持 JFR 的 JVM 中构造发送 Stalker 自定义 JFR 事件的监视器.
+ *
+ * <p>自定义 JFR 事件需要继承 {@code jdk.jfr.Event}，只能在 Java 11 及以上的版本中编译和运行. 因此 JFR 相关的类单独放在
+ * {@code src/main/java11} 目录中，只在使用 JDK 11 及以上的版本构建时以 {@code --release 11} 编译；本类则通过反射来加载
+ * {@code JfrMonitor}，在 Java 8 中或者 JVM 不支持 JFR 时会加载失败，此时不会发送任何 JFR 事件，从而保证了在 Java 8 中仍然可以正常使用.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public final class JfrSupport {
+
+    /**
+     * 发送 JFR 事件的监视器的类名.
+     */
+    private static final String MONITOR_CLASS = "com.blinkfox.stalker.monitor.JfrMonitor";
+
+    /**
+     * 发送 JFR 事件的监视器的构造方法，不支持 JFR 时为 {@code null}.
+     */
+    private static final Constructor<?> MONITOR_CONSTRUCTOR = initConstructor();
+
+    /**
+     * 私有构造方法.
+     */
+    private JfrSupport() {
+    }
+
+    /**
+     * 初始化发送 JFR 事件的监视器的构造方法.
+     *
+     * @return 构造方法，不支持 JFR 时返回 {@code null}
+     */
+    private static Constructor<?> initConstructor() {
+        try {
+            Class<?> recorderClass = Class.forName("jdk.jfr.FlightRecorder");
+            if (!Boolean.TRUE.equals(recorderClass.getMethod("isAvailable").invoke(null))) {
+                return null;
+            }
+            return Class.forName(MONITOR_CLASS).getConstructor(Options.class);
+        } catch (Throwable e) {
+            log.debug("【Stalker 提示】当前 JVM 不支持发送 Stalker 的 JFR 事件.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 判断当前 JVM 是否支持发送 Stalker 的 JFR 事件.
+     *
+     * @return 布尔值
+     */
+    public static boolean isAvailable() {
+        return MONITOR_CONSTRUCTOR != null;
+    }
+
+    /**
+     * 构造发送 JFR 事件的监视器，不支持时只记录警示日志.
+     *
+     * @param options 运行的配置选项实例
+     * @return 监视器，不支持 JFR 时返回 {@code null}
+     */
+    static MeasureMonitor newMonitor(Options options) {
+        if (MONITOR_CONSTRUCTOR == null) {
+            log.warn("【Stalker 警示】当前 JVM 不支持 JFR（需要 Java 11 及以上的版本），将不会发送 JFR 事件或开启 JFR 记录.");
+            return null;
+        }
+
+        try {
+            return (MeasureMonitor) MONITOR_CONSTRUCTOR.newInstance(options);
+        } catch (Exception e) {
+            log.error("【Stalker 错误提示】构造发送 JFR 事件的监视器时出错！", e);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.blinkfox.stalker.monitor;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import lombok.Getter;
+
+/**
+ * JVM 中 JIT 编译活动的累计数据快照，两个快照之差即为某段时间内（如预热期间、正式测量期间）的 JIT 编译活动.
+ *
+ * <p>JIT 编译的累计耗时来自于 {@link CompilationMXBean}，编译次数和去优化（已编译方法被置为失效）次数则来自于
+ * HotSpot 的性能计数器，与 {@code jstat -compiler} 中的数据一致. 不支持的数据的值为 {@code -1}.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class JitActivity {
+
+    /**
+     * JVM 的 JIT 编译器的 {@link CompilationMXBean} 实例，如果当前 JVM 不支持，则为 {@code null}.
+     */
+    private static final CompilationMXBean COMPILATION_BEAN = initCompilationBean();
+
+    /**
+     * JIT 编译的累计耗时，单位毫秒(ms).
+     */
+    private final long compilationMillis;
+
+    /**
+     * JIT 编译的累计次数.
+     */
+    private final long compiles;
+
+    /**
+     * 已编译方法因去优化而被置为失效的累计次数.
+     */
+    private final long deopts;
+
+    /**
+     * 构造方法.
+     *
+     * @param compilationMillis JIT 编译的累计耗时
+     * @param compiles JIT 编译的累计次数
+     * @param deopts 去优化的累计次数
+     */
+    private JitActivity(long compilationMillis, long compiles, long deopts) {
+        this.compilationMillis = compilationMillis;
+        this.compiles = compiles;
+        this.deopts = deopts;
+    }
+
+    /**
+     * 初始化 JIT 编译器的 {@link CompilationMXBean} 实例.
+     *
+     * @return {@link CompilationMXBean} 实例，不支持时返回 {@code null}
+     */
+    private static CompilationMXBean initCompilationBean() {
+        CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+        return bean != null && bean.isCompilationTimeMonitoringSupported() ? bean : null;
+    }
+
+    /**
+     * 获取当前 JVM 中 JIT 编译活动的累计数据快照.
+     *
+     * @return {@link JitActivity} 实例
+     */
+    public static JitActivity snapshot() {
+        HotSpotPerfData perfData = HotSpotPerfData.getInstance();
+        return new JitActivity(COMPILATION_BEAN == null ? -1 : COMPILATION_BEAN.getTotalCompilationTime(),
+                perfData.getLong("sun.ci.totalCompiles"), perfData.getLong("sun.ci.totalInvalidates"));
+    }
+
+    /**
+     * 计算出从之前的某个快照到本快照期间的 JIT 编译活动，不支持的数据的值仍为 {@code -1}.
+     *
+     * @param before 之前的快照
+     * @return 期间的 JIT 编译活动
+     */
+    public JitActivity since(JitActivity before) {
+        return new JitActivity(minus(this.compilationMillis, before.compilationMillis),
+                minus(this.compiles, before.compiles), minus(this.deopts, before.deopts));
+    }
+
+    /**
+     * 计算两个累计值之差，任意一个值不支持时返回 {@code -1}.
+     *
+     * @param after 之后的累计值
+     * @param before 之前的累计值
+     * @return 差值
+     */
+    private static long minus(long after, long before) {
+        return after < 0 || before < 0 ? -1 : Math.max(after - before, 0);
+    }
+
+}
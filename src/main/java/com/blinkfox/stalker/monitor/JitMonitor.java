@@ -0,0 +1,109 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+
+/**
+ * 统计预热期间和正式测量期间 JVM 中 JIT 编译和去优化活动的监视器.
+ *
+ * <p>如果正式测量期间仍有明显的 JIT 编译活动，说明待测量方法可能还未被充分编译优化，测量结果可能不准确，
+ * 这时输出结果中会给出警示.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see JitActivity
+ * @since v1.3.0
+ */
+public class JitMonitor implements MeasureMonitor {
+
+    /**
+     * 预热开始时的 JIT 编译活动快照，如果没有经过预热阶段，则为 {@code null}.
+     */
+    private JitActivity warmupStart;
+
+    /**
+     * 预热期间的 JIT 编译活动.
+     */
+    private JitActivity warmup;
+
+    /**
+     * 正式测量开始时的 JIT 编译活动快照.
+     */
+    private JitActivity measureStart;
+
+    /**
+     * 正式测量结束时的 JIT 编译活动快照，未结束时为 {@code null}.
+     */
+    private volatile JitActivity measureEnd;
+
+    /**
+     * 在预热开始前记录 JIT 编译活动的快照，不需要预热时则不记录.
+     *
+     * @param options 运行的配置选项实例
+     */
+    @Override
+    public void beforeWarmup(Options options) {
+        if (options.getWarmups() > 0) {
+            this.warmupStart = JitActivity.snapshot();
+        }
+    }
+
+    /**
+     * 在正式测量开始时记录 JIT 编译活动的快照，并计算出预热期间的 JIT 编译活动.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.measureStart = JitActivity.snapshot();
+        if (this.warmupStart != null) {
+            this.warmup = this.measureStart.since(this.warmupStart);
+        }
+    }
+
+    /**
+     * 在正式测量结束或被取消时记录 JIT 编译活动的快照.
+     */
+    @Override
+    public void stop() {
+        this.measureEnd = JitActivity.snapshot();
+    }
+
+    /**
+     * 将预热期间和正式测量期间的 JIT 编译活动填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.measureStart == null) {
+            return;
+        }
+
+        JitActivity end = this.measureEnd;
+        JitActivity measured = (end == null ? JitActivity.snapshot() : end).since(this.measureStart);
+        result.setJitTracked(true)
+                .setJitTime(toNanos(measured.getCompilationMillis()))
+                .setJitCompiles(measured.getCompiles())
+                .setJitDeopts(measured.getDeopts());
+        if (this.warmup != null) {
+            result.setWarmupJitTime(toNanos(this.warmup.getCompilationMillis()))
+                    .setWarmupJitCompiles(this.warmup.getCompiles())
+                    .setWarmupJitDeopts(this.warmup.getDeopts());
+        } else {
+            result.setWarmupJitTime(-1).setWarmupJitCompiles(-1).setWarmupJitDeopts(-1);
+        }
+    }
+
+    /**
+     * 将毫秒转换为纳秒，不支持的值 {@code -1} 保持不变.
+     *
+     * @param millis 毫秒
+     * @return 纳秒
+     */
+    private static long toNanos(long millis) {
+        return millis < 0 ? -1 : millis * 1_000_000L;
+    }
+
+}
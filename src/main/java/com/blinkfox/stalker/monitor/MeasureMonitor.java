@@ -0,0 +1,118 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+
+/**
+ * 在测量任务运行期间，伴随着测量任务一起运行的监视器接口.
+ *
+ * <p>监视器在正式测量开始时启动，在测量结束或被取消时停止，监视器自身的异常不应该影响正常的测量任务.
+ * 如果需要统计预热期间的数据，可以实现 {@link #beforeWarmup(Options)} 方法.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see MeasureMonitors
+ * @since v1.3.0
+ */
+public interface MeasureMonitor {
+
+    /**
+     * 在预热开始前调用，只有通过 {@code MeasureRunnerContext} 运行时才会调用，默认不做任何处理. 迭代次数大于 {@code 1} 时，
+     * 每次迭代都会使用新的监视器并调用本方法，但只有第一次迭代之前会进行预热，之后的迭代会在调用本方法后立即开始正式测量.
+     *
+     * @param options 运行的配置选项实例
+     */
+    default void beforeWarmup(Options options) {
+    }
+
+    /**
+     * 在正式测量开始时启动本监视器.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    void start(Options options, MeasureRunner runner);
+
+    /**
+     * 在正式测量结束或被取消时停止本监视器.
+     */
+    void stop();
+
+    /**
+     * 在某个测量线程即将开始循环执行测量任务时调用，调用线程即为测量线程，默认不做任何处理.
+     *
+     * <p>本方法及 {@link #onWorkerEnd()} 方法在测量线程中调用，实现时应尽量轻量，且不应抛出异常.</p>
+     */
+    default void onWorkerStart() {
+    }
+
+    /**
+     * 在某个测量线程每循环执行完一批测量任务时调用，调用线程即为测量线程，默认不做任何处理.
+     *
+     * <p>本方法在测量线程的测量窗口中调用，实现时不应分配内存，以免干扰对待测量方法的内存分配统计.</p>
+     *
+     * @param ops 本批次执行的测量任务的次数
+     */
+    default void onWorkerBatch(int ops) {
+    }
+
+    /**
+     * 判断本监视器是否需要在每次执行测量任务之前通过 {@link #onWorkerInvocationStart(long)} 方法得到通知，默认为 {@code false}.
+     *
+     * <p>该值在构造监视器集合时就会被读取，只有确实需要感知每次执行的开始时刻（如检测仍在执行中的慢调用）的监视器才应返回 {@code true}.</p>
+     *
+     * @return 布尔值
+     */
+    default boolean isInvocationStartNeeded() {
+        return false;
+    }
+
+    /**
+     * 在某个测量线程每次即将执行测量任务时调用，调用线程即为测量线程，默认不做任何处理.
+     *
+     * <p>本方法在测量线程的测量窗口中且每次执行时都会调用，实现时不应分配内存，且应尽量轻量.</p>
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     */
+    default void onWorkerInvocationStart(long startNanos) {
+    }
+
+    /**
+     * 获取本监视器关注的慢样本的耗时阈值，单位纳秒(ns)，只有耗时不小于该阈值的成功样本才会通过
+     * {@link #onWorkerSlowSample(long, long)} 方法通知本监视器，默认为 {@link Long#MAX_VALUE}，即不关注任何样本.
+     *
+     * <p>该阈值在构造监视器集合时就会被读取，此后只会在每次通知本监视器之后重新读取，因此只能在
+     * {@link #onWorkerSlowSample(long, long)} 中增大，不能减小.</p>
+     *
+     * @return 耗时阈值
+     */
+    default long getSlowSampleNanos() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * 在某个测量线程执行完一次耗时不小于 {@link #getSlowSampleNanos()} 的测量任务时调用，调用线程即为测量线程，默认不做任何处理.
+     *
+     * <p>本方法在测量线程的测量窗口中调用，实现时不应分配内存.</p>
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     * @param cost 本次执行的耗时，单位纳秒(ns)
+     */
+    default void onWorkerSlowSample(long startNanos, long cost) {
+    }
+
+    /**
+     * 在某个测量线程循环执行测量任务结束时调用，调用线程即为测量线程，默认不做任何处理.
+     */
+    default void onWorkerEnd() {
+    }
+
+    /**
+     * 将本监视器中收集的数据填充到测量结果中，运行中和运行结束时都可能会被调用，默认不做任何处理.
+     *
+     * @param result 测量结果
+     */
+    default void fill(MeasureResult result) {
+    }
+
+}
@@ -0,0 +1,276 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 根据 {@link Options} 中的选项参数构造出的、伴随一次测量任务运行的若干个 {@link MeasureMonitor} 的集合.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see MeasureMonitor
+ * @since v1.3.0
+ */
+@Slf4j
+public final class MeasureMonitors {
+
+    /**
+     * 需要运行的监视器数组，使用数组是为了在测量线程中遍历时不分配内存，也不引入额外的方法调用.
+     */
+    private final MeasureMonitor[] monitors;
+
+    /**
+     * 关注慢样本的监视器数组，即 {@link MeasureMonitor#getSlowSampleNanos()} 不为 {@link Long#MAX_VALUE} 的监视器.
+     */
+    private final MeasureMonitor[] slowSampleMonitors;
+
+    /**
+     * 与 {@link #slowSampleMonitors} 一一对应的各个监视器当前关注的慢样本的耗时阈值.
+     */
+    private final long[] slowSampleThresholds;
+
+    /**
+     * 各个监视器当前关注的慢样本的耗时阈值中的最小值，没有监视器关注慢样本时为 {@link Long#MAX_VALUE}.
+     *
+     * <p>各个阈值只会增大，多个测量线程并发更新时即使读到了较旧的值，也只会使测量线程多通知一次，
+     * 而不会漏掉需要关注的慢样本.</p>
+     */
+    private volatile long slowSampleNanos;
+
+    /**
+     * 需要在每次执行测量任务之前得到通知的监视器数组.
+     */
+    private final MeasureMonitor[] invocationStartMonitors;
+
+    /**
+     * 是否已经停止.
+     */
+    private final AtomicBoolean stopped;
+
+    /**
+     * 构造方法.
+     *
+     * @param monitors 监视器集合
+     */
+    MeasureMonitors(List<MeasureMonitor> monitors) {
+        this.monitors = monitors.toArray(new MeasureMonitor[0]);
+        this.slowSampleMonitors = monitors.stream()
+                .filter(monitor -> monitor.getSlowSampleNanos() != Long.MAX_VALUE)
+                .toArray(MeasureMonitor[]::new);
+        this.slowSampleThresholds = new long[this.slowSampleMonitors.length];
+        long minSlowSampleNanos = Long.MAX_VALUE;
+        for (int i = 0; i < this.slowSampleMonitors.length; i++) {
+            this.slowSampleThresholds[i] = this.slowSampleMonitors[i].getSlowSampleNanos();
+            minSlowSampleNanos = Math.min(minSlowSampleNanos, this.slowSampleThresholds[i]);
+        }
+        this.slowSampleNanos = minSlowSampleNanos;
+        this.invocationStartMonitors = monitors.stream()
+                .filter(MeasureMonitor::isInvocationStartNeeded)
+                .toArray(MeasureMonitor[]::new);
+        this.stopped = new AtomicBoolean(false);
+    }
+
+    /**
+     * 根据选项参数构造出本次测量所需要的监视器集合.
+     *
+     * @param options 运行的配置选项实例
+     * @return {@link MeasureMonitors} 实例
+     */
+    public static MeasureMonitors of(Options options) {
+        List<MeasureMonitor> monitors = new ArrayList<>();
+        if (!StrKit.isEmpty(options.getSharedCountersDir())) {
+            monitors.add(new SharedCountersMonitor());
+        }
+        if (options.isJitStats()) {
+            monitors.add(new JitMonitor());
+        }
+        if (options.isCpuStats()) {
+            monitors.add(new CpuTimeMonitor());
+            monitors.add(new ProcessCpuMonitor());
+        }
+        if (options.isProcStats()) {
+            monitors.add(new ProcFsMonitor());
+            monitors.add(new CgroupMonitor());
+        }
+        if (options.isThreadStats()) {
+            monitors.add(new ThreadStateMonitor());
+        }
+        if (options.isHiccupStats()) {
+            monitors.add(new HiccupMonitor());
+        }
+        if (options.isGcPauseStats()) {
+            monitors.add(new GcPauseMonitor());
+        }
+        if (options.isJfrEvents() || !StrKit.isEmpty(options.getJfrRecordingDir())) {
+            MeasureMonitor jfrMonitor = JfrSupport.newMonitor(options);
+            if (jfrMonitor != null) {
+                monitors.add(jfrMonitor);
+            }
+        }
+        if (options.getSlowest() > 0) {
+            monitors.add(new SlowestInvocationsMonitor(options));
+        }
+        if (options.getProfileInterval() > 0) {
+            monitors.add(new StackSamplingMonitor());
+        }
+        if (options.isTrendStats()) {
+            monitors.add(new ResourceTrendMonitor());
+        }
+        if (options.isChangePointStats()) {
+            monitors.add(new ChangePointMonitor());
+        }
+
+        // 内存监视器需要放在最后，使其测量窗口在最内层，从而不会统计到其他监视器在测量线程中分配的内存.
+        if (options.isMemoryStats()) {
+            monitors.add(new MemoryMonitor());
+        }
+        return new MeasureMonitors(monitors);
+    }
+
+    /**
+     * 在预热开始前通知所有的监视器，单个监视器处理失败时只记录日志.
+     *
+     * @param options 运行的配置选项实例
+     */
+    public void beforeWarmup(Options options) {
+        for (MeasureMonitor monitor : this.monitors) {
+            try {
+                monitor.beforeWarmup(options);
+            } catch (Exception e) {
+                log.error("【Stalker 错误提示】在预热前通知测量监视器【{}】时出错！", monitor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 启动所有的监视器，单个监视器启动失败时只记录日志，不影响测量任务的运行.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    public void start(Options options, MeasureRunner runner) {
+        for (MeasureMonitor monitor : this.monitors) {
+            try {
+                monitor.start(options, runner);
+            } catch (Exception e) {
+                log.error("【Stalker 错误提示】启动测量监视器【{}】时出错！", monitor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 停止所有的监视器，多次调用时只会停止一次.
+     */
+    public void stop() {
+        if (!this.stopped.compareAndSet(false, true)) {
+            return;
+        }
+
+        for (MeasureMonitor monitor : this.monitors) {
+            try {
+                monitor.stop();
+            } catch (Exception e) {
+                log.error("【Stalker 错误提示】停止测量监视器【{}】时出错！", monitor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 在当前测量线程即将开始循环执行测量任务时，通知所有的监视器.
+     */
+    public void onWorkerStart() {
+        for (MeasureMonitor monitor : this.monitors) {
+            monitor.onWorkerStart();
+        }
+    }
+
+    /**
+     * 在当前测量线程每循环执行完一批测量任务时，通知所有的监视器.
+     *
+     * @param ops 本批次执行的测量任务的次数
+     */
+    public void onWorkerBatch(int ops) {
+        for (MeasureMonitor monitor : this.monitors) {
+            monitor.onWorkerBatch(ops);
+        }
+    }
+
+    /**
+     * 判断是否有监视器需要在每次执行测量任务之前得到通知.
+     *
+     * @return 布尔值
+     */
+    public boolean isInvocationStartNeeded() {
+        return this.invocationStartMonitors.length > 0;
+    }
+
+    /**
+     * 在当前测量线程每次即将执行测量任务时，通知需要得到通知的监视器.
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     */
+    public void onWorkerInvocationStart(long startNanos) {
+        for (MeasureMonitor monitor : this.invocationStartMonitors) {
+            monitor.onWorkerInvocationStart(startNanos);
+        }
+    }
+
+    /**
+     * 获取各个监视器当前关注的慢样本的耗时阈值中的最小值，测量线程只需在样本耗时不小于该值时才调用
+     * {@link #onWorkerSlowSample(long, long)} 方法. 该值在测量期间可能会增大，测量线程每次都应重新获取.
+     *
+     * @return 耗时阈值，单位纳秒(ns)
+     */
+    public long getSlowSampleNanos() {
+        return this.slowSampleNanos;
+    }
+
+    /**
+     * 在当前测量线程执行完一次慢样本时，通知关注该耗时样本的监视器，并重新读取被通知的监视器的耗时阈值.
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     * @param cost 本次执行的耗时，单位纳秒(ns)
+     */
+    public void onWorkerSlowSample(long startNanos, long cost) {
+        long minSlowSampleNanos = Long.MAX_VALUE;
+        for (int i = 0; i < this.slowSampleMonitors.length; i++) {
+            if (cost >= this.slowSampleThresholds[i]) {
+                MeasureMonitor monitor = this.slowSampleMonitors[i];
+                monitor.onWorkerSlowSample(startNanos, cost);
+                this.slowSampleThresholds[i] = monitor.getSlowSampleNanos();
+            }
+            minSlowSampleNanos = Math.min(minSlowSampleNanos, this.slowSampleThresholds[i]);
+        }
+        this.slowSampleNanos = minSlowSampleNanos;
+    }
+
+    /**
+     * 在当前测量线程循环执行测量任务结束时，按与开始时相反的顺序通知所有的监视器.
+     */
+    public void onWorkerEnd() {
+        for (int i = this.monitors.length - 1; i >= 0; --i) {
+            this.monitors[i].onWorkerEnd();
+        }
+    }
+
+    /**
+     * 将所有监视器中收集的数据填充到测量结果中，单个监视器填充失败时只记录日志.
+     *
+     * @param result 测量结果
+     */
+    public void fill(MeasureResult result) {
+        for (MeasureMonitor monitor : this.monitors) {
+            try {
+                monitor.fill(result);
+            } catch (Exception e) {
+                log.error("【Stalker 错误提示】填充测量监视器【{}】的数据时出错！", monitor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+}
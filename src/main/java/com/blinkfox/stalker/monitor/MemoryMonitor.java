@@ -0,0 +1,214 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 统计测量期间的内存分配和 GC 数据的监视器.
+ *
+ * <p>内存分配量通过 {@code com.sun.management.ThreadMXBean} 在每个测量线程的测量窗口前后读取当前线程的累计分配字节数得到，
+ * 因此只会统计测量线程在执行待测量方法时分配的内存；GC 数据则是通过各个 {@link GarbageCollectorMXBean}
+ * 在测量开始和结束时的累计次数和耗时之差得到，它统计的是整个 JVM 的数据.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public class MemoryMonitor implements MeasureMonitor {
+
+    /**
+     * 读取线程内存分配量时，校准单次读取本身所分配的字节数的尝试次数.
+     */
+    private static final int CALIBRATE_TIMES = 5;
+
+    /**
+     * 支持统计线程内存分配量的 {@code ThreadMXBean} 实例，如果当前 JVM 不支持，则为 {@code null}.
+     */
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = initThreadBean();
+
+    /**
+     * 已经结束了的各个测量窗口中分配的字节数之和.
+     */
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    /**
+     * 正在执行中的测量窗口，key 是测量线程的 ID，value 是测量窗口开始时该线程的累计分配字节数.
+     */
+    private final Map<Long, AtomicLong> activeWorkers = new ConcurrentHashMap<>();
+
+    /**
+     * 单次读取线程的累计分配字节数时，读取本身所分配的字节数，用于从每个测量窗口中扣除.
+     */
+    private long readOverhead;
+
+    /**
+     * 测量开始时 JVM 中的 GC 累计次数.
+     */
+    private long startGcCount;
+
+    /**
+     * 测量开始时 JVM 中的 GC 累计耗时，单位毫秒(ms).
+     */
+    private long startGcMillis;
+
+    /**
+     * 测量结束时 JVM 中的 GC 累计次数，未结束时为 {@code -1}.
+     */
+    private volatile long endGcCount = -1;
+
+    /**
+     * 测量结束时 JVM 中的 GC 累计耗时，单位毫秒(ms).
+     */
+    private volatile long endGcMillis;
+
+    /**
+     * 初始化支持统计线程内存分配量的 {@code ThreadMXBean} 实例.
+     *
+     * @return {@code ThreadMXBean} 实例，不支持时返回 {@code null}
+     */
+    private static com.sun.management.ThreadMXBean initThreadBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+
+            com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+            if (!threadBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threadBean;
+        } catch (Throwable e) {
+            log.debug("【Stalker 提示】当前 JVM 不支持统计线程的内存分配量.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 判断当前 JVM 是否支持统计线程的内存分配量.
+     *
+     * @return 布尔值
+     */
+    public static boolean isAllocationSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * 在正式测量开始时校准读取开销，并记录 GC 的初始累计数据.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        if (THREAD_BEAN != null) {
+            long threadId = Thread.currentThread().getId();
+            long overhead = Long.MAX_VALUE;
+            for (int i = 0; i < CALIBRATE_TIMES; ++i) {
+                long before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+                overhead = Math.min(overhead, THREAD_BEAN.getThreadAllocatedBytes(threadId) - before);
+            }
+            this.readOverhead = Math.max(overhead, 0);
+        }
+
+        long[] gcStats = readGcStats();
+        this.startGcCount = gcStats[0];
+        this.startGcMillis = gcStats[1];
+    }
+
+    /**
+     * 在正式测量结束或被取消时记录 GC 的最终累计数据.
+     */
+    @Override
+    public void stop() {
+        long[] gcStats = readGcStats();
+        this.endGcMillis = gcStats[1];
+        this.endGcCount = gcStats[0];
+    }
+
+    /**
+     * 在测量窗口开始时记录当前线程的累计分配字节数，需要分配内存的操作都放在读取之前，避免被计入测量窗口.
+     */
+    @Override
+    public void onWorkerStart() {
+        if (THREAD_BEAN != null) {
+            long threadId = Thread.currentThread().getId();
+            AtomicLong start = new AtomicLong(-1);
+            this.activeWorkers.put(threadId, start);
+            start.set(THREAD_BEAN.getThreadAllocatedBytes(threadId));
+        }
+    }
+
+    /**
+     * 在测量窗口结束时累加当前线程在本窗口中分配的字节数，需要分配内存的操作都放在读取之后.
+     */
+    @Override
+    public void onWorkerEnd() {
+        if (THREAD_BEAN != null) {
+            long threadId = Thread.currentThread().getId();
+            long end = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            AtomicLong start = this.activeWorkers.remove(threadId);
+            if (start != null && start.get() >= 0) {
+                this.allocatedBytes.add(Math.max(end - start.get() - this.readOverhead, 0));
+            }
+        }
+    }
+
+    /**
+     * 将内存分配和 GC 数据填充到测量结果中，运行中时还会统计正在执行中的测量窗口已分配的字节数.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        result.setMemoryTracked(true);
+        if (THREAD_BEAN == null) {
+            result.setAllocatedBytes(-1);
+        } else {
+            long bytes = this.allocatedBytes.sum();
+            for (Map.Entry<Long, AtomicLong> entry : this.activeWorkers.entrySet()) {
+                long start = entry.getValue().get();
+                long curr = start < 0 ? -1 : THREAD_BEAN.getThreadAllocatedBytes(entry.getKey());
+                bytes += curr < 0 ? 0 : Math.max(curr - start, 0);
+            }
+
+            long total = result.getTotal();
+            result.setAllocatedBytes(bytes)
+                    .setAllocatedBytesPerOp(total == 0 ? 0 : (double) bytes / total)
+                    .setAllocationRate(MathKit.calcThroughput(bytes, result.getCosts()));
+        }
+
+        long endCount = this.endGcCount;
+        long[] gcStats = endCount < 0 ? readGcStats() : new long[] {endCount, this.endGcMillis};
+        result.setGcCount(gcStats[0] - this.startGcCount)
+                .setGcTime((gcStats[1] - this.startGcMillis) * 1_000_000L);
+    }
+
+    /**
+     * 读取 JVM 中所有垃圾收集器的累计 GC 次数和累计 GC 耗时（毫秒），不支持的收集器会被忽略.
+     *
+     * @return 第一个元素为累计次数，第二个元素为累计耗时的数组
+     */
+    private static long[] readGcStats() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gcBean.getCollectionCount(), 0);
+            millis += Math.max(gcBean.getCollectionTime(), 0);
+        }
+        return new long[] {count, millis};
+    }
+
+}
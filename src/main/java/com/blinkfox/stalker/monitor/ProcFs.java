@@ -0,0 +1,250 @@
+package com.blinkfox.stalker.monitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Linux 中 {@code /proc} 和 {@code /sys} 虚拟文件系统的读取器，用于读取进程和测量线程的 CPU 时间、上下文切换次数、
+ * 系统负载和 CPU 频率等运行环境数据.
+ *
+ * <p>所有文件都相对于构造时传入的根目录来读取，便于在单元测试中使用伪造的目录结构. 文件不存在或格式不正确时，
+ * 各个读取方法都会返回 {@code null} 或 {@code -1}，而不会抛出异常，因此在非 Linux 系统中也可以安全地调用.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+final class ProcFs {
+
+    /**
+     * {@code /proc} 中 CPU 时间的时钟频率（即 {@code USER_HZ}），在目前所有主流的 Linux 发行版中均为 {@code 100}.
+     */
+    static final long USER_HZ = 100;
+
+    /**
+     * CPU 目录的名称的正则表达式，如：{@code cpu0}.
+     */
+    private static final Pattern CPU_DIR = Pattern.compile("cpu\\d+");
+
+    /**
+     * 空白字符的正则表达式.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * 当前系统中的实例.
+     */
+    private static final ProcFs INSTANCE = new ProcFs(new File("/"));
+
+    /**
+     * 根目录.
+     */
+    private final File root;
+
+    /**
+     * 构造方法.
+     *
+     * @param root 根目录
+     */
+    ProcFs(File root) {
+        this.root = root;
+    }
+
+    /**
+     * 获取当前系统中的实例.
+     *
+     * @return {@link ProcFs} 实例
+     */
+    static ProcFs getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 判断是否可以读取当前进程的 {@code /proc} 数据，即是否运行在 Linux 系统中.
+     *
+     * @return 布尔值
+     */
+    boolean isAvailable() {
+        return this.file("proc/self/stat").canRead();
+    }
+
+    /**
+     * 读取当前进程在用户态和内核态的累计 CPU 时间，来自于 {@code /proc/self/stat} 的第 {@code 14} 和第 {@code 15} 个字段.
+     *
+     * @return 长度为 {@code 2} 的数组，分别为用户态和内核态的 CPU 时间，单位为纳秒(ns)，读取失败时返回 {@code null}
+     */
+    long[] readProcessCpuTime() {
+        String stat = this.read("proc/self/stat");
+        int index;
+        if (stat == null || (index = stat.lastIndexOf(')')) < 0) {
+            return null;
+        }
+
+        // 进程名称中可能包含空格和括号，因此从最后一个右括号之后开始解析，此时第 3 个字段（进程状态）的下标为 0.
+        String[] fields = SPACES.split(stat.substring(index + 1).trim());
+        if (fields.length < 13) {
+            return null;
+        }
+        try {
+            return new long[] {ticksToNanos(Long.parseLong(fields[11])), ticksToNanos(Long.parseLong(fields[12]))};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 读取调用线程自身的累计主动和被动上下文切换次数，来自于 {@code /proc/thread-self/status}.
+     *
+     * @return 长度为 {@code 2} 的数组，分别为主动和被动上下文切换次数，读取失败时返回 {@code null}
+     */
+    long[] readThreadContextSwitches() {
+        String status = this.read("proc/thread-self/status");
+        if (status == null) {
+            return null;
+        }
+
+        long voluntary = -1;
+        long involuntary = -1;
+        for (String line : status.split("\n")) {
+            if (line.startsWith("voluntary_ctxt_switches:")) {
+                voluntary = parseLong(line.substring(line.indexOf(':') + 1));
+            } else if (line.startsWith("nonvoluntary_ctxt_switches:")) {
+                involuntary = parseLong(line.substring(line.indexOf(':') + 1));
+            }
+        }
+        return voluntary < 0 || involuntary < 0 ? null : new long[] {voluntary, involuntary};
+    }
+
+    /**
+     * 读取系统最近 {@code 1} 分钟的平均负载，来自于 {@code /proc/loadavg} 的第 {@code 1} 个字段.
+     *
+     * @return 平均负载，读取失败时返回 {@code -1}
+     */
+    double readLoadAverage() {
+        String loadavg = this.read("proc/loadavg");
+        if (loadavg == null) {
+            return -1;
+        }
+        try {
+            return Double.parseDouble(SPACES.split(loadavg.trim())[0]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 读取整个系统所有 CPU 的累计时间，来自于 {@code /proc/stat} 中的 {@code cpu} 行.
+     *
+     * @return 长度为 {@code 4} 的数组，分别为用户态（含 {@code nice}）、内核态（含中断）、空闲（含 {@code iowait}）
+     *      和被虚拟化宿主机占用（{@code steal}）的时钟周期数，读取失败时返回 {@code null}
+     */
+    long[] readSystemCpuTicks() {
+        String stat = this.read("proc/stat");
+        if (stat == null || !stat.startsWith("cpu ")) {
+            return null;
+        }
+
+        String[] fields = SPACES.split(stat.substring(0, stat.indexOf('\n') < 0 ? stat.length() : stat.indexOf('\n'))
+                .trim());
+        if (fields.length < 5) {
+            return null;
+        }
+        long[] values = new long[9];
+        for (int i = 1; i < fields.length && i <= values.length; ++i) {
+            values[i - 1] = parseLong(fields[i]);
+            if (values[i - 1] < 0) {
+                return null;
+            }
+        }
+
+        // 各个字段依次为：user nice system idle iowait irq softirq steal guest，其中 guest 已包含在 user 中.
+        return new long[] {values[0] + values[1], values[2] + values[5] + values[6], values[3] + values[4], values[7]};
+    }
+
+    /**
+     * 读取所有 CPU 的当前频率的平均值，来自于 {@code /sys/devices/system/cpu/cpu*&#47;cpufreq/scaling_cur_freq}.
+     *
+     * @return 平均频率，单位为 MHz，虚拟机或容器中通常不支持，此时返回 {@code -1}
+     */
+    long readCpuFrequency() {
+        File[] cpuDirs = this.file("sys/devices/system/cpu").listFiles(f -> CPU_DIR.matcher(f.getName()).matches());
+        if (cpuDirs == null) {
+            return -1;
+        }
+
+        long sum = 0;
+        int count = 0;
+        for (File cpuDir : cpuDirs) {
+            String freq = read(new File(cpuDir, "cpufreq/scaling_cur_freq"));
+            long khz = freq == null ? -1 : parseLong(freq);
+            if (khz > 0) {
+                sum += khz;
+                ++count;
+            }
+        }
+        return count == 0 ? -1 : sum / count / 1000;
+    }
+
+    /**
+     * 获取相对于根目录的文件.
+     *
+     * @param path 相对路径
+     * @return 文件
+     */
+    File file(String path) {
+        return new File(this.root, path);
+    }
+
+    /**
+     * 读取相对于根目录的文件的全部内容.
+     *
+     * @param path 相对路径
+     * @return 文件内容，读取失败时返回 {@code null}
+     */
+    String read(String path) {
+        return read(this.file(path));
+    }
+
+    /**
+     * 读取文件的全部内容.
+     *
+     * @param file 文件
+     * @return 文件内容，读取失败时返回 {@code null}
+     */
+    static String read(File file) {
+        try {
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            return String.join("\n", lines);
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 将字符串解析为非负的 {@code long} 型整数.
+     *
+     * @param value 字符串
+     * @return 整数，解析失败时返回 {@code -1}
+     */
+    static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 将 {@code /proc} 中的时钟周期数换算为纳秒数.
+     *
+     * @param ticks 时钟周期数
+     * @return 纳秒数
+     */
+    private static long ticksToNanos(long ticks) {
+        return ticks * (1_000_000_000L / USER_HZ);
+    }
+
+}
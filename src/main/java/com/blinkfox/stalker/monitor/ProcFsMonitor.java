@@ -0,0 +1,234 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 在 Linux 系统中通过 {@code /proc} 和 {@code /sys} 统计正式测量期间运行环境数据的监视器.
+ *
+ * <p>统计的数据包括：测量线程的主动和被动上下文切换次数（在测量线程开始和结束时读取各自的 {@code /proc/thread-self/status}），
+ * JVM 进程在用户态和内核态的 CPU 时间，整个系统的 CPU 使用率和 {@code steal} 占比，以及由一个单独的线程每隔
+ * {@link #SAMPLE_INTERVAL_MILLIS} 毫秒采样的系统最大平均负载和 CPU 频率的变化范围. 被动上下文切换过多或 CPU 频率明显下降，
+ * 都说明测量结果受到了运行环境的干扰.</p>
+ *
+ * <p>在非 Linux 系统中本监视器不会统计任何数据.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see ProcFs
+ * @since v1.3.0
+ */
+public class ProcFsMonitor implements MeasureMonitor {
+
+    /**
+     * 采样系统平均负载和 CPU 频率的时间间隔，单位毫秒(ms).
+     */
+    static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+    /**
+     * {@code /proc} 和 {@code /sys} 的读取器.
+     */
+    private final ProcFs procFs;
+
+    /**
+     * 各个测量线程开始时的上下文切换次数，键为线程 ID.
+     */
+    private final Map<Long, long[]> workerStarts = new ConcurrentHashMap<>();
+
+    /**
+     * 已结束的测量线程的主动上下文切换次数之和.
+     */
+    private final LongAdder voluntarySwitches = new LongAdder();
+
+    /**
+     * 已结束的测量线程的被动上下文切换次数之和.
+     */
+    private final LongAdder involuntarySwitches = new LongAdder();
+
+    /**
+     * 正式测量开始时 JVM 进程的用户态和内核态 CPU 时间.
+     */
+    private long[] startProcessCpu;
+
+    /**
+     * 正式测量结束时 JVM 进程的用户态和内核态 CPU 时间，未结束时为 {@code null}.
+     */
+    private volatile long[] endProcessCpu;
+
+    /**
+     * 正式测量开始时整个系统的 CPU 时钟周期数.
+     */
+    private long[] startSystemCpu;
+
+    /**
+     * 正式测量结束时整个系统的 CPU 时钟周期数，未结束时为 {@code null}.
+     */
+    private volatile long[] endSystemCpu;
+
+    /**
+     * 正式测量开始时的 CPU 平均频率，单位为 MHz，不支持时为 {@code -1}.
+     */
+    private long startFrequency;
+
+    /**
+     * 采样到的最低的 CPU 平均频率，单位为 MHz.
+     */
+    private volatile long minFrequency;
+
+    /**
+     * 采样到的最高的 CPU 平均频率，单位为 MHz.
+     */
+    private volatile long maxFrequency;
+
+    /**
+     * 采样到的最大的系统平均负载.
+     */
+    private volatile double maxLoadAverage;
+
+    /**
+     * 定时采样的线程池，不支持时为 {@code null}.
+     */
+    private ScheduledExecutorService sampleExecutor;
+
+    /**
+     * 构造方法.
+     */
+    public ProcFsMonitor() {
+        this(ProcFs.getInstance());
+    }
+
+    /**
+     * 使用指定的读取器来构造实例.
+     *
+     * @param procFs {@code /proc} 和 {@code /sys} 的读取器
+     */
+    ProcFsMonitor(ProcFs procFs) {
+        this.procFs = procFs;
+    }
+
+    /**
+     * 在正式测量开始时记录进程和系统的 CPU 时间等初始数据，并开启定时采样的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        if (!this.procFs.isAvailable()) {
+            return;
+        }
+
+        this.startProcessCpu = this.procFs.readProcessCpuTime();
+        this.startSystemCpu = this.procFs.readSystemCpuTicks();
+        this.startFrequency = this.procFs.readCpuFrequency();
+        this.minFrequency = this.startFrequency;
+        this.maxFrequency = this.startFrequency;
+        this.maxLoadAverage = this.procFs.readLoadAverage();
+        this.sampleExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-procfs");
+        this.sampleExecutor.scheduleAtFixedRate(this::sample, SAMPLE_INTERVAL_MILLIS, SAMPLE_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 采样一次系统平均负载和 CPU 频率.
+     */
+    void sample() {
+        this.maxLoadAverage = Math.max(this.maxLoadAverage, this.procFs.readLoadAverage());
+        long frequency = this.procFs.readCpuFrequency();
+        if (frequency > 0) {
+            this.minFrequency = this.minFrequency < 0 ? frequency : Math.min(this.minFrequency, frequency);
+            this.maxFrequency = Math.max(this.maxFrequency, frequency);
+        }
+    }
+
+    /**
+     * 在测量线程开始循环执行测量任务时，记录该线程的上下文切换次数.
+     */
+    @Override
+    public void onWorkerStart() {
+        if (this.sampleExecutor != null) {
+            long[] switches = this.procFs.readThreadContextSwitches();
+            if (switches != null) {
+                this.workerStarts.put(Thread.currentThread().getId(), switches);
+            }
+        }
+    }
+
+    /**
+     * 在测量线程结束循环执行测量任务时，累加该线程在测量期间的上下文切换次数.
+     */
+    @Override
+    public void onWorkerEnd() {
+        long[] start = this.workerStarts.remove(Thread.currentThread().getId());
+        long[] end;
+        if (start != null && (end = this.procFs.readThreadContextSwitches()) != null) {
+            this.voluntarySwitches.add(end[0] - start[0]);
+            this.involuntarySwitches.add(end[1] - start[1]);
+        }
+    }
+
+    /**
+     * 停止定时采样的任务，并记录进程和系统结束时的 CPU 时间.
+     */
+    @Override
+    public void stop() {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.sampleExecutor);
+        try {
+            this.sampleExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.sample();
+        this.endProcessCpu = this.procFs.readProcessCpuTime();
+        this.endSystemCpu = this.procFs.readSystemCpuTicks();
+    }
+
+    /**
+     * 将上下文切换次数、CPU 时间、系统负载和 CPU 频率等运行环境数据填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        result.setProcTracked(true)
+                .setVoluntaryContextSwitches(this.voluntarySwitches.sum())
+                .setInvoluntaryContextSwitches(this.involuntarySwitches.sum())
+                .setMaxLoadAverage(this.maxLoadAverage)
+                .setCpuFrequencyStart(this.startFrequency)
+                .setCpuFrequencyMin(this.minFrequency)
+                .setCpuFrequencyMax(this.maxFrequency);
+
+        long[] endProcess = this.endProcessCpu == null ? this.procFs.readProcessCpuTime() : this.endProcessCpu;
+        if (this.startProcessCpu != null && endProcess != null) {
+            result.setProcessUserTime(endProcess[0] - this.startProcessCpu[0])
+                    .setProcessSystemTime(endProcess[1] - this.startProcessCpu[1]);
+        }
+
+        long[] endSystem = this.endSystemCpu == null ? this.procFs.readSystemCpuTicks() : this.endSystemCpu;
+        if (this.startSystemCpu != null && endSystem != null) {
+            long user = endSystem[0] - this.startSystemCpu[0];
+            long system = endSystem[1] - this.startSystemCpu[1];
+            long idle = endSystem[2] - this.startSystemCpu[2];
+            long steal = endSystem[3] - this.startSystemCpu[3];
+            long total = user + system + idle + steal;
+            if (total > 0) {
+                result.setSystemCpuPercent((user + system) * 100.0 / total).setStealPercent(steal * 100.0 / total);
+            }
+        }
+    }
+
+}
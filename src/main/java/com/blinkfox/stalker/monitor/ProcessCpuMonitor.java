@@ -0,0 +1,112 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 统计整个 JVM 进程在测量期间消耗的 CPU 时间的监视器，用于评估测量任务的 CPU 成本.
+ *
+ * <p>进程的 CPU 时间包含了测量线程、JIT 编译线程、GC 线程等所有线程消耗的 CPU 时间，
+ * 据此可以计算出测量期间平均使用的 CPU 核数、CPU 使用率和"每 CPU 秒的运行次数"，
+ * 从而在吞吐量相同的情况下比较出不同实现或不同并发数下的 CPU 成本.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public class ProcessCpuMonitor implements MeasureMonitor {
+
+    /**
+     * 支持读取进程 CPU 时间的 {@code OperatingSystemMXBean} 实例，如果当前 JVM 不支持，则为 {@code null}.
+     */
+    private static final com.sun.management.OperatingSystemMXBean OS_BEAN = initOsBean();
+
+    /**
+     * 测量开始时进程的累计 CPU 时间，单位纳秒(ns).
+     */
+    private long startCpuTime;
+
+    /**
+     * 测量结束时进程的累计 CPU 时间，单位纳秒(ns)，未结束时为 {@code -1}.
+     */
+    private volatile long endCpuTime = -1;
+
+    /**
+     * 初始化支持读取进程 CPU 时间的 {@code OperatingSystemMXBean} 实例.
+     *
+     * @return {@code OperatingSystemMXBean} 实例，不支持时返回 {@code null}
+     */
+    private static com.sun.management.OperatingSystemMXBean initOsBean() {
+        try {
+            OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+            if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+                com.sun.management.OperatingSystemMXBean osBean = (com.sun.management.OperatingSystemMXBean) bean;
+                return osBean.getProcessCpuTime() < 0 ? null : osBean;
+            }
+            return null;
+        } catch (Throwable e) {
+            log.debug("【Stalker 提示】当前 JVM 不支持读取进程的 CPU 时间.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 判断当前 JVM 是否支持读取进程的 CPU 时间.
+     *
+     * @return 布尔值
+     */
+    public static boolean isSupported() {
+        return OS_BEAN != null;
+    }
+
+    /**
+     * 在正式测量开始时记录进程的累计 CPU 时间.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        if (OS_BEAN != null) {
+            this.startCpuTime = OS_BEAN.getProcessCpuTime();
+        }
+    }
+
+    /**
+     * 在正式测量结束或被取消时记录进程的累计 CPU 时间.
+     */
+    @Override
+    public void stop() {
+        if (OS_BEAN != null) {
+            this.endCpuTime = OS_BEAN.getProcessCpuTime();
+        }
+    }
+
+    /**
+     * 将进程的 CPU 使用数据填充到测量结果中，运行中时使用当前的累计 CPU 时间来计算.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (OS_BEAN == null) {
+            return;
+        }
+
+        long end = this.endCpuTime;
+        long cpuTime = Math.max((end < 0 ? OS_BEAN.getProcessCpuTime() : end) - this.startCpuTime, 0);
+        long costs = result.getCosts();
+        double cores = costs == 0 ? 0 : (double) cpuTime / costs;
+        result.setProcessCpuTracked(true)
+                .setProcessCpuTime(cpuTime)
+                .setCpuCores(cores)
+                .setCpuUtilization(cores * 100 / Runtime.getRuntime().availableProcessors())
+                .setOpsPerCpuSecond(MathKit.calcThroughput(result.getTotal(), cpuTime));
+    }
+
+}
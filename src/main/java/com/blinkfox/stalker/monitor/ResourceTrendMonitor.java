@@ -0,0 +1,290 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.ResourceTrend;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.io.File;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在正式测量期间定时采样 JVM 进程的资源使用量，并据此判断各项资源是否在持续增长（即是否可能存在资源泄漏）的监视器.
+ *
+ * <p>采样的资源包括：GC 后的堆内存使用量（即各个堆内存池最近一次 GC 后的使用量之和，不受 GC 前的垃圾对象影响）、存活的线程数、
+ * 打开的文件描述符数（优先统计 {@code /proc/self/fd}）和直接内存缓冲池的使用量. 测量结束时，对每项资源都用最小二乘法拟合出增长速率，
+ * 并用 Kendall 秩相关系数判断其是否单调增长. 采样次数超过 {@link #MAX_SAMPLES} 时会丢弃一半的样本并将采样步长加倍，
+ * 从而在长时间的稳定性测试中也只占用固定的内存.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see ResourceTrend
+ * @since v1.3.0
+ */
+@Slf4j
+public class ResourceTrendMonitor implements MeasureMonitor {
+
+    /**
+     * 最多保留的采样次数.
+     */
+    static final int MAX_SAMPLES = 2048;
+
+    /**
+     * 判断为持续增长所需的最小 Kendall 秩相关系数.
+     */
+    static final double MIN_GROWING_TAU = 0.6;
+
+    /**
+     * 判断为持续增长所需的拟合增长量与初始使用量的最小比值.
+     */
+    static final double MIN_GROWING_RATIO = 0.05;
+
+    /**
+     * 按执行次数测量时，默认的采样时间间隔，单位纳秒(ns).
+     */
+    private static final long DEFAULT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 按持续时间测量时，整个测量期间期望的采样次数.
+     */
+    private static final int EXPECTED_SAMPLES = 120;
+
+    /**
+     * 各项资源的名称.
+     */
+    private static final String[] RESOURCES = {"Heap After GC", "Live Threads", "Open Files", "Direct Memory"};
+
+    /**
+     * 各项资源的使用量是否为字节数.
+     */
+    private static final boolean[] BYTES = {true, false, false, true};
+
+    /**
+     * 文件描述符目录.
+     */
+    private static final File FD_DIR = new File("/proc/self/fd");
+
+    /**
+     * 各次采样的时刻，单位纳秒(ns).
+     */
+    private final long[] times = new long[MAX_SAMPLES];
+
+    /**
+     * 各项资源各次采样的使用量，不支持的资源的使用量为 {@code -1}.
+     */
+    private final long[][] values = new long[RESOURCES.length][MAX_SAMPLES];
+
+    /**
+     * 已保留的采样次数.
+     */
+    private int count;
+
+    /**
+     * 采样步长，即每隔多少次定时任务保留一次样本.
+     */
+    private int stride = 1;
+
+    /**
+     * 定时任务的执行次数.
+     */
+    private long ticks;
+
+    /**
+     * 定时采样的线程池.
+     */
+    private ScheduledExecutorService sampleExecutor;
+
+    /**
+     * 根据选项参数得出采样的时间间隔，未设置时按持续时间测量的采样 {@link #EXPECTED_SAMPLES} 次，最小为 {@code 1} 秒，
+     * 按执行次数测量的则每秒采样一次.
+     *
+     * @param options 运行的配置选项实例
+     * @return 采样的时间间隔，单位纳秒(ns)
+     */
+    static long getIntervalNanos(Options options) {
+        if (options.getTrendInterval() > 0) {
+            return options.getTrendInterval();
+        }
+        return options.getDuration() == null
+                ? DEFAULT_INTERVAL_NANOS
+                : Math.max(DEFAULT_INTERVAL_NANOS, options.getDuration().getAmountNanoTime() / EXPECTED_SAMPLES);
+    }
+
+    /**
+     * 在正式测量开始时采样一次，并开启定时采样的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.sample();
+        long interval = getIntervalNanos(options);
+        this.sampleExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-trend");
+        this.sampleExecutor.scheduleAtFixedRate(this::tick, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 执行一次定时任务，按采样步长决定是否保留本次样本.
+     */
+    private synchronized void tick() {
+        if (++this.ticks % this.stride == 0) {
+            this.sample();
+        }
+    }
+
+    /**
+     * 采样一次各项资源的使用量，样本已满时丢弃一半的样本并将采样步长加倍.
+     */
+    synchronized void sample() {
+        if (this.count == MAX_SAMPLES) {
+            for (int i = 0; i < MAX_SAMPLES / 2; i++) {
+                this.times[i] = this.times[i * 2];
+                for (long[] resourceValues : this.values) {
+                    resourceValues[i] = resourceValues[i * 2];
+                }
+            }
+            this.count = MAX_SAMPLES / 2;
+            this.stride *= 2;
+        }
+
+        this.times[this.count] = System.nanoTime();
+        this.values[0][this.count] = readHeapAfterGc();
+        this.values[1][this.count] = ManagementFactory.getThreadMXBean().getThreadCount();
+        this.values[2][this.count] = readOpenFiles();
+        this.values[3][this.count] = readDirectMemory();
+        this.count++;
+    }
+
+    /**
+     * 读取各个堆内存池最近一次 GC 后的使用量之和.
+     *
+     * @return 字节数，不支持时返回 {@code -1}
+     */
+    private static long readHeapAfterGc() {
+        long used = -1;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (usage != null) {
+                used = Math.max(used, 0) + usage.getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * 读取打开的文件描述符数，优先统计 {@code /proc/self/fd} 目录中的文件数.
+     *
+     * @return 文件描述符数，不支持时返回 {@code -1}
+     */
+    private static long readOpenFiles() {
+        String[] fds = FD_DIR.list();
+        if (fds != null) {
+            return fds.length;
+        }
+
+        try {
+            OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+            return bean instanceof com.sun.management.UnixOperatingSystemMXBean
+                    ? ((com.sun.management.UnixOperatingSystemMXBean) bean).getOpenFileDescriptorCount()
+                    : -1;
+        } catch (Throwable e) {
+            log.debug("【Stalker 提示】当前 JVM 不支持读取打开的文件描述符数.", e);
+            return -1;
+        }
+    }
+
+    /**
+     * 读取直接内存缓冲池的使用量.
+     *
+     * @return 字节数，不支持时返回 {@code -1}
+     */
+    private static long readDirectMemory() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 停止定时采样的任务，并在正式测量结束时再采样一次.
+     */
+    @Override
+    public void stop() {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.sampleExecutor);
+        try {
+            this.sampleExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.sample();
+    }
+
+    /**
+     * 对各项资源的样本进行拟合，并将得到的资源变化趋势填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public synchronized void fill(MeasureResult result) {
+        if (this.count == 0) {
+            return;
+        }
+
+        double[] hours = new double[this.count];
+        for (int i = 0; i < this.count; i++) {
+            hours[i] = (this.times[i] - this.times[0]) / (double) TimeUnit.HOURS.toNanos(1);
+        }
+
+        List<ResourceTrend> trends = new ArrayList<>(RESOURCES.length);
+        for (int i = 0; i < RESOURCES.length; i++) {
+            if (this.values[i][0] >= 0) {
+                trends.add(fit(RESOURCES[i], BYTES[i], hours, this.values[i], this.count));
+            }
+        }
+        result.setResourceTrends(trends);
+    }
+
+    /**
+     * 对某项资源的样本进行拟合，得出其变化趋势.
+     *
+     * @param resource 资源的名称
+     * @param bytes 使用量是否为字节数
+     * @param hours 各次采样距第一次采样的小时数
+     * @param values 各次采样的使用量
+     * @param n 采样次数
+     * @return 资源的变化趋势
+     */
+    static ResourceTrend fit(String resource, boolean bytes, double[] hours, long[] values, int n) {
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            ys[i] = values[i];
+        }
+
+        double slope = MathKit.calcSlope(hours, ys, n);
+        double tau = MathKit.calcKendallTau(ys, n);
+        double fittedGrowth = slope * (hours[n - 1] - hours[0]);
+        boolean growing = n >= ResourceTrend.MIN_SAMPLES
+                && tau >= MIN_GROWING_TAU
+                && values[n - 1] > values[0]
+                && fittedGrowth >= Math.max(values[0], 1) * MIN_GROWING_RATIO;
+        return new ResourceTrend(resource, bytes, n, values[0], values[n - 1], slope, tau, growing);
+    }
+
+}
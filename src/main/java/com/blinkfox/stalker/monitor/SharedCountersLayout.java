@@ -0,0 +1,99 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import java.lang.management.ManagementFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 内存映射共享计数器文件的固定二进制布局定义，写入方和读取方都依赖此布局.
+ *
+ * <p>文件中所有的数值均以大端序存储，各个字段的偏移量如下：</p>
+ * <pre>
+ *   0: int   魔数 'STKR'
+ *   4: int   布局版本号
+ *   8: long  顺序锁(seqlock)版本号，写入期间为奇数，写入完成后为偶数
+ *  16: long  进程 ID
+ *  24: long  测量开始时的毫秒时间戳
+ *  32: long  最后一次更新时的毫秒时间戳
+ *  40: int   运行状态，见 {@link #STATUS_RUNNING} 等常量
+ *  48: long  运行总次数
+ *  56: long  运行成功次数
+ *  64: long  运行失败次数
+ *  72: long  运行总耗时，单位纳秒
+ * 128: short 测量名称的 UTF-8 字节长度，其后紧跟名称的字节内容
+ * 256: int   直方图的桶数量，其后从 264 开始依次是各个桶的 long 计数值
+ * </pre>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SharedCountersLayout {
+
+    /**
+     * 共享计数器文件的后缀名.
+     */
+    static final String FILE_SUFFIX = ".stalker";
+
+    static final int MAGIC = 0x53544B52;
+
+    static final int VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+
+    static final int VERSION_OFFSET = 4;
+
+    static final int SEQUENCE_OFFSET = 8;
+
+    static final int PID_OFFSET = 16;
+
+    static final int START_MILLIS_OFFSET = 24;
+
+    static final int UPDATE_MILLIS_OFFSET = 32;
+
+    static final int STATUS_OFFSET = 40;
+
+    static final int TOTAL_OFFSET = 48;
+
+    static final int SUCCESS_OFFSET = 56;
+
+    static final int FAILURE_OFFSET = 64;
+
+    static final int COSTS_OFFSET = 72;
+
+    static final int NAME_OFFSET = 128;
+
+    static final int NAME_MAX_BYTES = 126;
+
+    static final int BUCKET_COUNT_OFFSET = 256;
+
+    static final int HISTOGRAM_OFFSET = 264;
+
+    /**
+     * 整个文件的固定大小.
+     */
+    static final int FILE_SIZE = HISTOGRAM_OFFSET + LatencyHistogram.BUCKET_COUNT * Long.BYTES;
+
+    static final int STATUS_RUNNING = 0;
+
+    static final int STATUS_COMPLETED = 1;
+
+    static final int STATUS_CANCELLED = 2;
+
+    /**
+     * 获取当前 JVM 进程的 ID，获取不到时返回 {@code -1}.
+     *
+     * @return 进程 ID
+     */
+    static long currentPid() {
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        int index = name.indexOf('@');
+        try {
+            return Long.parseLong(index > 0 ? name.substring(0, index) : name);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
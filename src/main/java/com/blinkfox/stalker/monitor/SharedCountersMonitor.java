@@ -0,0 +1,161 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.io.File;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 将正在运行中的测量任务的计数器和耗时直方图，定时发布到内存映射共享计数器文件中的监视器.
+ *
+ * <p>测量线程本身不会写入文件，而是由一个单独的发布线程定时读取运行器中的数据并写入映射内存，
+ * 从而外部进程（如 {@link StalkerTop}）可以在不影响测量进程的情况下观察多个正在运行的测量进程.</p>
+ *
+ * <p>测量结束后，共享计数器文件中会保留最终的数据，并被放回所在目录的空闲文件池中，同一个进程中之后的测量会复用这些文件，
+ * 因此常驻的进程（如守护 JVM）中的文件数量只取决于同时运行的测量的个数，而不会随测量次数增长；进程退出时会删除这些文件.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see SharedCountersWriter
+ * @since v1.3.0
+ */
+@Slf4j
+public class SharedCountersMonitor implements MeasureMonitor {
+
+    /**
+     * 定时发布数据的时间间隔，单位毫秒(ms).
+     */
+    static final long PUBLISH_PERIOD_MILLIS = 200L;
+
+    /**
+     * 同一个进程中生成文件名时使用的序号.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * 各个目录中已结束的测量释放出来的、可以被复用的共享计数器文件.
+     */
+    private static final Map<File, Queue<File>> FREE_FILES = new ConcurrentHashMap<>();
+
+    /**
+     * 正在运行的测量运行器.
+     */
+    private MeasureRunner runner;
+
+    /**
+     * 共享计数器文件.
+     */
+    private File file;
+
+    /**
+     * 共享计数器文件的写入器，测量结束后会被释放.
+     */
+    private SharedCountersWriter writer;
+
+    /**
+     * 定时发布数据的线程池.
+     */
+    private ScheduledExecutorService publishExecutor;
+
+    /**
+     * 在正式测量开始时创建共享计数器文件，并开启定时发布数据的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        File dir = new File(options.getSharedCountersDir());
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            log.warn("【Stalker 警示】无法创建共享计数器文件的目录【{}】，将不会发布共享计数器数据.", dir);
+            return;
+        }
+
+        String name = StrKit.isEmpty(options.getName()) ? "stalker" : options.getName();
+        Queue<File> freeFiles = FREE_FILES.computeIfAbsent(dir.getAbsoluteFile(), k -> new ConcurrentLinkedQueue<>());
+        File file = freeFiles.poll();
+        if (file == null) {
+            file = new File(dir, StrKit.join(SharedCountersLayout.currentPid(), "-",
+                    SEQUENCE.incrementAndGet(), SharedCountersLayout.FILE_SUFFIX));
+            file.deleteOnExit();
+        }
+
+        try {
+            this.writer = new SharedCountersWriter(file, name, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            freeFiles.offer(file);
+            throw e;
+        }
+        this.runner = runner;
+        this.file = file;
+        this.publish(SharedCountersLayout.STATUS_RUNNING);
+        this.publishExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-shared-counters");
+        this.publishExecutor.scheduleAtFixedRate(() -> this.publish(SharedCountersLayout.STATUS_RUNNING),
+                PUBLISH_PERIOD_MILLIS, PUBLISH_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止定时发布数据的任务，并发布最终的数据，然后释放对映射内存的引用，并将文件放回空闲文件池中以便复用.
+     */
+    @Override
+    public void stop() {
+        if (this.writer == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.publishExecutor);
+        try {
+            this.publishExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.publish(this.runner.isCancelled()
+                ? SharedCountersLayout.STATUS_CANCELLED
+                : SharedCountersLayout.STATUS_COMPLETED);
+        this.release();
+    }
+
+    /**
+     * 释放写入器和运行器的引用，映射内存会在写入器被回收时解除映射，并将文件放回所在目录的空闲文件池中.
+     */
+    private synchronized void release() {
+        this.writer = null;
+        this.runner = null;
+        FREE_FILES.computeIfAbsent(this.file.getParentFile().getAbsoluteFile(), k -> new ConcurrentLinkedQueue<>())
+                .offer(this.file);
+    }
+
+    /**
+     * 将运行器中当前的数据发布到共享计数器文件中.
+     *
+     * @param status 运行状态
+     */
+    private synchronized void publish(int status) {
+        if (this.writer == null) {
+            return;
+        }
+
+        long success = this.runner.getSuccess();
+        long failure = this.runner.getFailure();
+        this.writer.publish(status, success + failure, success, failure,
+                this.runner.getCosts(), this.runner.getHistogram());
+    }
+
+    /**
+     * 获取共享计数器文件，如果没有成功启动，将返回 {@code null}.
+     *
+     * @return 共享计数器文件
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+}
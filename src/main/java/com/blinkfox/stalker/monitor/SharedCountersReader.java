@@ -0,0 +1,140 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.kit.FenceKit;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 读取内存映射共享计数器文件的读取器，通常运行在与测量进程不同的外部进程中.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see SharedCountersWriter
+ * @since v1.3.0
+ */
+@Slf4j
+public class SharedCountersReader {
+
+    /**
+     * 按顺序锁协议读取数据时的最大重试次数.
+     */
+    private static final int MAX_RETRIES = 1000;
+
+    /**
+     * 私有构造方法.
+     */
+    private SharedCountersReader() {
+    }
+
+    /**
+     * 读取某个目录下所有的共享计数器文件的快照数据，读取失败的文件将被忽略，结果按测量开始时间升序排列.
+     *
+     * @param dir 目录
+     * @return 快照数据集合
+     */
+    public static List<SharedCountersSnapshot> readAll(File dir) {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SharedCountersLayout.FILE_SUFFIX));
+        if (files == null || files.length == 0) {
+            return Collections.emptyList();
+        }
+
+        Arrays.sort(files);
+        List<SharedCountersSnapshot> snapshots = new ArrayList<>(files.length);
+        for (File file : files) {
+            SharedCountersSnapshot snapshot = read(file);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        snapshots.sort((a, b) -> Long.compare(a.getStartMillis(), b.getStartMillis()));
+        return snapshots;
+    }
+
+    /**
+     * 读取单个共享计数器文件中的快照数据，如果文件不合法或者一直读取不到完整的数据，将返回 {@code null}.
+     *
+     * @param file 共享计数器文件
+     * @return 快照数据
+     */
+    public static SharedCountersSnapshot read(File file) {
+        if (file.length() < SharedCountersLayout.FILE_SIZE) {
+            return null;
+        }
+
+        MappedByteBuffer buffer;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, SharedCountersLayout.FILE_SIZE);
+        } catch (IOException e) {
+            log.debug("【Stalker 提示】读取共享计数器文件【{}】失败.", file, e);
+            return null;
+        }
+
+        if (buffer.getInt(SharedCountersLayout.MAGIC_OFFSET) != SharedCountersLayout.MAGIC
+                || buffer.getInt(SharedCountersLayout.VERSION_OFFSET) != SharedCountersLayout.VERSION
+                || buffer.getInt(SharedCountersLayout.BUCKET_COUNT_OFFSET) != LatencyHistogram.BUCKET_COUNT) {
+            return null;
+        }
+        FenceKit.loadFence();
+
+        // 按顺序锁协议读取，版本号为奇数或读取前后版本号不一致时，说明写入方正在写入，需要重新读取.
+        for (int i = 0; i < MAX_RETRIES; ++i) {
+            long before = buffer.getLong(SharedCountersLayout.SEQUENCE_OFFSET);
+            if ((before & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            // 读屏障保证数据不会早于第一次读取的版本号被读取，也不会晚于第二次读取的版本号被读取.
+            FenceKit.loadFence();
+            SharedCountersSnapshot snapshot = readFields(buffer).setPath(file.getPath());
+            FenceKit.loadFence();
+            if (before == buffer.getLong(SharedCountersLayout.SEQUENCE_OFFSET)) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 从缓冲区中读取出各个字段的数据.
+     *
+     * @param buffer 缓冲区
+     * @return 快照数据
+     */
+    private static SharedCountersSnapshot readFields(MappedByteBuffer buffer) {
+        int nameLength = Math.min(Math.max(buffer.getShort(SharedCountersLayout.NAME_OFFSET), 0),
+                SharedCountersLayout.NAME_MAX_BYTES);
+        byte[] nameBytes = new byte[nameLength];
+        for (int i = 0; i < nameLength; ++i) {
+            nameBytes[i] = buffer.get(SharedCountersLayout.NAME_OFFSET + 2 + i);
+        }
+
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        for (int i = 0, offset = SharedCountersLayout.HISTOGRAM_OFFSET; i < counts.length;
+                ++i, offset += Long.BYTES) {
+            counts[i] = buffer.getLong(offset);
+        }
+
+        return new SharedCountersSnapshot()
+                .setPid(buffer.getLong(SharedCountersLayout.PID_OFFSET))
+                .setName(new String(nameBytes, StandardCharsets.UTF_8))
+                .setStartMillis(buffer.getLong(SharedCountersLayout.START_MILLIS_OFFSET))
+                .setUpdateMillis(buffer.getLong(SharedCountersLayout.UPDATE_MILLIS_OFFSET))
+                .setStatus(buffer.getInt(SharedCountersLayout.STATUS_OFFSET))
+                .setTotal(buffer.getLong(SharedCountersLayout.TOTAL_OFFSET))
+                .setSuccess(buffer.getLong(SharedCountersLayout.SUCCESS_OFFSET))
+                .setFailure(buffer.getLong(SharedCountersLayout.FAILURE_OFFSET))
+                .setCosts(buffer.getLong(SharedCountersLayout.COSTS_OFFSET))
+                .setHistogram(LatencyHistogram.ofCounts(counts));
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * 从内存映射共享计数器文件中读取出的一份完整的数据快照.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see SharedCountersReader
+ * @since v1.3.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SharedCountersSnapshot {
+
+    /**
+     * 共享计数器文件的路径.
+     */
+    private String path;
+
+    /**
+     * 写入方的进程 ID.
+     */
+    private long pid;
+
+    /**
+     * 测量名称.
+     */
+    private String name;
+
+    /**
+     * 测量开始时的毫秒时间戳.
+     */
+    private long startMillis;
+
+    /**
+     * 最后一次更新时的毫秒时间戳.
+     */
+    private long updateMillis;
+
+    /**
+     * 运行状态.
+     */
+    private int status;
+
+    /**
+     * 运行总次数.
+     */
+    private long total;
+
+    /**
+     * 运行成功次数.
+     */
+    private long success;
+
+    /**
+     * 运行失败次数.
+     */
+    private long failure;
+
+    /**
+     * 运行总耗时，单位纳秒.
+     */
+    private long costs;
+
+    /**
+     * 耗时直方图.
+     */
+    private LatencyHistogram histogram;
+
+    /**
+     * 获取吞吐率.
+     *
+     * @return 吞吐率
+     */
+    public double getThroughput() {
+        return MathKit.calcThroughput(this.total, this.costs);
+    }
+
+    /**
+     * 获取运行状态的名称，如果运行中的数据超过了指定的毫秒数没有更新，就认为写入方已经失去响应了.
+     *
+     * @param nowMillis 当前的毫秒时间戳
+     * @param staleMillis 认为数据过期的毫秒数
+     * @return 状态名称
+     */
+    public String getStatusName(long nowMillis, long staleMillis) {
+        switch (this.status) {
+            case SharedCountersLayout.STATUS_RUNNING:
+                return nowMillis - this.updateMillis > staleMillis ? "STALE" : "RUNNING";
+            case SharedCountersLayout.STATUS_COMPLETED:
+                return "COMPLETED";
+            case SharedCountersLayout.STATUS_CANCELLED:
+                return "CANCELLED";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.kit.FenceKit;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 将测量中的计数器和耗时直方图发布到内存映射文件中的写入器.
+ *
+ * <p>文件映射完成之后，每次发布数据都只是对映射内存的写入，不会产生任何系统调用.
+ * 写入时使用顺序锁(seqlock)协议：先将版本号加一变为奇数，再写入各个数据，最后将版本号再加一变为偶数，
+ * 读取方读取前后的版本号一致且为偶数时，才认为读到了一份完整的数据. 奇数版本号之后和偶数版本号之前都有写屏障
+ * （{@link FenceKit#storeFence()}），保证在 aarch64 等弱内存序的 CPU 上，数据的写入也不会越过版本号被其他进程看到.</p>
+ *
+ * <p>文件可以被同一个进程中先后运行的多次测量复用，复用时会接着文件中已有的版本号，在奇数版本号下重写文件头，
+ * 直到第一次发布数据后才变为偶数，因此读取方不会读到新的文件头与旧的数据混合在一起的快照.</p>
+ *
+ * <p>注意：本写入器不是线程安全的，同一时刻只能由一个线程来发布数据.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see SharedCountersReader
+ * @since v1.3.0
+ */
+public class SharedCountersWriter {
+
+    /**
+     * 共享计数器文件.
+     */
+    private final File file;
+
+    /**
+     * 文件的内存映射缓冲区.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * 当前的顺序锁版本号.
+     */
+    private long sequence;
+
+    /**
+     * 构造方法，会创建并映射指定的共享计数器文件，并写入文件头信息.
+     *
+     * @param file 共享计数器文件
+     * @param name 测量名称
+     * @param startMillis 测量开始时的毫秒时间戳
+     */
+    public SharedCountersWriter(File file, String name, long startMillis) {
+        this.file = file;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(SharedCountersLayout.FILE_SIZE);
+            this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, SharedCountersLayout.FILE_SIZE);
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】创建内存映射共享计数器文件【" + file + "】失败！", e);
+        }
+
+        // 先将版本号置为奇数，再写入文件头中固定不变的数据，最后再写入魔数，表示文件已经可以被读取了.
+        // 复用的文件中已有版本号，需要接着该版本号递增，版本号在第一次发布数据之后才会变为偶数.
+        long existing = this.buffer.getLong(SharedCountersLayout.SEQUENCE_OFFSET);
+        this.sequence = (existing & 1) == 0 ? existing + 1 : existing + 2;
+        this.buffer.putLong(SharedCountersLayout.SEQUENCE_OFFSET, this.sequence);
+        FenceKit.storeFence();
+        byte[] nameBytes = truncate(name == null ? "" : name);
+        this.buffer.putInt(SharedCountersLayout.VERSION_OFFSET, SharedCountersLayout.VERSION);
+        this.buffer.putLong(SharedCountersLayout.PID_OFFSET, SharedCountersLayout.currentPid());
+        this.buffer.putLong(SharedCountersLayout.START_MILLIS_OFFSET, startMillis);
+        this.buffer.putShort(SharedCountersLayout.NAME_OFFSET, (short) nameBytes.length);
+        for (int i = 0; i < nameBytes.length; ++i) {
+            this.buffer.put(SharedCountersLayout.NAME_OFFSET + 2 + i, nameBytes[i]);
+        }
+        this.buffer.putInt(SharedCountersLayout.BUCKET_COUNT_OFFSET, LatencyHistogram.BUCKET_COUNT);
+        FenceKit.storeFence();
+        this.buffer.putInt(SharedCountersLayout.MAGIC_OFFSET, SharedCountersLayout.MAGIC);
+    }
+
+    /**
+     * 将名称截断为布局中允许的最大字节数.
+     *
+     * @param name 名称
+     * @return 字节数组
+     */
+    private static byte[] truncate(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= SharedCountersLayout.NAME_MAX_BYTES) {
+            return bytes;
+        }
+
+        byte[] truncated = new byte[SharedCountersLayout.NAME_MAX_BYTES];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        return truncated;
+    }
+
+    /**
+     * 按顺序锁协议发布一份最新的计数器和直方图数据.
+     *
+     * @param status 运行状态
+     * @param total 运行总次数
+     * @param success 运行成功次数
+     * @param failure 运行失败次数
+     * @param costs 运行总耗时，单位纳秒
+     * @param histogram 耗时直方图
+     */
+    public void publish(int status, long total, long success, long failure, long costs, LatencyHistogram histogram) {
+        if ((this.sequence & 1) == 0) {
+            this.buffer.putLong(SharedCountersLayout.SEQUENCE_OFFSET, ++this.sequence);
+            FenceKit.storeFence();
+        }
+
+        this.buffer.putLong(SharedCountersLayout.UPDATE_MILLIS_OFFSET, System.currentTimeMillis());
+        this.buffer.putInt(SharedCountersLayout.STATUS_OFFSET, status);
+        this.buffer.putLong(SharedCountersLayout.TOTAL_OFFSET, total);
+        this.buffer.putLong(SharedCountersLayout.SUCCESS_OFFSET, success);
+        this.buffer.putLong(SharedCountersLayout.FAILURE_OFFSET, failure);
+        this.buffer.putLong(SharedCountersLayout.COSTS_OFFSET, costs);
+        for (int i = 0, offset = SharedCountersLayout.HISTOGRAM_OFFSET; i < LatencyHistogram.BUCKET_COUNT;
+                ++i, offset += Long.BYTES) {
+            this.buffer.putLong(offset, histogram.getCount(i));
+        }
+
+        FenceKit.storeFence();
+        this.buffer.putLong(SharedCountersLayout.SEQUENCE_OFFSET, ++this.sequence);
+    }
+
+    /**
+     * 获取共享计数器文件.
+     *
+     * @return 文件
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+}
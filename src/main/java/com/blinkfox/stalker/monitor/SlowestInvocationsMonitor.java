@@ -0,0 +1,468 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.ConcurrentHashSet;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.SlowInvocation;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 记录正式测量期间耗时最长的 {@code K} 次执行及其上下文信息的监视器.
+ *
+ * <p>所有测量线程共享一个容量为 {@link Options#getSlowest()} 的最小堆，堆顶即为已记录的执行中耗时最短的一次.
+ * 堆满之后，耗时不超过堆顶的执行只需一次 {@code volatile} 读取和比较就会被忽略，只有更慢的执行才会加锁替换堆顶.
+ * 最小堆由预先分配好的多个数组组成，记录时也不会分配内存，从而不会干扰对待测量方法的内存分配统计.</p>
+ *
+ * <p>每次执行除了耗时以外，还会记录其开始时刻相对于正式测量开始时刻的偏移量、所在的测量线程、
+ * 待测量方法在本次执行中通过 {@link #tag(String)} 设置的标签. 如果设置了 {@link Options#getSlowestStackThreshold()}，
+ * 还会由一个单独的线程定时检查各个测量线程，对超过该阈值后仍在执行中的那次执行采样一次调用栈.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class SlowestInvocationsMonitor implements MeasureMonitor {
+
+    /**
+     * 采样调用栈的最大深度.
+     */
+    static final int MAX_DEPTH = 32;
+
+    /**
+     * 检查仍在执行中的慢调用的最小时间间隔，单位纳秒(ns).
+     */
+    private static final long MIN_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * 当前线程正在执行的测量任务所对应的测量线程信息.
+     */
+    private static final ThreadLocal<Worker> CURRENT_WORKER = new ThreadLocal<>();
+
+    /**
+     * JVM 的线程 MXBean 实例.
+     */
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * 正在执行测量任务的测量线程信息集合.
+     */
+    private final Set<Worker> workers = new ConcurrentHashSet<>();
+
+    /**
+     * 最小堆中各次执行的耗时.
+     */
+    private long[] costs;
+
+    /**
+     * 最小堆中各次执行开始时的 {@link System#nanoTime()} 值.
+     */
+    private long[] starts;
+
+    /**
+     * 最小堆中各次执行所在的测量线程信息.
+     */
+    private Worker[] owners;
+
+    /**
+     * 最小堆中各次执行的标签.
+     */
+    private String[] tags;
+
+    /**
+     * 最小堆中各次执行采样到的调用栈.
+     */
+    private StackTraceElement[][] stacks;
+
+    /**
+     * 最小堆中已记录的执行次数.
+     */
+    private int size;
+
+    /**
+     * 需要被记录的执行的耗时必须大于该值，堆未满时为 {@code -1}，堆满后为堆顶的耗时.
+     */
+    private volatile long threshold = -1;
+
+    /**
+     * 采样调用栈的耗时阈值，单位纳秒(ns)，为 {@code 0} 时表示不采样.
+     */
+    private final long stackThreshold;
+
+    /**
+     * 检查仍在执行中的慢调用的线程池.
+     */
+    private ScheduledExecutorService checkExecutor;
+
+    /**
+     * 正在运行的测量运行器.
+     */
+    private MeasureRunner runner;
+
+    /**
+     * 构造方法，调用栈采样阈值在构造时就需要确定，以便测量线程决定是否需要通知每次执行的开始时刻.
+     *
+     * @param options 运行的配置选项实例
+     */
+    SlowestInvocationsMonitor(Options options) {
+        this.stackThreshold = options.getSlowestStackThreshold();
+    }
+
+    /**
+     * 设置当前这次执行的标签，需要在待测量方法中调用，便于在耗时最长的执行的记录中区分出是哪一类的输入或请求，
+     * 不在测量线程中调用时不做任何处理.
+     *
+     * <p>标签只对调用时正在执行的这一次执行有效，不会延续到之后的执行中.</p>
+     *
+     * @param tag 标签
+     */
+    public static void tag(String tag) {
+        Worker worker = CURRENT_WORKER.get();
+        if (worker != null) {
+            worker.tag = tag;
+            worker.tagNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 构造 {@code K} 个元素的最小堆，并在设置了调用栈采样阈值时开启检查仍在执行中的慢调用的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        int k = options.getSlowest();
+        this.costs = new long[k];
+        this.starts = new long[k];
+        this.owners = new Worker[k];
+        this.tags = new String[k];
+        this.stacks = new StackTraceElement[k][];
+        this.runner = runner;
+        if (this.stackThreshold > 0) {
+            long interval = Math.max(this.stackThreshold / 2, MIN_CHECK_INTERVAL_NANOS);
+            this.checkExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-slowest");
+            this.checkExecutor.scheduleAtFixedRate(this::sampleStacks, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 在测量线程开始循环执行测量任务时，记录该测量线程的信息.
+     */
+    @Override
+    public void onWorkerStart() {
+        Worker worker = new Worker(Thread.currentThread());
+        this.workers.add(worker);
+        CURRENT_WORKER.set(worker);
+    }
+
+    /**
+     * 只有设置了调用栈采样阈值时，才需要感知每次执行的开始时刻.
+     *
+     * @return 布尔值
+     */
+    @Override
+    public boolean isInvocationStartNeeded() {
+        return this.stackThreshold > 0;
+    }
+
+    /**
+     * 记录当前测量线程中本次执行的开始时刻，便于检查线程判断其是否仍在执行中.
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     */
+    @Override
+    public void onWorkerInvocationStart(long startNanos) {
+        Worker worker = CURRENT_WORKER.get();
+        if (worker != null) {
+            worker.invocationStart = startNanos;
+        }
+    }
+
+    /**
+     * 堆未满时关注所有的样本，堆满后只关注耗时大于堆顶的样本，使测量线程在大多数执行中只需一次比较，不必再通知本监视器.
+     *
+     * @return 耗时阈值
+     */
+    @Override
+    public long getSlowSampleNanos() {
+        return this.threshold + 1;
+    }
+
+    /**
+     * 如果本次执行的耗时大于已记录的最短耗时，就将其连同上下文信息一起记录到最小堆中.
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     * @param cost 本次执行的耗时，单位纳秒(ns)
+     */
+    @Override
+    public void onWorkerSlowSample(long startNanos, long cost) {
+        Worker worker;
+        if (cost <= this.threshold || (worker = CURRENT_WORKER.get()) == null) {
+            return;
+        }
+
+        String tag = worker.tagNanos >= startNanos ? worker.tag : null;
+        StackTraceElement[] stack = worker.sampledStart == startNanos ? worker.sampledStack : null;
+        this.offer(cost, startNanos, worker, tag, stack);
+    }
+
+    /**
+     * 将一次执行记录到最小堆中，堆满时替换掉堆顶耗时最短的那次执行.
+     *
+     * @param cost 耗时
+     * @param start 开始时的 {@link System#nanoTime()} 值
+     * @param worker 测量线程信息
+     * @param tag 标签
+     * @param stack 调用栈
+     */
+    private synchronized void offer(long cost, long start, Worker worker, String tag, StackTraceElement[] stack) {
+        int k = this.costs.length;
+        int i;
+        if (this.size < k) {
+            i = this.size++;
+        } else if (cost > this.costs[0]) {
+            i = 0;
+        } else {
+            return;
+        }
+
+        this.set(i, cost, start, worker, tag, stack);
+        if (i == 0) {
+            this.siftDown(0);
+        } else {
+            this.siftUp(i);
+        }
+        if (this.size == k) {
+            this.threshold = this.costs[0];
+        }
+    }
+
+    /**
+     * 将某个位置上的元素向堆顶方向调整.
+     *
+     * @param index 位置
+     */
+    private void siftUp(int index) {
+        int i = index;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (this.costs[parent] <= this.costs[i]) {
+                return;
+            }
+            this.swap(i, parent);
+            i = parent;
+        }
+    }
+
+    /**
+     * 将某个位置上的元素向堆底方向调整.
+     *
+     * @param index 位置
+     */
+    private void siftDown(int index) {
+        int i = index;
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < this.size && this.costs[left] < this.costs[smallest]) {
+                smallest = left;
+            }
+            if (right < this.size && this.costs[right] < this.costs[smallest]) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            this.swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    /**
+     * 设置堆中某个位置上的元素.
+     *
+     * @param i 位置
+     * @param cost 耗时
+     * @param start 开始时的 {@link System#nanoTime()} 值
+     * @param worker 测量线程信息
+     * @param tag 标签
+     * @param stack 调用栈
+     */
+    private void set(int i, long cost, long start, Worker worker, String tag, StackTraceElement[] stack) {
+        this.costs[i] = cost;
+        this.starts[i] = start;
+        this.owners[i] = worker;
+        this.tags[i] = tag;
+        this.stacks[i] = stack;
+    }
+
+    /**
+     * 交换堆中两个位置上的元素.
+     *
+     * @param i 位置
+     * @param j 另一个位置
+     */
+    private void swap(int i, int j) {
+        long cost = this.costs[i];
+        long start = this.starts[i];
+        Worker worker = this.owners[i];
+        String tag = this.tags[i];
+        StackTraceElement[] stack = this.stacks[i];
+        this.set(i, this.costs[j], this.starts[j], this.owners[j], this.tags[j], this.stacks[j]);
+        this.set(j, cost, start, worker, tag, stack);
+    }
+
+    /**
+     * 检查各个测量线程，对超过调用栈采样阈值后仍在执行中的那次执行采样一次调用栈.
+     */
+    private void sampleStacks() {
+        long now = System.nanoTime();
+        for (Worker worker : this.workers) {
+            long start = worker.invocationStart;
+            if (start == 0 || start == worker.sampledStart || now - start < this.stackThreshold) {
+                continue;
+            }
+
+            // 采样之后需要再次确认测量线程仍在执行同一次执行，先写调用栈再写开始时刻，测量线程读取时的顺序与之相反.
+            ThreadInfo info = this.threadBean.getThreadInfo(worker.threadId, MAX_DEPTH);
+            if (info != null && worker.invocationStart == start) {
+                worker.sampledStack = info.getStackTrace();
+                worker.sampledStart = start;
+            }
+        }
+    }
+
+    /**
+     * 在测量线程结束循环执行测量任务时，移除该测量线程的信息.
+     */
+    @Override
+    public void onWorkerEnd() {
+        Worker worker = CURRENT_WORKER.get();
+        if (worker != null) {
+            worker.invocationStart = 0;
+            this.workers.remove(worker);
+            CURRENT_WORKER.remove();
+        }
+    }
+
+    /**
+     * 停止检查仍在执行中的慢调用的任务.
+     */
+    @Override
+    public void stop() {
+        if (this.checkExecutor == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.checkExecutor);
+        try {
+            this.checkExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 将耗时最长的若干次执行按耗时从长到短填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.runner == null) {
+            return;
+        }
+
+        long startNanoTime = this.runner.getStartNanoTime();
+        List<SlowInvocation> invocations = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < this.size; ++i) {
+                invocations.add(new SlowInvocation(this.costs[i], this.starts[i] - startNanoTime,
+                        this.owners[i].threadId, this.owners[i].threadName, this.tags[i], toFrames(this.stacks[i])));
+            }
+        }
+        invocations.sort((a, b) -> Long.compare(b.getCost(), a.getCost()));
+        result.setSlowestInvocations(invocations);
+    }
+
+    /**
+     * 将调用栈转换为栈帧字符串集合.
+     *
+     * @param stack 调用栈
+     * @return 栈帧字符串集合
+     */
+    private static List<String> toFrames(StackTraceElement[] stack) {
+        if (stack == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> frames = new ArrayList<>(stack.length);
+        for (StackTraceElement element : stack) {
+            frames.add(element.toString());
+        }
+        return frames;
+    }
+
+    /**
+     * 测量线程的信息，其中可变的字段由测量线程写入，由检查线程或测量线程自身读取.
+     */
+    private static final class Worker {
+
+        /**
+         * 测量线程的 ID.
+         */
+        private final long threadId;
+
+        /**
+         * 测量线程的名称.
+         */
+        private final String threadName;
+
+        /**
+         * 正在执行的那次执行开始时的 {@link System#nanoTime()} 值，未在执行时为 {@code 0}.
+         */
+        private volatile long invocationStart;
+
+        /**
+         * 最近一次设置的标签.
+         */
+        private volatile String tag;
+
+        /**
+         * 最近一次设置标签时的 {@link System#nanoTime()} 值.
+         */
+        private volatile long tagNanos = Long.MIN_VALUE;
+
+        /**
+         * 最近一次采样到调用栈的那次执行开始时的 {@link System#nanoTime()} 值.
+         */
+        private volatile long sampledStart;
+
+        /**
+         * 最近一次采样到的调用栈.
+         */
+        private volatile StackTraceElement[] sampledStack;
+
+        /**
+         * 构造方法.
+         *
+         * @param thread 测量线程
+         */
+        private Worker(Thread thread) {
+            this.threadId = thread.getId();
+            this.threadName = thread.getName();
+        }
+
+    }
+
+}
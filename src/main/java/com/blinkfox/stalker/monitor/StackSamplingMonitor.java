@@ -0,0 +1,206 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.ConcurrentHashSet;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在正式测量期间定时采样各个测量线程的调用栈的监视器，即一个内置的采样分析器.
+ *
+ * <p>由一个单独的采样线程按 {@link Options#getProfileInterval()} 的时间间隔，通过 {@link ThreadMXBean#getThreadInfo(long[], int)}
+ * 获取所有正在执行测量任务的线程的调用栈，并聚合为折叠调用栈. 测量结束后，会得出前若干个热点栈帧，
+ * 如果设置了 {@link Options#getProfileDir()}，还会将折叠调用栈写入到该目录下的文件中，便于生成火焰图.</p>
+ *
+ * <p>注意：{@link ThreadMXBean} 只能在安全点获取调用栈，因此采样结果会存在一定的安全点偏差.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see CollapsedStacks
+ * @since v1.3.0
+ */
+@Slf4j
+public class StackSamplingMonitor implements MeasureMonitor {
+
+    /**
+     * 测量结果中展示的热点栈帧的数量.
+     */
+    public static final int TOP_FRAMES = 10;
+
+    /**
+     * 采样调用栈的最大深度.
+     */
+    static final int MAX_DEPTH = 128;
+
+    /**
+     * 折叠调用栈文件的后缀.
+     */
+    static final String FILE_SUFFIX = ".collapsed";
+
+    /**
+     * 同一个进程中生成文件名时使用的序号.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * JVM 的线程 MXBean 实例.
+     */
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * 正在执行测量任务的线程 ID 集合.
+     */
+    private final Set<Long> workers = new ConcurrentHashSet<>();
+
+    /**
+     * 聚合后的折叠调用栈.
+     */
+    private final CollapsedStacks stacks = new CollapsedStacks();
+
+    /**
+     * 运行的配置选项实例.
+     */
+    private Options options;
+
+    /**
+     * 定时采样的线程池.
+     */
+    private ScheduledExecutorService sampleExecutor;
+
+    /**
+     * 写入的折叠调用栈文件，没有写入时为 {@code null}.
+     */
+    private volatile File file;
+
+    /**
+     * 在正式测量开始时开启定时采样的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.options = options;
+        long interval = options.getProfileInterval();
+        this.sampleExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-profiler");
+        this.sampleExecutor.scheduleAtFixedRate(this::sample, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 在测量线程开始循环执行测量任务时，将其加入到需要采样的线程集合中.
+     */
+    @Override
+    public void onWorkerStart() {
+        this.workers.add(Thread.currentThread().getId());
+    }
+
+    /**
+     * 在测量线程结束循环执行测量任务时，将其从需要采样的线程集合中移除.
+     */
+    @Override
+    public void onWorkerEnd() {
+        this.workers.remove(Thread.currentThread().getId());
+    }
+
+    /**
+     * 采样一次所有正在执行测量任务的线程的调用栈.
+     */
+    private void sample() {
+        if (this.workers.isEmpty()) {
+            return;
+        }
+
+        long[] ids = new long[this.workers.size()];
+        int len = 0;
+        for (Long id : this.workers) {
+            if (len == ids.length) {
+                break;
+            }
+            ids[len++] = id;
+        }
+
+        for (ThreadInfo info : this.threadBean.getThreadInfo(len == ids.length ? ids : Arrays.copyOf(ids, len),
+                MAX_DEPTH)) {
+            if (info != null) {
+                this.stacks.add(info.getStackTrace());
+            }
+        }
+    }
+
+    /**
+     * 停止定时采样的任务，并在设置了目录时将折叠调用栈写入到文件中.
+     */
+    @Override
+    public void stop() {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.sampleExecutor);
+        try {
+            this.sampleExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String dir = this.options.getProfileDir();
+        if (!StrKit.isEmpty(dir) && this.stacks.getSamples() > 0) {
+            this.file = this.write(new File(dir));
+        }
+    }
+
+    /**
+     * 将折叠调用栈写入到目录下的文件中.
+     *
+     * @param dir 目录
+     * @return 写入的文件，写入失败时返回 {@code null}
+     */
+    private File write(File dir) {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            log.warn("【Stalker 警示】无法创建折叠调用栈文件的目录【{}】，将不会写入折叠调用栈文件.", dir);
+            return null;
+        }
+
+        String name = StrKit.isEmpty(this.options.getName()) ? "stalker" : this.options.getName();
+        File collapsedFile = new File(dir, StrKit.join(name, "-", SharedCountersLayout.currentPid(), "-",
+                SEQUENCE.incrementAndGet(), FILE_SUFFIX));
+        try {
+            this.stacks.writeTo(collapsedFile);
+            return collapsedFile;
+        } catch (IOException e) {
+            log.error("【Stalker 错误提示】写入折叠调用栈文件【{}】时出错！", collapsedFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * 将采样次数、热点栈帧和折叠调用栈文件填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        File collapsedFile = this.file;
+        result.setProfiled(true)
+                .setProfileSamples(this.stacks.getSamples())
+                .setHotFrames(this.stacks.topFrames(TOP_FRAMES))
+                .setCollapsedStacksFile(collapsedFile == null ? null : collapsedFile.getAbsolutePath());
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.minitable.MiniTable;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.StrKit;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从共享计数器文件目录中读取并展示多个测量进程实时数据的命令行工具，类似于 {@code top} 命令.
+ *
+ * <p>使用方式：{@code java -cp stalker.jar com.blinkfox.stalker.monitor.StalkerTop <dir> [intervalSeconds] [--once]}，
+ * 其中 {@code dir} 是测量进程中 {@code Options.sharedCounters(dir)} 所指定的目录.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public final class StalkerTop {
+
+    /**
+     * 清屏并将光标移动到左上角的 ANSI 转义序列.
+     */
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+
+    /**
+     * 运行中的数据超过此毫秒数未更新时，就认为写入方已失去响应.
+     */
+    private static final long STALE_MILLIS = 5000L;
+
+    /**
+     * 私有构造方法.
+     */
+    private StalkerTop() {
+    }
+
+    /**
+     * 命令行入口方法.
+     *
+     * @param args 命令行参数
+     * @throws InterruptedException 中断异常
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length == 0) {
+            System.out.println("Usage: StalkerTop <dir> [intervalSeconds] [--once]");
+            return;
+        }
+
+        File dir = new File(args[0]);
+        long interval = args.length > 1 && !"--once".equals(args[1]) ? Long.parseLong(args[1]) : 1L;
+        boolean once = "--once".equals(args[args.length - 1]);
+        PrintStream out = System.out;
+        boolean ansi = System.console() != null;
+        do {
+            String content = render(dir.getPath(), SharedCountersReader.readAll(dir), System.currentTimeMillis());
+            out.print(ansi && !once ? CLEAR_SCREEN + content : content);
+            out.println();
+            out.flush();
+            if (!once) {
+                TimeUnit.SECONDS.sleep(interval);
+            }
+        } while (!once);
+    }
+
+    /**
+     * 将若干个共享计数器的快照数据渲染为表格字符串.
+     *
+     * @param title 表格标题
+     * @param snapshots 快照数据集合
+     * @param nowMillis 当前的毫秒时间戳
+     * @return 表格字符串
+     */
+    public static String render(String title, List<SharedCountersSnapshot> snapshots, long nowMillis) {
+        MiniTable table = new MiniTable(StrKit.join("stalker-top: ", title, ", measurements: ", snapshots.size()))
+                .addHeaders("Pid", "Name", "Status", "Costs", "Total", "Success", "Failure", "Throughput",
+                        "P50", "P90", "P99", "P99.9", "Max");
+        for (SharedCountersSnapshot snapshot : snapshots) {
+            LatencyHistogram histogram = snapshot.getHistogram();
+            table.addDatas(snapshot.getPid(), snapshot.getName(), snapshot.getStatusName(nowMillis, STALE_MILLIS),
+                    StrKit.convertTime(snapshot.getCosts()), snapshot.getTotal(), snapshot.getSuccess(),
+                    snapshot.getFailure(), StrKit.roundToString(snapshot.getThroughput()),
+                    StrKit.convertTime(histogram.getValueAtPercentile(50)),
+                    StrKit.convertTime(histogram.getValueAtPercentile(90)),
+                    StrKit.convertTime(histogram.getValueAtPercentile(99)),
+                    StrKit.convertTime(histogram.getValueAtPercentile(99.9)),
+                    StrKit.convertTime(histogram.getMaxValue()));
+        }
+        return table.render();
+    }
+
+}
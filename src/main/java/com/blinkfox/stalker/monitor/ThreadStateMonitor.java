@@ -0,0 +1,330 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.ContendedLock;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 统计测量线程在正式测量期间的线程状态分布和锁竞争情况的监视器.
+ *
+ * <p>本监视器会在测量期间开启 JVM 的线程竞争监控，并在每个测量线程开始和结束循环执行测量任务时读取其累计的阻塞、等待次数和耗时，
+ * 从而得出平均每次运行的阻塞、等待次数和耗时. 同时由一个单独的采样线程定时采样各个测量线程的状态，
+ * 得出测量线程处于 {@code RUNNABLE}、{@code BLOCKED} 和 {@code WAITING}（含 {@code TIMED_WAITING}）状态的时间占比，
+ * 以及阻塞或等待次数最多的若干个锁，用于判断待测量代码在高并发下是否受限于锁竞争.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public class ThreadStateMonitor implements MeasureMonitor {
+
+    /**
+     * 测量结果中展示的竞争最多的锁的数量.
+     */
+    public static final int TOP_LOCKS = 5;
+
+    /**
+     * 定时采样线程状态的时间间隔，单位毫秒(ms).
+     */
+    static final long SAMPLE_PERIOD_MILLIS = 10L;
+
+    /**
+     * 开启了线程竞争监控的监视器数量，用于在最后一个监视器停止时恢复 JVM 原来的线程竞争监控的开关.
+     */
+    private static int contentionUsers;
+
+    /**
+     * JVM 原来是否开启了线程竞争监控.
+     */
+    private static boolean contentionEnabledBefore;
+
+    /**
+     * JVM 的线程 MXBean 实例.
+     */
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * 正在执行测量任务的各个线程的 ID 与其开始时的累计数据的映射，数组中的元素依次为：阻塞次数、阻塞耗时、等待次数、等待耗时.
+     */
+    private final Map<Long, long[]> workers = new ConcurrentHashMap<>();
+
+    /**
+     * 已经结束的测量线程的阻塞次数之和.
+     */
+    private final LongAdder blockedCount = new LongAdder();
+
+    /**
+     * 已经结束的测量线程的阻塞耗时之和，单位毫秒(ms).
+     */
+    private final LongAdder blockedTime = new LongAdder();
+
+    /**
+     * 已经结束的测量线程的等待次数之和.
+     */
+    private final LongAdder waitedCount = new LongAdder();
+
+    /**
+     * 已经结束的测量线程的等待耗时之和，单位毫秒(ms).
+     */
+    private final LongAdder waitedTime = new LongAdder();
+
+    /**
+     * 各个线程状态的采样次数，数组中的元素依次为：{@code RUNNABLE}、{@code BLOCKED}、{@code WAITING} 的采样次数.
+     */
+    private final long[] stateSamples = new long[3];
+
+    /**
+     * 各个锁的名称与测量线程阻塞或等待在该锁上的采样次数的映射.
+     */
+    private final Map<String, long[]> lockSamples = new HashMap<>();
+
+    /**
+     * 本监视器是否开启了线程竞争监控，未开启时无法统计阻塞和等待的耗时.
+     */
+    private volatile boolean contentionMonitored;
+
+    /**
+     * 是否已经恢复了 JVM 原来的线程竞争监控的开关.
+     */
+    private boolean contentionReleased;
+
+    /**
+     * 定时采样的线程池.
+     */
+    private ScheduledExecutorService sampleExecutor;
+
+    /**
+     * 在正式测量开始时开启线程竞争监控和定时采样线程状态的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        this.contentionMonitored = acquireContentionMonitoring(this.threadBean);
+        this.sampleExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-thread-state");
+        this.sampleExecutor.scheduleAtFixedRate(this::sample, SAMPLE_PERIOD_MILLIS, SAMPLE_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 开启 JVM 的线程竞争监控，如果 JVM 不支持，则返回 {@code false}.
+     *
+     * @param threadBean JVM 的线程 MXBean 实例
+     * @return 是否开启成功
+     */
+    private static synchronized boolean acquireContentionMonitoring(ThreadMXBean threadBean) {
+        try {
+            if (!threadBean.isThreadContentionMonitoringSupported()) {
+                return false;
+            }
+            if (contentionUsers++ == 0) {
+                contentionEnabledBefore = threadBean.isThreadContentionMonitoringEnabled();
+                threadBean.setThreadContentionMonitoringEnabled(true);
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("【Stalker 提示】当前 JVM 不支持开启线程竞争监控.", e);
+            return false;
+        }
+    }
+
+    /**
+     * 在最后一个监视器停止时，恢复 JVM 原来的线程竞争监控的开关.
+     *
+     * @param threadBean JVM 的线程 MXBean 实例
+     */
+    private static synchronized void releaseContentionMonitoring(ThreadMXBean threadBean) {
+        if (--contentionUsers == 0 && !contentionEnabledBefore) {
+            threadBean.setThreadContentionMonitoringEnabled(false);
+        }
+    }
+
+    /**
+     * 在测量线程开始循环执行测量任务时，记录其当前累计的阻塞、等待次数和耗时.
+     */
+    @Override
+    public void onWorkerStart() {
+        long id = Thread.currentThread().getId();
+        ThreadInfo info = this.threadBean.getThreadInfo(id);
+        if (info != null) {
+            this.workers.put(id, toCounters(info));
+        }
+    }
+
+    /**
+     * 在测量线程结束循环执行测量任务时，累加其在测量期间的阻塞、等待次数和耗时.
+     */
+    @Override
+    public void onWorkerEnd() {
+        long id = Thread.currentThread().getId();
+        long[] start = this.workers.remove(id);
+        ThreadInfo info = this.threadBean.getThreadInfo(id);
+        if (start != null && info != null) {
+            long[] end = toCounters(info);
+            this.blockedCount.add(end[0] - start[0]);
+            this.blockedTime.add(Math.max(end[1] - start[1], 0));
+            this.waitedCount.add(end[2] - start[2]);
+            this.waitedTime.add(Math.max(end[3] - start[3], 0));
+        }
+    }
+
+    /**
+     * 将线程信息中累计的阻塞、等待次数和耗时转换为数组，不支持的耗时为 {@code -1}.
+     *
+     * @param info 线程信息
+     * @return 数组
+     */
+    private static long[] toCounters(ThreadInfo info) {
+        return new long[] {info.getBlockedCount(), info.getBlockedTime(), info.getWaitedCount(), info.getWaitedTime()};
+    }
+
+    /**
+     * 采样一次所有正在执行测量任务的线程的状态和阻塞或等待的锁.
+     */
+    private void sample() {
+        if (this.workers.isEmpty()) {
+            return;
+        }
+
+        long[] ids = new long[this.workers.size()];
+        int len = 0;
+        for (Long id : this.workers.keySet()) {
+            if (len == ids.length) {
+                break;
+            }
+            ids[len++] = id;
+        }
+
+        ThreadInfo[] infos = this.threadBean.getThreadInfo(len == ids.length ? ids : Arrays.copyOf(ids, len));
+        synchronized (this) {
+            for (ThreadInfo info : infos) {
+                if (info != null) {
+                    this.sample(info);
+                }
+            }
+        }
+    }
+
+    /**
+     * 累加一个线程的状态和阻塞或等待的锁的采样次数.
+     *
+     * @param info 线程信息
+     */
+    private void sample(ThreadInfo info) {
+        switch (info.getThreadState()) {
+            case RUNNABLE:
+                this.stateSamples[0]++;
+                return;
+            case BLOCKED:
+                this.stateSamples[1]++;
+                break;
+            case WAITING:
+            case TIMED_WAITING:
+                this.stateSamples[2]++;
+                break;
+            default:
+                return;
+        }
+
+        String lockName = info.getLockName();
+        if (lockName != null) {
+            this.lockSamples.computeIfAbsent(lockName, k -> new long[1])[0]++;
+        }
+    }
+
+    /**
+     * 停止定时采样的任务，并恢复 JVM 原来的线程竞争监控的开关.
+     */
+    @Override
+    public void stop() {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        StalkerExecutors.shutdownNow(this.sampleExecutor);
+        try {
+            this.sampleExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.contentionMonitored && !this.contentionReleased) {
+            this.contentionReleased = true;
+            releaseContentionMonitoring(this.threadBean);
+        }
+    }
+
+    /**
+     * 将线程状态分布、阻塞和等待的次数及耗时、竞争最多的锁填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        if (this.sampleExecutor == null) {
+            return;
+        }
+
+        // 还在运行中的测量线程，其数据截止到当前时刻.
+        long[] totals = {this.blockedCount.sum(), this.blockedTime.sum(),
+            this.waitedCount.sum(), this.waitedTime.sum()};
+        for (Map.Entry<Long, long[]> entry : this.workers.entrySet()) {
+            ThreadInfo info = this.threadBean.getThreadInfo(entry.getKey());
+            if (info != null) {
+                long[] now = toCounters(info);
+                for (int i = 0; i < totals.length; ++i) {
+                    totals[i] += Math.max(now[i] - entry.getValue()[i], 0);
+                }
+            }
+        }
+
+        // 没有开启线程竞争监控时，阻塞和等待的耗时为 -1.
+        boolean timed = this.contentionMonitored;
+        result.setThreadStateTracked(true)
+                .setBlockedCount(totals[0])
+                .setBlockedTime(timed ? TimeUnit.MILLISECONDS.toNanos(totals[1]) : -1)
+                .setWaitedCount(totals[2])
+                .setWaitedTime(timed ? TimeUnit.MILLISECONDS.toNanos(totals[3]) : -1);
+
+        synchronized (this) {
+            long samples = this.stateSamples[0] + this.stateSamples[1] + this.stateSamples[2];
+            result.setThreadStateSamples(samples);
+            if (samples > 0) {
+                result.setRunnablePercent(this.stateSamples[0] * 100.0 / samples)
+                        .setBlockedPercent(this.stateSamples[1] * 100.0 / samples)
+                        .setWaitingPercent(this.stateSamples[2] * 100.0 / samples);
+            }
+            result.setContendedLocks(this.topLocks());
+        }
+    }
+
+    /**
+     * 获取采样次数最多的前若干个锁.
+     *
+     * @return 锁的集合
+     */
+    private List<ContendedLock> topLocks() {
+        List<ContendedLock> locks = new ArrayList<>(this.lockSamples.size());
+        for (Map.Entry<String, long[]> entry : this.lockSamples.entrySet()) {
+            locks.add(new ContendedLock(entry.getKey(), entry.getValue()[0]));
+        }
+        locks.sort((a, b) -> Long.compare(b.getSamples(), a.getSamples()));
+        return locks.size() > TOP_LOCKS ? new ArrayList<>(locks.subList(0, TOP_LOCKS)) : locks;
+    }
+
+}
@@ -66,7 +66,7 @@ public class AsciiTableOutput implements MeasureOutput {
                     result.getEasyReadStdDev(), result.getEasyReadLowerConfidence(),
                     result.getEasyReadUpperConfidence());
         }
-        return table.render();
+        return DetailTables.append(table.render(), measureResults);
     }
 
 }
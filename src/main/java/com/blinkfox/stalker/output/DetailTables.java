@@ -0,0 +1,836 @@
+package com.blinkfox.stalker.output;
+
+import com.blinkfox.minitable.MiniTable;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.result.ChangePoint;
+import com.blinkfox.stalker.result.ContendedLock;
+import com.blinkfox.stalker.result.HotFrame;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.ResourceTrend;
+import com.blinkfox.stalker.result.SlowInvocation;
+import com.blinkfox.stalker.result.WorkerResult;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 将测量结果中由各个监视器统计的明细数据（如内存分配和 GC、CPU 时间、JIT 编译、线程状态和锁竞争、Linux 运行环境、
+ * 平台停顿、GC 停顿、最慢的执行、热点栈帧等）渲染为附加表格和警示信息的工具类，供各个表格形式的输出类使用.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+final class DetailTables {
+
+    /**
+     * 没有统计对应数据时展示的占位字符串.
+     */
+    private static final String NONE = "N/A";
+
+    /**
+     * 内存分配和 GC 数据表格的表头.
+     */
+    private static final List<String> MEMORY_HEADERS = Arrays.asList("", "Allocated", "Alloc/Op", "Alloc Rate",
+            "GC Count", "GC Time");
+
+    /**
+     * CPU 时间数据表格的表头.
+     */
+    private static final List<String> CPU_HEADERS = Arrays.asList("", "CPU Time", "CPU Avg", "CPU Min", "CPU Max",
+            "Wall/CPU", "Process CPU", "Cores", "CPU Util", "Ops/CPU-s");
+
+    /**
+     * JIT 编译活动数据表格的表头.
+     */
+    private static final List<String> JIT_HEADERS = Arrays.asList("", "Warmup JIT Time", "Warmup Compiles",
+            "Warmup Deopts", "JIT Time", "Compiles", "Deopts");
+
+    /**
+     * 线程状态和锁竞争数据表格的表头.
+     */
+    private static final List<String> THREAD_HEADERS = Arrays.asList("", "Runnable / Blocked / Waiting", "Blocked",
+            "Blocked/Op", "Blocked Time/Op", "Waited", "Waited/Op", "Waited Time/Op");
+
+    /**
+     * Linux 运行环境数据表格的表头.
+     */
+    private static final List<String> PROC_HEADERS = Arrays.asList("", "Voluntary CS", "Involuntary CS",
+            "Involuntary CS/s", "Process User / Sys", "System CPU", "Steal", "Max Load", "CPU MHz (Start / Min / Max)");
+
+    /**
+     * 容器 CPU 限流数据表格的表头.
+     */
+    private static final List<String> THROTTLING_HEADERS = Arrays.asList("", "CPU Quota", "CPU Periods",
+            "Throttled", "Throttled %", "Throttled Time");
+
+    /**
+     * 竞争最多的锁的表格的表头.
+     */
+    private static final List<String> LOCK_HEADERS = Arrays.asList("", "Contended Lock", "Samples", "Share");
+
+    /**
+     * 待测量方法耗时与平台停顿时间分布对比表格的表头.
+     */
+    private static final List<String> HICCUP_HEADERS = Arrays.asList("", "Latency p50", "Latency p99",
+            "Latency p99.9", "Latency Max", "Hiccup p50", "Hiccup p99", "Hiccup p99.9", "Hiccup Max");
+
+    /**
+     * GC 停顿关联数据表格的表头.
+     */
+    private static final List<String> GC_PAUSE_HEADERS = Arrays.asList("", "GC Pauses", "Pause Time",
+            "GC Samples", "p50 w/o GC", "p99 w/o GC", "p99.9 w/o GC", "GC Tail");
+
+    /**
+     * 耗时最长的若干次执行的表格的表头.
+     */
+    private static final List<String> SLOWEST_HEADERS = Arrays.asList("", "Cost", "Start Offset", "Thread", "Tag",
+            "Stack Top");
+
+    /**
+     * 资源变化趋势表格的表头.
+     */
+    private static final List<String> TREND_HEADERS = Arrays.asList("", "Resource", "Samples", "First", "Last",
+            "Growth Rate", "Kendall Tau", "Trend");
+
+    /**
+     * 变点表格的表头.
+     */
+    private static final List<String> CHANGE_POINT_HEADERS = Arrays.asList("", "Metric", "At", "Before", "After",
+            "Change");
+
+    /**
+     * 热点栈帧表格的表头.
+     */
+    private static final List<String> HOT_FRAMES_HEADERS = Arrays.asList("", "Hot Frame", "Self", "Self %",
+            "Total %");
+
+    /**
+     * 分布式测量的工作节点表格的表头.
+     */
+    private static final List<String> WORKER_HEADERS = Arrays.asList("", "Worker", "Status", "Total", "Success",
+            "Failure", "Throughput", "Avg", "p99", "Error");
+
+    /**
+     * 子 JVM 之间差异的表格的表头.
+     */
+    private static final List<String> FORK_HEADERS = Arrays.asList("", "Forks", "Avg Mean", "Between-Fork StdDev",
+            "Between-Fork CV", "Within-Fork StdDev");
+
+    /**
+     * 各次迭代的测量结果的表格的表头.
+     */
+    private static final List<String> ITERATION_HEADERS = Arrays.asList("", "Iteration", "Success", "Throughput",
+            "Avg", "p50", "p99", "p99.9", "GC Count");
+
+    /**
+     * 各次迭代之间差异的表格的表头.
+     */
+    private static final List<String> ITERATION_STATS_HEADERS = Arrays.asList("", "Iterations", "Avg Mean",
+            "Between-Iteration StdDev", "95% CI of Avg Mean", "Single-Pass 95% CI");
+
+    /**
+     * 交替对比测量的表格的表头.
+     */
+    private static final List<String> INTERLEAVED_HEADERS = Arrays.asList("", "Rounds", "Avg", "p50", "p99",
+            "Avg vs First", "95% CI of Avg vs First", "Significant");
+
+    /**
+     * JVM 配置矩阵的对比表格的表头.
+     */
+    private static final List<String> JVM_MATRIX_HEADERS = Arrays.asList("", "JVM Config", "JVM Args", "Throughput",
+            "vs First", "Avg", "p50", "p99", "p99.9", "GC Count", "GC Time", "GC %");
+
+    /**
+     * 私有构造方法.
+     */
+    private DetailTables() {
+    }
+
+    /**
+     * 将主表格与各个明细数据的表格拼接在一起，没有统计对应数据的明细表格不会被拼接.
+     *
+     * @param mainTable 主表格字符串
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 拼接后的表格字符串
+     */
+    static String append(String mainTable, MeasureResult... measureResults) {
+        StringBuilder sb = new StringBuilder(mainTable);
+        appendTable(sb, renderMemory(measureResults));
+        appendTable(sb, renderCpu(measureResults));
+        appendTable(sb, renderJit(measureResults));
+        appendTable(sb, renderThreads(measureResults));
+        appendTable(sb, renderProc(measureResults));
+        appendTable(sb, renderThrottling(measureResults));
+        appendTable(sb, renderHiccups(measureResults));
+        appendTable(sb, renderGcPauses(measureResults));
+        appendTable(sb, renderLocks(measureResults));
+        appendTable(sb, renderSlowest(measureResults));
+        appendTable(sb, renderHotFrames(measureResults));
+        appendTable(sb, renderTrends(measureResults));
+        appendTable(sb, renderChangePoints(measureResults));
+        appendTable(sb, renderJfrFiles(measureResults));
+        appendTable(sb, renderWorkers(measureResults));
+        appendTable(sb, renderForks(measureResults));
+        appendTable(sb, renderIterations(measureResults));
+        appendTable(sb, renderIterationStats(measureResults));
+        appendTable(sb, renderJvmMatrix(measureResults));
+        appendTable(sb, renderInterleaved(measureResults));
+        appendTable(sb, renderWarnings(measureResults));
+        return sb.toString();
+    }
+
+    /**
+     * 将内存分配和 GC 数据渲染为表格字符串，如果所有结果都没有统计内存数据，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderMemory(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Allocation & GC").addHeaders(MEMORY_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isMemoryTracked()) {
+                tracked = true;
+                table.addDatas(i + 1, result.getEasyReadAllocatedBytes(), result.getEasyReadAllocatedBytesPerOp(),
+                        result.getEasyReadAllocationRate(), result.getGcCount(), result.getEasyReadGcTime());
+            }
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将测量线程和 JVM 进程的 CPU 数据渲染为表格字符串，如果所有结果都没有统计 CPU 数据，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderCpu(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("CPU").addHeaders(CPU_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null || !(result.isCpuTracked() || result.isProcessCpuTracked())) {
+                continue;
+            }
+
+            tracked = true;
+            boolean thread = result.isCpuTracked();
+            boolean process = result.isProcessCpuTracked();
+            table.addDatas(i + 1, thread ? result.getEasyReadCpuTime() : NONE,
+                    thread ? result.getEasyReadCpuAvg() : NONE, thread ? result.getEasyReadCpuMin() : NONE,
+                    thread ? result.getEasyReadCpuMax() : NONE, thread ? result.getEasyReadWallCpuRatio() : NONE,
+                    process ? StrKit.convertTime(result.getProcessCpuTime()) : NONE,
+                    process ? result.getEasyReadCpuCores() : NONE, process ? result.getEasyReadCpuUtilization() : NONE,
+                    process ? result.getEasyReadOpsPerCpuSecond() : NONE);
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将预热期间和正式测量期间的 JIT 编译活动数据渲染为表格字符串，如果所有结果都没有统计 JIT 数据，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderJit(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("JIT").addHeaders(JIT_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isJitTracked()) {
+                tracked = true;
+                table.addDatas(i + 1, result.getEasyReadWarmupJitTime(), orNone(result.getWarmupJitCompiles()),
+                        orNone(result.getWarmupJitDeopts()), result.getEasyReadJitTime(),
+                        orNone(result.getJitCompiles()), orNone(result.getJitDeopts()));
+            }
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将测量线程的状态分布、阻塞和等待的次数及耗时渲染为表格字符串，如果所有结果都没有统计线程状态，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderThreads(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Threads & Locks").addHeaders(THREAD_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isThreadStateTracked()) {
+                tracked = true;
+                table.addDatas(i + 1, result.getEasyReadThreadStates(), result.getBlockedCount(),
+                        StrKit.roundToString(result.getBlockedCountPerOp()), result.getEasyReadBlockedTimePerOp(),
+                        result.getWaitedCount(), StrKit.roundToString(result.getWaitedCountPerOp()),
+                        result.getEasyReadWaitedTimePerOp());
+            }
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将 Linux 运行环境数据渲染为表格字符串，如果所有结果都没有统计运行环境数据，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderProc(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Linux Environment").addHeaders(PROC_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isProcTracked()) {
+                tracked = true;
+                table.addDatas(i + 1, result.getVoluntaryContextSwitches(), result.getInvoluntaryContextSwitches(),
+                        StrKit.roundToString(result.getInvoluntaryContextSwitchesPerSecond()),
+                        result.getEasyReadProcessUserSystemTime(), toPercent(result.getSystemCpuPercent()),
+                        toPercent(result.getStealPercent()),
+                        result.getMaxLoadAverage() < 0 ? NONE : StrKit.roundToString(result.getMaxLoadAverage()),
+                        result.getEasyReadCpuFrequency());
+            }
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将容器的 CPU 配额和限流数据渲染为表格字符串，如果所有结果都没有 CPU 配额且没有被限流，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderThrottling(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("CPU Throttling").addHeaders(THROTTLING_HEADERS);
+        boolean limited = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isCgroupTracked() && (result.getCpuQuota() > 0 || result.isCpuThrottled())) {
+                limited = true;
+                table.addDatas(i + 1, result.getEasyReadCpuQuota(), result.getCpuPeriods(),
+                        result.getThrottledPeriods(), toPercent(result.getThrottledPercent()),
+                        StrKit.convertTime(result.getThrottledTime()));
+            }
+        }
+        return limited ? table.render() : "";
+    }
+
+    /**
+     * 将百分比转换为字符串，小于 {@code 0} 时表示不支持.
+     *
+     * @param percent 百分比
+     * @return 字符串
+     */
+    private static String toPercent(double percent) {
+        return percent < 0 ? NONE : StrKit.roundToString(percent) + "%";
+    }
+
+    /**
+     * 将待测量方法的耗时分布与 JVM 和操作系统层面的停顿时间分布渲染为对比表格字符串，如果所有结果都没有检测停顿，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderHiccups(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Latency vs Platform Hiccups").addHeaders(HICCUP_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isHiccupTracked()) {
+                tracked = true;
+                table.addDatas(i + 1, StrKit.convertTime(result.getLatencyP50()),
+                        StrKit.convertTime(result.getLatencyP99()), StrKit.convertTime(result.getLatencyP999()),
+                        result.getEasyReadMax(), StrKit.convertTime(result.getHiccupP50()),
+                        StrKit.convertTime(result.getHiccupP99()), StrKit.convertTime(result.getHiccupP999()),
+                        StrKit.convertTime(result.getHiccupMax()));
+            }
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将 GC 停顿与耗时样本的关联数据渲染为表格字符串，如果所有结果都没有关联 GC 停顿，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderGcPauses(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("GC Pause Correlation").addHeaders(GC_PAUSE_HEADERS);
+        boolean tracked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isGcPauseTracked()) {
+                tracked = true;
+                table.addDatas(i + 1, result.getGcPauses(), StrKit.convertTime(result.getGcPauseTime()),
+                        result.getGcOverlappedSamples(), StrKit.convertTime(result.getLatencyP50WithoutGc()),
+                        StrKit.convertTime(result.getLatencyP99WithoutGc()),
+                        StrKit.convertTime(result.getLatencyP999WithoutGc()),
+                        StrKit.roundToString(result.getGcTailPercent()) + "%");
+            }
+        }
+        return tracked ? table.render() : "";
+    }
+
+    /**
+     * 将测量线程阻塞或等待次数最多的若干个锁渲染为表格字符串，如果所有结果都没有采样到锁，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderLocks(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Contended Locks").addHeaders(LOCK_HEADERS);
+        boolean contended = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null || !result.isThreadStateTracked()) {
+                continue;
+            }
+
+            for (ContendedLock lock : result.getContendedLocks()) {
+                contended = true;
+                table.addDatas(i + 1, lock.getLockName(), lock.getSamples(),
+                        StrKit.roundToString(lock.getSamples() * 100.0 / result.getThreadStateSamples()) + "%");
+            }
+        }
+        return contended ? table.render() : "";
+    }
+
+    /**
+     * 将耗时最长的若干次执行渲染为表格字符串，并附上采样到的完整调用栈，如果所有结果都没有记录，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderSlowest(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Slowest Invocations").addHeaders(SLOWEST_HEADERS);
+        StringBuilder stacks = new StringBuilder();
+        boolean recorded = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null) {
+                continue;
+            }
+
+            List<SlowInvocation> invocations = result.getSlowestInvocations();
+            for (int j = 0, size = invocations.size(); j < size; j++) {
+                recorded = true;
+                SlowInvocation invocation = invocations.get(j);
+                List<String> stackTrace = invocation.getStackTrace();
+                table.addDatas(i + 1, StrKit.convertTime(invocation.getCost()),
+                        StrKit.convertTime(invocation.getStartOffset()),
+                        invocation.getThreadName() + "#" + invocation.getThreadId(),
+                        invocation.getTag() == null ? NONE : invocation.getTag(),
+                        stackTrace.isEmpty() ? NONE : stackTrace.get(0));
+                if (!stackTrace.isEmpty()) {
+                    stacks.append(StrKit.format("【Stalker 提示】第 {} 个测量结果中耗时第 {} 长的执行在超过阈值时的调用栈：\n",
+                            i + 1, j + 1));
+                    for (String frame : stackTrace) {
+                        stacks.append("\tat ").append(frame).append('\n');
+                    }
+                }
+            }
+        }
+        return recorded ? table.render() + stacks : "";
+    }
+
+    /**
+     * 将采样分析得到的热点栈帧渲染为表格字符串，并附上折叠调用栈文件的路径，如果所有结果都没有进行采样分析，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderHotFrames(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Hot Frames").addHeaders(HOT_FRAMES_HEADERS);
+        StringBuilder files = new StringBuilder();
+        boolean profiled = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null || !result.isProfiled()) {
+                continue;
+            }
+
+            profiled = true;
+            long samples = result.getProfileSamples();
+            for (HotFrame hotFrame : result.getHotFrames()) {
+                table.addDatas(i + 1, hotFrame.getFrame(), hotFrame.getSelfSamples(),
+                        StrKit.roundToString(hotFrame.getSelfSamples() * 100.0 / samples) + "%",
+                        StrKit.roundToString(hotFrame.getTotalSamples() * 100.0 / samples) + "%");
+            }
+            if (result.getCollapsedStacksFile() != null) {
+                files.append(StrKit.format("【Stalker 提示】第 {} 个测量结果共采样了 {} 次调用栈，折叠调用栈已写入文件：{}\n",
+                        i + 1, samples, result.getCollapsedStacksFile()));
+            }
+        }
+        return profiled ? table.render() + files : "";
+    }
+
+    /**
+     * 将各项资源的变化趋势渲染为表格字符串，如果所有结果的采样次数都不足以判断变化趋势，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderTrends(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Resource Trends").addHeaders(TREND_HEADERS);
+        boolean trendable = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null) {
+                continue;
+            }
+
+            for (ResourceTrend trend : result.getResourceTrends()) {
+                if (trend.isTrendable()) {
+                    trendable = true;
+                    table.addDatas(i + 1, trend.getResource(), trend.getSamples(), trend.toEasyRead(trend.getFirst()),
+                            trend.toEasyRead(trend.getLast()), trend.getEasyReadGrowthPerHour(),
+                            StrKit.roundToString(trend.getTau()), trend.isGrowing() ? "growing" : "stable");
+                }
+            }
+        }
+        return trendable ? table.render() : "";
+    }
+
+    /**
+     * 将吞吐量和平均耗时的变点渲染为表格字符串，如果所有结果都没有变点，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderChangePoints(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Change Points").addHeaders(CHANGE_POINT_HEADERS);
+        boolean changed = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null) {
+                continue;
+            }
+
+            for (ChangePoint changePoint : result.getChangePoints()) {
+                changed = true;
+                double percent = changePoint.getChangePercent();
+                table.addDatas(i + 1, changePoint.getMetric(), StrKit.convertTime(changePoint.getOffset()),
+                        changePoint.toEasyRead(changePoint.getBefore()), changePoint.toEasyRead(changePoint.getAfter()),
+                        (percent > 0 ? "+" : "") + StrKit.roundToString(percent) + "%");
+            }
+        }
+        return changed ? table.render() : "";
+    }
+
+    /**
+     * 渲染各个测量结果写入的 JFR 记录文件的路径，如果所有结果都没有写入 JFR 记录文件，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 提示信息字符串
+     */
+    static String renderJfrFiles(MeasureResult... measureResults) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.getJfrFile() != null) {
+                sb.append(StrKit.format("【Stalker 提示】第 {} 个测量结果的 JFR 记录已写入文件：{}\n", i + 1,
+                        result.getJfrFile()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 渲染分布式测量时各个工作节点的状态和测量结果的表格，如果所有结果都不是分布式测量的结果，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderWorkers(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Workers").addHeaders(WORKER_HEADERS);
+        boolean distributed = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null) {
+                continue;
+            }
+
+            for (WorkerResult workerResult : result.getWorkerResults()) {
+                distributed = true;
+                MeasureResult workerMeasure = workerResult.getMeasureResult();
+                String error = workerResult.getError() == null ? "" : workerResult.getError();
+                if (workerMeasure == null) {
+                    table.addDatas(i + 1, workerResult.getWorker(), workerResult.getStatus(), NONE, NONE, NONE, NONE,
+                            NONE, NONE, error);
+                } else {
+                    table.addDatas(i + 1, workerResult.getWorker(), workerResult.getStatus(), workerMeasure.getTotal(),
+                            workerMeasure.getSuccess(), workerMeasure.getFailure(),
+                            workerMeasure.getEasyReadThroughput(), workerMeasure.getEasyReadAvg(),
+                            StrKit.convertTime(workerMeasure.getLatencyP99()), error);
+                }
+            }
+        }
+        return distributed ? table.render() : "";
+    }
+
+    /**
+     * 渲染多次迭代时各次迭代的测量结果的表格，如果所有结果都只运行了一次正式测量，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderIterations(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Iterations").addHeaders(ITERATION_HEADERS);
+        boolean iterated = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null) {
+                continue;
+            }
+
+            List<MeasureResult> iterationResults = result.getIterationResults();
+            for (int j = 0, size = iterationResults.size(); j < size; j++) {
+                iterated = true;
+                MeasureResult iterationResult = iterationResults.get(j);
+                table.addDatas(i + 1, j + 1, iterationResult.getSuccess(), iterationResult.getEasyReadThroughput(),
+                        iterationResult.getEasyReadAvg(), StrKit.convertTime(iterationResult.getLatencyP50()),
+                        StrKit.convertTime(iterationResult.getLatencyP99()),
+                        StrKit.convertTime(iterationResult.getLatencyP999()),
+                        iterationResult.isMemoryTracked() ? iterationResult.getGcCount() : NONE);
+            }
+        }
+        return iterated ? table.render() : "";
+    }
+
+    /**
+     * 渲染多次迭代时各次迭代的平均耗时之间的差异及其置信区间的表格，并与单次测量的置信区间对比，
+     * 如果所有结果都只运行了一次正式测量，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderIterationStats(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Between Iterations").addHeaders(ITERATION_STATS_HEADERS);
+        boolean iterated = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.getIterations() > 0) {
+                iterated = true;
+                table.addDatas(i + 1, result.getIterations(), StrKit.convertTime(result.getIterationAvgMean()),
+                        StrKit.convertTime(result.getIterationAvgStdDev()),
+                        toRange(result.getIterationLowerConfidence(), result.getIterationUpperConfidence()),
+                        toRange(result.getLowerConfidence(), result.getUpperConfidence()));
+            }
+        }
+        return iterated ? table.render() : "";
+    }
+
+    /**
+     * 渲染交替对比测量时各个任务的耗时及其相对于第一个任务的平均耗时差异的表格，如果所有结果都不是交替对比测量的结果，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderInterleaved(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Interleaved Comparison").addHeaders(INTERLEAVED_HEADERS);
+        boolean interleaved = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null || result.getInterleaveRounds() == 0) {
+                continue;
+            }
+
+            boolean first = !interleaved;
+            interleaved = true;
+            table.addDatas(i + 1, result.getInterleaveRounds(), result.getEasyReadAvg(),
+                    StrKit.convertTime(result.getLatencyP50()), StrKit.convertTime(result.getLatencyP99()),
+                    first ? "baseline" : toSignedPercent(result.getRelativeDiff()),
+                    first ? NONE : "[" + toSignedPercent(result.getRelativeDiffLower()) + ", "
+                            + toSignedPercent(result.getRelativeDiffUpper()) + "]",
+                    first ? NONE : (result.isRelativeDiffSignificant() ? "Yes" : "No"));
+        }
+        return interleaved ? table.render() : "";
+    }
+
+    /**
+     * 将百分比转换为带正负号的百分比字符串，如：{@code +3.25%}.
+     *
+     * @param percent 百分比
+     * @return 百分比字符串
+     */
+    private static String toSignedPercent(double percent) {
+        return (percent > 0 ? "+" : "") + StrKit.roundToString(percent) + "%";
+    }
+
+    /**
+     * 将区间的上下限转换为易读的区间字符串，如：{@code [1.20 μs, 1.35 μs]}.
+     *
+     * @param lower 下限，单位纳秒(ns)
+     * @param upper 上限，单位纳秒(ns)
+     * @return 区间字符串
+     */
+    private static String toRange(double lower, double upper) {
+        return "[" + StrKit.convertTime(lower) + ", " + StrKit.convertTime(upper) + "]";
+    }
+
+    /**
+     * 渲染在子 JVM 中运行时各个子 JVM 之间的差异的表格，如果所有结果都不是在子 JVM 中运行的，则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderForks(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("Forks").addHeaders(FORK_HEADERS);
+        boolean forked = false;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.getForks() > 0) {
+                forked = true;
+                table.addDatas(i + 1, result.getForks(), StrKit.convertTime((long) result.getForkAvgMean()),
+                        StrKit.convertTime((long) result.getForkAvgStdDev()), toPercent(result.getForkAvgCv()),
+                        StrKit.convertTime((long) result.getStdDev()));
+            }
+        }
+        return forked ? table.render() : "";
+    }
+
+    /**
+     * 渲染按 JVM 配置矩阵运行时各个 JVM 配置的对比表格，吞吐量的变化均相对于第一个配置，如果所有结果都不是按 JVM 配置矩阵运行的，
+     * 则返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 表格字符串
+     */
+    static String renderJvmMatrix(MeasureResult... measureResults) {
+        MiniTable table = new MiniTable("JVM Matrix").addHeaders(JVM_MATRIX_HEADERS);
+        boolean matrix = false;
+        double firstThroughput = -1;
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result == null || result.getJvmConfig() == null) {
+                continue;
+            }
+
+            matrix = true;
+            double throughput = result.getThroughput();
+            firstThroughput = firstThroughput < 0 ? throughput : firstThroughput;
+            double change = firstThroughput > 0 ? (throughput - firstThroughput) * 100 / firstThroughput : 0;
+            boolean gc = result.isMemoryTracked();
+            table.addDatas(i + 1, result.getJvmConfig(), String.join(" ", result.getJvmArgs()),
+                    result.getEasyReadThroughput(), (change > 0 ? "+" : "") + StrKit.roundToString(change) + "%",
+                    result.getEasyReadAvg(), StrKit.convertTime(result.getLatencyP50()),
+                    StrKit.convertTime(result.getLatencyP99()), StrKit.convertTime(result.getLatencyP999()),
+                    gc ? result.getGcCount() : NONE, gc ? StrKit.convertTime(result.getGcTime()) : NONE,
+                    gc && result.getCosts() > 0 ? toPercent(result.getGcTime() * 100.0 / result.getCosts()) : NONE);
+        }
+        return matrix ? table.render() : "";
+    }
+
+    /**
+     * 渲染各个测量结果中需要提醒用户注意的警示信息，没有警示信息时返回空字符串.
+     *
+     * @param measureResults 多个测量统计结果的不定集合
+     * @return 警示信息字符串
+     */
+    static String renderWarnings(MeasureResult... measureResults) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0, len = measureResults.length; i < len; i++) {
+            MeasureResult result = measureResults[i];
+            if (result != null && result.isJitSignificant()) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果的正式测量期间仍有明显的 JIT 编译活动"
+                        + "（编译耗时 {}，约占运行总耗时的 {}%），待测量方法可能还未被充分编译优化，建议增加预热次数.\n",
+                        i + 1, result.getEasyReadJitTime(),
+                        StrKit.roundToString(result.getJitTime() * 100.0 / result.getCosts())));
+            }
+            if (result != null && result.isEnvironmentNoisy()) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果受到了运行环境的明显干扰（测量线程每秒被动上下文切换 {} 次，"
+                        + "CPU 频率 {}），测量结果可能不稳定.\n", i + 1,
+                        StrKit.roundToString(result.getInvoluntaryContextSwitchesPerSecond()),
+                        result.getEasyReadCpuFrequency()));
+            }
+            if (result != null && result.isCpuThrottled()) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果在测量期间被容器的 CPU 配额（{} 核）限流了 {} 个调度周期，"
+                        + "共 {}，测量结果中可能包含与待测量代码无关的停顿.\n", i + 1, result.getEasyReadCpuQuota(),
+                        result.getThrottledPeriods(), StrKit.convertTime(result.getThrottledTime())));
+            }
+            if (result != null && result.isResourceGrowing()) {
+                for (ResourceTrend trend : result.getResourceTrends()) {
+                    if (trend.isGrowing()) {
+                        sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果中【{}】在测量期间持续增长（从 {} 增长到 {}，"
+                                + "约 {}），可能存在资源泄漏.\n", i + 1, trend.getResource(),
+                                trend.toEasyRead(trend.getFirst()), trend.toEasyRead(trend.getLast()),
+                                trend.getEasyReadGrowthPerHour()));
+                    }
+                }
+            }
+            if (result != null && result.isPerformanceShifted()) {
+                for (ChangePoint changePoint : result.getChangePoints()) {
+                    if (changePoint.isDegraded()) {
+                        sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果的 {} 在正式测量开始后约 {} 时发生了显著突变"
+                                + "（从 {} 变为 {}），累计的测量结果会掩盖这一变化，建议分段分析.\n", i + 1,
+                                changePoint.getMetric(), StrKit.convertTime(changePoint.getOffset()),
+                                changePoint.toEasyRead(changePoint.getBefore()),
+                                changePoint.toEasyRead(changePoint.getAfter())));
+                    }
+                }
+            }
+            if (result != null && result.isForkFailed()) {
+                for (WorkerResult workerResult : result.getWorkerResults()) {
+                    if (workerResult.isFailed()) {
+                        sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果计划在 {} 个子 JVM 中运行，但子 JVM【{}】失败了（{}），"
+                                + "合并后的测量结果只包含 {} 个子 JVM 的数据，不能作为完整的测量结果.\n", i + 1,
+                                result.getPlannedForks(), workerResult.getWorker(), workerResult.getError(),
+                                result.getForks()));
+                    }
+                }
+            } else if (result != null && result.isWorkerFailed()) {
+                for (WorkerResult workerResult : result.getWorkerResults()) {
+                    if (workerResult.isFailed()) {
+                        sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果中的工作节点【{}】失败了（{}），其余的工作节点也已被停止，"
+                                + "合并后的测量结果没有达到预期的负载，不能作为有效的测量结果.\n", i + 1,
+                                workerResult.getWorker(), workerResult.getError()));
+                    }
+                }
+            }
+            if (result != null && result.isForkVarianceSignificant()) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果在 {} 个子 JVM 之间的平均耗时差异显著（变异系数为 {}%），"
+                        + "单次启动的 JVM 中的测量结果不能代表稳定的性能，建议增加子 JVM 的个数.\n", i + 1,
+                        result.getForks(), StrKit.roundToString(result.getForkAvgCv())));
+            }
+            if (result != null && result.isSinglePassCiTooNarrow()) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果在 {} 次迭代之间的平均耗时的 95% 置信区间半径为 {}，"
+                        + "是单次测量的置信区间半径的 {} 倍以上，相邻执行的耗时之间有明显的自相关，请以迭代之间的置信区间为准.\n",
+                        i + 1, result.getIterations(), StrKit.convertTime(result.getIterationCiRadius()),
+                        StrKit.roundToString(MeasureResult.ITERATION_CI_RATIO)));
+            }
+            if (result != null && i > 0 && result.getInterleaveRounds() == 1) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果的交替对比测量只运行了 {} 轮，无法计算差异的置信区间，"
+                        + "建议增加运行次数或减小 interleave 的值.\n", i + 1, result.getInterleaveRounds()));
+            }
+            if (result != null && result.isGcTailSignificant()) {
+                sb.append(StrKit.format("【Stalker 警示】第 {} 个测量结果中耗时不小于 p99 的尾部样本有 {}% 与 GC 停顿重叠，"
+                        + "耗时的长尾主要是由 GC 引起的，排除这些样本之后的 p99 为 {}.\n", i + 1,
+                        StrKit.roundToString(result.getGcTailPercent()),
+                        StrKit.convertTime(result.getLatencyP99WithoutGc())));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 将不支持的计数值 {@code -1} 转换为占位字符串.
+     *
+     * @param count 计数值
+     * @return 字符串或计数值
+     */
+    private static Object orNone(long count) {
+        return count < 0 ? NONE : count;
+    }
+
+    /**
+     * 如果表格字符串不为空，就将其换行拼接到结果中.
+     *
+     * @param sb 结果
+     * @param table 表格字符串
+     */
+    private static void appendTable(StringBuilder sb, String table) {
+        if (!table.isEmpty()) {
+            sb.append('\n').append(table);
+        }
+    }
+
+}
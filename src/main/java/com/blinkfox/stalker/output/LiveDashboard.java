@@ -0,0 +1,394 @@
+package com.blinkfox.stalker.output;
+
+import com.blinkfox.stalker.config.RunDuration;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.result.StalkerFuture;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 实时刷新的终端仪表盘，用于展示一个或多个正在运行中的 {@link StalkerFuture} 的进度、剩余时间、当前和峰值吞吐量、
+ * 滚动窗口内的耗时百分位和错误率等信息.
+ *
+ * <p>仪表盘在单独的线程中按照固定的频率渲染，不会占用测量线程. 当输出的终端支持 ANSI 时会原地刷新，
+ * 否则会退化为每次刷新时逐行追加输出的"行模式"，适合在 CI 日志等非终端环境中使用.</p>
+ *
+ * <p>使用示例：</p>
+ * <pre>
+ *   StalkerFuture future = Stalker.submit(Options.ofDurationSeconds(30, 8), () -&gt; service.hello());
+ *   LiveDashboard.of(future).refreshPeriod(500, TimeUnit.MILLISECONDS).start().awaitDone();
+ * </pre>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public class LiveDashboard {
+
+    /**
+     * 进度条的宽度.
+     */
+    private static final int BAR_WIDTH = 20;
+
+    /**
+     * 需要展示的各个任务的面板.
+     */
+    private final List<Panel> panels;
+
+    /**
+     * 输出流，默认是 {@code System.out}.
+     */
+    private PrintStream out;
+
+    /**
+     * 是否使用 ANSI 转义序列来原地刷新，默认根据当前是否是终端来自动判断.
+     */
+    private boolean ansi;
+
+    /**
+     * 刷新的时间间隔，单位纳秒，默认 1 秒.
+     */
+    private long refreshPeriod;
+
+    /**
+     * 滚动窗口的时间长度，单位纳秒，默认 10 秒.
+     */
+    private long rollingWindow;
+
+    /**
+     * 上一帧在 ANSI 模式下输出的行数，用于下一帧刷新时回退光标.
+     */
+    private int lastFrameLines;
+
+    /**
+     * 仪表盘开始时的纳秒时间戳.
+     */
+    private long startNanoTime;
+
+    /**
+     * 渲染仪表盘的定时任务线程池.
+     */
+    private ScheduledExecutorService renderExecutor;
+
+    /**
+     * 所有任务完成并渲染完最后一帧时的计数锁.
+     */
+    private final CountDownLatch doneLatch;
+
+    /**
+     * 私有构造方法.
+     *
+     * @param futures 需要展示的若干个 {@link StalkerFuture} 实例
+     */
+    private LiveDashboard(StalkerFuture... futures) {
+        this.panels = new ArrayList<>(futures.length);
+        for (int i = 0; i < futures.length; ++i) {
+            String name = futures[i].getOptions().getName();
+            this.panels.add(new Panel(StrKit.isEmpty(name) ? "task-" + (i + 1) : name, futures[i]));
+        }
+        this.out = System.out;
+        this.ansi = System.console() != null && !"dumb".equals(System.getenv("TERM"));
+        this.refreshPeriod = TimeUnit.SECONDS.toNanos(1);
+        this.rollingWindow = TimeUnit.SECONDS.toNanos(10);
+        this.startNanoTime = System.nanoTime();
+        this.doneLatch = new CountDownLatch(1);
+    }
+
+    /**
+     * 根据若干个正在运行中的 {@link StalkerFuture} 构造仪表盘实例.
+     *
+     * @param futures 若干个 {@link StalkerFuture} 实例
+     * @return {@link LiveDashboard} 实例
+     */
+    public static LiveDashboard of(StalkerFuture... futures) {
+        if (futures == null || futures.length == 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】仪表盘中需要展示的 StalkerFuture 不能为空!");
+        }
+        return new LiveDashboard(futures);
+    }
+
+    /**
+     * 设置仪表盘的输出流.
+     *
+     * @param out 输出流
+     * @return 本 {@link LiveDashboard} 实例
+     */
+    public LiveDashboard out(PrintStream out) {
+        this.out = out;
+        return this;
+    }
+
+    /**
+     * 设置是否使用 ANSI 转义序列来原地刷新仪表盘，为 {@code false} 时使用行模式输出.
+     *
+     * @param ansi 是否使用 ANSI
+     * @return 本 {@link LiveDashboard} 实例
+     */
+    public LiveDashboard ansi(boolean ansi) {
+        this.ansi = ansi;
+        return this;
+    }
+
+    /**
+     * 设置仪表盘刷新的时间间隔.
+     *
+     * @param period 时间间隔
+     * @param timeUnit 时间单位
+     * @return 本 {@link LiveDashboard} 实例
+     */
+    public LiveDashboard refreshPeriod(long period, TimeUnit timeUnit) {
+        if (period <= 0 || timeUnit == null) {
+            throw new IllegalArgumentException("【Stalker 参数异常】仪表盘刷新的时间间隔必须大于 0，且时间单位不能为空!");
+        }
+        this.refreshPeriod = timeUnit.toNanos(period);
+        return this;
+    }
+
+    /**
+     * 设置计算当前吞吐量和耗时百分位的滚动窗口的时间长度.
+     *
+     * @param window 窗口时间长度
+     * @param timeUnit 时间单位
+     * @return 本 {@link LiveDashboard} 实例
+     */
+    public LiveDashboard rollingWindow(long window, TimeUnit timeUnit) {
+        if (window <= 0 || timeUnit == null) {
+            throw new IllegalArgumentException("【Stalker 参数异常】仪表盘滚动窗口的时间长度必须大于 0，且时间单位不能为空!");
+        }
+        this.rollingWindow = timeUnit.toNanos(window);
+        return this;
+    }
+
+    /**
+     * 开启定时渲染仪表盘的任务，当所有任务都结束之后，会渲染最后一帧并自动停止.
+     *
+     * @return 本 {@link LiveDashboard} 实例
+     */
+    public LiveDashboard start() {
+        synchronized (this) {
+            if (this.renderExecutor != null) {
+                return this;
+            }
+            this.startNanoTime = System.nanoTime();
+            this.renderExecutor = StalkerExecutors.newScheduledThreadPool(1, "stalker-live-dashboard");
+        }
+
+        this.renderExecutor.scheduleAtFixedRate(this::tick, 0, this.refreshPeriod, TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    /**
+     * 阻塞等待所有任务结束，并且仪表盘渲染完最后一帧.
+     *
+     * @return 本 {@link LiveDashboard} 实例
+     */
+    public LiveDashboard awaitDone() {
+        try {
+            this.doneLatch.await();
+        } catch (InterruptedException e) {
+            log.error("【Stalker 错误提示】等待仪表盘渲染结束时线程被中断！", e);
+            Thread.currentThread().interrupt();
+        }
+        return this;
+    }
+
+    /**
+     * 立即停止仪表盘的渲染，不会影响正在运行中的任务.
+     */
+    public void stop() {
+        StalkerExecutors.shutdownNow(this.renderExecutor);
+        this.doneLatch.countDown();
+    }
+
+    /**
+     * 每次定时执行的渲染任务.
+     */
+    private synchronized void tick() {
+        try {
+            boolean allDone = this.panels.stream().allMatch(panel -> panel.future.isDone());
+            String frame = this.renderFrame();
+            if (this.ansi) {
+                StringBuilder sb = new StringBuilder();
+                if (this.lastFrameLines > 0) {
+                    sb.append("\033[").append(this.lastFrameLines).append('F');
+                }
+                for (String line : frame.split("\n")) {
+                    sb.append("\033[2K").append(line).append('\n');
+                }
+                this.lastFrameLines = this.panels.size() + 1;
+                this.out.print(sb);
+            } else {
+                this.out.print(frame);
+            }
+            this.out.flush();
+
+            if (allDone) {
+                this.stop();
+            }
+        } catch (Exception e) {
+            log.error("【Stalker 错误提示】渲染实时仪表盘时出错！", e);
+        }
+    }
+
+    /**
+     * 采集各个任务的最新数据，并渲染出一帧仪表盘的内容，每帧内容由一行标题和每个任务各一行组成.
+     *
+     * @return 一帧仪表盘的字符串内容
+     */
+    public synchronized String renderFrame() {
+        long now = System.nanoTime();
+        StringBuilder sb = new StringBuilder(128 * (this.panels.size() + 1));
+        sb.append("stalker dashboard, elapsed: ").append(StrKit.convertTime(now - this.startNanoTime))
+                .append(", tasks: ").append(this.panels.size()).append('\n');
+        for (Panel panel : this.panels) {
+            sb.append(panel.update(now, this.rollingWindow)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 单个任务在仪表盘中的面板，记录了滚动窗口内的各个快照数据.
+     */
+    private static final class Panel {
+
+        private final String name;
+
+        private final StalkerFuture future;
+
+        /**
+         * 滚动窗口内的各个快照，最早的快照在队首.
+         */
+        private final Deque<Snapshot> window = new ArrayDeque<>();
+
+        private double peakThroughput;
+
+        Panel(String name, StalkerFuture future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        /**
+         * 采集一份新的快照，并渲染出本任务的一行内容.
+         *
+         * @param now 当前的纳秒时间戳
+         * @param rollingWindow 滚动窗口的时间长度
+         * @return 一行内容
+         */
+        String update(long now, long rollingWindow) {
+            Snapshot current = new Snapshot(now, this.future.getTotal(), this.future.getFailure(),
+                    this.future.getMeasureRunner().getHistogram().copy());
+            this.window.addLast(current);
+            while (this.window.size() > 2 && now - this.window.peekFirst().nanoTime > rollingWindow) {
+                this.window.pollFirst();
+            }
+
+            // 计算滚动窗口内的吞吐量、错误率和耗时百分位，任务结束后的吞吐量则使用整个任务的吞吐量.
+            Snapshot oldest = this.window.size() > 1 ? this.window.peekFirst() : null;
+            boolean done = this.future.isDone();
+            long windowTotal = oldest == null ? current.total : current.total - oldest.total;
+            long windowFailure = oldest == null ? current.failure : current.failure - oldest.failure;
+            double throughput = done || oldest == null
+                    ? MathKit.calcThroughput(current.total, this.future.getCosts())
+                    : MathKit.calcThroughput(windowTotal, now - oldest.nanoTime);
+            if (!done || this.peakThroughput == 0) {
+                this.peakThroughput = Math.max(this.peakThroughput, throughput);
+            }
+            LatencyHistogram windowHistogram = oldest == null
+                    ? current.histogram
+                    : current.histogram.since(oldest.histogram);
+            double errorRate = windowTotal == 0 ? 0d : windowFailure * 100d / windowTotal;
+
+            double progress = this.future.getProgress();
+            return StrKit.join("[", this.name, "] ", progressBar(progress), " ",
+                    padLeft(StrKit.roundToString(progress), 6), "% | ", this.status(progress), " | ",
+                    StrKit.roundToString(throughput), " ops/s (peak ", StrKit.roundToString(this.peakThroughput),
+                    ") | p50 ", StrKit.convertTime(windowHistogram.getValueAtPercentile(50)),
+                    ", p99 ", StrKit.convertTime(windowHistogram.getValueAtPercentile(99)),
+                    ", p99.9 ", StrKit.convertTime(windowHistogram.getValueAtPercentile(99.9)),
+                    " | errors ", StrKit.roundToString(errorRate), "% (", current.failure, ")");
+        }
+
+        /**
+         * 获取任务的状态或剩余时间的描述.
+         *
+         * @param progress 当前进度
+         * @return 状态描述
+         */
+        private String status(double progress) {
+            if (this.future.isDone()) {
+                return this.future.isCancelled() ? "CANCELLED" : "DONE";
+            }
+
+            long costs = this.future.getCosts();
+            RunDuration duration = this.future.getOptions().getDuration();
+            if (duration != null) {
+                return "ETA " + StrKit.convertTime(Math.max(0, duration.getAmountNanoTime() - costs));
+            }
+            return progress <= 0 ? "ETA --" : "ETA " + StrKit.convertTime((long) (costs * (100 - progress) / progress));
+        }
+
+        /**
+         * 渲染进度条.
+         *
+         * @param progress 进度
+         * @return 进度条字符串
+         */
+        private static String progressBar(double progress) {
+            int filled = (int) Math.round(progress / 100 * BAR_WIDTH);
+            StringBuilder sb = new StringBuilder(BAR_WIDTH + 2).append('[');
+            for (int i = 0; i < BAR_WIDTH; ++i) {
+                sb.append(i < filled ? '#' : '-');
+            }
+            return sb.append(']').toString();
+        }
+
+        /**
+         * 在字符串左侧补齐空格.
+         *
+         * @param s 字符串
+         * @param width 宽度
+         * @return 补齐后的字符串
+         */
+        private static String padLeft(String s, int width) {
+            StringBuilder sb = new StringBuilder(width);
+            for (int i = s.length(); i < width; ++i) {
+                sb.append(' ');
+            }
+            return sb.append(s).toString();
+        }
+
+    }
+
+    /**
+     * 某一时刻的任务数据快照.
+     */
+    private static final class Snapshot {
+
+        private final long nanoTime;
+
+        private final long total;
+
+        private final long failure;
+
+        private final LatencyHistogram histogram;
+
+        Snapshot(long nanoTime, long total, long failure, LatencyHistogram histogram) {
+            this.nanoTime = nanoTime;
+            this.total = total;
+            this.failure = failure;
+            this.histogram = histogram;
+        }
+
+    }
+
+}
@@ -82,7 +82,7 @@ public class OutputConsole implements MeasureOutput {
                     result.getEasyReadStdDev(), result.getEasyReadLowerConfidence(),
                     result.getEasyReadUpperConfidence());
         }
-        return table.render();
+        return DetailTables.append(table.render(), measureResults);
     }
 
 }
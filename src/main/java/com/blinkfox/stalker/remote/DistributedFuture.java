@@ -0,0 +1,403 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import com.blinkfox.stalker.result.WorkerResult.Status;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 分布式测量任务的 Future 结果对象，用法与 {@link com.blinkfox.stalker.result.StalkerFuture} 类似，
+ * 获取到的测量结果是各个工作节点最近一次汇报的累计测量结果合并之后的结果.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see StalkerCoordinator
+ * @since v1.3.0
+ */
+@Slf4j
+public class DistributedFuture implements Future<List<Object>> {
+
+    /**
+     * 测量任务的选项参数.
+     */
+    @Getter
+    private final Options options;
+
+    /**
+     * 与各个工作节点之间的会话.
+     */
+    private final List<WorkerSession> sessions;
+
+    /**
+     * 用于并行地与各个工作节点通信的线程池.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * 是否已经停止了各个工作节点.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * 是否已经被手动取消.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * 是否已经执行结束.
+     */
+    private volatile boolean done;
+
+    /**
+     * 构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param sessions 与各个工作节点之间的会话
+     */
+    DistributedFuture(Options options, List<WorkerSession> sessions) {
+        this.options = options;
+        this.sessions = sessions;
+        this.executor = StalkerExecutors.newFixedThreadExecutor(sessions.size() + 1, "stalker-coordinator");
+    }
+
+    /**
+     * 异步地运行测量任务：先并行地启动或连接各个工作节点并等待它们预热完毕，都就绪之后再同时开始正式测量，并持续接收各个工作节点汇报的测量结果.
+     *
+     * @param task 编码后的测量任务
+     * @param timeout 启动、连接和预热工作节点的超时时间，单位纳秒(ns)
+     * @param reportTimeout 正式测量期间两次汇报之间的超时时间，单位纳秒(ns)
+     */
+    void run(byte[] task, long timeout, long reportTimeout) {
+        List<CompletableFuture<Void>> readyFutures = new ArrayList<>();
+        for (WorkerSession session : this.sessions) {
+            readyFutures.add(CompletableFuture.runAsync(() -> this.prepare(session, task, timeout), this.executor));
+        }
+
+        CompletableFuture.allOf(readyFutures.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> this.measure(reportTimeout), this.executor)
+                .whenComplete((a, e) -> this.finish(e));
+    }
+
+    /**
+     * 启动或连接单个工作节点，分发测量任务并等待其预热完毕.
+     *
+     * @param session 与工作节点之间的会话
+     * @param task 编码后的测量任务
+     * @param timeout 超时时间，单位纳秒(ns)
+     */
+    private void prepare(WorkerSession session, byte[] task, long timeout) {
+        try {
+            session.connect(timeout);
+            session.sendTaskAndAwaitReady(task, timeout);
+        } catch (IOException | RuntimeException e) {
+            this.fail(session, e);
+        }
+    }
+
+    /**
+     * 同时通知所有工作节点开始正式测量，并在各自的线程中持续接收汇报的测量结果，直到所有工作节点都结束.
+     *
+     * @param reportTimeout 两次汇报之间的超时时间，单位纳秒(ns)
+     */
+    private void measure(long reportTimeout) {
+        if (this.stopped) {
+            return;
+        }
+
+        List<CompletableFuture<Void>> receiveFutures = new ArrayList<>();
+        for (WorkerSession session : this.sessions) {
+            try {
+                if (session.start()) {
+                    receiveFutures.add(CompletableFuture.runAsync(() -> this.receive(session, reportTimeout),
+                            this.executor));
+                }
+            } catch (IOException e) {
+                this.fail(session, e);
+            }
+        }
+        log.info("【Stalker 提示】已通知【{}】个工作节点同时开始正式测量.", receiveFutures.size());
+        CompletableFuture.allOf(receiveFutures.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * 持续接收单个工作节点汇报的测量结果.
+     *
+     * @param session 与工作节点之间的会话
+     * @param reportTimeout 两次汇报之间的超时时间，单位纳秒(ns)
+     */
+    private void receive(WorkerSession session, long reportTimeout) {
+        try {
+            session.receive(reportTimeout, () -> this.stopped);
+        } catch (IOException | RuntimeException e) {
+            this.fail(session, e);
+        }
+    }
+
+    /**
+     * 将工作节点标记为失败，并停止其余所有的工作节点，避免在负载降低了的情况下继续测量.
+     *
+     * @param session 与工作节点之间的会话
+     * @param e 失败的异常
+     */
+    private void fail(WorkerSession session, Exception e) {
+        log.error("【Stalker 错误提示】工作节点【{}】失败，将停止其余所有的工作节点！", session.getWorker(), e);
+        session.fail(e.getMessage());
+        this.stopAll();
+    }
+
+    /**
+     * 停止所有的工作节点.
+     */
+    private void stopAll() {
+        this.stopped = true;
+        for (WorkerSession session : this.sessions) {
+            session.stop();
+        }
+    }
+
+    /**
+     * 所有工作节点都结束之后，关闭各个会话和线程池，并标记为已执行结束.
+     *
+     * @param e 运行期间未被处理的异常，没有时为 {@code null}
+     */
+    private void finish(Throwable e) {
+        if (e != null) {
+            log.error("【Stalker 错误提示】运行分布式测量任务时发生异常！", e);
+        }
+
+        for (WorkerSession session : this.sessions) {
+            session.close();
+        }
+        this.executor.shutdownNow();
+        this.done = true;
+    }
+
+    /**
+     * 阻塞式等待测量任务完成，默认等待执行的间隔时间是 500 毫秒.
+     *
+     * @return 当前的 {@link DistributedFuture} 对象实例
+     */
+    public DistributedFuture waitDone() {
+        return this.waitDone(null, 500L);
+    }
+
+    /**
+     * 阻塞式等待测量任务完成，等待期间会每隔一段时间执行传入的可运行任务.
+     *
+     * @param waitPeriodConsumer 等待完成期间，每隔一段时间执行的可运行任务
+     * @param period 每次执行的间隔时间，单位毫秒(ms).
+     * @return 当前的 {@link DistributedFuture} 对象实例
+     */
+    public DistributedFuture waitDone(Consumer<DistributedFuture> waitPeriodConsumer, long period) {
+        while (!this.isDone()) {
+            if (waitPeriodConsumer != null) {
+                waitPeriodConsumer.accept(this);
+            }
+            this.sleep(period);
+        }
+        return this;
+    }
+
+    /**
+     * 所有工作节点都结束之后执行的回调任务.
+     *
+     * @param futureConsumer 任务执行完成后的回调时的可运行任务
+     * @return 当前的 {@link DistributedFuture} 对象实例
+     */
+    public DistributedFuture done(Consumer<DistributedFuture> futureConsumer) {
+        this.waitDone(null, 50L);
+        if (futureConsumer != null) {
+            futureConsumer.accept(this);
+        }
+        return this;
+    }
+
+    /**
+     * 将当前线程以阻塞的形式睡眠一定的时间.
+     *
+     * @param time 睡眠的时间
+     */
+    private void sleep(long time) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(time);
+        } catch (InterruptedException e) {
+            log.error("【Stalker 错误】在等待分布式测量任务完成时发生中断，中断原因：【{}】.", e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 立即停止所有的工作节点，各个工作节点停止后仍会汇报最终的测量结果.
+     *
+     * @return 始终返回 {@code true}
+     */
+    public boolean cancel() {
+        return this.cancel(true);
+    }
+
+    /**
+     * 立即停止所有的工作节点，各个工作节点停止后仍会汇报最终的测量结果.
+     *
+     * @param mayInterruptIfRunning 该参数将被忽略
+     * @return 始终返回 {@code true}
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!this.done) {
+            this.cancelled = true;
+            this.stopAll();
+        }
+        return true;
+    }
+
+    /**
+     * 获取测量任务在完成之前是否已经被取消.
+     *
+     * @return 布尔值
+     */
+    @Override
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * 获取测量任务是否已经执行结束，所有工作节点都结束（不管是正常完成、被停止还是失败）并关闭之后才返回 {@code true}.
+     *
+     * @return 布尔值
+     */
+    @Override
+    public boolean isDone() {
+        return this.done;
+    }
+
+    /**
+     * 获取测量任务是否已经正常执行完毕，只有当所有工作节点都正常完成时才返回 {@code true}.
+     *
+     * @return 布尔值
+     */
+    public boolean isDoneSuccessfully() {
+        if (!this.done || this.cancelled) {
+            return false;
+        }
+
+        for (WorkerSession session : this.sessions) {
+            if (session.getStatus() != Status.DONE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 实时获取合并后的测量结果的各个输出通道的结果.
+     *
+     * @return {@code Options.getOutputs()} 中定义多种的输出通道结果
+     */
+    @Override
+    public List<Object> get() {
+        return new MeasureOutputContext().output(this.options, this.getMeasureResult());
+    }
+
+    /**
+     * 实时获取合并后的测量结果的各个输出通道的结果，语义同 {@link #get()}.
+     *
+     * @param timeout 超时时间
+     * @param unit 超时时间单位
+     * @return {@code Options.getOutputs()} 中定义多种的输出通道结果
+     */
+    @Override
+    public List<Object> get(long timeout, TimeUnit unit) {
+        return this.get();
+    }
+
+    /**
+     * 实时获取合并后的测量结果，其中也包含了各个工作节点的状态和测量结果.
+     *
+     * @return {@link MeasureResult} 结果
+     */
+    public MeasureResult getMeasureResult() {
+        List<WorkerResult> workerResults = this.getWorkerResults();
+        MeasureResult result = this.mergeLatest().toMeasureResult().setWorkerResults(workerResults);
+        JvmStatsCodec.sumTo(workerResults, result);
+        return result;
+    }
+
+    /**
+     * 实时获取各个工作节点的状态和最近一次汇报的测量结果.
+     *
+     * @return {@link WorkerResult} 的集合
+     */
+    public List<WorkerResult> getWorkerResults() {
+        List<WorkerResult> workerResults = new ArrayList<>(this.sessions.size());
+        for (WorkerSession session : this.sessions) {
+            workerResults.add(session.toWorkerResult());
+        }
+        return workerResults;
+    }
+
+    /**
+     * 合并各个工作节点最近一次汇报的累计测量结果.
+     *
+     * @return 合并后的可合并测量结果
+     */
+    private MergeableResult mergeLatest() {
+        MergeableResult merged = new MergeableResult().setParts(0);
+        for (WorkerSession session : this.sessions) {
+            MergeableResult latest = session.getLatest();
+            if (latest != null) {
+                merged.merge(latest);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 获取正式测量实际所消耗的总的纳秒时间数，即各个工作节点中的最大值.
+     *
+     * @return 实际所消耗的总的纳秒时间数
+     */
+    public long getCosts() {
+        return this.mergeLatest().getCosts();
+    }
+
+    /**
+     * 获取所有工作节点当前已经运行的总次数.
+     *
+     * @return 运行总次数
+     */
+    public long getTotal() {
+        MergeableResult merged = this.mergeLatest();
+        return merged.getSuccess() + merged.getFailure();
+    }
+
+    /**
+     * 获取所有工作节点当前运行成功的次数.
+     *
+     * @return 运行成功的次数
+     */
+    public long getSuccess() {
+        return this.mergeLatest().getSuccess();
+    }
+
+    /**
+     * 获取所有工作节点当前运行失败的次数.
+     *
+     * @return 运行失败的次数
+     */
+    public long getFailure() {
+        return this.mergeLatest().getFailure();
+    }
+
+}
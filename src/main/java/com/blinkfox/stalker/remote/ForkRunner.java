@@ -0,0 +1,152 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.result.MergeableResult.MergedRuns;
+import com.blinkfox.stalker.result.WorkerResult;
+import com.blinkfox.stalker.result.WorkerResult.Status;
+import com.blinkfox.stalker.runner.MeasureRunnerContext;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在新启动的子 JVM 中依次运行测量任务的运行器，用于隔离各个测量任务之间的 JIT 编译信息和堆状态.
+ *
+ * <p>每个子 JVM 都是一个只运行一次会话的 {@link StalkerWorker}，会单独预热和正式测量，并将可合并的测量结果汇报回来；
+ * 各个子 JVM 的测量结果依次合并为最终的测量结果，同时还会计算出各个子 JVM 的平均耗时之间的差异.
+ * 某个子 JVM 失败时，不会再启动后续的子 JVM，最终的测量结果中会带有该子 JVM 的失败信息，其子 JVM 个数也只包含有成功执行的测量的子 JVM，
+ * 输出结果的警示信息中会说明合并后的测量结果不完整.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+public final class ForkRunner {
+
+    /**
+     * 子 JVM 汇报测量结果的时间间隔，单位纳秒(ns).
+     */
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 启动子 JVM 和等待其预热完毕的超时时间，单位纳秒(ns).
+     */
+    private static final long TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * 私有构造方法.
+     */
+    private ForkRunner() {
+    }
+
+    /**
+     * 根据选项参数中的子 JVM 个数，依次在各个子 JVM 中运行测量任务，并合并各个子 JVM 的测量结果；
+     * 子 JVM 个数为 {@code 0} 时直接在当前 JVM 中运行.
+     *
+     * @param options 选项参数
+     * @param task 待测量任务的类名，或者 {@code 类名#方法名}
+     * @return 合并后的测量结果
+     */
+    public static MeasureResult run(Options options, String task) {
+        if (options.getForks() == 0) {
+            return new MeasureRunnerContext(options).run(new RemoteTask(options, task, REPORT_INTERVAL).newRunnable());
+        }
+        return run(options, task, options.getForks(), null, options.getForkJvmArgs());
+    }
+
+    /**
+     * 使用指定的 JVM 参数，依次在各个子 JVM 中运行测量任务，并合并各个子 JVM 的测量结果.
+     *
+     * @param options 选项参数
+     * @param task 待测量任务的类名，或者 {@code 类名#方法名}
+     * @param forks 子 JVM 的个数
+     * @param jvmConfig JVM 配置的名称，可以为 {@code null}
+     * @param jvmArgs JVM 参数
+     * @return 合并后的测量结果
+     */
+    static MeasureResult run(Options options, String task, int forks, String jvmConfig, List<String> jvmArgs) {
+        String token = RemoteProtocol.newToken();
+        byte[] taskBytes = encodeTask(options, task, token);
+        List<String> command = WorkerSession.buildLocalCommand(jvmArgs);
+        List<WorkerSession> sessions = new ArrayList<>(forks);
+        for (int i = 0; i < forks; i++) {
+            WorkerSession session = new WorkerSession(jvmConfig == null ? "fork-" + (i + 1)
+                    : jvmConfig + "-fork-" + (i + 1), command, token);
+            sessions.add(session);
+            runFork(session, taskBytes);
+            if (session.getStatus() == Status.FAILED) {
+                log.error("【Stalker 错误提示】第【{}】个子 JVM 运行测量任务失败，将不再运行后续的子 JVM.", i + 1);
+                break;
+            }
+        }
+        return merge(sessions, forks, jvmConfig, jvmArgs);
+    }
+
+    /**
+     * 将在子 JVM 中运行的测量任务编码为字节数组.
+     *
+     * @param options 选项参数
+     * @param task 待测量任务的类名，或者 {@code 类名#方法名}
+     * @param token 子 JVM 的访问令牌
+     * @return 字节数组
+     */
+    static byte[] encodeTask(Options options, String task, String token) {
+        return new RemoteTask(options, task, REPORT_INTERVAL, token).toBytes();
+    }
+
+    /**
+     * 将同一个测量任务在各个子 JVM 中的测量结果依次合并，并计算出各个子 JVM 的平均耗时之间的差异.
+     *
+     * @param sessions 与各个子 JVM 之间已结束的会话
+     * @param plannedForks 计划运行的子 JVM 的个数
+     * @param jvmConfig JVM 配置的名称，可以为 {@code null}
+     * @param jvmArgs JVM 参数
+     * @return 合并后的测量结果
+     */
+    static MeasureResult merge(List<WorkerSession> sessions, int plannedForks, String jvmConfig,
+            List<String> jvmArgs) {
+        List<WorkerResult> forkResults = new ArrayList<>(sessions.size());
+        List<MergeableResult> runs = new ArrayList<>(sessions.size());
+        for (WorkerSession session : sessions) {
+            forkResults.add(session.toWorkerResult());
+            runs.add(session.getLatest());
+        }
+
+        MergedRuns merged = MergeableResult.mergeRuns(runs);
+        MeasureResult result = merged.getMeasureResult()
+                .setWorkerResults(forkResults)
+                .setForks(merged.getMeasured())
+                .setPlannedForks(plannedForks)
+                .setForkAvgMean(merged.getAvgMean())
+                .setForkAvgStdDev(merged.getAvgStdDev())
+                .setJvmConfig(jvmConfig)
+                .setJvmArgs(jvmArgs);
+        JvmStatsCodec.sumTo(forkResults, result);
+        return result;
+    }
+
+    /**
+     * 在单个子 JVM 中运行测量任务，直到该子 JVM 汇报了最终的测量结果或者失败.
+     *
+     * @param session 与子 JVM 之间的会话
+     * @param taskBytes 编码后的测量任务
+     */
+    static void runFork(WorkerSession session, byte[] taskBytes) {
+        try {
+            session.connect(TIMEOUT);
+            session.sendTaskAndAwaitReady(taskBytes, TIMEOUT);
+            session.start();
+            session.receive(WorkerSession.toReportTimeout(REPORT_INTERVAL), () -> false);
+        } catch (IOException | RuntimeException e) {
+            log.error("【Stalker 错误提示】子 JVM【{}】运行测量任务时出错！", session.getWorker(), e);
+            session.fail(e.getMessage());
+        } finally {
+            session.close();
+        }
+    }
+
+}
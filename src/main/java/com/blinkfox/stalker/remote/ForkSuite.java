@@ -0,0 +1,372 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.executor.StalkerExecutors;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在互不相交的 CPU 集合上并行运行多个子 JVM 测量任务的测量套件，用于缩短大量子 JVM 测量任务的总运行时间.
+ *
+ * <p>套件会将当前进程可用的逻辑 CPU 按物理核心（即共享同一个物理核心的超线程）分组，每个子 JVM 会独占若干个物理核心，
+ * 并通过 Linux 的 {@code taskset} 命令绑定到这些核心上，因此同时运行的子 JVM 之间永远不会共享核心. 可用的核心不足时，
+ * 后面的子 JVM 会按套件中的顺序等待前面的子 JVM 释放核心. 所有子 JVM 都结束后，再按套件中的顺序合并各个测量任务的测量结果.</p>
+ *
+ * <p>在不支持 {@code taskset} 的系统中无法保证各个子 JVM 不共享核心，此时会退化为依次运行各个子 JVM.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see ForkRunner
+ * @since v1.3.0
+ */
+@Slf4j
+public final class ForkSuite {
+
+    /**
+     * 绑定 CPU 的命令.
+     */
+    private static final String TASKSET = "taskset";
+
+    /**
+     * 各个测量任务的选项参数.
+     */
+    private final List<Options> optionsList = new ArrayList<>();
+
+    /**
+     * 各个待测量任务的类名，或者 {@code 类名#方法名}.
+     */
+    private final List<String> tasks = new ArrayList<>();
+
+    /**
+     * 每个子 JVM 独占的物理核心数，为 {@code 0} 时使用各个测量任务的并发数.
+     */
+    private int coresPerFork;
+
+    /**
+     * 允许套件使用的逻辑 CPU 编号，为 {@code null} 时使用当前进程可用的所有逻辑 CPU.
+     */
+    private Set<Integer> cpus;
+
+    /**
+     * 私有构造方法.
+     */
+    private ForkSuite() {
+    }
+
+    /**
+     * 创建一个空的测量套件.
+     *
+     * @return 测量套件
+     */
+    public static ForkSuite of() {
+        return new ForkSuite();
+    }
+
+    /**
+     * 向套件中添加使用同一个选项参数的若干个测量任务，每个测量任务都会在 {@code max(1, Options.getForks())} 个子 JVM 中运行.
+     *
+     * @param options 选项参数
+     * @param tasks 待测量任务的类名（需要实现 {@link Runnable} 接口），或者 {@code 类名#方法名}（需要是公共的无参方法）
+     * @return 本测量套件
+     */
+    public ForkSuite add(Options options, String... tasks) {
+        for (String task : tasks) {
+            this.optionsList.add(options);
+            this.tasks.add(task);
+        }
+        return this;
+    }
+
+    /**
+     * 设置每个子 JVM 独占的物理核心数，默认为各个测量任务的并发数 {@code concurrens}.
+     *
+     * @param cores 物理核心数
+     * @return 本测量套件
+     */
+    public ForkSuite coresPerFork(int cores) {
+        this.coresPerFork = cores;
+        return this;
+    }
+
+    /**
+     * 限制套件只能使用指定的逻辑 CPU，默认使用当前进程可用的所有逻辑 CPU.
+     *
+     * @param cpuIds 逻辑 CPU 的编号
+     * @return 本测量套件
+     */
+    public ForkSuite cpus(int... cpuIds) {
+        this.cpus = new TreeSet<>();
+        for (int cpuId : cpuIds) {
+            this.cpus.add(cpuId);
+        }
+        return this;
+    }
+
+    /**
+     * 运行套件中的所有测量任务，并按套件中的顺序输出各个测量任务的结果.
+     *
+     * @return 运行的输出结果集合
+     */
+    public List<Object> run() {
+        MeasureResult[] results = this.runStatis();
+        List<Object> outputs = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            outputs.addAll(new MeasureOutputContext().output(this.optionsList.get(i), results[i]));
+        }
+        return outputs;
+    }
+
+    /**
+     * 运行套件中的所有测量任务，并按套件中的顺序返回各个测量任务的测量结果.
+     *
+     * @return 各个测量任务的测量结果的数组
+     */
+    public MeasureResult[] runStatis() {
+        if (this.tasks.isEmpty() || this.coresPerFork < 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】测量套件中至少需要一个测量任务，且每个子 JVM 的核心数不能小于 0.");
+        }
+        this.optionsList.forEach(Options::valid);
+
+        List<List<Integer>> cores = readCores(this.cpus == null ? readAllowedCpus() : this.cpus);
+        boolean pinned = !cores.isEmpty() && isTasksetAvailable();
+        if (!pinned) {
+            log.warn("【Stalker 警示】当前系统不支持使用 taskset 绑定 CPU，测量套件中的各个子 JVM 将依次运行.");
+        }
+
+        CorePool pool = new CorePool(pinned ? cores : new ArrayList<>());
+        List<List<WorkerSession>> sessionsList = new ArrayList<>(this.tasks.size());
+        String token = RemoteProtocol.newToken();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        ExecutorService executor = StalkerExecutors.newFixedThreadExecutor(pinned ? cores.size() : 1,
+                "stalker-fork-suite");
+        try {
+            for (int i = 0, len = this.tasks.size(); i < len; i++) {
+                Options options = this.optionsList.get(i);
+                byte[] taskBytes = ForkRunner.encodeTask(options, this.tasks.get(i), token);
+                int forks = Math.max(1, options.getForks());
+                int need = this.coresPerFork > 0 ? this.coresPerFork : options.getConcurrens();
+                List<WorkerSession> sessions = new ArrayList<>(forks);
+                for (int j = 0; j < forks; j++) {
+                    // 按套件中的顺序申请核心，核心不足时会阻塞，直到前面的子 JVM 释放了足够的核心.
+                    List<Integer> assigned = pool.acquire(need);
+                    String cpuList = assigned.stream().map(String::valueOf).collect(Collectors.joining(","));
+                    List<String> command = new ArrayList<>();
+                    if (pinned) {
+                        command.add(TASKSET);
+                        command.add("-c");
+                        command.add(cpuList);
+                    }
+                    command.addAll(WorkerSession.buildLocalCommand(options.getForkJvmArgs()));
+
+                    WorkerSession session = new WorkerSession("task-" + (i + 1) + "-fork-" + (j + 1)
+                            + (pinned ? "@cpu" + cpuList : ""), command, token);
+                    sessions.add(session);
+                    futures.add(CompletableFuture.runAsync(() -> ForkRunner.runFork(session, taskBytes), executor)
+                            .whenComplete((a, e) -> pool.release(assigned)));
+                }
+                sessionsList.add(sessions);
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        MeasureResult[] results = new MeasureResult[sessionsList.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = ForkRunner.merge(sessionsList.get(i), sessionsList.get(i).size(), null,
+                    this.optionsList.get(i).getForkJvmArgs());
+        }
+        return results;
+    }
+
+    /**
+     * 读取当前进程可用的逻辑 CPU 编号，已考虑了 {@code taskset} 和 cgroup 的 cpuset 的限制，读取失败时返回空集合.
+     *
+     * @return 逻辑 CPU 编号的集合
+     */
+    private static Set<Integer> readAllowedCpus() {
+        File status = new File("/proc/self/status");
+        try {
+            for (String line : Files.readAllLines(status.toPath(), StandardCharsets.UTF_8)) {
+                if (line.startsWith("Cpus_allowed_list:")) {
+                    return parseCpuList(line.substring("Cpus_allowed_list:".length()));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("【Stalker 提示】读取当前进程可用的 CPU 时出错.", e);
+        }
+        return new TreeSet<>();
+    }
+
+    /**
+     * 将逻辑 CPU 按物理核心分组，同一组中的逻辑 CPU 共享同一个物理核心，无法读取 CPU 拓扑时每个逻辑 CPU 单独为一组.
+     *
+     * @param cpuIds 可用的逻辑 CPU 编号
+     * @return 各个物理核心中可用的逻辑 CPU 编号
+     */
+    static List<List<Integer>> readCores(Set<Integer> cpuIds) {
+        Set<List<Integer>> cores = new LinkedHashSet<>();
+        for (int cpuId : cpuIds) {
+            Set<Integer> siblings = new TreeSet<>();
+            File file = new File("/sys/devices/system/cpu/cpu" + cpuId + "/topology/thread_siblings_list");
+            try {
+                siblings.addAll(parseCpuList(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)));
+            } catch (IOException | RuntimeException e) {
+                log.debug("【Stalker 提示】读取 CPU【{}】的拓扑时出错，将其单独作为一个核心.", cpuId, e);
+            }
+            siblings.retainAll(cpuIds);
+            siblings.add(cpuId);
+            cores.add(new ArrayList<>(siblings));
+        }
+        return new ArrayList<>(cores);
+    }
+
+    /**
+     * 解析 Linux 中的 CPU 列表格式，如：{@code 0-3,8,10-11}.
+     *
+     * @param text CPU 列表字符串
+     * @return 逻辑 CPU 编号的有序集合
+     */
+    static Set<Integer> parseCpuList(String text) {
+        Set<Integer> cpuIds = new TreeSet<>();
+        for (String part : text.trim().split(",")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+
+            int index = part.indexOf('-');
+            int from = Integer.parseInt((index < 0 ? part : part.substring(0, index)).trim());
+            int to = index < 0 ? from : Integer.parseInt(part.substring(index + 1).trim());
+            for (int i = from; i <= to; i++) {
+                cpuIds.add(i);
+            }
+        }
+        return cpuIds;
+    }
+
+    /**
+     * 判断当前系统中是否可以使用 {@code taskset} 命令绑定 CPU.
+     *
+     * @return 布尔值
+     */
+    private static boolean isTasksetAvailable() {
+        String path = System.getenv("PATH");
+        if (path == null || !System.getProperty("os.name", "").toLowerCase().contains("linux")) {
+            return false;
+        }
+
+        for (String dir : path.split(File.pathSeparator)) {
+            if (new File(dir, TASKSET).canExecute()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 以物理核心为单位分配和回收 CPU 的核心池，保证同时被分配出去的核心互不相交.
+     */
+    static final class CorePool {
+
+        /**
+         * 所有的核心.
+         */
+        private final List<List<Integer>> cores;
+
+        /**
+         * 各个核心是否已被分配.
+         */
+        private final boolean[] used;
+
+        /**
+         * 是否有子 JVM 正在运行，没有可分配的核心时用于保证依次运行.
+         */
+        private boolean busy;
+
+        /**
+         * 构造方法.
+         *
+         * @param cores 所有的核心，为空时表示不绑定 CPU，每次只允许一个子 JVM 运行
+         */
+        CorePool(List<List<Integer>> cores) {
+            this.cores = cores;
+            this.used = new boolean[cores.size()];
+        }
+
+        /**
+         * 申请若干个核心，可用的核心不足时阻塞等待，申请的核心数超过核心总数时按核心总数申请.
+         *
+         * @param count 核心数
+         * @return 分配到的逻辑 CPU 编号，不绑定 CPU 时为空集合
+         */
+        synchronized List<Integer> acquire(int count) {
+            int need = Math.max(1, Math.min(count, this.cores.size()));
+            while (this.busy || this.countFree() < need) {
+                try {
+                    this.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new StalkerException("【Stalker 错误提示】等待可用的 CPU 核心时被中断！", e);
+                }
+            }
+
+            List<Integer> assigned = new ArrayList<>();
+            for (int i = 0; i < this.used.length && need > 0; i++) {
+                if (!this.used[i]) {
+                    this.used[i] = true;
+                    assigned.addAll(this.cores.get(i));
+                    need--;
+                }
+            }
+            this.busy = this.cores.isEmpty();
+            return assigned;
+        }
+
+        /**
+         * 回收之前分配的核心.
+         *
+         * @param assigned 分配到的逻辑 CPU 编号
+         */
+        synchronized void release(List<Integer> assigned) {
+            for (int i = 0; i < this.used.length; i++) {
+                if (this.used[i] && assigned.containsAll(this.cores.get(i))) {
+                    this.used[i] = false;
+                }
+            }
+            this.busy = false;
+            this.notifyAll();
+        }
+
+        /**
+         * 计算可用的核心数，不绑定 CPU 时视为有一个可用的核心.
+         *
+         * @return 可用的核心数
+         */
+        private int countFree() {
+            if (this.cores.isEmpty()) {
+                return 1;
+            }
+
+            int free = 0;
+            for (boolean u : this.used) {
+                free += u ? 0 : 1;
+            }
+            return free;
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 在多种 JVM 配置（如堆大小、GC 算法、{@code -XX} 参数和 JIT 编译层级等）下分别运行同一个测量任务，并对比各个配置的测量结果的矩阵.
+ *
+ * <p>每种 JVM 配置都会在 {@code max(1, Options.getForks())} 个新启动的子 JVM 中运行，子 JVM 的 JVM 参数为
+ * {@link Options#getForkJvmArgs()} 加上该配置的 JVM 参数. 输出结果中会带有各个配置的吞吐量、耗时百分位值和 GC 耗时的对比表格，
+ * 吞吐量的变化均相对于第一个配置.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see ForkRunner
+ * @since v1.3.0
+ */
+public final class JvmMatrix {
+
+    /**
+     * 测量任务的选项参数.
+     */
+    private final Options options;
+
+    /**
+     * 待测量任务的类名，或者 {@code 类名#方法名}.
+     */
+    private final String task;
+
+    /**
+     * 各个 JVM 配置的名称及其 JVM 参数.
+     */
+    private final Map<String, List<String>> configs = new LinkedHashMap<>();
+
+    /**
+     * 构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param task 待测量任务的类名，或者 {@code 类名#方法名}
+     */
+    private JvmMatrix(Options options, String task) {
+        this.options = options;
+        this.task = task;
+    }
+
+    /**
+     * 根据选项参数和待测量的任务来创建 JVM 配置矩阵.
+     *
+     * @param options 测量任务的选项参数
+     * @param task 待测量任务的类名（需要实现 {@link Runnable} 接口），或者 {@code 类名#方法名}（需要是公共的无参方法）
+     * @return JVM 配置矩阵
+     */
+    public static JvmMatrix of(Options options, String task) {
+        return new JvmMatrix(options, task);
+    }
+
+    /**
+     * 添加一种 JVM 配置，如：{@code config("G1-2g", "-XX:+UseG1GC", "-Xmx2g")}.
+     *
+     * @param name 配置的名称，需要唯一
+     * @param jvmArgs 该配置的 JVM 参数
+     * @return 本 JVM 配置矩阵
+     */
+    public JvmMatrix config(String name, String... jvmArgs) {
+        if (name == null || this.configs.containsKey(name)) {
+            throw new IllegalArgumentException("【Stalker 参数异常】JVM 配置的名称【" + name + "】为空或者重复了.");
+        }
+
+        this.configs.put(name, Arrays.asList(jvmArgs));
+        return this;
+    }
+
+    /**
+     * 依次在各个 JVM 配置下运行测量任务，并输出对比结果.
+     *
+     * @return 运行的输出结果集合
+     */
+    public List<Object> run() {
+        return new MeasureOutputContext().output(this.options, this.runStatis());
+    }
+
+    /**
+     * 依次在各个 JVM 配置下运行测量任务，并返回各个配置的测量结果，顺序与添加配置的顺序一致.
+     *
+     * @return 各个配置的测量结果的数组
+     */
+    public MeasureResult[] runStatis() {
+        this.options.valid();
+        if (this.configs.isEmpty()) {
+            throw new IllegalArgumentException("【Stalker 参数异常】JVM 配置矩阵中至少需要一种 JVM 配置.");
+        }
+
+        int forks = Math.max(1, this.options.getForks());
+        List<MeasureResult> results = new ArrayList<>(this.configs.size());
+        for (Map.Entry<String, List<String>> entry : this.configs.entrySet()) {
+            List<String> jvmArgs = new ArrayList<>(this.options.getForkJvmArgs());
+            jvmArgs.addAll(entry.getValue());
+            results.add(ForkRunner.run(this.options, this.task, forks, entry.getKey(), jvmArgs));
+        }
+        return results.toArray(new MeasureResult[0]);
+    }
+
+}
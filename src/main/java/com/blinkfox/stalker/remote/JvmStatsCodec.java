@@ -0,0 +1,121 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 编码和解码工作节点 JVM 在正式测量期间的内存分配和 GC 统计数据的工具类.
+ *
+ * <p>{@link com.blinkfox.stalker.result.MergeableResult} 中只保存了耗时相关的原始累计值，而内存分配和 GC 数据只对单个 JVM 有意义，
+ * 所以工作节点会在正式测量结束时单独发送这些数据，以便比较不同的 JVM 参数和 GC 算法对测量结果的影响.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+final class JvmStatsCodec {
+
+    /**
+     * 私有构造方法.
+     */
+    private JvmStatsCodec() {
+    }
+
+    /**
+     * 将测量结果中的内存分配和 GC 统计数据编码为字节数组.
+     *
+     * @param result 测量结果
+     * @return 字节数组
+     */
+    static byte[] encode(MeasureResult result) {
+        Properties props = new Properties();
+        props.setProperty("memoryTracked", String.valueOf(result.isMemoryTracked()));
+        props.setProperty("allocatedBytes", String.valueOf(result.getAllocatedBytes()));
+        props.setProperty("gcCount", String.valueOf(result.getGcCount()));
+        props.setProperty("gcTime", String.valueOf(result.getGcTime()));
+
+        StringWriter writer = new StringWriter();
+        try {
+            props.store(writer, null);
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】编码 JVM 统计数据时出错！", e);
+        }
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 从字节数组中解码出内存分配和 GC 统计数据，并设置到测量结果中.
+     *
+     * @param bytes 字节数组
+     * @param result 测量结果
+     */
+    static void decodeTo(byte[] bytes, MeasureResult result) {
+        Properties props = new Properties();
+        try {
+            props.load(new StringReader(new String(bytes, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("【Stalker 参数异常】JVM 统计数据的编码已损坏.", e);
+        }
+
+        if (Boolean.parseBoolean(props.getProperty("memoryTracked"))) {
+            fill(result, Long.parseLong(props.getProperty("allocatedBytes")),
+                    Long.parseLong(props.getProperty("gcCount")), Long.parseLong(props.getProperty("gcTime")));
+        }
+    }
+
+    /**
+     * 将各个工作节点的内存分配和 GC 统计数据累加后设置到合并后的测量结果中，只要有一个工作节点没有统计就不设置.
+     *
+     * @param workerResults 各个工作节点的测量结果
+     * @param result 合并后的测量结果
+     */
+    static void sumTo(List<WorkerResult> workerResults, MeasureResult result) {
+        long allocatedBytes = 0;
+        long gcCount = 0;
+        long gcTime = 0;
+        for (WorkerResult workerResult : workerResults) {
+            MeasureResult workerMeasure = workerResult.getMeasureResult();
+            if (workerMeasure == null || !workerMeasure.isMemoryTracked()) {
+                return;
+            }
+
+            allocatedBytes = allocatedBytes < 0 || workerMeasure.getAllocatedBytes() < 0
+                    ? -1
+                    : allocatedBytes + workerMeasure.getAllocatedBytes();
+            gcCount += workerMeasure.getGcCount();
+            gcTime += workerMeasure.getGcTime();
+        }
+
+        if (!workerResults.isEmpty()) {
+            fill(result, allocatedBytes, gcCount, gcTime);
+        }
+    }
+
+    /**
+     * 将内存分配和 GC 统计数据设置到测量结果中，并计算出每次执行的平均分配量和分配速率.
+     *
+     * @param result 测量结果
+     * @param allocatedBytes 分配的字节数，不支持时为 {@code -1}
+     * @param gcCount GC 次数
+     * @param gcTime GC 耗时，单位纳秒(ns)
+     */
+    private static void fill(MeasureResult result, long allocatedBytes, long gcCount, long gcTime) {
+        long total = result.getTotal();
+        result.setMemoryTracked(true)
+                .setAllocatedBytes(allocatedBytes)
+                .setGcCount(gcCount)
+                .setGcTime(gcTime);
+        if (allocatedBytes >= 0) {
+            result.setAllocatedBytesPerOp(total == 0 ? 0 : (double) allocatedBytes / total)
+                    .setAllocationRate(MathKit.calcThroughput(allocatedBytes, result.getCosts()));
+        }
+    }
+
+}
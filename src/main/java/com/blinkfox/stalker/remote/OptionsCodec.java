@@ -0,0 +1,125 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.config.RunDuration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 将 {@link Options} 中与运行和统计相关的选项参数编码为 {@link Properties} 和从中解码的工具类，用于将选项参数传递给其他 JVM.
+ *
+ * <p>输出通道和定时更新等只对本地有意义的选项参数不会被编码，解码时这些选项参数取默认值.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+final class OptionsCodec {
+
+    /**
+     * 私有构造方法.
+     */
+    private OptionsCodec() {
+    }
+
+    /**
+     * 将选项参数编码为 {@link Properties}.
+     *
+     * @param options 选项参数
+     * @return {@link Properties} 实例
+     */
+    static Properties encode(Options options) {
+        Properties props = new Properties();
+        putIfPresent(props, "name", options.getName());
+        props.setProperty("threads", String.valueOf(options.getThreads()));
+        props.setProperty("concurrens", String.valueOf(options.getConcurrens()));
+        props.setProperty("warmups", String.valueOf(options.getWarmups()));
+        props.setProperty("runs", String.valueOf(options.getRuns()));
+        RunDuration duration = options.getDuration();
+        if (duration != null) {
+            props.setProperty("duration.amount", String.valueOf(duration.getAmount()));
+            props.setProperty("duration.timeUnit", duration.getTimeUnit().name());
+        }
+
+        props.setProperty("printErrorLog", String.valueOf(options.isPrintErrorLog()));
+        putIfPresent(props, "sharedCountersDir", options.getSharedCountersDir());
+        props.setProperty("memoryStats", String.valueOf(options.isMemoryStats()));
+        props.setProperty("cpuStats", String.valueOf(options.isCpuStats()));
+        props.setProperty("jitStats", String.valueOf(options.isJitStats()));
+        props.setProperty("threadStats", String.valueOf(options.isThreadStats()));
+        props.setProperty("hiccupStats", String.valueOf(options.isHiccupStats()));
+        props.setProperty("gcPauseStats", String.valueOf(options.isGcPauseStats()));
+        props.setProperty("procStats", String.valueOf(options.isProcStats()));
+        props.setProperty("profileInterval", String.valueOf(options.getProfileInterval()));
+        putIfPresent(props, "profileDir", options.getProfileDir());
+        props.setProperty("slowest", String.valueOf(options.getSlowest()));
+        props.setProperty("slowestStackThreshold", String.valueOf(options.getSlowestStackThreshold()));
+        props.setProperty("trendStats", String.valueOf(options.isTrendStats()));
+        props.setProperty("trendInterval", String.valueOf(options.getTrendInterval()));
+        props.setProperty("changePointStats", String.valueOf(options.isChangePointStats()));
+        props.setProperty("changePointInterval", String.valueOf(options.getChangePointInterval()));
+        props.setProperty("jfrEvents", String.valueOf(options.isJfrEvents()));
+        props.setProperty("jfrSlowThreshold", String.valueOf(options.getJfrSlowThreshold()));
+        putIfPresent(props, "jfrRecordingDir", options.getJfrRecordingDir());
+        props.setProperty("iterations", String.valueOf(options.getIterations()));
+        props.setProperty("iterationPause", String.valueOf(options.getIterationPause()));
+        props.setProperty("gcBetweenIterations", String.valueOf(options.isGcBetweenIterations()));
+        return props;
+    }
+
+    /**
+     * 从 {@link Properties} 中解码出选项参数，没有编码的选项参数取默认值.
+     *
+     * @param props {@link Properties} 实例
+     * @return 选项参数
+     */
+    static Options decode(Properties props) {
+        Options options = Options.of()
+                .named(props.getProperty("name"))
+                .threads(Integer.parseInt(props.getProperty("threads")))
+                .concurrens(Integer.parseInt(props.getProperty("concurrens")))
+                .warmups(Integer.parseInt(props.getProperty("warmups")))
+                .runs(Integer.parseInt(props.getProperty("runs")))
+                .printErrorLog(Boolean.parseBoolean(props.getProperty("printErrorLog")))
+                .sharedCounters(props.getProperty("sharedCountersDir"))
+                .memoryStats(Boolean.parseBoolean(props.getProperty("memoryStats")))
+                .cpuStats(Boolean.parseBoolean(props.getProperty("cpuStats")))
+                .jitStats(Boolean.parseBoolean(props.getProperty("jitStats")))
+                .threadStats(Boolean.parseBoolean(props.getProperty("threadStats")))
+                .hiccupStats(Boolean.parseBoolean(props.getProperty("hiccupStats")))
+                .gcPauseStats(Boolean.parseBoolean(props.getProperty("gcPauseStats")))
+                .procStats(Boolean.parseBoolean(props.getProperty("procStats")))
+                .profile(Long.parseLong(props.getProperty("profileInterval")), TimeUnit.NANOSECONDS)
+                .profileDir(props.getProperty("profileDir"))
+                .slowest(Integer.parseInt(props.getProperty("slowest")))
+                .slowestStackThreshold(Long.parseLong(props.getProperty("slowestStackThreshold")),
+                        TimeUnit.NANOSECONDS)
+                .trendStats(Boolean.parseBoolean(props.getProperty("trendStats")))
+                .trendInterval(Long.parseLong(props.getProperty("trendInterval")), TimeUnit.NANOSECONDS)
+                .changePointStats(Boolean.parseBoolean(props.getProperty("changePointStats")))
+                .changePointInterval(Long.parseLong(props.getProperty("changePointInterval")), TimeUnit.NANOSECONDS)
+                .jfrEvents(Boolean.parseBoolean(props.getProperty("jfrEvents")))
+                .jfrSlowThreshold(Long.parseLong(props.getProperty("jfrSlowThreshold")), TimeUnit.NANOSECONDS)
+                .jfrRecordingDir(props.getProperty("jfrRecordingDir"))
+                .iterations(Integer.parseInt(props.getProperty("iterations")))
+                .iterationPause(Long.parseLong(props.getProperty("iterationPause")), TimeUnit.NANOSECONDS)
+                .gcBetweenIterations(Boolean.parseBoolean(props.getProperty("gcBetweenIterations")));
+        String amount = props.getProperty("duration.amount");
+        return amount == null
+                ? options
+                : options.duration(Long.parseLong(amount), TimeUnit.valueOf(props.getProperty("duration.timeUnit")));
+    }
+
+    /**
+     * 如果值不为 {@code null}，就将其放入 {@link Properties} 中.
+     *
+     * @param props {@link Properties} 实例
+     * @param key 键
+     * @param value 值
+     */
+    private static void putIfPresent(Properties props, String key, String value) {
+        if (value != null) {
+            props.setProperty(key, value);
+        }
+    }
+
+}
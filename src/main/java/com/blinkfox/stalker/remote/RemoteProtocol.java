@@ -0,0 +1,219 @@
+package com.blinkfox.stalker.remote;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * 协调者与工作节点之间通信协议的常量和消息读写的工具类.
+ *
+ * <p>每条消息都由 {@code 1} 个字节的消息类型、{@code 4} 个字节的消息体长度和消息体组成，一次完整的会话如下：</p>
+ * <ol>
+ *     <li>协调者发送 {@link #TASK}，消息体为编码后的带有访问令牌的 {@link RemoteTask}；</li>
+ *     <li>工作节点校验访问令牌，加载待测量任务并预热完毕后回复 {@link #READY}，令牌不正确或者出错时回复 {@link #ERROR}；</li>
+ *     <li>协调者等所有工作节点都就绪之后，再同时向它们发送 {@link #START}；</li>
+ *     <li>工作节点在正式测量期间每隔一段时间发送一次 {@link #INTERVAL}，结束时先发送 {@link #STATS}，再发送 {@link #RESULT}，
+ *     除 {@link #STATS} 外消息体均为编码后的累计的 {@link com.blinkfox.stalker.result.MergeableResult}；</li>
+ *     <li>协调者可以随时发送 {@link #STOP} 来停止工作节点中正在运行的测量任务.</li>
+ * </ol>
+ *
+ * <p>守护 JVM（{@link StalkerDaemon}）的会话更简单：客户端发送带有类路径的 {@link #TASK}，守护 JVM 预热和正式测量完毕后，
+ * 依次回复 {@link #STATS} 和 {@link #RESULT}，出错时回复 {@link #ERROR}.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+final class RemoteProtocol {
+
+    /**
+     * 协议的版本号.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * 工作节点启动后在标准输出中打印所监听端口的行的前缀.
+     */
+    static final String PORT_PREFIX = "STALKER_WORKER_PORT=";
+
+    /**
+     * 工作节点启动后在标准输出中打印随机生成的访问令牌的行的前缀.
+     */
+    static final String TOKEN_PREFIX = "STALKER_WORKER_TOKEN=";
+
+    /**
+     * 工作节点读取访问令牌的环境变量的名称，在本机启动的工作节点进程会通过该环境变量得到协调者生成的令牌，以免令牌出现在命令行参数中.
+     */
+    static final String TOKEN_ENV = "STALKER_WORKER_TOKEN";
+
+    /**
+     * 分发测量任务的消息类型.
+     */
+    static final byte TASK = 1;
+
+    /**
+     * 工作节点已就绪的消息类型.
+     */
+    static final byte READY = 2;
+
+    /**
+     * 开始正式测量的消息类型.
+     */
+    static final byte START = 3;
+
+    /**
+     * 正式测量期间汇报累计测量结果的消息类型.
+     */
+    static final byte INTERVAL = 4;
+
+    /**
+     * 正式测量结束时的最终测量结果的消息类型.
+     */
+    static final byte RESULT = 5;
+
+    /**
+     * 工作节点出错的消息类型，消息体为错误信息.
+     */
+    static final byte ERROR = 6;
+
+    /**
+     * 停止测量任务的消息类型.
+     */
+    static final byte STOP = 7;
+
+    /**
+     * 正式测量结束时工作节点 JVM 的内存分配和 GC 等统计数据的消息类型，消息体见 {@link JvmStatsCodec}.
+     */
+    static final byte STATS = 8;
+
+    /**
+     * 消息体的最大长度，超过时认为消息已损坏.
+     */
+    private static final int MAX_PAYLOAD = 16 * 1024 * 1024;
+
+    /**
+     * 访问令牌的随机字节数.
+     */
+    private static final int TOKEN_BYTES = 16;
+
+    /**
+     * 私有构造方法.
+     */
+    private RemoteProtocol() {
+    }
+
+    /**
+     * 使用安全的随机数生成访问令牌.
+     *
+     * @return 十六进制的访问令牌
+     */
+    static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder sb = new StringBuilder(TOKEN_BYTES * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 判断测量任务中附带的令牌是否与访问令牌相同，比较的耗时与令牌的内容无关.
+     *
+     * @param token 访问令牌
+     * @param taskToken 测量任务中附带的令牌，可以为 {@code null}
+     * @return 布尔值
+     */
+    static boolean isAuthorized(String token, String taskToken) {
+        return taskToken != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                taskToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 写入一条消息，多个线程可以同时向同一个输出流中写入消息.
+     *
+     * @param out 输出流
+     * @param type 消息类型
+     * @param payload 消息体
+     * @throws IOException 写入出错时抛出
+     */
+    static void write(DataOutputStream out, byte type, byte[] payload) throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            out.writeInt(payload.length);
+            out.write(payload);
+            out.flush();
+        }
+    }
+
+    /**
+     * 写入一条消息体为文本的消息.
+     *
+     * @param out 输出流
+     * @param type 消息类型
+     * @param text 文本
+     * @throws IOException 写入出错时抛出
+     */
+    static void writeText(DataOutputStream out, byte type, String text) throws IOException {
+        write(out, type, String.valueOf(text).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 读取一条消息，没有消息时会一直阻塞，直到读取超时或者连接被关闭.
+     *
+     * @param in 输入流
+     * @return 消息
+     * @throws IOException 读取出错、超时、连接被关闭或者消息已损坏时抛出
+     */
+    static Message read(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_PAYLOAD) {
+            throw new IOException("消息体的长度【" + length + "】不正确，消息可能已损坏.");
+        }
+
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return new Message(type, payload);
+    }
+
+    /**
+     * 一条消息.
+     */
+    static final class Message {
+
+        /**
+         * 消息类型.
+         */
+        final byte type;
+
+        /**
+         * 消息体.
+         */
+        final byte[] payload;
+
+        /**
+         * 构造方法.
+         *
+         * @param type 消息类型
+         * @param payload 消息体
+         */
+        Message(byte type, byte[] payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+
+        /**
+         * 获取文本形式的消息体.
+         *
+         * @return 文本
+         */
+        String getText() {
+            return new String(this.payload, StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
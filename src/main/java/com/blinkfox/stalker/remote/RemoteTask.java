@@ -0,0 +1,221 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import lombok.Getter;
+
+/**
+ * 分发给其他 JVM 运行的测量任务，包括选项参数、待测量任务的类名和运行期间汇报测量结果的时间间隔.
+ *
+ * <p>待测量的任务可以是一个类名，该类需要实现 {@link Runnable} 接口，并且有一个公共的无参构造方法；也可以是 {@code 类名#方法名}，
+ * 该方法需要是一个公共的无参方法，实例方法所在的类也需要有一个公共的无参构造方法. 运行测量任务的 JVM 的类路径中也需要包含该类.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+final class RemoteTask {
+
+    /**
+     * 编码选项参数时使用的键的前缀.
+     */
+    private static final String OPTIONS_PREFIX = "options.";
+
+    /**
+     * 测量任务的选项参数.
+     */
+    private final Options options;
+
+    /**
+     * 待测量任务的类名，或者 {@code 类名#方法名}.
+     */
+    private final String taskClass;
+
+    /**
+     * 运行期间汇报测量结果的时间间隔，单位纳秒(ns).
+     */
+    private final long reportInterval;
+
+    /**
+     * 加载待测量任务的类时额外使用的类路径，为空时使用运行测量任务的 JVM 自身的类路径.
+     */
+    private final List<String> classpath;
+
+    /**
+     * 工作节点或者守护 JVM 的访问令牌，只在当前 JVM 中运行的测量任务没有令牌，为 {@code null}.
+     */
+    private final String token;
+
+    /**
+     * 构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param taskClass 待测量任务的类名，或者 {@code 类名#方法名}
+     * @param reportInterval 汇报测量结果的时间间隔
+     */
+    RemoteTask(Options options, String taskClass, long reportInterval) {
+        this(options, taskClass, reportInterval, null);
+    }
+
+    /**
+     * 构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param taskClass 待测量任务的类名，或者 {@code 类名#方法名}
+     * @param reportInterval 汇报测量结果的时间间隔
+     * @param token 工作节点的访问令牌
+     */
+    RemoteTask(Options options, String taskClass, long reportInterval, String token) {
+        this(options, taskClass, reportInterval, Collections.emptyList(), token);
+    }
+
+    /**
+     * 构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param taskClass 待测量任务的类名，或者 {@code 类名#方法名}
+     * @param reportInterval 汇报测量结果的时间间隔
+     * @param classpath 加载待测量任务的类时额外使用的类路径
+     * @param token 工作节点或者守护 JVM 的访问令牌，可以为 {@code null}
+     */
+    RemoteTask(Options options, String taskClass, long reportInterval, List<String> classpath, String token) {
+        this.options = options;
+        this.taskClass = taskClass;
+        this.reportInterval = reportInterval;
+        this.classpath = classpath;
+        this.token = token;
+    }
+
+    /**
+     * 将本测量任务编码为字节数组.
+     *
+     * @return 字节数组
+     */
+    byte[] toBytes() {
+        Properties props = new Properties();
+        props.setProperty("version", String.valueOf(RemoteProtocol.VERSION));
+        props.setProperty("taskClass", this.taskClass);
+        props.setProperty("reportInterval", String.valueOf(this.reportInterval));
+        if (!this.classpath.isEmpty()) {
+            props.setProperty("classpath", String.join(File.pathSeparator, this.classpath));
+        }
+        if (this.token != null) {
+            props.setProperty("token", this.token);
+        }
+        OptionsCodec.encode(this.options).forEach((key, value) -> props.put(OPTIONS_PREFIX + key, value));
+
+        StringWriter writer = new StringWriter();
+        try {
+            props.store(writer, null);
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】编码测量任务时出错！", e);
+        }
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 从字节数组中解码出测量任务.
+     *
+     * @param bytes 字节数组
+     * @return 测量任务
+     */
+    static RemoteTask ofBytes(byte[] bytes) {
+        Properties props = new Properties();
+        try {
+            props.load(new StringReader(new String(bytes, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("【Stalker 参数异常】测量任务的编码已损坏.", e);
+        }
+
+        String version = props.getProperty("version");
+        if (!String.valueOf(RemoteProtocol.VERSION).equals(version)) {
+            throw new IllegalArgumentException("【Stalker 参数异常】不支持的测量任务的协议版本【" + version + "】.");
+        }
+
+        Properties optionsProps = new Properties();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(OPTIONS_PREFIX)) {
+                optionsProps.setProperty(key.substring(OPTIONS_PREFIX.length()), props.getProperty(key));
+            }
+        }
+        String classpath = props.getProperty("classpath");
+        return new RemoteTask(OptionsCodec.decode(optionsProps), props.getProperty("taskClass"),
+                Long.parseLong(props.getProperty("reportInterval")), classpath == null ? Collections.emptyList()
+                : new ArrayList<>(Arrays.asList(classpath.split(File.pathSeparator))), props.getProperty("token"));
+    }
+
+    /**
+     * 使用当前线程的类加载器加载待测量任务的类，并构造出其实例；待测量的任务是一个方法时，构造出调用该方法的 {@link Runnable} 实例.
+     *
+     * @return 待测量任务的实例
+     */
+    Runnable newRunnable() {
+        int index = this.taskClass.indexOf('#');
+        String className = index < 0 ? this.taskClass : this.taskClass.substring(0, index);
+        try {
+            Class<?> clazz = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            if (index >= 0) {
+                return newMethodRunnable(clazz, clazz.getMethod(this.taskClass.substring(index + 1)));
+            }
+
+            if (!Runnable.class.isAssignableFrom(clazz)) {
+                throw new IllegalArgumentException("【Stalker 参数异常】待测量任务的类【" + this.taskClass
+                        + "】没有实现 Runnable 接口.");
+            }
+            return (Runnable) clazz.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("【Stalker 参数异常】无法加载或构造待测量的任务【" + this.taskClass + "】.", e);
+        }
+    }
+
+    /**
+     * 构造出调用待测量方法的 {@link Runnable} 实例. 方法只在这里解析一次，并转换为参数和返回值都为空的方法句柄，
+     * 实例方法会预先绑定到新构造的对象上，每次执行时通过 {@link MethodHandle#invokeExact} 调用，避免反射调用的开销.
+     *
+     * @param clazz 待测量方法所在的类
+     * @param method 待测量的方法
+     * @return {@link Runnable} 实例
+     * @throws ReflectiveOperationException 无法访问该方法或者无法构造实例时抛出
+     */
+    private static Runnable newMethodRunnable(Class<?> clazz, Method method) throws ReflectiveOperationException {
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(clazz.getConstructor().newInstance());
+        }
+
+        final MethodHandle invoker = handle.asType(MethodType.methodType(void.class));
+        return () -> invoke(invoker, method);
+    }
+
+    /**
+     * 调用待测量的方法，并将该方法抛出的异常原样抛出，以便被记为一次失败的执行.
+     *
+     * @param invoker 参数和返回值都为空的方法句柄
+     * @param method 待测量的方法，仅用于错误信息
+     */
+    private static void invoke(MethodHandle invoker, Method method) {
+        try {
+            invoker.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new StalkerException("【Stalker 错误提示】待测量的方法【" + method + "】抛出了受检异常！", e);
+        }
+    }
+
+}
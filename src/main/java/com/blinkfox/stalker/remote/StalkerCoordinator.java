@@ -0,0 +1,215 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 将同一个测量任务分发给多个工作节点（{@link StalkerWorker}）同时运行，并合并各个工作节点测量结果的协调者，
+ * 用于单个 JVM 无法产生足够负载的场景.
+ *
+ * <p>协调者既可以在本机启动若干个使用相同类路径的工作节点 JVM（{@link #localWorkers(int)}），也可以连接已经在其他机器上运行的工作节点
+ * （{@link #workers(String...)}）. 提交之后，协调者会将选项参数和待测量任务的类名分发给各个工作节点，等所有工作节点都预热完毕后再同时开始
+ * 正式测量，并在测量期间持续接收各个工作节点汇报的累计测量结果，合并为一个整体的测量结果.</p>
+ *
+ * <p>任何一个工作节点出错、进程退出、连接断开或者超时未汇报测量结果时，都会被标记为失败，协调者会立即停止其余所有的工作节点，
+ * 整个测量任务也不会被视为成功完成，从而避免在负载悄悄降低的情况下得出错误的结论.</p>
+ *
+ * <p>工作节点只运行附带了正确访问令牌的测量任务. 本机启动的工作节点使用协调者随机生成的令牌，该令牌会通过环境变量传递给工作节点进程；
+ * 连接已有的工作节点时，需要通过 {@link #token(String)} 设置这些工作节点共同使用的令牌.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see DistributedFuture
+ * @since v1.3.0
+ */
+public final class StalkerCoordinator {
+
+    /**
+     * 默认的汇报测量结果的时间间隔，单位纳秒(ns).
+     */
+    private static final long DEFAULT_REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 默认的启动、连接和预热工作节点的超时时间，单位纳秒(ns).
+     */
+    private static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * 测量任务的选项参数.
+     */
+    private final Options options;
+
+    /**
+     * 待测量任务的类名.
+     */
+    private final String taskClass;
+
+    /**
+     * 在本机启动的工作节点的数量.
+     */
+    private int localWorkers;
+
+    /**
+     * 需要连接的已有的工作节点的地址.
+     */
+    private final List<String> workers = new ArrayList<>();
+
+    /**
+     * 在本机启动工作节点时使用的 JVM 参数.
+     */
+    private final List<String> jvmArgs = new ArrayList<>();
+
+    /**
+     * 连接已有的工作节点时使用的访问令牌.
+     */
+    private String token;
+
+    /**
+     * 汇报测量结果的时间间隔，单位纳秒(ns).
+     */
+    private long reportInterval = DEFAULT_REPORT_INTERVAL;
+
+    /**
+     * 启动、连接和预热工作节点的超时时间，单位纳秒(ns).
+     */
+    private long timeout = DEFAULT_TIMEOUT;
+
+    /**
+     * 构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param taskClass 待测量任务的类名
+     */
+    private StalkerCoordinator(Options options, String taskClass) {
+        this.options = options;
+        this.taskClass = taskClass;
+    }
+
+    /**
+     * 根据选项参数和待测量任务的类来创建协调者，该类需要实现 {@link Runnable} 接口，并且有一个公共的无参构造方法.
+     *
+     * @param options 测量任务的选项参数
+     * @param taskClass 待测量任务的类
+     * @return 协调者
+     */
+    public static StalkerCoordinator of(Options options, Class<? extends Runnable> taskClass) {
+        return of(options, taskClass.getName());
+    }
+
+    /**
+     * 根据选项参数和待测量任务的类名来创建协调者，该类需要实现 {@link Runnable} 接口，并且有一个公共的无参构造方法；
+     * 也可以使用 {@code 类名#方法名} 来指定一个公共的无参方法作为待测量的任务.
+     *
+     * @param options 测量任务的选项参数
+     * @param taskClass 待测量任务的类名，或者 {@code 类名#方法名}
+     * @return 协调者
+     */
+    public static StalkerCoordinator of(Options options, String taskClass) {
+        return new StalkerCoordinator(options, taskClass);
+    }
+
+    /**
+     * 设置在本机启动的工作节点 JVM 的数量，这些 JVM 会使用与当前 JVM 相同的 {@code java} 命令和类路径.
+     *
+     * @param count 数量
+     * @return 本协调者
+     */
+    public StalkerCoordinator localWorkers(int count) {
+        this.localWorkers = count;
+        return this;
+    }
+
+    /**
+     * 添加需要连接的已经在运行中的工作节点.
+     *
+     * @param addresses 工作节点的地址，格式为 {@code 主机:端口}
+     * @return 本协调者
+     */
+    public StalkerCoordinator workers(String... addresses) {
+        this.workers.addAll(Arrays.asList(addresses));
+        return this;
+    }
+
+    /**
+     * 设置连接已有的工作节点时使用的访问令牌，即启动这些工作节点时设置的环境变量 {@code STALKER_WORKER_TOKEN} 的值，
+     * 或者工作节点随机生成并打印在标准输出中的令牌；设置后本机启动的工作节点也会使用该令牌.
+     *
+     * @param token 访问令牌
+     * @return 本协调者
+     */
+    public StalkerCoordinator token(String token) {
+        this.token = token;
+        return this;
+    }
+
+    /**
+     * 添加在本机启动工作节点时使用的 JVM 参数，如：{@code -Xmx512m}.
+     *
+     * @param args JVM 参数
+     * @return 本协调者
+     */
+    public StalkerCoordinator jvmArgs(String... args) {
+        this.jvmArgs.addAll(Arrays.asList(args));
+        return this;
+    }
+
+    /**
+     * 设置工作节点在正式测量期间汇报累计测量结果的时间间隔，默认为 {@code 1} 秒.
+     *
+     * @param interval 时间间隔
+     * @param timeUnit 时间单位
+     * @return 本协调者
+     */
+    public StalkerCoordinator reportInterval(long interval, TimeUnit timeUnit) {
+        this.reportInterval = timeUnit.toNanos(interval);
+        return this;
+    }
+
+    /**
+     * 设置启动、连接和预热工作节点的超时时间，默认为 {@code 1} 分钟.
+     *
+     * @param timeout 超时时间
+     * @param timeUnit 时间单位
+     * @return 本协调者
+     */
+    public StalkerCoordinator timeout(long timeout, TimeUnit timeUnit) {
+        this.timeout = timeUnit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * 提交测量任务，异步地启动或连接各个工作节点并运行测量任务.
+     *
+     * @return 用于获取合并后的测量结果和控制测量任务的 {@link DistributedFuture} 实例
+     */
+    public DistributedFuture submit() {
+        this.options.valid();
+        if (this.localWorkers < 0 || this.localWorkers + this.workers.size() == 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】至少需要一个工作节点.");
+        }
+        if (this.reportInterval <= 0 || this.timeout <= 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】汇报测量结果的时间间隔和超时时间都必须大于 0.");
+        }
+        if (!this.workers.isEmpty() && (this.token == null || this.token.isEmpty())) {
+            throw new IllegalArgumentException("【Stalker 参数异常】连接已有的工作节点时需要设置工作节点的访问令牌.");
+        }
+
+        String taskToken = this.token == null || this.token.isEmpty() ? RemoteProtocol.newToken() : this.token;
+        List<WorkerSession> sessions = new ArrayList<>();
+        for (int i = 0; i < this.localWorkers; i++) {
+            sessions.add(new WorkerSession("local-" + (i + 1), WorkerSession.buildLocalCommand(this.jvmArgs),
+                    taskToken));
+        }
+        for (String worker : this.workers) {
+            sessions.add(new WorkerSession(worker));
+        }
+
+        DistributedFuture future = new DistributedFuture(this.options, sessions);
+        future.run(new RemoteTask(this.options, this.taskClass, this.reportInterval, taskToken).toBytes(), this.timeout,
+                WorkerSession.toReportTimeout(this.reportInterval));
+        return future;
+    }
+
+}
@@ -0,0 +1,335 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.remote.RemoteProtocol.Message;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.runner.MeasureRunnerContext;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 常驻在后台的 Stalker 守护 JVM，用于在反复修改和测量代码时省去每次启动 JVM、加载类和预热 Stalker 自身的时间.
+ *
+ * <p>守护 JVM 只监听本机回环地址上的 TCP 端口，每个连接就是一次测量请求：收到测量任务后，会使用一个新的子类加载器，
+ * 从测量任务附带的类路径中加载待测量任务的类（优先于守护 JVM 自身的类路径），然后在守护 JVM 中预热和正式测量，
+ * 最后将 JVM 的统计数据和可合并的测量结果回复给客户端（{@link StalkerDaemonClient}）. 每次请求结束后都会关闭该类加载器，
+ * 因此重新编译后的待测量任务的类会在下次请求时被重新加载. 各个测量请求会依次运行，不会相互干扰. 会话的协议见 {@link RemoteProtocol}.</p>
+ *
+ * <p>由于测量请求会让守护 JVM 加载并运行任意的代码，守护 JVM 在启动时会随机生成一个访问令牌，只有测量任务中附带了该令牌的请求才会被运行，
+ * 以免本机的其他用户通过回环地址上的端口在守护 JVM 中运行代码. 待测量任务抛出的错误（{@link Error}）只会使该次请求失败，不会使守护 JVM 退出.</p>
+ *
+ * <p>使用方式：{@code java -cp stalker.jar com.blinkfox.stalker.remote.StalkerDaemon [--port 端口]}，
+ * 端口为 {@code 0} 时会随机选择一个可用的端口，启动并预热完毕后会在标准输出中依次打印 {@code STALKER_DAEMON_PORT=端口}
+ * 和 {@code STALKER_DAEMON_TOKEN=令牌} 两行，客户端需要使用该令牌发送测量请求.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see StalkerDaemonClient
+ * @since v1.3.0
+ */
+@Slf4j
+public final class StalkerDaemon implements Closeable {
+
+    /**
+     * 守护 JVM 启动后在标准输出中打印所监听端口的行的前缀.
+     */
+    static final String PORT_PREFIX = "STALKER_DAEMON_PORT=";
+
+    /**
+     * 守护 JVM 启动后在标准输出中打印访问令牌的行的前缀.
+     */
+    static final String TOKEN_PREFIX = "STALKER_DAEMON_TOKEN=";
+
+    /**
+     * 总是交给父类加载器加载的类名前缀，这些类需要与守护 JVM 自身共用同一份，否则会出现同名但不兼容的类.
+     */
+    private static final String[] PARENT_FIRST_PREFIXES = {"java.", "javax.", "sun.", "jdk.",
+            "com.blinkfox.stalker.", "org.slf4j."};
+
+    /**
+     * 守护 JVM 启动时预热 Stalker 自身的测量次数.
+     */
+    private static final int SELF_WARMUP_RUNS = 100_000;
+
+    /**
+     * 监听的服务端套接字.
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * 访问令牌，测量任务中附带的令牌与之相同时才会运行该测量任务.
+     */
+    private final String token;
+
+    /**
+     * 构造方法，会随机生成访问令牌.
+     *
+     * @param serverSocket 监听的服务端套接字
+     */
+    private StalkerDaemon(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+        this.token = RemoteProtocol.newToken();
+    }
+
+    /**
+     * 在本机回环地址的指定端口上监听，创建守护 JVM 的服务端.
+     *
+     * @param port 端口，为 {@code 0} 时随机选择一个可用的端口
+     * @return 守护 JVM 的服务端
+     */
+    public static StalkerDaemon listen(int port) {
+        try {
+            return new StalkerDaemon(new ServerSocket(port, 50, InetAddress.getLoopbackAddress()));
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】守护 JVM 监听端口【" + port + "】失败！", e);
+        }
+    }
+
+    /**
+     * 命令行入口方法.
+     *
+     * @param args 参数，支持 {@code --port 端口}
+     */
+    public static void main(String[] args) {
+        int port = 0;
+        for (int i = 0; i < args.length; i++) {
+            if ("--port".equals(args[i]) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else {
+                System.out.println("Usage: StalkerDaemon [--port port]");
+                return;
+            }
+        }
+
+        StalkerDaemon daemon = listen(port);
+        warmupSelf();
+        PrintStream out = System.out;
+        out.println(PORT_PREFIX + daemon.getPort());
+        out.println(TOKEN_PREFIX + daemon.getToken());
+        out.flush();
+        daemon.serve();
+    }
+
+    /**
+     * 测量一个空任务，使 Stalker 自身的测量、统计和编码代码在第一次测量请求之前就被 JIT 编译.
+     */
+    private static void warmupSelf() {
+        long start = System.nanoTime();
+        MeasureResult result = new MeasureRunnerContext(Options.of("stalker-daemon", SELF_WARMUP_RUNS).warmups(0))
+                .run(() -> { });
+        JvmStatsCodec.encode(result);
+        result.getMergeableResult().toBytes();
+        log.info("【Stalker 提示】守护 JVM 预热完毕，耗时【{} ms】.", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 获取监听的端口.
+     *
+     * @return 端口
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * 获取访问令牌，客户端发送测量请求时需要附带该令牌.
+     *
+     * @return 访问令牌
+     */
+    public String getToken() {
+        return this.token;
+    }
+
+    /**
+     * 在当前线程中依次接受并处理各个测量请求，直到守护 JVM 被关闭.
+     */
+    public void serve() {
+        while (!this.serverSocket.isClosed()) {
+            try (Socket socket = this.serverSocket.accept()) {
+                this.handle(socket);
+            } catch (IOException e) {
+                if (!this.serverSocket.isClosed()) {
+                    log.error("【Stalker 错误提示】守护 JVM【{}】处理测量请求时出错！", this.getPort(), e);
+                }
+            } catch (ThreadDeath e) {
+                throw e;
+            } catch (RuntimeException | Error e) {
+                log.error("【Stalker 错误提示】守护 JVM【{}】处理测量请求时出错！", this.getPort(), e);
+            }
+        }
+    }
+
+    /**
+     * 在后台的守护线程中依次接受并处理各个测量请求.
+     *
+     * @return 本守护 JVM 的服务端
+     */
+    public StalkerDaemon start() {
+        Thread thread = new Thread(this::serve, "stalker-daemon-" + this.getPort());
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * 处理一次测量请求.
+     *
+     * @param socket 与客户端之间的连接
+     * @throws IOException 通信出错时抛出
+     */
+    private void handle(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        Message message = RemoteProtocol.read(in);
+        if (message.type != RemoteProtocol.TASK) {
+            RemoteProtocol.writeText(out, RemoteProtocol.ERROR, "请求的第一条消息不是测量任务.");
+            return;
+        }
+
+        MeasureResult result;
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        try {
+            RemoteTask task = RemoteTask.ofBytes(message.payload);
+            if (!RemoteProtocol.isAuthorized(this.token, task.getToken())) {
+                log.warn("【Stalker 警示】守护 JVM【{}】拒绝了访问令牌不正确的测量请求.", this.getPort());
+                RemoteProtocol.writeText(out, RemoteProtocol.ERROR, "访问令牌不正确.");
+                return;
+            }
+
+            try (TaskClassLoader loader = new TaskClassLoader(toUrls(task.getClasspath()), contextLoader)) {
+                thread.setContextClassLoader(loader);
+                log.info("【Stalker 提示】守护 JVM 开始测量任务【{}】.", task.getTaskClass());
+                result = new MeasureRunnerContext(task.getOptions()).run(task.newRunnable());
+            }
+        } catch (ThreadDeath e) {
+            throw e;
+        } catch (Throwable e) {
+            // 待测量任务抛出的 Error（如栈溢出或找不到类）也只使本次请求失败，守护 JVM 继续处理后续的请求.
+            log.error("【Stalker 错误提示】守护 JVM【{}】运行测量任务时出错！", this.getPort(), e);
+            RemoteProtocol.writeText(out, RemoteProtocol.ERROR, e.getMessage() == null ? e.toString() : e.getMessage());
+            return;
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+
+        MergeableResult mergeableResult = result.getMergeableResult();
+        RemoteProtocol.write(out, RemoteProtocol.STATS, JvmStatsCodec.encode(result));
+        RemoteProtocol.write(out, RemoteProtocol.RESULT, mergeableResult == null
+                ? new MergeableResult().toBytes() : mergeableResult.toBytes());
+    }
+
+    /**
+     * 将类路径中的各个路径转换为 URL 数组.
+     *
+     * @param classpath 类路径
+     * @return URL 数组
+     */
+    private static URL[] toUrls(List<String> classpath) {
+        URL[] urls = new URL[classpath.size()];
+        for (int i = 0; i < urls.length; i++) {
+            try {
+                urls[i] = new File(classpath.get(i)).toURI().toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("【Stalker 参数异常】类路径【" + classpath.get(i) + "】不正确.", e);
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * 关闭守护 JVM 的服务端，不再接受新的测量请求.
+     */
+    @Override
+    public void close() {
+        try {
+            this.serverSocket.close();
+        } catch (IOException e) {
+            log.warn("【Stalker 警示】关闭守护 JVM【{}】时出错.", this.getPort(), e);
+        }
+    }
+
+    /**
+     * 加载待测量任务的类的类加载器，会优先从测量任务附带的类路径中加载类，找不到时再交给父类加载器加载，
+     * 使得守护 JVM 自身类路径中的旧版本的类不会覆盖重新编译后的类. 测量任务的类路径中通常也包含 Stalker 和 SLF4J，
+     * 这些类以及 JDK 的类仍然从父类加载器加载，以免出现与守护 JVM 自身同名但不兼容的类.
+     */
+    static final class TaskClassLoader extends URLClassLoader {
+
+        static {
+            ClassLoader.registerAsParallelCapable();
+        }
+
+        /**
+         * 构造方法.
+         *
+         * @param urls 测量任务附带的类路径
+         * @param parent 父类加载器
+         */
+        TaskClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        /**
+         * 优先从测量任务附带的类路径中加载类，JDK、Stalker 自身和 SLF4J 的类始终交给父类加载器加载.
+         *
+         * @param name 类名
+         * @param resolve 是否解析该类
+         * @return 类
+         * @throws ClassNotFoundException 找不到类时抛出
+         */
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> clazz = this.findLoadedClass(name);
+                if (clazz == null && !isParentFirst(name)) {
+                    try {
+                        clazz = this.findClass(name);
+                    } catch (ClassNotFoundException ignore) {
+                        // 测量任务附带的类路径中没有该类时，再交给父类加载器加载.
+                    }
+                }
+
+                if (clazz == null) {
+                    return super.loadClass(name, resolve);
+                }
+                if (resolve) {
+                    this.resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+
+        /**
+         * 判断该类是否总是交给父类加载器加载.
+         *
+         * @param name 类名
+         * @return 布尔值
+         */
+        private static boolean isParentFirst(String name) {
+            for (String prefix : PARENT_FIRST_PREFIXES) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.remote.RemoteProtocol.Message;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 向本机的 Stalker 守护 JVM（{@link StalkerDaemon}）发送测量请求的轻量客户端.
+ *
+ * <p>客户端只负责将选项参数、待测量任务和类路径发送给守护 JVM，并将守护 JVM 回复的测量结果按选项参数中的输出方式输出，
+ * 测量本身的预热和运行都在已预热的守护 JVM 中进行. 默认会将当前 JVM 的类路径（不包括 Stalker 自身所在的路径）作为测量任务的类路径，
+ * 因此重新编译待测量任务的类之后再次发送请求，就能测量到最新的代码. 每次请求都需要附带守护 JVM 启动时打印的访问令牌.</p>
+ *
+ * <p>也可以在命令行中使用：{@code java -cp stalker.jar com.blinkfox.stalker.remote.StalkerDaemonClient --port 端口
+ * --token 令牌 [--cp 类路径] [--runs 次数 | --seconds 秒数] [--concurrens 并发数] 类名或类名#方法名}.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see StalkerDaemon
+ * @since v1.3.0
+ */
+public final class StalkerDaemonClient {
+
+    /**
+     * 连接守护 JVM 的超时时间，单位毫秒(ms).
+     */
+    private static final int CONNECT_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * 守护 JVM 监听的端口.
+     */
+    private final int port;
+
+    /**
+     * 守护 JVM 的访问令牌.
+     */
+    private final String token;
+
+    /**
+     * 测量任务的类路径.
+     */
+    private List<String> classpath;
+
+    /**
+     * 构造方法.
+     *
+     * @param port 守护 JVM 监听的端口
+     * @param token 守护 JVM 的访问令牌
+     */
+    private StalkerDaemonClient(int port, String token) {
+        this.port = port;
+        this.token = token;
+        this.classpath = defaultClasspath();
+    }
+
+    /**
+     * 创建连接本机指定端口上的守护 JVM 的客户端.
+     *
+     * @param port 守护 JVM 监听的端口
+     * @param token 守护 JVM 启动时打印的访问令牌
+     * @return 客户端
+     */
+    public static StalkerDaemonClient of(int port, String token) {
+        if (port <= 0 || port > 65535) {
+            throw new IllegalArgumentException("【Stalker 参数异常】守护 JVM 的端口【" + port + "】不正确.");
+        }
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("【Stalker 参数异常】守护 JVM 的访问令牌不能为空.");
+        }
+        return new StalkerDaemonClient(port, token);
+    }
+
+    /**
+     * 设置测量任务的类路径，守护 JVM 会优先从这些路径中加载待测量任务的类.
+     *
+     * @param paths 目录或 jar 包的路径
+     * @return 本客户端
+     */
+    public StalkerDaemonClient classpath(String... paths) {
+        if (paths == null) {
+            throw new IllegalArgumentException("【Stalker 参数异常】测量任务的类路径不能为 null.");
+        }
+
+        List<String> list = new ArrayList<>(paths.length);
+        for (String path : paths) {
+            list.add(new File(path).getAbsolutePath());
+        }
+        this.classpath = list;
+        return this;
+    }
+
+    /**
+     * 命令行入口方法.
+     *
+     * @param args 参数
+     */
+    public static void main(String[] args) {
+        int port = 0;
+        String token = null;
+        String task = null;
+        List<String> paths = null;
+        int runs = 1;
+        long seconds = 0;
+        int concurrens = 1;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                task = arg;
+            } else if (i + 1 >= args.length) {
+                task = null;
+                break;
+            } else if ("--port".equals(arg)) {
+                port = Integer.parseInt(args[++i]);
+            } else if ("--token".equals(arg)) {
+                token = args[++i];
+            } else if ("--cp".equals(arg)) {
+                paths = Arrays.asList(args[++i].split(File.pathSeparator));
+            } else if ("--runs".equals(arg)) {
+                runs = Integer.parseInt(args[++i]);
+            } else if ("--seconds".equals(arg)) {
+                seconds = Long.parseLong(args[++i]);
+            } else if ("--concurrens".equals(arg)) {
+                concurrens = Integer.parseInt(args[++i]);
+            } else {
+                task = null;
+                break;
+            }
+        }
+
+        if (port == 0 || token == null || task == null) {
+            System.out.println("Usage: StalkerDaemonClient --port port --token token [--cp classpath] "
+                    + "[--runs runs | --seconds seconds] [--concurrens concurrens] task");
+            return;
+        }
+
+        Options options = seconds > 0
+                ? Options.ofDurationSeconds(seconds, concurrens)
+                : Options.of(concurrens, concurrens).runs(runs);
+        StalkerDaemonClient client = of(port, token);
+        if (paths != null) {
+            client.classpath(paths.toArray(new String[0]));
+        }
+        client.run(options.named(task), task);
+    }
+
+    /**
+     * 在守护 JVM 中测量待测量任务的性能，并将测量结果按选项参数中的输出方式输出.
+     *
+     * @param options 选项参数
+     * @param task 待测量任务的类名，或者 {@code 类名#方法名}
+     * @return 各个输出方式的输出结果
+     */
+    public List<Object> run(Options options, String task) {
+        return new MeasureOutputContext().output(options, this.runStatis(options, task));
+    }
+
+    /**
+     * 在守护 JVM 中测量待测量任务的性能，并返回测量结果.
+     *
+     * <p>守护 JVM 只会传回可合并的测量结果和 JVM 的内存分配及 GC 统计数据，各个监视器的监视数据不会传回.</p>
+     *
+     * @param options 选项参数
+     * @param task 待测量任务的类名（需要实现 {@link Runnable} 接口），或者 {@code 类名#方法名}（需要是公共的无参方法）
+     * @return 测量结果
+     */
+    public MeasureResult runStatis(Options options, String task) {
+        if (options == null || task == null || task.isEmpty()) {
+            throw new IllegalArgumentException("【Stalker 参数异常】options or task is null (or empty)!");
+        }
+        options.valid();
+
+        byte[] taskBytes = new RemoteTask(options, task, 0, this.classpath, this.token).toBytes();
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), this.port), CONNECT_TIMEOUT);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            RemoteProtocol.write(out, RemoteProtocol.TASK, taskBytes);
+
+            byte[] stats = null;
+            while (true) {
+                Message message = RemoteProtocol.read(in);
+                if (message.type == RemoteProtocol.STATS) {
+                    stats = message.payload;
+                } else if (message.type == RemoteProtocol.RESULT) {
+                    MeasureResult result = MergeableResult.ofBytes(message.payload).toMeasureResult();
+                    if (stats != null) {
+                        JvmStatsCodec.decodeTo(stats, result);
+                    }
+                    return result;
+                } else if (message.type == RemoteProtocol.ERROR) {
+                    throw new StalkerException("【Stalker 错误提示】守护 JVM 运行测量任务【" + task + "】时出错："
+                            + message.getText());
+                }
+            }
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】与端口为【" + this.port + "】的守护 JVM 通信时出错！", e);
+        }
+    }
+
+    /**
+     * 获取当前 JVM 的类路径中除了 Stalker 自身所在路径之外的各个路径.
+     *
+     * @return 类路径
+     */
+    static List<String> defaultClasspath() {
+        String self;
+        try {
+            self = new File(StalkerDaemonClient.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .getAbsolutePath();
+        } catch (URISyntaxException | RuntimeException e) {
+            self = null;
+        }
+
+        List<String> paths = new ArrayList<>();
+        for (String path : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            String absolutePath = new File(path).getAbsolutePath();
+            if (!path.isEmpty() && !absolutePath.equals(self)) {
+                paths.add(absolutePath);
+            }
+        }
+        return paths;
+    }
+
+}
@@ -0,0 +1,363 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.remote.RemoteProtocol.Message;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.result.StalkerFuture;
+import com.blinkfox.stalker.runner.MeasureRunnerContext;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在单独的 JVM 中接收并运行协调者（{@link StalkerCoordinator}）分发的测量任务的工作节点.
+ *
+ * <p>工作节点监听一个 TCP 端口，每个连接就是一次测量任务的会话：收到测量任务后先加载待测量任务的类并预热，
+ * 然后等待协调者的开始信号，使得各个工作节点能同时开始正式测量；正式测量期间会定时将累计的可合并测量结果汇报给协调者.
+ * 会话的协议见 {@link RemoteProtocol}.</p>
+ *
+ * <p>由于测量任务会让工作节点运行其类路径中的代码，工作节点只运行附带了正确访问令牌的测量任务. 访问令牌从环境变量
+ * {@code STALKER_WORKER_TOKEN} 中读取，没有设置该环境变量时会随机生成一个，并在标准输出中打印 {@code STALKER_WORKER_TOKEN=令牌} 一行，
+ * 协调者需要通过 {@link StalkerCoordinator#token(String)} 设置该令牌.</p>
+ *
+ * <p>使用方式：{@code java -cp stalker.jar:tasks.jar com.blinkfox.stalker.remote.StalkerWorker [--port 端口]
+ * [--bind 地址 | --once]}，端口为 {@code 0} 时会随机选择一个可用的端口，启动后会在标准输出中打印 {@code STALKER_WORKER_PORT=端口}
+ * 一行；使用 {@code --once} 时只运行一次会话就退出，并且必须通过环境变量指定访问令牌，协调者在本机启动的工作节点就是这种方式.
+ * 工作节点默认只监听本机回环地址，供其他机器上的协调者连接的工作节点需要通过 {@code --bind} 显式指定监听的地址（如 {@code 0.0.0.0}），
+ * 访问令牌在网络中是明文传输的，请只在可信的网络中这样使用.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see StalkerCoordinator
+ * @since v1.3.0
+ */
+@Slf4j
+public final class StalkerWorker implements Closeable {
+
+    /**
+     * 检查测量任务是否完成的时间间隔，单位纳秒(ns).
+     */
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * 监听的服务端套接字.
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * 是否只运行一次会话.
+     */
+    private final boolean once;
+
+    /**
+     * 访问令牌，测量任务中附带的令牌与之相同时才会运行该测量任务.
+     */
+    private final String token;
+
+    /**
+     * 构造方法.
+     *
+     * @param serverSocket 监听的服务端套接字
+     * @param once 是否只运行一次会话
+     * @param token 访问令牌
+     */
+    private StalkerWorker(ServerSocket serverSocket, boolean once, String token) {
+        this.serverSocket = serverSocket;
+        this.once = once;
+        this.token = token;
+    }
+
+    /**
+     * 在本机回环地址的指定端口上监听，创建只供本机的协调者连接的工作节点，访问令牌是随机生成的.
+     *
+     * @param port 端口，为 {@code 0} 时随机选择一个可用的端口
+     * @param once 是否只运行一次会话
+     * @return 工作节点
+     */
+    public static StalkerWorker listen(int port, boolean once) {
+        return listen(InetAddress.getLoopbackAddress(), port, once);
+    }
+
+    /**
+     * 在指定地址的指定端口上监听，创建工作节点，访问令牌是随机生成的.
+     *
+     * @param bindAddress 监听的地址，为 {@code null} 时监听所有的网络接口
+     * @param port 端口，为 {@code 0} 时随机选择一个可用的端口
+     * @param once 是否只运行一次会话
+     * @return 工作节点
+     */
+    public static StalkerWorker listen(InetAddress bindAddress, int port, boolean once) {
+        return listen(bindAddress, port, once, RemoteProtocol.newToken());
+    }
+
+    /**
+     * 在指定地址的指定端口上监听，创建使用指定访问令牌的工作节点.
+     *
+     * @param bindAddress 监听的地址，为 {@code null} 时监听所有的网络接口
+     * @param port 端口，为 {@code 0} 时随机选择一个可用的端口
+     * @param once 是否只运行一次会话
+     * @param token 访问令牌，不能为空
+     * @return 工作节点
+     */
+    public static StalkerWorker listen(InetAddress bindAddress, int port, boolean once, String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("【Stalker 参数异常】工作节点的访问令牌不能为空.");
+        }
+
+        try {
+            return new StalkerWorker(new ServerSocket(port, 50, bindAddress), once, token);
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】工作节点监听地址【" + bindAddress + "】的端口【" + port + "】失败！", e);
+        }
+    }
+
+    /**
+     * 命令行入口方法.
+     *
+     * @param args 参数，支持 {@code --port 端口}、{@code --bind 地址} 和 {@code --once}，{@code --bind} 不能与 {@code --once} 同时使用，
+     *      使用 {@code --once} 时必须通过环境变量 {@code STALKER_WORKER_TOKEN} 指定访问令牌
+     */
+    public static void main(String[] args) {
+        int port = 0;
+        String bind = null;
+        boolean once = false;
+        boolean valid = true;
+        for (int i = 0; i < args.length && valid; i++) {
+            if ("--port".equals(args[i]) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if ("--bind".equals(args[i]) && i + 1 < args.length) {
+                bind = args[++i];
+            } else if ("--once".equals(args[i])) {
+                once = true;
+            } else {
+                valid = false;
+            }
+        }
+
+        String envToken = System.getenv(RemoteProtocol.TOKEN_ENV);
+        boolean generated = envToken == null || envToken.isEmpty();
+        if (!valid || (once && (bind != null || generated))) {
+            System.out.println("Usage: StalkerWorker [--port port] [--bind address | --once], "
+                    + "--once requires the environment variable " + RemoteProtocol.TOKEN_ENV);
+            return;
+        }
+
+        StalkerWorker worker;
+        String token = generated ? RemoteProtocol.newToken() : envToken;
+        try {
+            worker = listen(bind == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(bind), port, once,
+                    token);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("【Stalker 参数异常】工作节点监听的地址【" + bind + "】不正确.", e);
+        }
+        PrintStream out = System.out;
+        out.println(RemoteProtocol.PORT_PREFIX + worker.getPort());
+        if (generated) {
+            out.println(RemoteProtocol.TOKEN_PREFIX + token);
+        }
+        out.flush();
+        worker.serve();
+    }
+
+    /**
+     * 获取监听的端口.
+     *
+     * @return 端口
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * 获取访问令牌，协调者分发的测量任务中需要附带该令牌.
+     *
+     * @return 访问令牌
+     */
+    public String getToken() {
+        return this.token;
+    }
+
+    /**
+     * 在当前线程中依次接受并处理各个会话，直到工作节点被关闭，或者只运行一次会话时该会话结束.
+     */
+    public void serve() {
+        while (!this.serverSocket.isClosed()) {
+            try {
+                Socket socket = this.serverSocket.accept();
+                log.info("【Stalker 提示】工作节点【{}】接受了协调者【{}】的连接.", this.getPort(),
+                        socket.getRemoteSocketAddress());
+                this.handle(socket);
+            } catch (IOException e) {
+                if (!this.serverSocket.isClosed()) {
+                    log.error("【Stalker 错误提示】工作节点【{}】处理会话时出错！", this.getPort(), e);
+                }
+            } catch (ThreadDeath e) {
+                throw e;
+            } catch (RuntimeException | Error e) {
+                // 待测量任务在预热或测量时抛出的 Error 只会结束本次会话，工作节点继续接受后续的会话.
+                log.error("【Stalker 错误提示】工作节点【{}】处理会话时出错！", this.getPort(), e);
+            }
+
+            if (this.once) {
+                this.close();
+            }
+        }
+    }
+
+    /**
+     * 在后台的守护线程中依次接受并处理各个会话.
+     *
+     * @return 本工作节点
+     */
+    public StalkerWorker start() {
+        Thread thread = new Thread(this::serve, "stalker-worker-" + this.getPort());
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * 处理一次测量任务的会话.
+     *
+     * @param socket 与协调者之间的连接
+     * @throws IOException 通信出错时抛出
+     */
+    private void handle(Socket socket) throws IOException {
+        try (Socket s = socket;
+                DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()))) {
+            Message message = RemoteProtocol.read(in);
+            if (message.type != RemoteProtocol.TASK) {
+                RemoteProtocol.writeText(out, RemoteProtocol.ERROR, "会话的第一条消息不是测量任务.");
+                return;
+            }
+
+            // 解码并加载待测量的任务，出错时将错误信息回复给协调者.
+            RemoteTask task;
+            Runnable runnable;
+            try {
+                task = RemoteTask.ofBytes(message.payload);
+                if (!RemoteProtocol.isAuthorized(this.token, task.getToken())) {
+                    log.warn("【Stalker 警示】工作节点【{}】拒绝了访问令牌不正确的测量任务.", this.getPort());
+                    RemoteProtocol.writeText(out, RemoteProtocol.ERROR, "访问令牌不正确.");
+                    return;
+                }
+                task.getOptions().valid();
+                runnable = task.newRunnable();
+            } catch (RuntimeException e) {
+                log.error("【Stalker 错误提示】工作节点【{}】加载测量任务时出错！", this.getPort(), e);
+                RemoteProtocol.writeText(out, RemoteProtocol.ERROR, e.getMessage());
+                return;
+            }
+
+            // 预热完毕后回复就绪，并等待协调者的开始信号.
+            Options options = task.getOptions();
+            MeasureRunnerContext.warmup(options, runnable);
+            RemoteProtocol.write(out, RemoteProtocol.READY, new byte[0]);
+            if (RemoteProtocol.read(in).type != RemoteProtocol.START) {
+                return;
+            }
+
+            StalkerFuture future = MeasureRunnerContext.submit(options.warmups(0), runnable);
+            watchStop(in, future);
+            report(out, future, task.getReportInterval());
+        }
+    }
+
+    /**
+     * 在后台的守护线程中等待协调者的停止信号，收到停止信号或者与协调者的连接断开时就取消正在运行的测量任务.
+     *
+     * @param in 输入流
+     * @param future 正在运行的测量任务
+     */
+    private static void watchStop(DataInputStream in, StalkerFuture future) {
+        Thread thread = new Thread(() -> {
+            try {
+                while (RemoteProtocol.read(in).type != RemoteProtocol.STOP) {
+                    log.debug("【Stalker 提示】工作节点忽略了正式测量期间的非停止消息.");
+                }
+                log.info("【Stalker 提示】工作节点收到了协调者的停止信号，将停止正在运行的测量任务.");
+            } catch (IOException e) {
+                if (!future.isDone()) {
+                    log.warn("【Stalker 警示】工作节点与协调者的连接已断开，将停止正在运行的测量任务.");
+                }
+            }
+            future.cancel();
+        }, "stalker-worker-stop-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 在正式测量期间定时汇报累计的可合并测量结果，结束时汇报 JVM 的统计数据和最终的测量结果.
+     *
+     * @param out 输出流
+     * @param future 正在运行的测量任务
+     * @param reportInterval 汇报的时间间隔，单位纳秒(ns)
+     * @throws IOException 通信出错时抛出
+     */
+    private static void report(DataOutputStream out, StalkerFuture future, long reportInterval) throws IOException {
+        try {
+            long next = System.nanoTime() + reportInterval;
+            while (!future.isDone()) {
+                LockSupport.parkNanos(CHECK_INTERVAL_NANOS);
+                if (System.nanoTime() >= next && !future.isDone()) {
+                    RemoteProtocol.write(out, RemoteProtocol.INTERVAL, toBytes(future.getMeasureResult()));
+                    next += reportInterval;
+                }
+            }
+            MeasureResult result = future.getMeasureResult();
+            RemoteProtocol.write(out, RemoteProtocol.STATS, JvmStatsCodec.encode(result));
+            RemoteProtocol.write(out, RemoteProtocol.RESULT, toBytes(result));
+        } finally {
+            future.cancel();
+        }
+    }
+
+    /**
+     * 将测量结果中的可合并测量结果编码为字节数组.
+     *
+     * @param result 测量结果
+     * @return 字节数组
+     */
+    private static byte[] toBytes(MeasureResult result) {
+        MergeableResult mergeableResult = result.getMergeableResult();
+        return mergeableResult == null ? new MergeableResult().toBytes() : mergeableResult.toBytes();
+    }
+
+    /**
+     * 获取可以连接到本工作节点的地址和监听的端口，如：{@code 127.0.0.1:9000}，监听所有网络接口时返回本机回环地址.
+     *
+     * @return 地址字符串
+     */
+    public String getAddress() {
+        InetAddress address = this.serverSocket.getInetAddress();
+        return (address.isAnyLocalAddress() ? InetAddress.getLoopbackAddress() : address).getHostAddress()
+                + ":" + this.getPort();
+    }
+
+    /**
+     * 关闭工作节点，不再接受新的会话.
+     */
+    @Override
+    public void close() {
+        try {
+            this.serverSocket.close();
+        } catch (IOException e) {
+            log.warn("【Stalker 警示】关闭工作节点【{}】时出错.", this.getPort(), e);
+        }
+    }
+
+}
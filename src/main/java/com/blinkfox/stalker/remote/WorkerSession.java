@@ -0,0 +1,491 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.remote.RemoteProtocol.Message;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import com.blinkfox.stalker.result.WorkerResult.Status;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 协调者与单个工作节点之间的会话，负责启动或连接工作节点、分发测量任务、等待就绪和接收汇报的测量结果.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+final class WorkerSession {
+
+    /**
+     * 正式测量期间，连续多少个汇报间隔都未收到汇报时，就认为工作节点已失去响应.
+     */
+    private static final int MISSED_REPORTS = 5;
+
+    /**
+     * 正式测量期间，两次汇报之间的最小超时时间，单位纳秒(ns).
+     */
+    private static final long MIN_REPORT_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 保留的工作节点进程最近输出的行数.
+     */
+    private static final int OUTPUT_TAIL_LINES = 5;
+
+    /**
+     * 工作节点的地址，在本机启动的工作节点为其名称.
+     */
+    private final String worker;
+
+    /**
+     * 在本机启动工作节点进程的命令，连接已有的工作节点时为 {@code null}.
+     */
+    private final List<String> command;
+
+    /**
+     * 在本机启动的工作节点进程的访问令牌，会通过环境变量传递给该进程，连接已有的工作节点时为 {@code null}.
+     */
+    private final String token;
+
+    /**
+     * 在本机启动的工作节点进程.
+     */
+    private Process process;
+
+    /**
+     * 与工作节点之间的连接.
+     */
+    private Socket socket;
+
+    /**
+     * 输入流.
+     */
+    private DataInputStream in;
+
+    /**
+     * 输出流.
+     */
+    private DataOutputStream out;
+
+    /**
+     * 工作节点的状态.
+     */
+    private volatile Status status = Status.CONNECTING;
+
+    /**
+     * 失败的原因.
+     */
+    private volatile String error;
+
+    /**
+     * 工作节点最近一次汇报的累计测量结果.
+     */
+    private volatile MergeableResult latest;
+
+    /**
+     * 工作节点在正式测量结束时汇报的编码后的 JVM 统计数据.
+     */
+    private volatile byte[] stats;
+
+    /**
+     * 在本机启动的工作节点进程最近输出的若干行，用于在进程意外退出时说明原因.
+     */
+    private final Deque<String> outputTail = new ArrayDeque<>();
+
+    /**
+     * 连接已有的工作节点的构造方法.
+     *
+     * @param worker 工作节点的地址，如：{@code 127.0.0.1:9000}
+     */
+    WorkerSession(String worker) {
+        this.worker = worker;
+        this.command = null;
+        this.token = null;
+    }
+
+    /**
+     * 在本机启动工作节点进程的构造方法.
+     *
+     * @param name 工作节点的名称
+     * @param command 启动工作节点进程的命令
+     * @param token 工作节点进程的访问令牌，需要与分发的测量任务中的令牌相同
+     */
+    WorkerSession(String name, List<String> command, String token) {
+        this.worker = name;
+        this.command = command;
+        this.token = token;
+    }
+
+    /**
+     * 根据汇报测量结果的时间间隔计算出正式测量期间两次汇报之间的超时时间.
+     *
+     * @param reportInterval 汇报测量结果的时间间隔，单位纳秒(ns)
+     * @return 超时时间，单位纳秒(ns)
+     */
+    static long toReportTimeout(long reportInterval) {
+        return Math.max(MIN_REPORT_TIMEOUT, reportInterval * MISSED_REPORTS);
+    }
+
+    /**
+     * 构造在本机启动工作节点进程的命令，工作节点进程会使用与当前 JVM 相同的 {@code java} 命令和类路径，并且只运行一次会话；
+     * 访问令牌不在命令中，而是在启动进程时通过环境变量传递，以免被本机的其他用户从进程列表中看到.
+     *
+     * @param jvmArgs JVM 参数
+     * @return 命令
+     */
+    static List<String> buildLocalCommand(List<String> jvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StalkerWorker.class.getName());
+        command.add("--once");
+        return command;
+    }
+
+    /**
+     * 在本机启动工作节点进程（如果需要的话），并连接到工作节点.
+     *
+     * @param timeoutNanos 超时时间，单位纳秒(ns)
+     * @throws IOException 启动或连接出错时抛出
+     */
+    void connect(long timeoutNanos) throws IOException {
+        String address = this.command == null ? this.worker : this.startProcess(timeoutNanos);
+        int index = address.lastIndexOf(':');
+        if (index <= 0) {
+            throw new IOException("工作节点的地址【" + address + "】不是【主机:端口】的格式.");
+        }
+
+        Socket newSocket = new Socket();
+        newSocket.setTcpNoDelay(true);
+        newSocket.connect(new InetSocketAddress(address.substring(0, index),
+                Integer.parseInt(address.substring(index + 1))), (int) TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+        this.socket = newSocket;
+        this.in = new DataInputStream(new BufferedInputStream(newSocket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(newSocket.getOutputStream()));
+    }
+
+    /**
+     * 在本机启动工作节点进程，并通过环境变量传递访问令牌，然后从其标准输出中读取所监听的端口，之后的输出会被持续读取并以调试级别的日志输出.
+     *
+     * @param timeoutNanos 超时时间，单位纳秒(ns)
+     * @return 工作节点的地址
+     * @throws IOException 启动出错或者超时时抛出
+     */
+    private String startProcess(long timeoutNanos) throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(this.command).redirectErrorStream(true);
+        builder.environment().put(RemoteProtocol.TOKEN_ENV, this.token);
+        this.process = builder.start();
+        final CompletableFuture<String> portFuture = new CompletableFuture<>();
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(this.process.getInputStream(), StandardCharsets.UTF_8));
+        final String name = this.worker;
+        Thread thread = new Thread(() -> {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!portFuture.isDone() && line.startsWith(RemoteProtocol.PORT_PREFIX)) {
+                        portFuture.complete(line.substring(RemoteProtocol.PORT_PREFIX.length()).trim());
+                    } else {
+                        log.debug("【Stalker 提示】工作节点【{}】的输出：{}", name, line);
+                        this.appendOutput(line);
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("【Stalker 提示】读取工作节点【{}】的输出时出错.", name, e);
+            }
+            portFuture.completeExceptionally(new IOException("工作节点进程在打印监听端口之前就已退出"
+                    + this.getOutputTail()));
+        }, "stalker-worker-output");
+        thread.setDaemon(true);
+        thread.start();
+
+        try {
+            return InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                    + portFuture.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("等待工作节点进程启动超时.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("等待工作节点进程启动时被中断.", e);
+        } catch (Exception e) {
+            throw new IOException(e.getCause() == null ? e.getMessage() : e.getCause().getMessage(), e);
+        }
+    }
+
+    /**
+     * 分发测量任务，并等待工作节点预热完毕后回复就绪.
+     *
+     * @param task 编码后的测量任务
+     * @param timeoutNanos 超时时间，单位纳秒(ns)
+     * @throws IOException 通信出错、超时或者工作节点回复出错时抛出
+     */
+    void sendTaskAndAwaitReady(byte[] task, long timeoutNanos) throws IOException {
+        RemoteProtocol.write(this.out, RemoteProtocol.TASK, task);
+        this.socket.setSoTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+        Message message = this.readMessage("等待工作节点就绪超时.");
+        if (message.type == RemoteProtocol.ERROR) {
+            throw new IOException(message.getText());
+        } else if (message.type != RemoteProtocol.READY) {
+            throw new IOException("工作节点回复了非就绪的消息【" + message.type + "】.");
+        }
+    }
+
+    /**
+     * 发送开始正式测量的信号，本会话已经被停止或者已经失败时不会再开始.
+     *
+     * @return 是否开始了正式测量
+     * @throws IOException 通信出错时抛出
+     */
+    synchronized boolean start() throws IOException {
+        if (this.status != Status.CONNECTING) {
+            return false;
+        }
+
+        this.status = Status.RUNNING;
+        RemoteProtocol.write(this.out, RemoteProtocol.START, new byte[0]);
+        return true;
+    }
+
+    /**
+     * 在当前线程中持续接收工作节点汇报的测量结果，直到收到最终的测量结果，超时未收到汇报时认为工作节点已失去响应.
+     *
+     * @param timeoutNanos 两次汇报之间的超时时间，单位纳秒(ns)
+     * @param stopped 是否已被协调者停止，用于确定收到最终测量结果时的状态
+     * @throws IOException 通信出错、超时或者工作节点回复出错时抛出
+     */
+    void receive(long timeoutNanos, BooleanSupplier stopped) throws IOException {
+        this.socket.setSoTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+        while (true) {
+            Message message = this.readMessage("超过【" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                    + " ms】未收到工作节点汇报的测量结果.");
+            if (message.type == RemoteProtocol.ERROR) {
+                throw new IOException(message.getText());
+            } else if (message.type == RemoteProtocol.STATS) {
+                this.stats = this.checkStats(message.payload);
+            } else if (message.type == RemoteProtocol.INTERVAL || message.type == RemoteProtocol.RESULT) {
+                this.latest = this.decode(message.payload);
+                if (message.type == RemoteProtocol.RESULT) {
+                    this.status = stopped.getAsBoolean() ? Status.STOPPED : Status.DONE;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 读取一条消息，并将读取超时和连接关闭转换为含义明确的异常.
+     *
+     * @param timeoutMessage 读取超时时的错误信息
+     * @return 消息
+     * @throws IOException 通信出错、超时或者连接关闭时抛出
+     */
+    private Message readMessage(String timeoutMessage) throws IOException {
+        try {
+            return RemoteProtocol.read(this.in);
+        } catch (SocketTimeoutException e) {
+            throw new IOException(timeoutMessage, e);
+        } catch (EOFException e) {
+            throw new IOException(this.isProcessExited()
+                    ? "工作节点进程已退出，退出码为【" + this.process.exitValue() + "】" + this.getOutputTail()
+                    : "工作节点关闭了连接.", e);
+        }
+    }
+
+    /**
+     * 记录工作节点进程输出的一行，只保留最近的若干行.
+     *
+     * @param line 输出的行
+     */
+    private void appendOutput(String line) {
+        synchronized (this.outputTail) {
+            if (this.outputTail.size() >= OUTPUT_TAIL_LINES) {
+                this.outputTail.removeFirst();
+            }
+            this.outputTail.addLast(line);
+        }
+    }
+
+    /**
+     * 获取工作节点进程最近输出的若干行，用于拼接在错误信息的末尾，没有输出时只返回句号.
+     *
+     * @return 字符串
+     */
+    private String getOutputTail() {
+        synchronized (this.outputTail) {
+            return this.outputTail.isEmpty() ? "." : "，最近的输出为：" + String.join(" | ", this.outputTail);
+        }
+    }
+
+    /**
+     * 判断在本机启动的工作节点进程是否已经退出，连接断开时进程可能还在退出中，所以最多会等待 {@code 1} 秒.
+     *
+     * @return 布尔值
+     */
+    private boolean isProcessExited() {
+        try {
+            return this.process != null && this.process.waitFor(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 解码工作节点汇报的测量结果.
+     *
+     * @param payload 消息体
+     * @return 可合并的测量结果
+     * @throws IOException 测量结果的编码已损坏时抛出
+     */
+    private MergeableResult decode(byte[] payload) throws IOException {
+        try {
+            return MergeableResult.ofBytes(payload);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 检查工作节点汇报的 JVM 统计数据是否能被正确解码.
+     *
+     * @param payload 消息体
+     * @return 消息体
+     * @throws IOException JVM 统计数据的编码已损坏时抛出
+     */
+    private byte[] checkStats(byte[] payload) throws IOException {
+        try {
+            JvmStatsCodec.decodeTo(payload, new MeasureResult());
+            return payload;
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 停止本会话：还没开始正式测量时直接标记为已停止，正在正式测量时向工作节点发送停止信号，并忽略发送时的错误.
+     */
+    synchronized void stop() {
+        if (this.status == Status.CONNECTING) {
+            this.status = Status.STOPPED;
+            return;
+        } else if (this.status != Status.RUNNING) {
+            return;
+        }
+
+        try {
+            RemoteProtocol.write(this.out, RemoteProtocol.STOP, new byte[0]);
+        } catch (IOException e) {
+            log.debug("【Stalker 提示】向工作节点【{}】发送停止信号时出错.", this.worker, e);
+        }
+    }
+
+    /**
+     * 将本会话标记为失败.
+     *
+     * @param reason 失败的原因
+     */
+    synchronized void fail(String reason) {
+        this.error = reason;
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * 判断本会话是否已经结束.
+     *
+     * @return 布尔值
+     */
+    boolean isFinished() {
+        return this.status == Status.DONE || this.status == Status.STOPPED || this.status == Status.FAILED;
+    }
+
+    /**
+     * 获取工作节点的地址.
+     *
+     * @return 工作节点的地址
+     */
+    String getWorker() {
+        return this.worker;
+    }
+
+    /**
+     * 获取工作节点的状态.
+     *
+     * @return 状态
+     */
+    Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * 获取工作节点最近一次汇报的累计测量结果.
+     *
+     * @return 可合并的测量结果，还没有汇报时为 {@code null}
+     */
+    MergeableResult getLatest() {
+        return this.latest;
+    }
+
+    /**
+     * 获取工作节点的状态和测量结果的快照.
+     *
+     * @return {@link WorkerResult} 实例
+     */
+    WorkerResult toWorkerResult() {
+        MergeableResult currLatest = this.latest;
+        MeasureResult result = currLatest == null ? null : currLatest.toMeasureResult();
+        byte[] currStats = this.stats;
+        if (result != null && currStats != null) {
+            JvmStatsCodec.decodeTo(currStats, result);
+        }
+        return new WorkerResult(this.worker, this.status, this.error, result);
+    }
+
+    /**
+     * 关闭与工作节点之间的连接，并等待在本机启动的工作节点进程退出，超时未退出时强制结束该进程.
+     */
+    void close() {
+        try {
+            if (this.socket != null) {
+                this.socket.close();
+            }
+        } catch (IOException e) {
+            log.debug("【Stalker 提示】关闭与工作节点【{}】的连接时出错.", this.worker, e);
+        }
+
+        Process currProcess = this.process;
+        if (currProcess != null) {
+            try {
+                if (!currProcess.waitFor(5, TimeUnit.SECONDS)) {
+                    currProcess.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                currProcess.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
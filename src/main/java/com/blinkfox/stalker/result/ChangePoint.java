@@ -0,0 +1,87 @@
+package com.blinkfox.stalker.result;
+
+import com.blinkfox.stalker.kit.StrKit;
+import lombok.Getter;
+
+/**
+ * 正式测量期间吞吐量或平均耗时发生显著突变的变点，如缓存开始淘汰时吞吐量的阶跃式下降.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class ChangePoint {
+
+    /**
+     * 是否为平均耗时的变点，否则为吞吐量的变点.
+     */
+    private final boolean latency;
+
+    /**
+     * 发生突变的时刻相对于正式测量开始时刻的偏移量，单位纳秒(ns).
+     */
+    private final long offset;
+
+    /**
+     * 突变之前的均值，吞吐量的单位为每秒执行次数，平均耗时的单位为纳秒(ns).
+     */
+    private final double before;
+
+    /**
+     * 突变之后的均值，吞吐量的单位为每秒执行次数，平均耗时的单位为纳秒(ns).
+     */
+    private final double after;
+
+    /**
+     * 构造方法.
+     *
+     * @param latency 是否为平均耗时的变点
+     * @param offset 发生突变的时刻的偏移量
+     * @param before 突变之前的均值
+     * @param after 突变之后的均值
+     */
+    public ChangePoint(boolean latency, long offset, double before, double after) {
+        this.latency = latency;
+        this.offset = offset;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * 获取发生突变的指标名称.
+     *
+     * @return 指标名称
+     */
+    public String getMetric() {
+        return this.latency ? "Latency" : "Throughput";
+    }
+
+    /**
+     * 获取突变之后的均值相对于突变之前的变化百分比.
+     *
+     * @return 百分比，如 {@code -35.2} 表示下降了 {@code 35.2%}
+     */
+    public double getChangePercent() {
+        return this.before == 0 ? 0 : (this.after - this.before) * 100.0 / this.before;
+    }
+
+    /**
+     * 判断本变点是否为性能的退化，即吞吐量下降或平均耗时上升.
+     *
+     * @return 布尔值
+     */
+    public boolean isDegraded() {
+        return this.latency ? this.after > this.before : this.after < this.before;
+    }
+
+    /**
+     * 获取易于人阅读的指标值的字符串.
+     *
+     * @param value 吞吐量或平均耗时的值
+     * @return 字符串
+     */
+    public String toEasyRead(double value) {
+        return this.latency ? StrKit.convertTime(value) : StrKit.roundToString(value) + "/s";
+    }
+
+}
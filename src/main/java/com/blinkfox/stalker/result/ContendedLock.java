@@ -0,0 +1,35 @@
+package com.blinkfox.stalker.result;
+
+import lombok.Getter;
+
+/**
+ * 线程状态采样中测量线程被阻塞或等待的锁，及其被采样到的次数.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class ContendedLock {
+
+    /**
+     * 锁的名称，格式为 {@code 类全名@十六进制的哈希值}，如：{@code java.lang.Object@1b6d3586}.
+     */
+    private final String lockName;
+
+    /**
+     * 测量线程阻塞或等待在该锁上的采样次数.
+     */
+    private final long samples;
+
+    /**
+     * 构造方法.
+     *
+     * @param lockName 锁的名称
+     * @param samples 采样次数
+     */
+    public ContendedLock(String lockName, long samples) {
+        this.lockName = lockName;
+        this.samples = samples;
+    }
+
+}
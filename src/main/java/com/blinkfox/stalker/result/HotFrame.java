@@ -0,0 +1,42 @@
+package com.blinkfox.stalker.result;
+
+import lombok.Getter;
+
+/**
+ * 采样分析中的热点栈帧，即采样到的调用栈中出现次数较多的方法.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class HotFrame {
+
+    /**
+     * 栈帧，格式为 {@code 类全名.方法名}.
+     */
+    private final String frame;
+
+    /**
+     * 该栈帧位于调用栈顶部（即正在执行该方法本身的代码）的采样次数.
+     */
+    private final long selfSamples;
+
+    /**
+     * 调用栈中包含该栈帧（即正在执行该方法或其调用的方法）的采样次数.
+     */
+    private final long totalSamples;
+
+    /**
+     * 构造方法.
+     *
+     * @param frame 栈帧
+     * @param selfSamples 位于栈顶的采样次数
+     * @param totalSamples 包含该栈帧的采样次数
+     */
+    public HotFrame(String frame, long selfSamples, long totalSamples) {
+        this.frame = frame;
+        this.selfSamples = selfSamples;
+        this.totalSamples = totalSamples;
+    }
+
+}
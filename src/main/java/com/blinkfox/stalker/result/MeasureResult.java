@@ -1,6 +1,9 @@
 package com.blinkfox.stalker.result;
 
+import com.blinkfox.stalker.kit.MathKit;
 import com.blinkfox.stalker.kit.StrKit;
+import java.util.Collections;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -17,67 +20,746 @@ import lombok.experimental.Accessors;
 @Accessors(chain = true)
 public class MeasureResult {
 
+    /**
+     * 正式测量期间的 JIT 编译耗时占运行总耗时的比例超过此阈值时，就认为测量期间仍有明显的 JIT 编译活动.
+     *
+     * @since v1.3.0
+     */
+    public static final double JIT_SIGNIFICANT_RATIO = 0.1;
+
+    /**
+     * 耗时不小于 {@code p99} 的尾部样本中与 GC 停顿重叠的样本的比例（百分比）超过此阈值时，就认为耗时的长尾主要是由 GC 引起的.
+     *
+     * @since v1.3.0
+     */
+    public static final double GC_TAIL_SIGNIFICANT_PERCENT = 50;
+
+    /**
+     * 测量线程平均每秒的被动上下文切换次数超过此阈值时，就认为测量线程频繁地被其他线程或进程抢占了 CPU.
+     *
+     * @since v1.3.0
+     */
+    public static final double NOISY_INVOLUNTARY_SWITCHES_PER_SECOND = 100;
+
+    /**
+     * 测量期间 CPU 平均频率的最低值相对于开始时下降的比例超过此阈值时，就认为 CPU 发生了明显的降频.
+     *
+     * @since v1.3.0
+     */
+    public static final double NOISY_FREQUENCY_DROP_RATIO = 0.1;
+
+    /**
+     * 各个子 JVM 的平均耗时之间的变异系数（百分比）不小于此阈值时，就认为子 JVM 之间的差异显著.
+     *
+     * @since v1.3.0
+     */
+    public static final double FORK_CV_THRESHOLD = 5;
+
+    /**
+     * 各次迭代的平均耗时的 95% 置信区间的半径不小于单次测量的 95% 置信区间半径的此倍数时，就认为单次测量的置信区间明显偏窄.
+     *
+     * @since v1.3.0
+     */
+    public static final double ITERATION_CI_RATIO = 2;
+
     /**
      * 测量代码在执行过程中所消耗的总耗时，单位为纳秒(ns).
      */
-    protected long costs;
+    protected long costs;
+
+    /**
+     * 总次数.
+     */
+    protected long total;
+
+    /**
+     * 测量过程中执行成功的次数.
+     */
+    protected long success;
+
+    /**
+     * 测量过程中执行失败的次数.
+     */
+    protected long failure;
+
+    /**
+     * 吞吐率，指单位时间内（每秒）的执行总次数，即：{@code throughput = total / (costs / 10^9)}.
+     *
+     * @since v1.1.1
+     */
+    protected double throughput;
+
+    /**
+     * 总耗时.
+     */
+    protected long sum;
+
+    /**
+     * 平均耗时.
+     */
+    protected long avg;
+
+    /**
+     * 最小耗时.
+     */
+    protected long min;
+
+    /**
+     * 最大耗时.
+     */
+    protected long max;
+
+    /**
+     * 标准差.
+     */
+    protected double stdDev;
+
+    /**
+     * 95%置信区间下限.
+     */
+    protected double lowerConfidence;
+
+    /**
+     * 95%置信区间上限.
+     */
+    protected double upperConfidence;
+
+    /**
+     * 是否统计了测量期间的内存分配和 GC 数据.
+     *
+     * @since v1.3.0
+     */
+    protected boolean memoryTracked;
+
+    /**
+     * 测量线程在测量期间分配的总字节数，如果当前 JVM 不支持统计线程的内存分配量，则为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long allocatedBytes;
+
+    /**
+     * 平均每次运行分配的字节数，即：{@code allocatedBytesPerOp = allocatedBytes / total}.
+     *
+     * @since v1.3.0
+     */
+    protected double allocatedBytesPerOp;
+
+    /**
+     * 内存分配速率，指单位时间内（每秒）分配的字节数.
+     *
+     * @since v1.3.0
+     */
+    protected double allocationRate;
+
+    /**
+     * 测量期间 JVM 中发生 GC 的次数.
+     *
+     * @since v1.3.0
+     */
+    protected long gcCount;
+
+    /**
+     * 测量期间 JVM 中各个垃圾收集器累计的 GC 耗时，单位为纳秒(ns)，精度为毫秒.
+     *
+     * @since v1.3.0
+     */
+    protected long gcTime;
+
+    /**
+     * 是否统计了测量线程在测量期间的 CPU 时间.
+     *
+     * @since v1.3.0
+     */
+    protected boolean cpuTracked;
+
+    /**
+     * 测量线程在测量期间消耗的 CPU 时间之和，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long cpuTime;
+
+    /**
+     * 平均每次运行消耗的 CPU 时间，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long cpuAvg;
+
+    /**
+     * 按批次平均后的每次运行消耗的最小 CPU 时间，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long cpuMin;
+
+    /**
+     * 按批次平均后的每次运行消耗的最大 CPU 时间，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long cpuMax;
+
+    /**
+     * 测量线程的墙上时间与 CPU 时间的比值，越接近 {@code 1} 表示越偏向计算密集型，越大表示等待（锁、I/O 等）的时间越多.
+     *
+     * @since v1.3.0
+     */
+    protected double wallCpuRatio;
+
+    /**
+     * 是否统计了 JVM 进程在测量期间的 CPU 使用数据.
+     *
+     * @since v1.3.0
+     */
+    protected boolean processCpuTracked;
+
+    /**
+     * JVM 进程在测量期间消耗的 CPU 时间，包含了所有线程（如 JIT 编译、GC 等线程）的 CPU 时间，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long processCpuTime;
+
+    /**
+     * 测量期间 JVM 进程平均使用的 CPU 核数，即：{@code cpuCores = processCpuTime / costs}.
+     *
+     * @since v1.3.0
+     */
+    protected double cpuCores;
+
+    /**
+     * 测量期间 JVM 进程的 CPU 使用率（百分比），即平均使用的 CPU 核数占可用 CPU 核数的百分比，值的范围在 {@code 0 ~ 100} 之间.
+     *
+     * @since v1.3.0
+     */
+    protected double cpuUtilization;
+
+    /**
+     * 每 CPU 秒的运行次数，即：{@code opsPerCpuSecond = total / (processCpuTime / 10^9)}，用于比较不同实现的 CPU 成本.
+     *
+     * @since v1.3.0
+     */
+    protected double opsPerCpuSecond;
+
+    /**
+     * 是否统计了预热期间和正式测量期间的 JIT 编译活动.
+     *
+     * @since v1.3.0
+     */
+    protected boolean jitTracked;
+
+    /**
+     * 正式测量期间 JVM 中 JIT 编译的累计耗时，单位为纳秒(ns)，精度为毫秒，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long jitTime;
+
+    /**
+     * 正式测量期间 JVM 中 JIT 编译的次数，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long jitCompiles;
+
+    /**
+     * 正式测量期间 JVM 中已编译方法因去优化而被置为失效的次数，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long jitDeopts;
+
+    /**
+     * 预热期间 JVM 中 JIT 编译的累计耗时，单位为纳秒(ns)，精度为毫秒，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long warmupJitTime;
+
+    /**
+     * 预热期间 JVM 中 JIT 编译的次数，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long warmupJitCompiles;
+
+    /**
+     * 预热期间 JVM 中已编译方法因去优化而被置为失效的次数，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long warmupJitDeopts;
+
+    /**
+     * 是否在正式测量期间对测量线程的调用栈进行了采样分析.
+     *
+     * @since v1.3.0
+     */
+    protected boolean profiled;
+
+    /**
+     * 采样到的调用栈的总次数.
+     *
+     * @since v1.3.0
+     */
+    protected long profileSamples;
+
+    /**
+     * 位于栈顶的采样次数最多的若干个热点栈帧.
+     *
+     * @since v1.3.0
+     */
+    protected List<HotFrame> hotFrames = Collections.emptyList();
+
+    /**
+     * 写入的折叠调用栈文件的绝对路径，没有写入时为 {@code null}.
+     *
+     * @since v1.3.0
+     */
+    protected String collapsedStacksFile;
+
+    /**
+     * 是否统计了测量线程在正式测量期间的线程状态分布和锁竞争情况.
+     *
+     * @since v1.3.0
+     */
+    protected boolean threadStateTracked;
+
+    /**
+     * 测量线程状态的采样次数.
+     *
+     * @since v1.3.0
+     */
+    protected long threadStateSamples;
+
+    /**
+     * 测量线程处于 {@code RUNNABLE} 状态的时间占比（百分比），值的范围在 {@code 0 ~ 100} 之间.
+     *
+     * @since v1.3.0
+     */
+    protected double runnablePercent;
+
+    /**
+     * 测量线程处于 {@code BLOCKED} 状态（即等待进入 {@code synchronized} 监视器锁）的时间占比（百分比）.
+     *
+     * @since v1.3.0
+     */
+    protected double blockedPercent;
+
+    /**
+     * 测量线程处于 {@code WAITING} 或 {@code TIMED_WAITING} 状态的时间占比（百分比）.
+     *
+     * @since v1.3.0
+     */
+    protected double waitingPercent;
+
+    /**
+     * 测量线程在正式测量期间进入 {@code BLOCKED} 状态的总次数.
+     *
+     * @since v1.3.0
+     */
+    protected long blockedCount;
+
+    /**
+     * 测量线程在正式测量期间处于 {@code BLOCKED} 状态的总耗时，单位为纳秒(ns)，精度为毫秒，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long blockedTime;
+
+    /**
+     * 测量线程在正式测量期间进入 {@code WAITING} 或 {@code TIMED_WAITING} 状态的总次数.
+     *
+     * @since v1.3.0
+     */
+    protected long waitedCount;
+
+    /**
+     * 测量线程在正式测量期间处于 {@code WAITING} 或 {@code TIMED_WAITING} 状态的总耗时，单位为纳秒(ns)，精度为毫秒，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long waitedTime;
+
+    /**
+     * 测量线程阻塞或等待次数最多的若干个锁.
+     *
+     * @since v1.3.0
+     */
+    protected List<ContendedLock> contendedLocks = Collections.emptyList();
+
+    /**
+     * 待测量方法耗时的 {@code p50} 百分位值，单位为纳秒(ns)，来自于耗时直方图，相对误差约 {@code 3%}.
+     *
+     * @since v1.3.0
+     */
+    protected long latencyP50;
+
+    /**
+     * 待测量方法耗时的 {@code p99} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long latencyP99;
+
+    /**
+     * 待测量方法耗时的 {@code p99.9} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long latencyP999;
+
+    /**
+     * 是否在正式测量期间检测了 JVM 和操作系统层面的停顿（hiccup）.
+     *
+     * @since v1.3.0
+     */
+    protected boolean hiccupTracked;
+
+    /**
+     * 停顿检测的样本数.
+     *
+     * @since v1.3.0
+     */
+    protected long hiccupSamples;
+
+    /**
+     * 停顿时间的 {@code p50} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long hiccupP50;
+
+    /**
+     * 停顿时间的 {@code p99} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long hiccupP99;
+
+    /**
+     * 停顿时间的 {@code p99.9} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long hiccupP999;
+
+    /**
+     * 最大的停顿时间，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long hiccupMax;
+
+    /**
+     * 是否将耗时样本与正式测量期间的 GC 停顿进行了关联.
+     *
+     * @since v1.3.0
+     */
+    protected boolean gcPauseTracked;
+
+    /**
+     * 正式测量期间的 GC 停顿次数.
+     *
+     * @since v1.3.0
+     */
+    protected long gcPauses;
+
+    /**
+     * 正式测量期间的 GC 停顿的总耗时，单位为纳秒(ns)，精度为毫秒.
+     *
+     * @since v1.3.0
+     */
+    protected long gcPauseTime;
+
+    /**
+     * 执行期间与 GC 停顿有重叠的样本数.
+     *
+     * @since v1.3.0
+     */
+    protected long gcOverlappedSamples;
+
+    /**
+     * 排除与 GC 停顿重叠的样本之后，待测量方法耗时的 {@code p50} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long latencyP50WithoutGc;
+
+    /**
+     * 排除与 GC 停顿重叠的样本之后，待测量方法耗时的 {@code p99} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long latencyP99WithoutGc;
+
+    /**
+     * 排除与 GC 停顿重叠的样本之后，待测量方法耗时的 {@code p99.9} 百分位值，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long latencyP999WithoutGc;
+
+    /**
+     * 耗时不小于 {@code p99} 的尾部样本中与 GC 停顿重叠的样本的比例（百分比），值的范围在 {@code 0 ~ 100} 之间.
+     *
+     * @since v1.3.0
+     */
+    protected double gcTailPercent;
+
+    /**
+     * 正式测量期间耗时最长的若干次执行，按耗时从长到短排列，没有统计时为空集合.
+     *
+     * @since v1.3.0
+     */
+    protected List<SlowInvocation> slowestInvocations = Collections.emptyList();
+
+    /**
+     * 是否通过 Linux 的 {@code /proc} 和 {@code /sys} 统计了正式测量期间的运行环境数据.
+     *
+     * @since v1.3.0
+     */
+    protected boolean procTracked;
+
+    /**
+     * 测量线程在正式测量期间的主动上下文切换（如等待 I/O 或锁）次数之和.
+     *
+     * @since v1.3.0
+     */
+    protected long voluntaryContextSwitches;
+
+    /**
+     * 测量线程在正式测量期间的被动上下文切换（即时间片用完或被抢占）次数之和.
+     *
+     * @since v1.3.0
+     */
+    protected long involuntaryContextSwitches;
+
+    /**
+     * JVM 进程在正式测量期间的用户态 CPU 时间，单位为纳秒(ns)，精度为 {@code 10} 毫秒，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long processUserTime = -1;
+
+    /**
+     * JVM 进程在正式测量期间的内核态 CPU 时间，单位为纳秒(ns)，精度为 {@code 10} 毫秒，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long processSystemTime = -1;
+
+    /**
+     * 正式测量期间整个系统的 CPU 使用率（百分比），不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected double systemCpuPercent = -1;
+
+    /**
+     * 正式测量期间整个系统的 CPU 时间中被虚拟化宿主机占用（{@code steal}）的比例（百分比），不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected double stealPercent = -1;
+
+    /**
+     * 正式测量期间系统最近 {@code 1} 分钟平均负载的最大值，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected double maxLoadAverage = -1;
+
+    /**
+     * 正式测量开始时所有 CPU 的平均频率，单位为 MHz，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long cpuFrequencyStart = -1;
+
+    /**
+     * 正式测量期间采样到的最低的 CPU 平均频率，单位为 MHz，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long cpuFrequencyMin = -1;
+
+    /**
+     * 正式测量期间采样到的最高的 CPU 平均频率，单位为 MHz，不支持时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected long cpuFrequencyMax = -1;
+
+    /**
+     * 是否统计了正式测量期间当前进程所在的 cgroup 的 CPU 限流情况.
+     *
+     * @since v1.3.0
+     */
+    protected boolean cgroupTracked;
+
+    /**
+     * 当前进程所在的 cgroup 的 CPU 配额，即可以使用的 CPU 核数，没有限制时为 {@code -1}.
+     *
+     * @since v1.3.0
+     */
+    protected double cpuQuota = -1;
+
+    /**
+     * 正式测量期间经过的 CPU 调度周期数.
+     *
+     * @since v1.3.0
+     */
+    protected long cpuPeriods;
+
+    /**
+     * 正式测量期间被 CPU 限流的调度周期数.
+     *
+     * @since v1.3.0
+     */
+    protected long throttledPeriods;
+
+    /**
+     * 正式测量期间被 CPU 限流的总时间，单位为纳秒(ns).
+     *
+     * @since v1.3.0
+     */
+    protected long throttledTime;
+
+    /**
+     * 正式测量期间各项资源（如 GC 后的堆内存、存活线程数等）的使用量的变化趋势.
+     *
+     * @since v1.3.0
+     */
+    protected List<ResourceTrend> resourceTrends = Collections.emptyList();
+
+    /**
+     * 正式测量期间吞吐量或平均耗时发生显著突变的变点，按时间顺序排列.
+     *
+     * @since v1.3.0
+     */
+    protected List<ChangePoint> changePoints = Collections.emptyList();
+
+    /**
+     * 写入的只覆盖本次测量任务的 JFR 记录文件的绝对路径，没有写入时为 {@code null}.
+     *
+     * @since v1.3.0
+     */
+    protected String jfrFile;
 
     /**
-     * 总次数.
+     * 计算本测量结果所用的原始累计值，可用于与其他 JVM、工作节点或迭代的测量结果精确地合并，没有时为 {@code null}.
+     *
+     * @since v1.3.0
      */
-    protected long total;
+    protected MergeableResult mergeableResult;
 
     /**
-     * 测量过程中执行成功的次数.
+     * 分布式测量时各个工作节点的状态和测量结果，非分布式测量时为空集合.
+     *
+     * @since v1.3.0
      */
-    protected long success;
+    protected List<WorkerResult> workerResults = Collections.emptyList();
 
     /**
-     * 测量过程中执行失败的次数.
+     * 在子 JVM 中运行时有成功执行的测量的子 JVM 的个数，即参与计算子 JVM 之间差异的个数，在当前 JVM 中运行时为 {@code 0}.
+     *
+     * @since v1.3.0
      */
-    protected long failure;
+    protected int forks;
 
     /**
-     * 吞吐率，指单位时间内（每秒）的执行总次数，即：{@code throughput = total / (costs / 10^9)}.
+     * 在子 JVM 中运行时计划运行的子 JVM 的个数，在当前 JVM 中运行时为 {@code 0}.
      *
-     * @since v1.1.1
+     * @since v1.3.0
      */
-    protected double throughput;
+    protected int plannedForks;
 
     /**
-     * 总耗时.
+     * 在子 JVM 中运行时各个子 JVM 的平均耗时的均值，单位纳秒(ns).
+     *
+     * @since v1.3.0
      */
-    protected long sum;
+    protected double forkAvgMean;
 
     /**
-     * 平均耗时.
+     * 在子 JVM 中运行时各个子 JVM 的平均耗时之间的样本标准差，即子 JVM 之间的差异，单位纳秒(ns).
+     *
+     * @since v1.3.0
      */
-    protected long avg;
+    protected double forkAvgStdDev;
 
     /**
-     * 最小耗时.
+     * 在子 JVM 中运行时所使用的 JVM 配置的名称，不是按 JVM 配置矩阵运行时为 {@code null}.
+     *
+     * @since v1.3.0
      */
-    protected long min;
+    protected String jvmConfig;
 
     /**
-     * 最大耗时.
+     * 在子 JVM 中运行时所使用的 JVM 参数.
+     *
+     * @since v1.3.0
      */
-    protected long max;
+    protected List<String> jvmArgs = Collections.emptyList();
 
     /**
-     * 标准差.
+     * 正式测量的迭代次数，只运行了一次正式测量时为 {@code 0}.
+     *
+     * @since v1.3.0
      */
-    protected double stdDev;
+    protected int iterations;
 
     /**
-     * 95%置信区间下限.
+     * 各次迭代的平均耗时的均值，单位纳秒(ns).
+     *
+     * @since v1.3.0
      */
-    protected double lowerConfidence;
+    protected double iterationAvgMean;
 
     /**
-     * 95%置信区间上限.
+     * 各次迭代的平均耗时之间的样本标准差，单位纳秒(ns).
+     *
+     * @since v1.3.0
      */
-    protected double upperConfidence;
+    protected double iterationAvgStdDev;
+
+    /**
+     * 各次迭代的测量结果，各个监视器的监视数据也只保存在这些测量结果中，只运行了一次正式测量时为空集合.
+     *
+     * @since v1.3.0
+     */
+    protected List<MeasureResult> iterationResults = Collections.emptyList();
+
+    /**
+     * 交替对比测量时的轮数，不是交替对比测量时为 {@code 0}.
+     *
+     * @since v1.3.0
+     */
+    protected int interleaveRounds;
+
+    /**
+     * 交替对比测量时，本任务相对于第一个任务的平均耗时的差异百分比，为正数时表示比第一个任务慢.
+     *
+     * @since v1.3.0
+     */
+    protected double relativeDiff;
+
+    /**
+     * 交替对比测量时，本任务相对于第一个任务的平均耗时的差异百分比的 95% 置信区间的下限.
+     *
+     * @since v1.3.0
+     */
+    protected double relativeDiffLower;
+
+    /**
+     * 交替对比测量时，本任务相对于第一个任务的平均耗时的差异百分比的 95% 置信区间的上限.
+     *
+     * @since v1.3.0
+     */
+    protected double relativeDiffUpper;
 
     /**
      * 获取易于人阅读的实际任务运行总时间字符串.
@@ -160,6 +842,436 @@ public class MeasureResult {
         return StrKit.convertTime(this.upperConfidence);
     }
 
+    /**
+     * 获取易于人阅读的测量期间分配的总字节数的字符串.
+     *
+     * @return 分配的总字节数的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadAllocatedBytes() {
+        return this.allocatedBytes < 0 ? "N/A" : StrKit.convertBytes(this.allocatedBytes);
+    }
+
+    /**
+     * 获取易于人阅读的平均每次运行分配的字节数的字符串.
+     *
+     * @return 平均每次运行分配的字节数的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadAllocatedBytesPerOp() {
+        return this.allocatedBytes < 0 ? "N/A" : StrKit.convertBytes(this.allocatedBytesPerOp);
+    }
+
+    /**
+     * 获取易于人阅读的内存分配速率的字符串.
+     *
+     * @return 内存分配速率的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadAllocationRate() {
+        return this.allocatedBytes < 0 ? "N/A" : StrKit.convertBytes(this.allocationRate).concat("/s");
+    }
+
+    /**
+     * 获取易于人阅读的 GC 耗时的字符串.
+     *
+     * @return GC 耗时的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadGcTime() {
+        return StrKit.convertTime(this.gcTime);
+    }
+
+    /**
+     * 获取易于人阅读的测量线程消耗的 CPU 时间之和的字符串.
+     *
+     * @return CPU 时间之和的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuTime() {
+        return StrKit.convertTime(this.cpuTime);
+    }
+
+    /**
+     * 获取易于人阅读的平均每次运行消耗的 CPU 时间的字符串.
+     *
+     * @return 平均 CPU 时间的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuAvg() {
+        return StrKit.convertTime(this.cpuAvg);
+    }
+
+    /**
+     * 获取易于人阅读的每次运行消耗的最小 CPU 时间的字符串.
+     *
+     * @return 最小 CPU 时间的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuMin() {
+        return StrKit.convertTime(this.cpuMin);
+    }
+
+    /**
+     * 获取易于人阅读的每次运行消耗的最大 CPU 时间的字符串.
+     *
+     * @return 最大 CPU 时间的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuMax() {
+        return StrKit.convertTime(this.cpuMax);
+    }
+
+    /**
+     * 获取易于人阅读的墙上时间与 CPU 时间的比值的字符串.
+     *
+     * @return 比值的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadWallCpuRatio() {
+        return StrKit.roundToString(this.wallCpuRatio);
+    }
+
+    /**
+     * 获取易于人阅读的测量期间 JVM 进程平均使用的 CPU 核数的字符串.
+     *
+     * @return 平均使用的 CPU 核数的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuCores() {
+        return StrKit.roundToString(this.cpuCores);
+    }
+
+    /**
+     * 获取易于人阅读的测量期间 JVM 进程的 CPU 使用率的字符串.
+     *
+     * @return CPU 使用率的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuUtilization() {
+        return StrKit.roundToString(this.cpuUtilization).concat("%");
+    }
+
+    /**
+     * 获取易于人阅读的每 CPU 秒的运行次数的字符串.
+     *
+     * @return 每 CPU 秒的运行次数的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadOpsPerCpuSecond() {
+        return StrKit.roundToString(this.opsPerCpuSecond);
+    }
+
+    /**
+     * 判断正式测量期间是否仍有明显的 JIT 编译活动，即 JIT 编译耗时占运行总耗时的比例是否超过了
+     * {@link #JIT_SIGNIFICANT_RATIO}，如果是，说明待测量方法可能还未被充分编译优化，测量结果可能不准确.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isJitSignificant() {
+        return this.jitTracked && this.jitTime > 0 && this.costs > 0
+                && this.jitTime >= this.costs * JIT_SIGNIFICANT_RATIO;
+    }
+
+    /**
+     * 获取易于人阅读的正式测量期间 JIT 编译耗时的字符串.
+     *
+     * @return JIT 编译耗时的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadJitTime() {
+        return this.jitTime < 0 ? "N/A" : StrKit.convertTime(this.jitTime);
+    }
+
+    /**
+     * 获取易于人阅读的预热期间 JIT 编译耗时的字符串.
+     *
+     * @return JIT 编译耗时的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadWarmupJitTime() {
+        return this.warmupJitTime < 0 ? "N/A" : StrKit.convertTime(this.warmupJitTime);
+    }
+
+    /**
+     * 获取易于人阅读的测量线程处于 {@code RUNNABLE}、{@code BLOCKED} 和 {@code WAITING} 状态的时间占比的字符串，
+     * 没有采样到线程状态时返回 {@code N/A}.
+     *
+     * @return 占比的字符串，如：{@code 80.00% / 15.00% / 5.00%}
+     * @since v1.3.0
+     */
+    public String getEasyReadThreadStates() {
+        return this.threadStateSamples <= 0 ? "N/A" : StrKit.join(StrKit.roundToString(this.runnablePercent), "% / ",
+                StrKit.roundToString(this.blockedPercent), "% / ", StrKit.roundToString(this.waitingPercent), "%");
+    }
+
+    /**
+     * 获取平均每次运行进入 {@code BLOCKED} 状态的次数.
+     *
+     * @return 次数
+     * @since v1.3.0
+     */
+    public double getBlockedCountPerOp() {
+        return this.total > 0 ? this.blockedCount * 1.0 / this.total : 0;
+    }
+
+    /**
+     * 获取易于人阅读的平均每次运行处于 {@code BLOCKED} 状态的耗时的字符串.
+     *
+     * @return 耗时的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadBlockedTimePerOp() {
+        return this.blockedTime < 0 ? "N/A" : StrKit.convertTime(this.total > 0 ? this.blockedTime / this.total : 0);
+    }
+
+    /**
+     * 获取平均每次运行进入 {@code WAITING} 或 {@code TIMED_WAITING} 状态的次数.
+     *
+     * @return 次数
+     * @since v1.3.0
+     */
+    public double getWaitedCountPerOp() {
+        return this.total > 0 ? this.waitedCount * 1.0 / this.total : 0;
+    }
+
+    /**
+     * 获取易于人阅读的平均每次运行处于 {@code WAITING} 或 {@code TIMED_WAITING} 状态的耗时的字符串.
+     *
+     * @return 耗时的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadWaitedTimePerOp() {
+        return this.waitedTime < 0 ? "N/A" : StrKit.convertTime(this.total > 0 ? this.waitedTime / this.total : 0);
+    }
+
+    /**
+     * 判断耗时的长尾是否主要是由 GC 引起的，即尾部样本中与 GC 停顿重叠的样本的比例是否超过了
+     * {@link #GC_TAIL_SIGNIFICANT_PERCENT}.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isGcTailSignificant() {
+        return this.gcPauseTracked && this.gcOverlappedSamples > 0 && this.gcTailPercent >= GC_TAIL_SIGNIFICANT_PERCENT;
+    }
+
+    /**
+     * 获取测量线程平均每秒的被动上下文切换次数.
+     *
+     * @return 次数
+     * @since v1.3.0
+     */
+    public double getInvoluntaryContextSwitchesPerSecond() {
+        return this.costs > 0 ? this.involuntaryContextSwitches * 1e9 / this.costs : 0;
+    }
+
+    /**
+     * 获取易于人阅读的 JVM 进程用户态和内核态 CPU 时间的字符串.
+     *
+     * @return CPU 时间的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadProcessUserSystemTime() {
+        return this.processUserTime < 0 ? "N/A" : StrKit.join(StrKit.convertTime(this.processUserTime), " / ",
+                StrKit.convertTime(this.processSystemTime));
+    }
+
+    /**
+     * 获取易于人阅读的 CPU 平均频率在开始时、测量期间的最低和最高值的字符串.
+     *
+     * @return CPU 频率的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuFrequency() {
+        return this.cpuFrequencyStart < 0 ? "N/A" : StrKit.join(this.cpuFrequencyStart, " / ", this.cpuFrequencyMin,
+                " / ", this.cpuFrequencyMax, " MHz");
+    }
+
+    /**
+     * 判断 CPU 平均频率在测量期间是否发生了明显的下降，即最低值相对于开始时下降的比例是否超过了 {@link #NOISY_FREQUENCY_DROP_RATIO}.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isCpuFrequencyDropped() {
+        return this.procTracked && this.cpuFrequencyStart > 0 && this.cpuFrequencyMin > 0
+                && this.cpuFrequencyMin < this.cpuFrequencyStart * (1 - NOISY_FREQUENCY_DROP_RATIO);
+    }
+
+    /**
+     * 判断测量结果是否受到了运行环境的明显干扰，即测量线程平均每秒的被动上下文切换次数超过了
+     * {@link #NOISY_INVOLUNTARY_SWITCHES_PER_SECOND}，或者 CPU 发生了明显的降频.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isEnvironmentNoisy() {
+        return this.procTracked
+                && (this.getInvoluntaryContextSwitchesPerSecond() >= NOISY_INVOLUNTARY_SWITCHES_PER_SECOND
+                || this.isCpuFrequencyDropped());
+    }
+
+    /**
+     * 获取易于人阅读的 CPU 配额的字符串.
+     *
+     * @return CPU 配额的字符串
+     * @since v1.3.0
+     */
+    public String getEasyReadCpuQuota() {
+        return this.cpuQuota < 0 ? "unlimited" : StrKit.roundToString(this.cpuQuota);
+    }
+
+    /**
+     * 获取正式测量期间被 CPU 限流的调度周期数占总调度周期数的比例（百分比）.
+     *
+     * @return 百分比
+     * @since v1.3.0
+     */
+    public double getThrottledPercent() {
+        return this.cpuPeriods > 0 ? this.throttledPeriods * 100.0 / this.cpuPeriods : 0;
+    }
+
+    /**
+     * 判断正式测量期间是否发生过 CPU 限流.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isCpuThrottled() {
+        return this.cgroupTracked && this.throttledPeriods > 0;
+    }
+
+    /**
+     * 判断正式测量期间是否有资源的使用量在持续增长，即是否可能存在资源泄漏.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isResourceGrowing() {
+        for (ResourceTrend trend : this.resourceTrends) {
+            if (trend.isGrowing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 判断正式测量期间吞吐量或平均耗时是否发生过使性能退化的显著突变.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isPerformanceShifted() {
+        for (ChangePoint changePoint : this.changePoints) {
+            if (changePoint.isDegraded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 判断分布式测量时是否有工作节点失败了，有工作节点失败时合并后的测量结果只覆盖了部分负载，不能代表预期的负载.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isWorkerFailed() {
+        for (WorkerResult workerResult : this.workerResults) {
+            if (workerResult.isFailed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 判断在子 JVM 中运行时是否有子 JVM 失败了，有子 JVM 失败时后续的子 JVM 不会再运行，合并后的测量结果只包含了部分子 JVM 的数据.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isForkFailed() {
+        return this.plannedForks > 0 && this.isWorkerFailed();
+    }
+
+    /**
+     * 获取各个子 JVM 的平均耗时之间的变异系数，即子 JVM 之间的标准差占均值的百分比.
+     *
+     * @return 变异系数的百分比，没有在两个及以上的子 JVM 中运行时为 {@code 0}
+     * @since v1.3.0
+     */
+    public double getForkAvgCv() {
+        return this.forks < 2 || this.forkAvgMean <= 0 ? 0 : this.forkAvgStdDev * 100 / this.forkAvgMean;
+    }
+
+    /**
+     * 判断各个子 JVM 的测量结果之间的差异是否显著，即变异系数不小于 {@link #FORK_CV_THRESHOLD}%，此时单个 JVM 中的测量结果受 JIT 编译决策、
+     * 内存布局等每次启动都不同的因素影响较大，不能代表稳定的性能.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isForkVarianceSignificant() {
+        return this.getForkAvgCv() >= FORK_CV_THRESHOLD;
+    }
+
+    /**
+     * 获取各次迭代的平均耗时的均值的 95% 置信区间的半径，根据学生 t 分布计算.
+     *
+     * @return 置信区间的半径，迭代次数少于 {@code 2} 时为 {@code 0}
+     * @since v1.3.0
+     */
+    public double getIterationCiRadius() {
+        return this.iterations < 2 ? 0 : MathKit.calcStudentT975(this.iterations - 1) * this.iterationAvgStdDev
+                / Math.sqrt(this.iterations);
+    }
+
+    /**
+     * 获取各次迭代的平均耗时的均值的 95% 置信区间的下限.
+     *
+     * @return 置信区间的下限
+     * @since v1.3.0
+     */
+    public double getIterationLowerConfidence() {
+        return this.iterationAvgMean - this.getIterationCiRadius();
+    }
+
+    /**
+     * 获取各次迭代的平均耗时的均值的 95% 置信区间的上限.
+     *
+     * @return 置信区间的上限
+     * @since v1.3.0
+     */
+    public double getIterationUpperConfidence() {
+        return this.iterationAvgMean + this.getIterationCiRadius();
+    }
+
+    /**
+     * 判断单次测量的置信区间是否明显偏窄，即各次迭代的置信区间半径不小于单次测量的置信区间半径的 {@link #ITERATION_CI_RATIO} 倍，
+     * 此时相邻执行的耗时之间有明显的自相关，不能再用单次测量的置信区间来判断测量结果的波动.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isSinglePassCiTooNarrow() {
+        double radius = this.getIterationCiRadius();
+        return radius > 0 && radius >= (this.upperConfidence - this.lowerConfidence) / 2 * ITERATION_CI_RATIO;
+    }
+
+    /**
+     * 判断交替对比测量时本任务与第一个任务的平均耗时的差异是否显著，即差异百分比的 95% 置信区间不包含 {@code 0}.
+     *
+     * @return 布尔值
+     * @since v1.3.0
+     */
+    public boolean isRelativeDiffSignificant() {
+        return this.interleaveRounds >= 2 && (this.relativeDiffLower > 0 || this.relativeDiffUpper < 0);
+    }
+
     /**
      * 将对象转换为字符串.
      *
@@ -180,6 +1292,57 @@ public class MeasureResult {
                 ", stdDev = ", this.getEasyReadStdDev(),
                 ", lowerConfidence = ", this.getEasyReadLowerConfidence(),
                 ", upperConfidence = ", this.getEasyReadUpperConfidence(),
+                ", latencyP50 = ", StrKit.convertTime(this.latencyP50),
+                ", latencyP99 = ", StrKit.convertTime(this.latencyP99),
+                ", latencyP999 = ", StrKit.convertTime(this.latencyP999),
+                this.memoryTracked ? StrKit.join(", allocatedBytes = ", this.getEasyReadAllocatedBytes(),
+                        ", allocatedBytesPerOp = ", this.getEasyReadAllocatedBytesPerOp(),
+                        ", allocationRate = ", this.getEasyReadAllocationRate(),
+                        ", gcCount = ", this.getGcCount(),
+                        ", gcTime = ", this.getEasyReadGcTime()) : "",
+                this.cpuTracked ? StrKit.join(", cpuTime = ", this.getEasyReadCpuTime(),
+                        ", cpuAvg = ", this.getEasyReadCpuAvg(),
+                        ", cpuMin = ", this.getEasyReadCpuMin(),
+                        ", cpuMax = ", this.getEasyReadCpuMax(),
+                        ", wallCpuRatio = ", this.getEasyReadWallCpuRatio()) : "",
+                this.processCpuTracked ? StrKit.join(", processCpuTime = ", StrKit.convertTime(this.processCpuTime),
+                        ", cpuCores = ", this.getEasyReadCpuCores(),
+                        ", cpuUtilization = ", this.getEasyReadCpuUtilization(),
+                        ", opsPerCpuSecond = ", this.getEasyReadOpsPerCpuSecond()) : "",
+                this.jitTracked ? StrKit.join(", warmupJitTime = ", this.getEasyReadWarmupJitTime(),
+                        ", warmupJitCompiles = ", this.getWarmupJitCompiles(),
+                        ", warmupJitDeopts = ", this.getWarmupJitDeopts(),
+                        ", jitTime = ", this.getEasyReadJitTime(),
+                        ", jitCompiles = ", this.getJitCompiles(),
+                        ", jitDeopts = ", this.getJitDeopts()) : "",
+                this.profiled ? StrKit.join(", profileSamples = ", this.getProfileSamples(),
+                        ", hotFrame = ", this.hotFrames.isEmpty() ? "N/A" : this.hotFrames.get(0).getFrame()) : "",
+                this.threadStateTracked ? StrKit.join(", threadStates = ", this.getEasyReadThreadStates(),
+                        ", blockedCount = ", this.getBlockedCount(),
+                        ", blockedTimePerOp = ", this.getEasyReadBlockedTimePerOp(),
+                        ", waitedCount = ", this.getWaitedCount(),
+                        ", waitedTimePerOp = ", this.getEasyReadWaitedTimePerOp()) : "",
+                this.hiccupTracked ? StrKit.join(", hiccupP50 = ", StrKit.convertTime(this.hiccupP50),
+                        ", hiccupP99 = ", StrKit.convertTime(this.hiccupP99),
+                        ", hiccupP999 = ", StrKit.convertTime(this.hiccupP999),
+                        ", hiccupMax = ", StrKit.convertTime(this.hiccupMax)) : "",
+                this.gcPauseTracked ? StrKit.join(", gcPauses = ", this.getGcPauses(),
+                        ", gcPauseTime = ", StrKit.convertTime(this.gcPauseTime),
+                        ", gcOverlappedSamples = ", this.getGcOverlappedSamples(),
+                        ", latencyP99WithoutGc = ", StrKit.convertTime(this.latencyP99WithoutGc),
+                        ", gcTailPercent = ", StrKit.roundToString(this.gcTailPercent), "%") : "",
+                this.procTracked ? StrKit.join(", voluntaryContextSwitches = ", this.getVoluntaryContextSwitches(),
+                        ", involuntaryContextSwitches = ", this.getInvoluntaryContextSwitches(),
+                        ", processUserSystemTime = ", this.getEasyReadProcessUserSystemTime(),
+                        ", maxLoadAverage = ", StrKit.roundToString(this.maxLoadAverage),
+                        ", cpuFrequency = ", this.getEasyReadCpuFrequency()) : "",
+                this.cgroupTracked ? StrKit.join(", cpuQuota = ", this.getEasyReadCpuQuota(),
+                        ", throttledPeriods = ", this.getThrottledPeriods(),
+                        ", throttledTime = ", StrKit.convertTime(this.throttledTime)) : "",
+                this.slowestInvocations.isEmpty() ? "" : StrKit.join(", slowest = ",
+                        StrKit.convertTime(this.slowestInvocations.get(0).getCost())),
+                this.resourceTrends.isEmpty() ? "" : StrKit.join(", resourceGrowing = ", this.isResourceGrowing()),
+                this.changePoints.isEmpty() ? "" : StrKit.join(", changePoints = ", this.changePoints.size()),
                 "}.");
     }
 
@@ -1,7 +1,6 @@
 package com.blinkfox.stalker.result;
 
 import com.blinkfox.stalker.kit.MathKit;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,87 +18,131 @@ public class MeasureStatistician extends MeasureResult {
     private static final double Z = 1.96;
 
     /**
-     * 用来表示存放每次花费时间的数组容量的阈值常量，默认 10 万.
+     * 通过已过时的 {@link #update(long, long, long, List)} 方法累计的耗时的个数.
      */
-    private static final int THRESHOLD = 100_000;
+    private long legacyCount;
 
     /**
-     * 用来记录每次测量出的待测量方法的消耗时间的集合，单位为纳秒(ns)，
-     * 当集合中的数量超过设定的阈值时，就会清空本集合中的数据，防止内存移除.
+     * 通过已过时的 {@link #update(long, long, long, List)} 方法累计的耗时之和.
      */
-    private final List<Long> eachCosts = new ArrayList<>(3325);
+    private long legacySum;
 
     /**
-     * 方差和，该值表示各个值与平均值的差的平方和.
-     *
-     * @since v1.2.0
+     * 通过已过时的 {@link #update(long, long, long, List)} 方法累计的最小耗时.
+     */
+    private long legacyMin = Long.MAX_VALUE;
+
+    /**
+     * 通过已过时的 {@link #update(long, long, long, List)} 方法累计的最大耗时.
+     */
+    private long legacyMax;
+
+    /**
+     * 通过已过时的 {@link #update(long, long, long, List)} 方法累计的耗时的均值.
+     */
+    private double legacyMean;
+
+    /**
+     * 通过已过时的 {@link #update(long, long, long, List)} 方法累计的耗时与均值的偏差平方和.
      */
-    private double varSum;
+    private double legacyM2;
 
     /**
      * 更新最新的统计数据.
      *
-     * <p>为了防止多个线程更新数据时的线程安全问题，这里加了写锁.</p>
-     *
      * @param currSuccess 当前累计的成功运行次数
      * @param currFailure 当前累计的失败运行次数
      * @param currCosts 当前累计的总的运行时间
      * @param currEachCosts 从上次更新到本次更新期间的每次运行次数的花费时间
+     * @deprecated 自 v1.3.0 起，请使用 {@link #updateByMoments} 方法. 本方法会将每次运行的耗时以 Welford 算法累计为偏差平方和，
+     *      再交给 {@link #updateByMoments} 计算，因此平均耗时 {@code avg} 也变为了耗时之和除以成功次数.
      */
+    @Deprecated
     public void update(long currSuccess, long currFailure, long currCosts, List<Long> currEachCosts) {
+        for (Long cost : currEachCosts) {
+            this.legacySum += cost;
+            this.legacyMin = Math.min(this.legacyMin, cost);
+            this.legacyMax = Math.max(this.legacyMax, cost);
+            double delta = cost - this.legacyMean;
+            this.legacyMean += delta / ++this.legacyCount;
+            this.legacyM2 += delta * (cost - this.legacyMean);
+        }
+        this.updateByMoments(currSuccess, currFailure, currCosts, this.legacySum,
+                this.legacyCount == 0 ? 0 : this.legacyMin, this.legacyMax, this.legacyM2);
+    }
+
+    /**
+     * 根据各个耗时与均值的偏差平方和（{@code M2}）来更新最新的统计数据.
+     *
+     * <p>各个耗时的累计值由运行器在各个测量线程中以无锁、无内存分配的方式累加，其中偏差平方和由 Welford 算法在线累计，
+     * 再由 {@link MathKit#mergeM2} 合并得出，这里只根据累计值计算出各个统计数据.</p>
+     *
+     * @param currSuccess 当前累计的成功运行次数
+     * @param currFailure 当前累计的失败运行次数
+     * @param currCosts 当前累计的总的运行时间
+     * @param currSum 当前累计的每次成功运行的耗时之和
+     * @param currMin 当前每次成功运行的最小耗时
+     * @param currMax 当前每次成功运行的最大耗时
+     * @param currM2 当前每次成功运行的耗时与均值的偏差平方和
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public void updateByMoments(long currSuccess, long currFailure, long currCosts,
+            long currSum, long currMin, long currMax, double currM2) {
         // 对基础统计数据进行赋值.
         super.success = currSuccess;
         super.failure = currFailure;
         super.total = super.success + super.failure;
         super.costs = currCosts;
         super.throughput = MathKit.calcThroughput(super.total, super.costs);
-
-        // 遍历求得所有测量值的和，最大值，最小值和平均值.
-        for (Long cost : currEachCosts) {
-            eachCosts.add(cost);
-            super.sum += cost;
-            if (super.min > cost) {
-                super.min = cost;
-            }
-            if (super.max < cost) {
-                super.max = cost;
-            }
+        if (currSuccess <= 0) {
+            return;
         }
-        super.avg = super.sum / super.total;
 
-        // 计算方差所需的当前所有数据的平方差之和.
-        double currVarSum = this.varSum;
-        for (long measure : eachCosts) {
-            currVarSum += Math.pow(measure - (double) super.avg, 2);
-        }
+        // 求得所有测量值的和，最大值，最小值和平均值.
+        super.sum = currSum;
+        super.min = currMin;
+        super.max = currMax;
+        double mean = (double) currSum / currSuccess;
+        super.avg = (long) mean;
 
-        // 分别计算出标准差和95%的置信区间半径，
-        // 由于数据超过阈值之后，之前的每次花费时间的值会清空，而新的花费时间的平均值发生了变化，
-        // 因此，计算的总的平法差之和并不准确，从而导致标准差也不准确，但是在大数据情况时，这些误差可以容忍.
-        super.stdDev = Math.sqrt(currVarSum / super.total);
-        double radius = (Z * super.stdDev) / Math.sqrt(super.total);
-        this.lowerConfidence = super.avg - radius;
-        this.upperConfidence = super.avg + radius;
-
-        // 当数据量超过阈值之后，为了防止后续程序继续运行时内存溢出，就清空 eachCosts 集合中的数据.
-        // 并记录当前累计的平法差之和，便于以后再累计，计算方差时使用.
-        if (this.eachCosts.size() > THRESHOLD) {
-            this.eachCosts.clear();
-            this.varSum = currVarSum;
-        }
+        // 分别计算出标准差和95%的置信区间半径.
+        super.stdDev = Math.sqrt(currM2 / currSuccess);
+        double radius = (Z * super.stdDev) / Math.sqrt(currSuccess);
+        this.lowerConfidence = mean - radius;
+        this.upperConfidence = mean + radius;
     }
 
     /**
      * 更新最新的统计数据.
      *
-     * <p>为了防止多个线程更新数据时的线程安全问题，这里加了写锁.</p>
+     * @param currSuccess 当前累计的成功运行次数
+     * @param currFailure 当前累计的失败运行次数
+     * @param currCosts 当前累计的总的运行时间
+     * @param currSum 当前累计的每次成功运行的耗时之和
+     * @param currMin 当前每次成功运行的最小耗时
+     * @param currMax 当前每次成功运行的最大耗时
+     * @param currM2 当前每次成功运行的耗时与均值的偏差平方和
+     * @return {@link MeasureResult} 测量出的统计结果信息
+     * @since v1.3.0
+     */
+    public MeasureResult updateAndGet(long currSuccess, long currFailure, long currCosts,
+            long currSum, long currMin, long currMax, double currM2) {
+        this.updateByMoments(currSuccess, currFailure, currCosts, currSum, currMin, currMax, currM2);
+        return this.get();
+    }
+
+    /**
+     * 更新最新的统计数据.
      *
      * @param currSuccess 当前累计的成功运行次数
      * @param currFailure 当前累计的失败运行次数
      * @param currCosts 当前累计的总的运行时间
      * @param currEachCosts 从上次更新到本次更新期间的每次运行次数的花费时间
      * @return {@link MeasureResult} 测量出的统计结果信息
+     * @deprecated 自 v1.3.0 起，请使用 {@link #updateAndGet(long, long, long, long, long, long, double)} 方法.
      */
+    @Deprecated
     public MeasureResult updateAndGet(long currSuccess, long currFailure, long currCosts, List<Long> currEachCosts) {
         this.update(currSuccess, currFailure, currCosts, currEachCosts);
         return this.get();
@@ -108,8 +151,6 @@ public class MeasureStatistician extends MeasureResult {
     /**
      * 读取最新的统计结果信息.
      *
-     * <p>这里先使用乐观读的方式读取数据，如果读取期间数据发生了变化，就采用悲观读的方式来再次读取最新的数据到新的结果变量中.</p>
-     *
      * @return 统计结果信息
      */
     public MeasureResult get() {
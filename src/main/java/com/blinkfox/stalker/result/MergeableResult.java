@@ -0,0 +1,315 @@
+package com.blinkfox.stalker.result;
+
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * 可合并的测量结果，保存了计算各个统计数据所需的原始累计值，而不是平均值、标准差等已经计算好的统计数据.
+ *
+ * <p>{@link MeasureResult} 中的平均值、标准差和置信区间等统计数据无法被正确地合并，本类则保存了成功和失败次数、耗时之和、
+ * 最小和最大耗时、耗时与均值的偏差平方和（{@code M2}）以及耗时直方图，因此多次 fork 的 JVM、
+ * 多个工作节点或者多次重复测量的结果都可以被精确地合并，再通过 {@link #toMeasureResult()} 转换为 {@link MeasureResult}
+ * 后交给任意的 {@code MeasureOutput} 来输出.</p>
+ *
+ * <p>合并分为两种：{@link #merge(MergeableResult)} 用于合并同一时间段内并行运行的结果（如多个工作节点），运行总耗时取最大值；
+ * {@link #append(MergeableResult)} 用于合并先后依次运行的结果（如多次迭代），运行总耗时取两者之和. 各个监视器的监视数据只对
+ * 单个 JVM 有意义，不会被保存和合并.</p>
+ *
+ * <p>通过 {@link #toBytes()} 和 {@link #ofBytes(byte[])} 可以将其编码为紧凑的、带版本号的二进制格式，
+ * 便于在不同的进程或节点之间传输，直方图中只会编码计数值不为 {@code 0} 的桶.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see MeasureResult
+ * @since v1.3.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class MergeableResult {
+
+    /**
+     * 二进制编码的魔数，即 {@code STKR} 的 ASCII 码.
+     */
+    static final int MAGIC = 0x53544B52;
+
+    /**
+     * 二进制编码的版本号.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * 合并了的测量结果的个数.
+     */
+    private int parts = 1;
+
+    /**
+     * 测量代码在执行过程中所消耗的总耗时，单位为纳秒(ns).
+     */
+    private long costs;
+
+    /**
+     * 测量过程中执行成功的次数.
+     */
+    private long success;
+
+    /**
+     * 测量过程中执行失败的次数.
+     */
+    private long failure;
+
+    /**
+     * 每次成功执行的耗时之和，单位为纳秒(ns).
+     */
+    private long sum;
+
+    /**
+     * 最小耗时，单位为纳秒(ns).
+     */
+    private long min;
+
+    /**
+     * 最大耗时，单位为纳秒(ns).
+     */
+    private long max;
+
+    /**
+     * 每次成功执行的耗时与均值的偏差平方和.
+     */
+    private double m2;
+
+    /**
+     * 每次成功执行的耗时直方图.
+     */
+    private LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * 合并同一时间段内并行运行的另一个测量结果，运行总耗时取两者中的最大值，其余的累计值分别累加.
+     *
+     * @param other 另一个测量结果
+     * @return 本实例
+     */
+    public MergeableResult merge(MergeableResult other) {
+        return this.combine(other, Math.max(this.costs, other.costs));
+    }
+
+    /**
+     * 合并在本测量结果之后依次运行的另一个测量结果，运行总耗时取两者之和，其余的累计值分别累加.
+     *
+     * @param other 另一个测量结果
+     * @return 本实例
+     */
+    public MergeableResult append(MergeableResult other) {
+        return this.combine(other, this.costs + other.costs);
+    }
+
+    /**
+     * 将先后依次运行的多次测量（如多次迭代或多个子 JVM）的结果依次追加合并，并计算出其中有成功执行的各次测量的平均耗时的均值和样本标准差.
+     *
+     * @param runs 各次测量的可合并的测量结果，没有结果的测量为 {@code null}
+     * @return 合并后的结果
+     */
+    public static MergedRuns mergeRuns(List<MergeableResult> runs) {
+        MergeableResult appended = new MergeableResult().setParts(0);
+        double[] avgs = new double[runs.size()];
+        int measured = 0;
+        for (MergeableResult run : runs) {
+            if (run != null) {
+                appended.append(run);
+                if (run.success > 0) {
+                    avgs[measured++] = (double) run.sum / run.success;
+                }
+            }
+        }
+
+        double mean = 0;
+        for (int i = 0; i < measured; i++) {
+            mean += avgs[i] / measured;
+        }
+        return new MergedRuns(appended.toMeasureResult(), measured, mean, MathKit.calcSampleStdDev(avgs, measured));
+    }
+
+    /**
+     * 合并另一个测量结果中的各个累计值.
+     *
+     * @param other 另一个测量结果
+     * @param mergedCosts 合并后的运行总耗时
+     * @return 本实例
+     */
+    private MergeableResult combine(MergeableResult other, long mergedCosts) {
+        if (other.success > 0) {
+            this.min = this.success > 0 ? Math.min(this.min, other.min) : other.min;
+            this.max = Math.max(this.max, other.max);
+            this.m2 = MathKit.mergeM2(this.success, this.sum, this.m2, other.success, other.sum, other.m2);
+        }
+
+        this.parts += other.parts;
+        this.costs = mergedCosts;
+        this.success += other.success;
+        this.failure += other.failure;
+        this.sum += other.sum;
+        this.histogram.add(other.histogram);
+        return this;
+    }
+
+    /**
+     * 将本实例中的累计值计算为统计结果信息，计算结果中也会带上本实例的副本，便于继续合并.
+     *
+     * @return 统计结果信息
+     */
+    public MeasureResult toMeasureResult() {
+        MeasureStatistician statistician = new MeasureStatistician();
+        statistician.updateByMoments(this.success, this.failure, this.costs, this.sum, this.min, this.max, this.m2);
+        return statistician.get()
+                .setLatencyP50(this.histogram.getValueAtPercentile(50))
+                .setLatencyP99(this.histogram.getValueAtPercentile(99))
+                .setLatencyP999(this.histogram.getValueAtPercentile(99.9))
+                .setMergeableResult(this.copy());
+    }
+
+    /**
+     * 复制出本实例的副本.
+     *
+     * @return 新的 {@link MergeableResult} 实例
+     */
+    public MergeableResult copy() {
+        return new MergeableResult()
+                .setParts(this.parts)
+                .setCosts(this.costs)
+                .setSuccess(this.success)
+                .setFailure(this.failure)
+                .setSum(this.sum)
+                .setMin(this.min)
+                .setMax(this.max)
+                .setM2(this.m2)
+                .setHistogram(this.histogram.copy());
+    }
+
+    /**
+     * 将本实例编码为紧凑的二进制字节数组.
+     *
+     * @return 字节数组
+     */
+    public byte[] toBytes() {
+        long[] counts = this.histogram.getCounts();
+        int buckets = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                ++buckets;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + buckets * 10);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(this.parts);
+            out.writeLong(this.costs);
+            out.writeLong(this.success);
+            out.writeLong(this.failure);
+            out.writeLong(this.sum);
+            out.writeLong(this.min);
+            out.writeLong(this.max);
+            out.writeDouble(this.m2);
+            out.writeShort(buckets);
+            for (int i = 0; i < counts.length; ++i) {
+                if (counts[i] != 0) {
+                    out.writeShort(i);
+                    out.writeLong(counts[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new StalkerException("【Stalker 错误提示】编码可合并的测量结果时出错！", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 从 {@link #toBytes()} 编码的二进制字节数组中解码出可合并的测量结果.
+     *
+     * @param bytes 字节数组
+     * @return {@link MergeableResult} 实例
+     */
+    public static MergeableResult ofBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("【Stalker 参数异常】字节数组不是可合并的测量结果的编码.");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("【Stalker 参数异常】不支持的可合并的测量结果的编码版本【"
+                        + version + "】.");
+            }
+
+            MergeableResult result = new MergeableResult()
+                    .setParts(in.readInt())
+                    .setCosts(in.readLong())
+                    .setSuccess(in.readLong())
+                    .setFailure(in.readLong())
+                    .setSum(in.readLong())
+                    .setMin(in.readLong())
+                    .setMax(in.readLong())
+                    .setM2(in.readDouble());
+            long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+            for (int i = 0, buckets = in.readUnsignedShort(); i < buckets; ++i) {
+                counts[in.readUnsignedShort()] = in.readLong();
+            }
+            return result.setHistogram(LatencyHistogram.ofCounts(counts));
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("【Stalker 参数异常】可合并的测量结果的编码已损坏.", e);
+        }
+    }
+
+    /**
+     * 依次运行的多次测量合并后的结果，见 {@link #mergeRuns(List)}.
+     */
+    @Getter
+    public static final class MergedRuns {
+
+        /**
+         * 合并后的测量结果.
+         */
+        private final MeasureResult measureResult;
+
+        /**
+         * 有成功执行的测量的次数.
+         */
+        private final int measured;
+
+        /**
+         * 各次测量的平均耗时的均值，单位为纳秒(ns).
+         */
+        private final double avgMean;
+
+        /**
+         * 各次测量的平均耗时的样本标准差，单位为纳秒(ns).
+         */
+        private final double avgStdDev;
+
+        /**
+         * 构造方法.
+         *
+         * @param measureResult 合并后的测量结果
+         * @param measured 有成功执行的测量的次数
+         * @param avgMean 各次测量的平均耗时的均值
+         * @param avgStdDev 各次测量的平均耗时的样本标准差
+         */
+        MergedRuns(MeasureResult measureResult, int measured, double avgMean, double avgStdDev) {
+            this.measureResult = measureResult;
+            this.measured = measured;
+            this.avgMean = avgMean;
+            this.avgStdDev = avgStdDev;
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.blinkfox.stalker.result;
+
+import com.blinkfox.stalker.kit.StrKit;
+import lombok.Getter;
+
+/**
+ * 正式测量期间某项资源（如 GC 后的堆内存、存活线程数等）的使用量的变化趋势.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class ResourceTrend {
+
+    /**
+     * 判断变化趋势所需的最少采样次数.
+     */
+    public static final int MIN_SAMPLES = 10;
+
+    /**
+     * 资源的名称.
+     */
+    private final String resource;
+
+    /**
+     * 资源的使用量是否为字节数，否则为个数.
+     */
+    private final boolean bytes;
+
+    /**
+     * 采样的次数.
+     */
+    private final int samples;
+
+    /**
+     * 第一次采样到的使用量.
+     */
+    private final long first;
+
+    /**
+     * 最后一次采样到的使用量.
+     */
+    private final long last;
+
+    /**
+     * 通过线性回归得出的每小时的增长量.
+     */
+    private final double growthPerHour;
+
+    /**
+     * 采样数据与时间的 Kendall 秩相关系数，越接近 {@code 1} 说明越是单调增长.
+     */
+    private final double tau;
+
+    /**
+     * 是否在持续增长，即可能存在资源泄漏.
+     */
+    private final boolean growing;
+
+    /**
+     * 构造方法.
+     *
+     * @param resource 资源的名称
+     * @param bytes 使用量是否为字节数
+     * @param samples 采样的次数
+     * @param first 第一次采样到的使用量
+     * @param last 最后一次采样到的使用量
+     * @param growthPerHour 每小时的增长量
+     * @param tau Kendall 秩相关系数
+     * @param growing 是否在持续增长
+     */
+    public ResourceTrend(String resource, boolean bytes, int samples, long first, long last, double growthPerHour,
+            double tau, boolean growing) {
+        this.resource = resource;
+        this.bytes = bytes;
+        this.samples = samples;
+        this.first = first;
+        this.last = last;
+        this.growthPerHour = growthPerHour;
+        this.tau = tau;
+        this.growing = growing;
+    }
+
+    /**
+     * 判断采样次数是否足以判断变化趋势.
+     *
+     * @return 布尔值
+     */
+    public boolean isTrendable() {
+        return this.samples >= MIN_SAMPLES;
+    }
+
+    /**
+     * 获取易于人阅读的使用量的字符串.
+     *
+     * @param value 使用量
+     * @return 字符串
+     */
+    public String toEasyRead(long value) {
+        return value < 0 ? "N/A" : this.bytes ? StrKit.convertBytes(value) : String.valueOf(value);
+    }
+
+    /**
+     * 获取易于人阅读的每小时增长量的字符串.
+     *
+     * @return 字符串
+     */
+    public String getEasyReadGrowthPerHour() {
+        String growth = this.bytes
+                ? StrKit.convertBytes((long) Math.abs(this.growthPerHour))
+                : StrKit.roundToString(Math.abs(this.growthPerHour));
+        return (this.growthPerHour < 0 ? "-" : "+") + growth + "/h";
+    }
+
+}
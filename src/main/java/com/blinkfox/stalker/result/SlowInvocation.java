@@ -0,0 +1,66 @@
+package com.blinkfox.stalker.result;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 正式测量期间耗时最长的若干次执行中的某一次执行，记录了其耗时、发生的时间和所在的测量线程等上下文信息.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class SlowInvocation {
+
+    /**
+     * 本次执行的耗时，单位纳秒(ns).
+     */
+    private final long cost;
+
+    /**
+     * 本次执行开始的时刻相对于正式测量开始时刻的偏移量，单位纳秒(ns).
+     */
+    private final long startOffset;
+
+    /**
+     * 执行本次测量任务的线程 ID.
+     */
+    private final long threadId;
+
+    /**
+     * 执行本次测量任务的线程名称.
+     */
+    private final String threadName;
+
+    /**
+     * 待测量方法在本次执行期间通过 {@code Stalker.tag(String)} 设置的标签，没有设置时为 {@code null}.
+     */
+    private final String tag;
+
+    /**
+     * 本次执行耗时超过阈值时采样到的测量线程的调用栈，下标 {@code 0} 为栈顶，没有采样到时为空集合.
+     */
+    private final List<String> stackTrace;
+
+    /**
+     * 构造方法.
+     *
+     * @param cost 耗时
+     * @param startOffset 开始时刻的偏移量
+     * @param threadId 线程 ID
+     * @param threadName 线程名称
+     * @param tag 标签
+     * @param stackTrace 调用栈
+     */
+    public SlowInvocation(long cost, long startOffset, long threadId, String threadName, String tag,
+            List<String> stackTrace) {
+        this.cost = cost;
+        this.startOffset = startOffset;
+        this.threadId = threadId;
+        this.threadName = threadName;
+        this.tag = tag;
+        this.stackTrace = stackTrace == null ? Collections.emptyList() : stackTrace;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.blinkfox.stalker.result;
 
+import com.blinkfox.stalker.Stalker;
 import com.blinkfox.stalker.config.Options;
 import com.blinkfox.stalker.config.ScheduledUpdater;
 import com.blinkfox.stalker.kit.StrKit;
@@ -39,6 +40,7 @@ public class StalkerFuture implements RunnableFuture<List<Object>> {
     /**
      * 可运行任务的选项参数信息.
      */
+    @Getter
     private final Options options;
 
     /**
@@ -351,6 +353,17 @@ public class StalkerFuture implements RunnableFuture<List<Object>> {
         return this.measureRunner.getMeasureResult();
     }
 
+    /**
+     * 实时获取任务的运行进度，值的范围在 {@code 0 ~ 100} 之间.
+     *
+     * @return 进度的 double 值
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    public double getProgress() {
+        return Stalker.getProgress(this.options, this.getTotal(), this.getCosts());
+    }
+
     /**
      * 获取任务最终完成时实际所消耗的总的纳秒时间数.
      *
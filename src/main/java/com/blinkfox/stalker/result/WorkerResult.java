@@ -0,0 +1,90 @@
+package com.blinkfox.stalker.result;
+
+import lombok.Getter;
+
+/**
+ * 分布式测量中单个工作节点的状态和测量结果.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Getter
+public final class WorkerResult {
+
+    /**
+     * 工作节点的状态.
+     */
+    public enum Status {
+
+        /**
+         * 正在连接工作节点，或者正在等待工作节点预热完毕.
+         */
+        CONNECTING,
+
+        /**
+         * 正在运行正式测量.
+         */
+        RUNNING,
+
+        /**
+         * 已正常完成.
+         */
+        DONE,
+
+        /**
+         * 已被协调者停止.
+         */
+        STOPPED,
+
+        /**
+         * 已失败，如工作节点出错、进程退出、连接断开或者超时未汇报测量结果.
+         */
+        FAILED
+
+    }
+
+    /**
+     * 工作节点的地址，如：{@code 127.0.0.1:9000}.
+     */
+    private final String worker;
+
+    /**
+     * 工作节点的状态.
+     */
+    private final Status status;
+
+    /**
+     * 失败的原因，没有失败时为 {@code null}.
+     */
+    private final String error;
+
+    /**
+     * 工作节点最近一次汇报的累计测量结果，还没有汇报时为 {@code null}.
+     */
+    private final MeasureResult measureResult;
+
+    /**
+     * 构造方法.
+     *
+     * @param worker 工作节点的地址
+     * @param status 工作节点的状态
+     * @param error 失败的原因
+     * @param measureResult 最近一次汇报的累计测量结果
+     */
+    public WorkerResult(String worker, Status status, String error, MeasureResult measureResult) {
+        this.worker = worker;
+        this.status = status;
+        this.error = error;
+        this.measureResult = measureResult;
+    }
+
+    /**
+     * 判断工作节点是否已经失败.
+     *
+     * @return 布尔值
+     */
+    public boolean isFailed() {
+        return this.status == Status.FAILED;
+    }
+
+}
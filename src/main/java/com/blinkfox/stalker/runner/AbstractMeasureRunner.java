@@ -1,9 +1,11 @@
 package com.blinkfox.stalker.runner;
 
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.monitor.MeasureMonitors;
 import com.blinkfox.stalker.result.MeasureResult;
 import com.blinkfox.stalker.result.MeasureStatistician;
-import java.util.ArrayList;
-import java.util.List;
+import com.blinkfox.stalker.result.MergeableResult;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
@@ -28,6 +30,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractMeasureRunner implements MeasureRunner {
 
+    /**
+     * 测量线程中每批次执行测量任务的次数.
+     *
+     * @since v1.3.0
+     */
+    protected static final int BATCH_SIZE = 64;
+
     /**
      * 线程池.
      */
@@ -40,11 +49,51 @@ public abstract class AbstractMeasureRunner implements MeasureRunner {
 
     private final Lock statisLock;
 
+    /**
+     * 各个测量线程中每次'成功'测量出的待测量方法的耗时的累加器，读取统计数据时再将它们合并起来.
+     *
+     * <p>各个耗时累加器都不会在测量线程中分配内存，从而不会干扰到对待测量方法本身的内存分配的统计.</p>
+     *
+     * @since v1.3.0
+     */
+    private final Queue<CostAccumulator> costAccumulators;
+
+    /**
+     * 当前测量线程的耗时累加器，线程池中的线程多次循环执行测量任务时会复用同一个累加器.
+     *
+     * @since v1.3.0
+     */
+    private final ThreadLocal<CostAccumulator> threadCostAccumulator;
+
     /**
      * 每次'成功'测量出的待测量方法的耗时时间，单位为纳秒({@code ns}).
+     *
+     * @deprecated 自 v1.3.0 起，各个测量线程中的耗时改由无锁的累加器累计，内置的运行器不再写入本队列.
+     *      为了兼容之前的子类，子类写入本队列的耗时仍然会在读取统计数据时被取出，并计入统计结果.
      */
+    @Deprecated
     protected Queue<Long> eachMeasures;
 
+    /**
+     * 累计从 {@link #eachMeasures} 中取出的耗时的累加器，只会在持有统计锁时写入.
+     */
+    private final CostAccumulator eachMeasuresAccumulator;
+
+    /**
+     * 每次'成功'测量出的待测量方法的耗时直方图，单位为纳秒({@code ns}).
+     *
+     * @since v1.3.0
+     */
+    @Getter
+    protected final LatencyHistogram histogram;
+
+    /**
+     * 伴随本次测量任务一起运行的监视器集合.
+     *
+     * @since v1.3.0
+     */
+    protected volatile MeasureMonitors monitors;
+
     /**
      * 测量过程中执行成功的次数.
      */
@@ -77,18 +126,22 @@ public abstract class AbstractMeasureRunner implements MeasureRunner {
     @Getter
     protected long endNanoTime;
 
-    /**
-     * 用于记录以前总共读取了 eachMeasures 中的数据总量，即总的偏移量.
-     */
-    private long beforeTotalCount;
-
     /**
      * 公共的抽象父构造方法.
      */
     public AbstractMeasureRunner() {
         this.measureStatistician = new MeasureStatistician();
         this.statisLock = new ReentrantLock();
+        this.histogram = new LatencyHistogram();
+        this.costAccumulators = new ConcurrentLinkedQueue<>();
+        this.threadCostAccumulator = ThreadLocal.withInitial(() -> {
+            CostAccumulator accumulator = new CostAccumulator(this.histogram);
+            this.costAccumulators.add(accumulator);
+            return accumulator;
+        });
         this.eachMeasures = new ConcurrentLinkedQueue<>();
+        this.eachMeasuresAccumulator = new CostAccumulator(this.histogram);
+        this.costAccumulators.add(this.eachMeasuresAccumulator);
         this.success = new LongAdder();
         this.failure = new LongAdder();
         this.completed = new AtomicBoolean(false);
@@ -101,7 +154,7 @@ public abstract class AbstractMeasureRunner implements MeasureRunner {
      * @return 运行总花费时间
      */
     public long getCosts() {
-        return this.completed.get() && this.getTotal() <= this.beforeTotalCount && eachMeasures.isEmpty()
+        return this.completed.get()
                 ? this.endNanoTime - this.startNanoTime
                 : this.startNanoTime == 0 ? 0 : System.nanoTime() - this.startNanoTime;
     }
@@ -154,6 +207,94 @@ public abstract class AbstractMeasureRunner implements MeasureRunner {
         return this.canceled.get();
     }
 
+    /**
+     * 在当前线程中循环批量执行测量，如果线程池已经关闭，就提前结束循环.
+     *
+     * <p>每次循环执行的前后会分别通知监视器当前线程的测量窗口的开始和结束，每执行完 {@link #BATCH_SIZE} 次时会通知一次批次结束，
+     * 便于监视器只统计测量窗口内的数据（如当前线程的内存分配量）或者分批次地低开销统计数据（如当前线程的 CPU 时间）.</p>
+     *
+     * @param runs 批量运行次数
+     * @param printErrorLog 是否打印输出错误日志
+     * @param runnable 可执行实例
+     * @since v1.3.0
+     */
+    protected void loopMeasure(long runs, boolean printErrorLog, final Runnable runnable) {
+        final MeasureMonitors currMonitors = this.monitors;
+        final CostAccumulator accumulator = this.threadCostAccumulator.get();
+        final boolean invocationStartNeeded = currMonitors.isInvocationStartNeeded();
+        currMonitors.onWorkerStart();
+        int batchOps = 0;
+        try {
+            for (long i = 0; i < runs && !this.executorService.isShutdown(); ++i) {
+                if (batchOps == BATCH_SIZE) {
+                    currMonitors.onWorkerBatch(batchOps);
+                    batchOps = 0;
+                }
+                ++batchOps;
+
+                try {
+                    // 开始执行测量任务，记录开始时间、执行次数等.
+                    long eachStart = System.nanoTime();
+                    if (invocationStartNeeded) {
+                        currMonitors.onWorkerInvocationStart(eachStart);
+                    }
+                    runnable.run();
+                    long cost = System.nanoTime() - eachStart;
+                    accumulator.record(cost);
+                    if (cost >= currMonitors.getSlowSampleNanos()) {
+                        currMonitors.onWorkerSlowSample(eachStart, cost);
+                    }
+                    this.success.increment();
+                } catch (Exception e) {
+                    // 如果待测量的方法，执行错误则失败数 +1,且根据选项参数来判断是否打印异常错误日志.
+                    this.failure.increment();
+                    if (printErrorLog) {
+                        log.error("【stalker 错误】测量方法耗时信息出错!", e);
+                    }
+                }
+            }
+        } finally {
+            if (batchOps > 0) {
+                currMonitors.onWorkerBatch(batchOps);
+            }
+            currMonitors.onWorkerEnd();
+        }
+    }
+
+    /**
+     * 根据选项参数构造（如果预热前没有构造的话）并启动伴随本次测量任务一起运行的监视器，需要在记录了开始时间之后调用.
+     *
+     * @param options 运行的配置选项实例
+     * @since v1.3.0
+     */
+    protected void startMonitors(Options options) {
+        if (this.monitors == null) {
+            this.monitors = MeasureMonitors.of(options);
+        }
+        this.monitors.start(options, this);
+    }
+
+    /**
+     * 设置在预热之前就已经构造好了的监视器集合，正式测量开始时将直接启动这些监视器.
+     *
+     * @param monitors 监视器集合
+     * @since v1.3.0
+     */
+    void setMonitors(MeasureMonitors monitors) {
+        this.monitors = monitors;
+    }
+
+    /**
+     * 停止伴随本次测量任务一起运行的监视器，需要在任务完成或取消之后调用，多次调用时只会停止一次.
+     *
+     * @since v1.3.0
+     */
+    protected void stopMonitors() {
+        if (this.monitors != null) {
+            this.monitors.stop();
+        }
+    }
+
     /**
      * 如果结束时间的值是 0，那么就设置结束时的纳秒时间.
      *
@@ -168,59 +309,57 @@ public abstract class AbstractMeasureRunner implements MeasureRunner {
     /**
      * 更新并获取统计结果信息数据.
      *
-     * <p>如果任务已经完成，就直接返回最终的测试结果数据即可，否则加锁获取正在运行中的任务的统计数据.</p>
+     * <p>由于各个耗时数据都是实时累加的，这里每次都直接根据累计值计算出最新的统计数据，再由监视器填充其他的监视数据.</p>
      *
      * @return 统计结果信息
      */
     @Override
     public MeasureResult getMeasureResult() {
-        return this.completed.get() && this.getTotal() <= this.beforeTotalCount && eachMeasures.isEmpty()
-                ? this.measureStatistician.get()
-                : this.getRunningMeasureResult();
+        MeasureResult result = this.getStatisticsResult()
+                .setLatencyP50(this.histogram.getValueAtPercentile(50))
+                .setLatencyP99(this.histogram.getValueAtPercentile(99))
+                .setLatencyP999(this.histogram.getValueAtPercentile(99.9));
+        MeasureMonitors currMonitors = this.monitors;
+        if (currMonitors != null) {
+            currMonitors.fill(result);
+        }
+        return result;
     }
 
     /**
-     * 获取正在运行中的任务的数据的统计结果信息.
+     * 获取任务的耗时数据的统计结果信息.
      *
      * <p>由于可能会有两个或多个线程去更新和获取统计数据，这里须要加锁来获取正在运行中的任务的统计数据.</p>
      *
      * @return 统计结果信息
      */
-    private MeasureResult getRunningMeasureResult() {
+    private MeasureResult getStatisticsResult() {
         try {
             // 读取时加锁.
             statisLock.lockInterruptibly();
-
-            // 计算出运行消耗的总时间，如果已经结束了，就直接使用结束时间戳减去开始时间戳.
-            final long currCosts = this.completed.get()
-                    ? this.endNanoTime - this.startNanoTime
-                    : this.startNanoTime == 0 ? 0 : System.nanoTime() - this.startNanoTime;
-
-            // 获取到截至到当前时间的正确运行次数数、错误运行次数，消耗的时间和每次的运行时间等数据.
-            final long currFailure = this.getFailure();
-            final long currSuccess = this.getSuccess();
-            final long currTotal = currSuccess + currFailure;
-            int newCount = (int) (currTotal - this.beforeTotalCount);
-            if (newCount <= 0) {
-                return this.measureStatistician.get();
-            }
-
-            // 截取复制出最新的测量耗时信息，这里从队列中"出队读取" len 个最新的测量耗时数据.
-            final List<Long> currEachCosts = new ArrayList<>(newCount);
-            for (int i = 0; i < newCount; ++i) {
-                Long cost = this.eachMeasures.poll();
-                if (cost != null) {
-                    currEachCosts.add(cost);
-                }
-            }
-            this.beforeTotalCount = currTotal;
-
-            // 更新并获取最新的统计数据信息.
-            return measureStatistician.updateAndGet(currSuccess, currFailure, currCosts, currEachCosts);
         } catch (InterruptedException e) {
             log.error("【Stalker 错误提示】获取运行中任务的统计结果数据线程被中断！", e);
             Thread.currentThread().interrupt();
             return this.measureStatistician.get();
+        }
+
+        try {
+            // 先取出子类写入已过时的耗时队列中的数据.
+            for (Long cost = this.eachMeasures.poll(); cost != null; cost = this.eachMeasures.poll()) {
+                this.eachMeasuresAccumulator.record(cost);
+            }
+
+            // 获取到截至到当前时间的错误运行次数和消耗的时间，并合并各个测量线程中耗时的累计值，再更新统计数据.
+            MergeableResult merged = new MergeableResult()
+                    .setCosts(this.getCosts())
+                    .setFailure(this.getFailure())
+                    .setHistogram(this.histogram.copy());
+            for (CostAccumulator accumulator : this.costAccumulators) {
+                accumulator.mergeTo(merged);
+            }
+            return measureStatistician.updateAndGet(merged.getSuccess(), merged.getFailure(), merged.getCosts(),
+                    merged.getSum(), merged.getMin(), merged.getMax(), merged.getM2())
+                    .setMergeableResult(merged);
         } catch (Exception e) {
             log.error("【Stalker 错误提示】获取运行中任务的统计结果数据时出错，将直接返回之前的数据.", e);
             return this.measureStatistician.get();
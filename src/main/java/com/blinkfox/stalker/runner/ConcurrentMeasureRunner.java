@@ -54,6 +54,7 @@ public class ConcurrentMeasureRunner extends AbstractMeasureRunner {
         CountDownLatch countLatch = new CountDownLatch(threads);
         super.executorService = StalkerExecutors.newFixedThreadExecutor(threads, "stalker-concurrent-measure");
         super.startNanoTime = System.nanoTime();
+        super.startMonitors(options);
 
         // 在多线程下控制线程并发量，与循环搭配来一起执行和测量.
         for (int i = 0; i < threads; i++) {
@@ -61,6 +62,7 @@ public class ConcurrentMeasureRunner extends AbstractMeasureRunner {
                 semaphore.acquire();
                 // 如果线程池已经关闭，就直接返回结果.
                 if (super.executorService.isShutdown()) {
+                    super.stopMonitors();
                     return super.getMeasureResult();
                 }
 
@@ -84,33 +86,10 @@ public class ConcurrentMeasureRunner extends AbstractMeasureRunner {
         super.setEndNanoTimeIfEmpty(System.nanoTime());
         super.completed.compareAndSet(false, true);
         StalkerExecutors.shutdownNow(this.executorService);
+        super.stopMonitors();
         return super.getMeasureResult();
     }
 
-    /**
-     * 单个线程的循环批量执行测量.
-     *
-     * @param runs 批量运行次数
-     * @param printErrorLog 是否打印输出错误日志
-     * @param runnable 可执行实例
-     */
-    protected void loopMeasure(int runs, boolean printErrorLog, final Runnable runnable) {
-        for (int j = 0; j < runs; j++) {
-            try {
-                long eachStart = System.nanoTime();
-                runnable.run();
-                super.eachMeasures.offer(System.nanoTime() - eachStart);
-                super.success.increment();
-            } catch (Exception e) {
-                // 如果待测量的方法，执行错误则失败数 +1,且根据选项参数来判断是否打印异常错误日志.
-                super.failure.increment();
-                if (printErrorLog) {
-                    log.error("测量方法耗时信息在多线程下出错!", e);
-                }
-            }
-        }
-    }
-
     /**
      * 停止相关的运行测量任务.
      *
@@ -68,6 +68,7 @@ public class ConcurrentScheduledMeasureRunner extends ConcurrentMeasureRunner {
         }, duration.getAmount(), duration.getTimeUnit());
 
         super.startNanoTime = System.nanoTime();
+        super.startMonitors(options);
         long expectEndNanoTime = duration.getEndNanoTime(super.startNanoTime);
 
         while (true) {
@@ -99,6 +100,7 @@ public class ConcurrentScheduledMeasureRunner extends ConcurrentMeasureRunner {
         if (!this.scheduledFuture.isDone()) {
             this.scheduledFuture.cancel(true);
         }
+        super.stopMonitors();
         return super.getMeasureResult();
     }
 
@@ -0,0 +1,120 @@
+package com.blinkfox.stalker.runner;
+
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MergeableResult;
+
+/**
+ * 单个测量线程中每次'成功'执行的耗时的累加器，只能由一个线程写入.
+ *
+ * <p>耗时的均值和偏差平方和（{@code M2}）使用 Welford 算法在线累计，不会像"平方和减去和的平方"那样，
+ * 在样本很多且变异系数很小时，因两个非常接近的大数相减而损失大部分有效数字. 多个测量线程的累加器再通过
+ * {@link MathKit#mergeM2} 合并. 累加时不加锁，也不会分配内存，从而不会干扰对待测量方法本身的内存分配的统计；
+ * 其他线程在测量期间读取时可能会读到稍旧的值，测量线程结束之后读取的值是精确的.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+final class CostAccumulator {
+
+    /**
+     * 记录耗时的直方图，可以由多个累加器共享.
+     */
+    private final LatencyHistogram histogram;
+
+    /**
+     * 成功执行的次数.
+     */
+    private long count;
+
+    /**
+     * 成功执行的耗时之和，单位纳秒(ns).
+     */
+    private long sum;
+
+    /**
+     * 最小耗时，单位纳秒(ns).
+     */
+    private long min = Long.MAX_VALUE;
+
+    /**
+     * 最大耗时，单位纳秒(ns).
+     */
+    private long max;
+
+    /**
+     * 耗时的均值.
+     */
+    private double mean;
+
+    /**
+     * 耗时与均值的偏差平方和.
+     */
+    private double m2;
+
+    /**
+     * 构造方法.
+     *
+     * @param histogram 记录耗时的直方图
+     */
+    CostAccumulator(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    /**
+     * 记录一次'成功'执行的耗时.
+     *
+     * @param cost 耗时，单位纳秒(ns)
+     */
+    void record(long cost) {
+        this.sum += cost;
+        this.min = Math.min(this.min, cost);
+        this.max = Math.max(this.max, cost);
+        double delta = cost - this.mean;
+        this.mean += delta / ++this.count;
+        this.m2 += delta * (cost - this.mean);
+        this.histogram.record(cost);
+    }
+
+    /**
+     * 获取成功执行的次数.
+     *
+     * @return 次数
+     */
+    long getCount() {
+        return this.count;
+    }
+
+    /**
+     * 获取成功执行的耗时之和.
+     *
+     * @return 耗时之和，单位纳秒(ns)
+     */
+    long getSum() {
+        return this.sum;
+    }
+
+    /**
+     * 将本累加器中的累计值合并到可合并的测量结果中，结果中的成功次数、耗时之和、最小和最大耗时以及偏差平方和会被更新，
+     * 其余的值（如运行总耗时、失败次数和直方图）需要由调用方设置.
+     *
+     * @param result 可合并的测量结果
+     * @return 可合并的测量结果
+     */
+    MergeableResult mergeTo(MergeableResult result) {
+        long currCount = this.count;
+        long currSum = this.sum;
+        if (currCount <= 0) {
+            return result;
+        }
+
+        long resultCount = result.getSuccess();
+        return result
+                .setM2(MathKit.mergeM2(resultCount, result.getSum(), result.getM2(), currCount, currSum, this.m2))
+                .setMin(resultCount > 0 ? Math.min(result.getMin(), this.min) : this.min)
+                .setMax(Math.max(result.getMax(), this.max))
+                .setSuccess(resultCount + currCount)
+                .setSum(result.getSum() + currSum);
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.blinkfox.stalker.runner;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.config.RunDuration;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在当前线程中按轮次交替运行多个任务的对比测量运行器，用于消除环境随时间的变化对各个任务之间对比结果的影响.
+ *
+ * <p>依次测量多个任务时，CPU 降频、后台任务等环境变化只会影响恰好在那段时间运行的任务，从而决定了对比的结果. 本运行器会在同一次测量中
+ * 按轮次交替运行各个任务，每一轮中每个任务连续运行 {@link Options#getInterleave()} 次，且每一轮中各个任务的运行顺序都是随机的.
+ * 由于同一轮中各个任务的运行时间非常接近，每一轮中本任务与第一个任务的平均耗时之差几乎不受环境变化的影响，
+ * 再根据各轮的差值计算出平均耗时的差异百分比及其 95% 置信区间.</p>
+ *
+ * <p>所有任务都在当前线程中运行. 按执行次数测量时，与 {@link SimpleMeasureRunner} 一样，每个任务都会运行
+ * {@link Options#getThreads()} 与 {@link Options#getRuns()} 之积的次数；按持续时间测量时，所有任务共享这段持续时间.
+ * 预热同样是交替进行的. 各个监视器不会参与交替对比测量.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Slf4j
+final class InterleavedMeasureRunner {
+
+    /**
+     * 运行的选项参数.
+     */
+    private final Options options;
+
+    /**
+     * 各个待对比的任务.
+     */
+    private final Runnable[] runnables;
+
+    /**
+     * 各个任务的测量数据.
+     */
+    private final Candidate[] candidates;
+
+    /**
+     * 打乱每一轮中各个任务运行顺序的随机数生成器.
+     */
+    private final Random random = new Random();
+
+    /**
+     * 构造方法.
+     *
+     * @param options 运行的选项参数
+     * @param runnables 各个待对比的任务
+     */
+    InterleavedMeasureRunner(Options options, Runnable[] runnables) {
+        this.options = options;
+        this.runnables = runnables;
+        this.candidates = new Candidate[runnables.length];
+        for (int i = 0; i < runnables.length; i++) {
+            this.candidates[i] = new Candidate();
+        }
+    }
+
+    /**
+     * 交替预热和正式测量各个任务，并计算出各个任务的测量结果以及相对于第一个任务的差异.
+     *
+     * @return 各个任务的测量结果数组
+     */
+    MeasureResult[] run() {
+        this.warmup();
+
+        // 按轮次交替运行各个任务，并记录每一轮中各个任务的平均耗时.
+        int block = this.options.getInterleave();
+        RunDuration duration = this.options.getDuration();
+        long deadline = duration == null ? Long.MAX_VALUE
+                : System.nanoTime() + duration.getTimeUnit().toNanos(duration.getAmount());
+        long remaining = duration == null ? (long) this.options.getThreads() * this.options.getRuns() : Long.MAX_VALUE;
+        List<double[]> roundAvgs = new ArrayList<>();
+        while (remaining > 0 && System.nanoTime() < deadline) {
+            int runs = (int) Math.min(block, remaining);
+            double[] avgs = new double[this.runnables.length];
+            for (int index : this.shuffledOrder()) {
+                avgs[index] = this.candidates[index].runBlock(runs, this.runnables[index],
+                        this.options.isPrintErrorLog());
+            }
+            roundAvgs.add(avgs);
+            remaining -= runs;
+        }
+        log.debug("【stalker 提示】交替对比测量完毕，共运行了【{}】轮.", roundAvgs.size());
+        return this.toMeasureResults(roundAvgs);
+    }
+
+    /**
+     * 按轮次交替预热各个任务，每一轮中每个任务运行一次.
+     */
+    private void warmup() {
+        for (int i = 0, len = this.options.getWarmups(); i < len; i++) {
+            for (int index : this.shuffledOrder()) {
+                try {
+                    this.runnables[index].run();
+                } catch (Exception e) {
+                    if (this.options.isPrintErrorLog()) {
+                        log.error("【stalker 错误】交替对比测量前进行预热时出错!", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 生成本轮中各个任务的随机运行顺序.
+     *
+     * @return 各个任务的下标数组
+     */
+    private int[] shuffledOrder() {
+        int[] order = new int[this.runnables.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = this.random.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+        return order;
+    }
+
+    /**
+     * 将各个任务的测量数据转换为测量结果，并根据每一轮中各个任务与第一个任务的平均耗时之差，计算出差异百分比及其 95% 置信区间.
+     *
+     * @param roundAvgs 每一轮中各个任务的平均耗时
+     * @return 各个任务的测量结果数组
+     */
+    private MeasureResult[] toMeasureResults(List<double[]> roundAvgs) {
+        MeasureResult[] results = new MeasureResult[this.runnables.length];
+        double baseAvg = this.candidates[0].getAvg();
+        double[] diffs = new double[roundAvgs.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = this.candidates[i].toMeasureResult().setInterleaveRounds(roundAvgs.size());
+            if (i == 0 || baseAvg <= 0) {
+                continue;
+            }
+
+            // 只使用两个任务都有成功运行的轮次，计算成对差值的均值和置信区间.
+            int paired = 0;
+            for (double[] avgs : roundAvgs) {
+                if (!Double.isNaN(avgs[0]) && !Double.isNaN(avgs[i])) {
+                    diffs[paired++] = avgs[i] - avgs[0];
+                }
+            }
+
+            double mean = 0;
+            for (int j = 0; j < paired; j++) {
+                mean += diffs[j] / paired;
+            }
+            double radius = paired < 2 ? 0 : MathKit.calcStudentT975(paired - 1)
+                    * MathKit.calcSampleStdDev(diffs, paired) / Math.sqrt(paired);
+            results[i].setRelativeDiff(mean * 100 / baseAvg)
+                    .setRelativeDiffLower((mean - radius) * 100 / baseAvg)
+                    .setRelativeDiffUpper((mean + radius) * 100 / baseAvg);
+        }
+        return results;
+    }
+
+    /**
+     * 单个任务在交替对比测量期间的累计测量数据，每次成功运行的耗时与其他测量运行器一样由 {@link CostAccumulator} 累计.
+     */
+    private static final class Candidate {
+
+        /**
+         * 耗时的直方图.
+         */
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        /**
+         * 成功运行的耗时的累加器.
+         */
+        private final CostAccumulator accumulator = new CostAccumulator(this.histogram);
+
+        /**
+         * 各轮中运行本任务的总耗时，单位纳秒(ns).
+         */
+        private long costs;
+
+        /**
+         * 失败运行的次数.
+         */
+        private long failure;
+
+        /**
+         * 连续运行本任务若干次，并返回本轮中成功运行的平均耗时.
+         *
+         * @param runs 运行次数
+         * @param runnable 任务
+         * @param printErrorLog 是否打印错误日志
+         * @return 本轮的平均耗时，没有成功运行时返回 {@link Double#NaN}
+         */
+        double runBlock(int runs, Runnable runnable, boolean printErrorLog) {
+            final CostAccumulator currAccumulator = this.accumulator;
+            long blockStart = System.nanoTime();
+            long startCount = currAccumulator.getCount();
+            long startSum = currAccumulator.getSum();
+            for (int i = 0; i < runs; i++) {
+                try {
+                    long eachStart = System.nanoTime();
+                    runnable.run();
+                    currAccumulator.record(System.nanoTime() - eachStart);
+                } catch (Exception e) {
+                    ++this.failure;
+                    if (printErrorLog) {
+                        log.error("【stalker 错误】交替对比测量方法耗时信息出错!", e);
+                    }
+                }
+            }
+
+            this.costs += System.nanoTime() - blockStart;
+            long blockSuccess = currAccumulator.getCount() - startCount;
+            return blockSuccess == 0 ? Double.NaN : (double) (currAccumulator.getSum() - startSum) / blockSuccess;
+        }
+
+        /**
+         * 获取所有成功运行的平均耗时.
+         *
+         * @return 平均耗时，没有成功运行时返回 {@code 0}
+         */
+        double getAvg() {
+            long success = this.accumulator.getCount();
+            return success == 0 ? 0 : (double) this.accumulator.getSum() / success;
+        }
+
+        /**
+         * 将累计的测量数据转换为测量结果.
+         *
+         * @return 测量结果
+         */
+        MeasureResult toMeasureResult() {
+            return this.accumulator.mergeTo(new MergeableResult()
+                    .setCosts(this.costs)
+                    .setFailure(this.failure)
+                    .setHistogram(this.histogram))
+                    .toMeasureResult();
+        }
+
+    }
+
+}
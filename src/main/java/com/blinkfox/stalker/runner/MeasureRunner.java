@@ -1,6 +1,7 @@
 package com.blinkfox.stalker.runner;
 
 import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
 import com.blinkfox.stalker.result.MeasureResult;
 
 /**
@@ -109,4 +110,17 @@ public interface MeasureRunner {
      */
     MeasureResult getMeasureResult();
 
+    /**
+     * 获取运行中的任务的耗时直方图，默认返回一个空的直方图，{@link AbstractMeasureRunner} 的各个子类会返回实际记录的直方图.
+     *
+     * <p>为了兼容在此之前实现了本接口的运行器，本方法提供了默认实现，依赖直方图的监视器在这些运行器上不会统计到任何耗时.</p>
+     *
+     * @return 耗时直方图
+     * @author blinkfox on 2026-10-19.
+     * @since v1.3.0
+     */
+    default LatencyHistogram getHistogram() {
+        return new LatencyHistogram();
+    }
+
 }
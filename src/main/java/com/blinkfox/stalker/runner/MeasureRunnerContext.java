@@ -2,8 +2,14 @@ package com.blinkfox.stalker.runner;
 
 import com.blinkfox.stalker.config.Options;
 import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.monitor.MeasureMonitors;
 import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.result.MergeableResult.MergedRuns;
 import com.blinkfox.stalker.result.StalkerFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -31,12 +37,14 @@ public final class MeasureRunnerContext {
     }
 
     /**
-     * 正式测量前所需要进行预热的方法.
+     * 正式测量前所需要进行预热的方法，在当前线程中运行预热次数的待测量任务，也供远程的工作节点在回复就绪之前预热使用.
+     *
+     * <p>与正式测量时一样，待测量任务抛出的异常会被忽略，{@link Error} 则不会被捕获，而是交给调用方处理.</p>
      *
      * @param options 参数选项
      * @param runnable runnable
      */
-    private static void warmup(Options options, Runnable runnable) {
+    public static void warmup(Options options, Runnable runnable) {
         final boolean printErrorLog = options.isPrintErrorLog();
         log.debug("【stalker 提示】预热开始...");
         long start = System.nanoTime();
@@ -45,7 +53,7 @@ public final class MeasureRunnerContext {
         for (int i = 0, len = options.getWarmups(); i < len; i++) {
             try {
                 runnable.run();
-            } catch (RuntimeException e) {
+            } catch (Exception e) {
                 // 预热时的异常日志，根据配置选项的参数值来看是否输出错误日志.
                 if (printErrorLog) {
                     log.error("【stalker 错误】测量方法前进行预热时出错!", e);
@@ -59,22 +67,135 @@ public final class MeasureRunnerContext {
     }
 
     /**
-     * 检查Options参数是否合法，并进行预热准备，然后执行 runnable 方法，并将执行结果的耗时纳秒(ns)值存入到集合中.
+     * 根据选项参数构造出对应的测量运行器和监视器，并在通知监视器之后进行预热.
      *
+     * @param options 参数选项
      * @param runnable 可运行实例
-     * @return 运行的测量统计结果信息
+     * @return 测量运行器
+     * @since v1.3.0
      */
-    public MeasureResult run(Runnable runnable) {
+    private static AbstractMeasureRunner prepare(Options options, Runnable runnable) {
+        AbstractMeasureRunner measureRunner = newMonitoredRunner(options);
         warmup(options, runnable);
+        return measureRunner;
+    }
+
+    /**
+     * 根据选项参数构造出对应的测量运行器和监视器，并调用各个监视器的 {@code beforeWarmup} 方法，
+     * 每次迭代的测量运行器都通过本方法构造，使各次迭代的监视器都有相同的起点.
+     *
+     * @param options 参数选项
+     * @return 测量运行器
+     * @since v1.3.0
+     */
+    private static AbstractMeasureRunner newMonitoredRunner(Options options) {
+        AbstractMeasureRunner measureRunner = newMeasureRunner(options);
+        MeasureMonitors monitors = MeasureMonitors.of(options);
+        monitors.beforeWarmup(options);
+        measureRunner.setMonitors(monitors);
+        return measureRunner;
+    }
+
+    /**
+     * 根据选项参数中的测量方式和并发数构造出对应的测量运行器.
+     *
+     * @param options 参数选项
+     * @return 测量运行器
+     * @since v1.3.0
+     */
+    private static AbstractMeasureRunner newMeasureRunner(Options options) {
         if (options.getDuration() != null) {
             return options.getConcurrens() > 1
-                    ? new ConcurrentScheduledMeasureRunner().run(options, runnable)
-                    : new SimpleScheduledMeasureRunner().run(options, runnable);
-        } else {
-            return options.getConcurrens() > 1
-                    ? new ConcurrentMeasureRunner().run(options, runnable)
-                    : new SimpleMeasureRunner().run(options, runnable);
+                    ? new ConcurrentScheduledMeasureRunner()
+                    : new SimpleScheduledMeasureRunner();
         }
+        return options.getConcurrens() > 1
+                ? new ConcurrentMeasureRunner()
+                : new SimpleMeasureRunner();
+    }
+
+    /**
+     * 检查Options参数是否合法，并进行预热准备，然后执行 runnable 方法，并将执行结果的耗时纳秒(ns)值存入到集合中.
+     *
+     * <p>迭代次数大于 {@code 1} 时，预热之后会依次运行多次正式测量，每次迭代都使用新的测量运行器和监视器.</p>
+     *
+     * @param runnable 可运行实例
+     * @return 运行的测量统计结果信息
+     */
+    public MeasureResult run(Runnable runnable) {
+        MeasureResult result = prepare(options, runnable).run(options, runnable);
+        int iterations = options.getIterations();
+        if (iterations <= 1) {
+            return result;
+        }
+
+        List<MeasureResult> iterationResults = new ArrayList<>(iterations);
+        iterationResults.add(result);
+        for (int i = 1; i < iterations && settle(options); i++) {
+            log.debug("【stalker 提示】开始第【{}】次迭代的正式测量.", i + 1);
+            iterationResults.add(newMonitoredRunner(options).run(options, runnable));
+        }
+        return mergeIterations(iterationResults);
+    }
+
+    /**
+     * 在当前线程中按轮次交替预热和正式测量多个任务，并返回各个任务的测量结果，除第一个任务外，
+     * 其余任务的测量结果中都带有相对于第一个任务的平均耗时的差异及其 95% 置信区间.
+     *
+     * @param runnables 各个待对比的任务
+     * @return 各个任务的测量结果数组
+     * @see InterleavedMeasureRunner
+     * @since v1.3.0
+     */
+    public MeasureResult[] runInterleaved(Runnable... runnables) {
+        if (options.getInterleave() <= 0) {
+            throw new IllegalArgumentException("【Stalker 参数异常】交替对比测量时 Options 中的 interleave 的值必须大于0.");
+        }
+        return new InterleavedMeasureRunner(options, runnables).run();
+    }
+
+    /**
+     * 在相邻两次迭代之间，按选项参数执行 GC 并停顿一段时间.
+     *
+     * @param options 参数选项
+     * @return 是否继续运行后续的迭代，停顿期间线程被中断时返回 {@code false}
+     */
+    private static boolean settle(Options options) {
+        if (options.isGcBetweenIterations()) {
+            System.gc();
+        }
+
+        long pause = options.getIterationPause();
+        if (pause > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(pause);
+            } catch (InterruptedException e) {
+                log.warn("【stalker 警示】迭代之间的停顿被中断，将不再运行后续的迭代.");
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 将各次迭代的测量结果依次合并，并计算出各次迭代的平均耗时的均值和样本标准差.
+     *
+     * @param iterationResults 各次迭代的测量结果
+     * @return 合并后的测量结果
+     */
+    private static MeasureResult mergeIterations(List<MeasureResult> iterationResults) {
+        List<MergeableResult> runs = new ArrayList<>(iterationResults.size());
+        for (MeasureResult iterationResult : iterationResults) {
+            runs.add(iterationResult.getMergeableResult());
+        }
+
+        MergedRuns merged = MergeableResult.mergeRuns(runs);
+        return merged.getMeasureResult()
+                .setIterations(merged.getMeasured())
+                .setIterationAvgMean(merged.getAvgMean())
+                .setIterationAvgStdDev(merged.getAvgStdDev())
+                .setIterationResults(iterationResults);
     }
 
     /**
@@ -87,20 +208,8 @@ public final class MeasureRunnerContext {
      * @since v1.2.0
      */
     public static StalkerFuture submit(final Options options, final Runnable runnable) {
-        // 预热运行.
-        warmup(options, runnable);
-
-        // 获取对应的 measureRunner，并将 measureRunner 存储到 map 中，并异步执行任务.
-        MeasureRunner measureRunner;
-        if (options.getDuration() != null) {
-            measureRunner = options.getConcurrens() > 1
-                    ? new ConcurrentScheduledMeasureRunner()
-                    : new SimpleScheduledMeasureRunner();
-        } else {
-            measureRunner = options.getConcurrens() > 1
-                    ? new ConcurrentMeasureRunner()
-                    : new SimpleMeasureRunner();
-        }
+        // 预热运行，并获取对应的 measureRunner.
+        MeasureRunner measureRunner = prepare(options, runnable);
 
         // 构造 StalkerFuture 对象，并开始运行任务.
         StalkerFuture stalkerFuture = new StalkerFuture(options, runnable, measureRunner);
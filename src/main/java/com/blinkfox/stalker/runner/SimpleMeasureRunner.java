@@ -41,27 +41,14 @@ public class SimpleMeasureRunner extends AbstractMeasureRunner {
     @Override
     public MeasureResult run(Options options, Runnable runnable) {
         boolean printErrorLog = options.isPrintErrorLog();
-        int totalCount = options.getThreads() * options.getRuns();
+        long totalCount = (long) options.getThreads() * options.getRuns();
         super.startNanoTime = System.nanoTime();
+        super.startMonitors(options);
 
         // 由于并发数是 1，直接单线程循环执行 (runs * threads) 次即可，
         // 将执行的相关任务以 Future 的形式来执行，便于程序动态取消任务或判断任务执行情况等.
-        this.measureFuture = super.executorService.submit(() -> {
-            for (int i = 0; i < totalCount; ++i) {
-                try {
-                    // 开始执行测量任务，记录开始时间、执行次数等.
-                    long eachStart = System.nanoTime();
-                    runnable.run();
-                    super.eachMeasures.offer(System.nanoTime() - eachStart);
-                    super.success.increment();
-                } catch (Exception e) {
-                    super.failure.increment();
-                    if (printErrorLog) {
-                        log.error("【stalker 错误】测量方法耗时信息出错!", e);
-                    }
-                }
-            }
-        });
+        this.measureFuture = super.executorService.submit(() ->
+                super.loopMeasure(totalCount, printErrorLog, runnable));
 
         // 阻塞调用要执行的测量任务，达到等待任务结束的目的.
         try {
@@ -76,6 +63,7 @@ public class SimpleMeasureRunner extends AbstractMeasureRunner {
         super.setEndNanoTimeIfEmpty(System.nanoTime());
         super.completed.compareAndSet(false, true);
         StalkerExecutors.shutdownNow(super.executorService);
+        super.stopMonitors();
         return super.getMeasureResult();
     }
 
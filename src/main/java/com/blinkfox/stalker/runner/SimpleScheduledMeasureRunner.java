@@ -50,29 +50,11 @@ public class SimpleScheduledMeasureRunner extends SimpleMeasureRunner {
     public MeasureResult run(Options options, Runnable runnable) {
         boolean printErrorLog = options.isPrintErrorLog();
         super.startNanoTime = System.nanoTime();
+        super.startMonitors(options);
 
-        // 将单线程中执行的任务放在 while 循环中，一直执行下去.
-        super.measureFuture = executorService.submit(() -> {
-            while (true) {
-                // 如果任务已经完成或取消，就直接退出了.
-                if (super.executorService.isShutdown()) {
-                    break;
-                }
-
-                try {
-                    // 开始执行测量任务，记录开始时间、执行次数等.
-                    long eachStart = System.nanoTime();
-                    runnable.run();
-                    super.eachMeasures.offer(System.nanoTime() - eachStart);
-                    super.success.increment();
-                } catch (Exception e) {
-                    super.failure.increment();
-                    if (printErrorLog) {
-                        log.error("【stalker 错误】测量方法耗时信息出错!", e);
-                    }
-                }
-            }
-        });
+        // 将单线程中执行的任务一直循环执行下去，直到线程池关闭，即任务已经完成或取消了.
+        super.measureFuture = executorService.submit(() ->
+                super.loopMeasure(Long.MAX_VALUE, printErrorLog, runnable));
 
         // 到指定的持续时间之后，就取消执行中的任务,并关闭线程池.
         // 注意，由于是定时任务，所以“是否取消”也设置为 false，用于区分是否是人为取消了任务，只有人为取消的才是 true.
@@ -101,6 +83,7 @@ public class SimpleScheduledMeasureRunner extends SimpleMeasureRunner {
         if (!this.scheduledFuture.isDone()) {
             this.scheduledFuture.cancel(true);
         }
+        super.stopMonitors();
         return super.getMeasureResult();
     }
 
@@ -0,0 +1,326 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.kit.StrKit;
+import com.blinkfox.stalker.monitor.jfr.MeasurementEvent;
+import com.blinkfox.stalker.monitor.jfr.PhaseEvent;
+import com.blinkfox.stalker.monitor.jfr.SlowInvocationEvent;
+import com.blinkfox.stalker.monitor.jfr.SnapshotEvent;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.runner.MeasureRunner;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.Configuration;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在测量期间发送 Stalker 自定义 JFR 事件的监视器，并且可以开启一个只覆盖本次测量任务的 JFR 记录，仅在 Java 11 及以上的版本中可用.
+ *
+ * <p>发送的事件包括：覆盖整个测量任务的 {@link MeasurementEvent}，预热阶段和正式测量阶段的 {@link PhaseEvent}，
+ * 正式测量期间按 JFR 周期发送的吞吐量和耗时快照 {@link SnapshotEvent}，以及耗时超过 {@link Options#getJfrSlowThreshold()}
+ * 的单次执行 {@link SlowInvocationEvent}. 在 JDK Mission Control 中就可以将这些事件与同一时间段内的 GC、锁和 I/O 等事件关联起来分析.</p>
+ *
+ * <p>慢执行事件由测量线程在该次执行结束时发送，只有在存在开启了该事件的 JFR 记录时才会分配事件对象.</p>
+ *
+ * @author blinkfox on 2026-10-19.
+ * @see JfrSupport
+ * @since v1.3.0
+ */
+@Slf4j
+public class JfrMonitor implements MeasureMonitor {
+
+    /**
+     * JFR 记录文件的后缀.
+     */
+    static final String FILE_SUFFIX = ".jfr";
+
+    /**
+     * 同一个进程中生成文件名时使用的序号.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * 慢执行事件的事件类型，用于在发送事件前判断该事件是否被开启.
+     */
+    private static final EventType SLOW_INVOCATION_TYPE = EventType.getEventType(SlowInvocationEvent.class);
+
+    /**
+     * 运行的配置选项实例.
+     */
+    private final Options options;
+
+    /**
+     * 测量任务的名称.
+     */
+    private final String name;
+
+    /**
+     * 发送慢执行事件的耗时阈值，单位纳秒(ns)，不发送时为 {@link Long#MAX_VALUE}.
+     */
+    private final long slowThreshold;
+
+    /**
+     * 覆盖整个测量任务的事件.
+     */
+    private final MeasurementEvent measurementEvent;
+
+    /**
+     * 当前阶段的事件.
+     */
+    private PhaseEvent phaseEvent;
+
+    /**
+     * 本次测量任务的 JFR 记录，没有开启时为 {@code null}.
+     */
+    private Recording recording;
+
+    /**
+     * 写入的 JFR 记录文件，没有写入时为 {@code null}.
+     */
+    private volatile File file;
+
+    /**
+     * 正在运行的测量运行器.
+     */
+    private volatile MeasureRunner runner;
+
+    /**
+     * 注册到 JFR 中的周期性发送快照事件的任务.
+     */
+    private Runnable snapshotHook;
+
+    /**
+     * 上一次快照的时刻，单位纳秒(ns).
+     */
+    private long lastTime;
+
+    /**
+     * 上一次快照时的成功次数.
+     */
+    private long lastSuccess;
+
+    /**
+     * 上一次快照时的耗时直方图.
+     */
+    private LatencyHistogram lastHistogram;
+
+    /**
+     * 构造方法.
+     *
+     * @param options 运行的配置选项实例
+     */
+    public JfrMonitor(Options options) {
+        this.options = options;
+        this.name = StrKit.isEmpty(options.getName()) ? "stalker" : options.getName();
+        this.slowThreshold = options.getJfrSlowThreshold() > 0 ? options.getJfrSlowThreshold() : Long.MAX_VALUE;
+        this.measurementEvent = new MeasurementEvent();
+        this.measurementEvent.name = this.name;
+    }
+
+    /**
+     * 在预热开始前开启 JFR 记录（如果需要的话），并开始测量任务事件和预热阶段事件.
+     *
+     * @param options 运行的配置选项实例
+     */
+    @Override
+    public void beforeWarmup(Options options) {
+        this.startRecording();
+        this.measurementEvent.begin();
+        this.phaseEvent = this.beginPhase(PhaseEvent.WARMUP);
+    }
+
+    /**
+     * 开启只覆盖本次测量任务的 JFR 记录，结束时写入到 {@link Options#getJfrRecordingDir()} 目录下的文件中.
+     */
+    private void startRecording() {
+        String dirPath = this.options.getJfrRecordingDir();
+        if (StrKit.isEmpty(dirPath) || this.recording != null) {
+            return;
+        }
+
+        File dir = new File(dirPath);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            log.warn("【Stalker 警示】无法创建 JFR 记录文件的目录【{}】，将不会开启 JFR 记录.", dir);
+            return;
+        }
+
+        File jfrFile = new File(dir, StrKit.join(this.name, "-", SharedCountersLayout.currentPid(), "-",
+                SEQUENCE.incrementAndGet(), FILE_SUFFIX));
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration("default"));
+            newRecording.setName("Stalker " + this.name);
+            newRecording.setToDisk(true);
+            newRecording.setDestination(jfrFile.toPath());
+            newRecording.start();
+            this.recording = newRecording;
+        } catch (Exception e) {
+            log.error("【Stalker 错误提示】开启 JFR 记录【{}】时出错！", jfrFile, e);
+        }
+    }
+
+    /**
+     * 开始一个阶段事件.
+     *
+     * @param phase 阶段的名称
+     * @return 阶段事件
+     */
+    private PhaseEvent beginPhase(String phase) {
+        PhaseEvent event = new PhaseEvent();
+        event.name = this.name;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束并提交当前的阶段事件.
+     */
+    private void commitPhase() {
+        if (this.phaseEvent != null) {
+            this.phaseEvent.commit();
+            this.phaseEvent = null;
+        }
+    }
+
+    /**
+     * 在正式测量开始时结束预热阶段事件，开始正式测量阶段事件，并注册周期性发送快照事件的任务.
+     *
+     * @param options 运行的配置选项实例
+     * @param runner 正在运行的测量运行器
+     */
+    @Override
+    public void start(Options options, MeasureRunner runner) {
+        if (this.phaseEvent == null) {
+            this.beforeWarmup(options);
+        }
+        this.commitPhase();
+        this.phaseEvent = this.beginPhase(PhaseEvent.MEASUREMENT);
+
+        synchronized (this) {
+            this.lastTime = System.nanoTime();
+            this.lastSuccess = runner.getSuccess();
+            this.lastHistogram = runner.getHistogram().copy();
+            this.runner = runner;
+        }
+        this.snapshotHook = this::snapshot;
+        FlightRecorder.addPeriodicEvent(SnapshotEvent.class, this.snapshotHook);
+    }
+
+    /**
+     * 发送上一次快照以来的区间内的吞吐量和耗时快照事件.
+     */
+    private synchronized void snapshot() {
+        if (this.runner == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long success = this.runner.getSuccess();
+        LatencyHistogram histogram = this.runner.getHistogram().copy();
+        LatencyHistogram delta = histogram.since(this.lastHistogram);
+        SnapshotEvent event = new SnapshotEvent();
+        event.name = this.name;
+        event.ops = success - this.lastSuccess;
+        event.throughput = MathKit.calcThroughput(event.ops, now - this.lastTime);
+        event.meanLatency = (long) delta.getMean();
+        event.p99Latency = delta.getValueAtPercentile(99);
+        event.commit();
+
+        this.lastTime = now;
+        this.lastSuccess = success;
+        this.lastHistogram = histogram;
+    }
+
+    /**
+     * 获取发送慢执行事件的耗时阈值.
+     *
+     * @return 耗时阈值
+     */
+    @Override
+    public long getSlowSampleNanos() {
+        return this.slowThreshold;
+    }
+
+    /**
+     * 在存在开启了慢执行事件的 JFR 记录时，发送本次慢执行的事件.
+     *
+     * @param startNanos 本次执行开始时的 {@link System#nanoTime()} 值
+     * @param cost 本次执行的耗时，单位纳秒(ns)
+     */
+    @Override
+    public void onWorkerSlowSample(long startNanos, long cost) {
+        MeasureRunner currRunner = this.runner;
+        if (cost < this.slowThreshold || currRunner == null || !SLOW_INVOCATION_TYPE.isEnabled()) {
+            return;
+        }
+
+        SlowInvocationEvent event = new SlowInvocationEvent();
+        event.name = this.name;
+        event.cost = cost;
+        event.startOffset = startNanos - currRunner.getStartNanoTime();
+        event.commit();
+    }
+
+    /**
+     * 在正式测量结束时发送最后一次快照事件，提交正式测量阶段事件和测量任务事件，并停止 JFR 记录.
+     */
+    @Override
+    public void stop() {
+        if (this.snapshotHook != null) {
+            FlightRecorder.removePeriodicEvent(this.snapshotHook);
+            this.snapshot();
+        }
+        this.commitPhase();
+
+        MeasureRunner currRunner = this.runner;
+        if (currRunner != null) {
+            this.measurementEvent.threads = this.options.getThreads();
+            this.measurementEvent.concurrens = this.options.getConcurrens();
+            this.measurementEvent.success = currRunner.getSuccess();
+            this.measurementEvent.failure = currRunner.getFailure();
+            this.measurementEvent.total = currRunner.getTotal();
+            this.measurementEvent.throughput = MathKit.calcThroughput(currRunner.getSuccess(), currRunner.getCosts());
+        }
+        this.measurementEvent.commit();
+        this.stopRecording();
+    }
+
+    /**
+     * 停止 JFR 记录，并将其写入到文件中.
+     */
+    private void stopRecording() {
+        Recording currRecording = this.recording;
+        if (currRecording == null) {
+            return;
+        }
+
+        try {
+            currRecording.stop();
+            this.file = currRecording.getDestination().toFile();
+        } catch (Exception e) {
+            log.error("【Stalker 错误提示】停止 JFR 记录【{}】时出错！", currRecording.getDestination(), e);
+        } finally {
+            currRecording.close();
+            this.recording = null;
+        }
+    }
+
+    /**
+     * 将写入的 JFR 记录文件填充到测量结果中.
+     *
+     * @param result 测量结果
+     */
+    @Override
+    public void fill(MeasureResult result) {
+        File jfrFile = this.file;
+        if (jfrFile != null) {
+            result.setJfrFile(jfrFile.getAbsolutePath());
+        }
+    }
+
+}
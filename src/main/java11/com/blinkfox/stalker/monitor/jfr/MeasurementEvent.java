@@ -0,0 +1,66 @@
+package com.blinkfox.stalker.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 一次完整的测量任务（从预热开始到正式测量结束）的 JFR 事件.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Name("com.blinkfox.stalker.Measurement")
+@Label("Stalker Measurement")
+@Category("Stalker")
+@Description("一次完整的测量任务，从预热开始到正式测量结束.")
+@StackTrace(false)
+public class MeasurementEvent extends Event {
+
+    /**
+     * 测量任务的名称.
+     */
+    @Label("Name")
+    public String name;
+
+    /**
+     * 线程数.
+     */
+    @Label("Threads")
+    public int threads;
+
+    /**
+     * 并发数.
+     */
+    @Label("Concurrency")
+    public int concurrens;
+
+    /**
+     * 执行的总次数.
+     */
+    @Label("Total")
+    public long total;
+
+    /**
+     * 执行成功的次数.
+     */
+    @Label("Success")
+    public long success;
+
+    /**
+     * 执行失败的次数.
+     */
+    @Label("Failure")
+    public long failure;
+
+    /**
+     * 吞吐量，即每秒执行的次数.
+     */
+    @Label("Throughput")
+    @Description("每秒执行的次数.")
+    public double throughput;
+
+}
@@ -0,0 +1,45 @@
+package com.blinkfox.stalker.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 测量任务中的某个阶段（预热阶段或正式测量阶段）的 JFR 事件.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Name("com.blinkfox.stalker.Phase")
+@Label("Stalker Phase")
+@Category("Stalker")
+@Description("测量任务中的预热阶段或正式测量阶段.")
+@StackTrace(false)
+public class PhaseEvent extends Event {
+
+    /**
+     * 预热阶段的名称.
+     */
+    public static final String WARMUP = "warmup";
+
+    /**
+     * 正式测量阶段的名称.
+     */
+    public static final String MEASUREMENT = "measurement";
+
+    /**
+     * 测量任务的名称.
+     */
+    @Label("Name")
+    public String name;
+
+    /**
+     * 阶段的名称.
+     */
+    @Label("Phase")
+    public String phase;
+
+}
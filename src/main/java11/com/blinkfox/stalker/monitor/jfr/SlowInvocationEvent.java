@@ -0,0 +1,44 @@
+package com.blinkfox.stalker.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 正式测量期间耗时超过阈值的单次执行的 JFR 事件，在该次执行结束时由测量线程发送.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Name("com.blinkfox.stalker.SlowInvocation")
+@Label("Stalker Slow Invocation")
+@Category("Stalker")
+@Description("正式测量期间耗时超过阈值的单次执行，事件线程即为测量线程.")
+@StackTrace(false)
+public class SlowInvocationEvent extends Event {
+
+    /**
+     * 测量任务的名称.
+     */
+    @Label("Name")
+    public String name;
+
+    /**
+     * 本次执行的耗时.
+     */
+    @Label("Cost")
+    @Timespan
+    public long cost;
+
+    /**
+     * 本次执行开始的时刻相对于正式测量开始时刻的偏移量.
+     */
+    @Label("Start Offset")
+    @Timespan
+    public long startOffset;
+
+}
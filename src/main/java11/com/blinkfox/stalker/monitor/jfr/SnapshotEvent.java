@@ -0,0 +1,59 @@
+package com.blinkfox.stalker.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 正式测量期间按 JFR 周期（默认每秒）发送的吞吐量和耗时快照的 JFR 事件，数据均为上一次快照以来的区间内的数据.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+@Name("com.blinkfox.stalker.Snapshot")
+@Label("Stalker Snapshot")
+@Category("Stalker")
+@Description("正式测量期间上一次快照以来的区间内的吞吐量和耗时.")
+@Period("1 s")
+@StackTrace(false)
+public class SnapshotEvent extends Event {
+
+    /**
+     * 测量任务的名称.
+     */
+    @Label("Name")
+    public String name;
+
+    /**
+     * 区间内执行成功的次数.
+     */
+    @Label("Operations")
+    public long ops;
+
+    /**
+     * 区间内的吞吐量，即每秒执行的次数.
+     */
+    @Label("Throughput")
+    @Description("每秒执行的次数.")
+    public double throughput;
+
+    /**
+     * 区间内的平均耗时.
+     */
+    @Label("Mean Latency")
+    @Timespan
+    public long meanLatency;
+
+    /**
+     * 区间内耗时的 p99 百分位值.
+     */
+    @Label("p99 Latency")
+    @Timespan
+    public long p99Latency;
+
+}
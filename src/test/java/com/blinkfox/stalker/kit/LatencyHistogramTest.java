@@ -0,0 +1,61 @@
+package com.blinkfox.stalker.kit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link LatencyHistogram} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void indexOf() {
+        Assert.assertEquals(0, LatencyHistogram.indexOf(-5));
+        Assert.assertEquals(31, LatencyHistogram.indexOf(31));
+        Assert.assertEquals(32, LatencyHistogram.indexOf(32));
+        Assert.assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+        for (long value : new long[] {33, 1000, 123_456, 5_000_000_000L}) {
+            int index = LatencyHistogram.indexOf(value);
+            Assert.assertTrue(LatencyHistogram.lowerBoundOf(index) <= value);
+            Assert.assertTrue(LatencyHistogram.upperBoundOf(index) >= value);
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(0, histogram.getMean(), 0);
+        for (int i = 1; i <= 1000; ++i) {
+            histogram.record(i * 1000L);
+        }
+
+        Assert.assertEquals(1000, histogram.getTotalCount());
+        Assert.assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 * 0.04);
+        Assert.assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 * 0.04);
+        Assert.assertEquals(500_500, histogram.getMean(), 500_500 * 0.04);
+        Assert.assertTrue(histogram.getMaxValue() >= 1_000_000);
+        Assert.assertEquals(1000, histogram.getCountAtOrAbove(0));
+
+        // p99 所在桶的宽度约为其值的 3%，因此不小于 p99 的次数会包含该桶内的全部数据.
+        long tailCount = histogram.getCountAtOrAbove(histogram.getValueAtPercentile(99));
+        Assert.assertTrue(tailCount >= 10 && tailCount <= 10 + 1000 * 0.04);
+    }
+
+    @Test
+    public void addAndSince() {
+        LatencyHistogram before = new LatencyHistogram();
+        before.record(100);
+        LatencyHistogram after = before.copy();
+        after.record(200);
+        after.record(300);
+
+        LatencyHistogram delta = after.since(before);
+        Assert.assertEquals(2, delta.getTotalCount());
+        Assert.assertEquals(5, delta.add(after).getTotalCount());
+    }
+
+}
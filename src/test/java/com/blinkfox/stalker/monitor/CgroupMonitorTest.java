@@ -0,0 +1,104 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.config.StalkerConfigManager;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 容器 CPU 配额和 CPU 限流统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class CgroupMonitorTest {
+
+    @Test
+    public void readCgroupV1() throws IOException {
+        File root = Files.createTempDirectory("stalker-cgroup").toFile();
+        write(root, "proc/self/mountinfo", "32 24 0:28 / /sys/fs/cgroup rw,relatime - tmpfs tmpfs rw,mode=755\n"
+                + "33 32 0:29 / /sys/fs/cgroup/cpu,cpuacct rw,relatime shared:9 - cgroup cgroup rw,cpu,cpuacct\n"
+                + "35 32 0:31 / /sys/fs/cgroup/cpuset rw,relatime - cgroup cgroup rw,cpuset\n"
+                + "42 32 0:38 / /sys/fs/cgroup/unified rw,relatime - cgroup2 cgroup2 rw\n");
+        write(root, "proc/self/cgroup", "3:cpuset:/\n2:cpu,cpuacct:/kubepods/pod1\n0::/\n");
+        write(root, "sys/fs/cgroup/cpu,cpuacct/kubepods/pod1/cpu.cfs_quota_us", "150000\n");
+        write(root, "sys/fs/cgroup/cpu,cpuacct/kubepods/pod1/cpu.cfs_period_us", "100000\n");
+        write(root, "sys/fs/cgroup/cpu,cpuacct/kubepods/pod1/cpu.stat",
+                "nr_periods 20\nnr_throttled 4\nthrottled_time 123456789\n");
+
+        CgroupFs cgroupFs = new CgroupFs(root);
+        Assert.assertTrue(cgroupFs.isAvailable());
+        Assert.assertEquals(1.5, cgroupFs.readCpuQuota(), 0.001);
+        Assert.assertArrayEquals(new long[] {20, 4, 123456789}, cgroupFs.readThrottling());
+        Assert.assertEquals(Math.min(2, Runtime.getRuntime().availableProcessors()), cgroupFs.getAvailableCpus());
+    }
+
+    @Test
+    public void readCgroupV2() throws IOException {
+        File root = Files.createTempDirectory("stalker-cgroup").toFile();
+        write(root, "proc/self/mountinfo", "30 23 0:26 / /sys/fs/cgroup rw,nosuid - cgroup2 cgroup2 rw,nsdelegate\n");
+        write(root, "proc/self/cgroup", "0::/\n");
+        write(root, "sys/fs/cgroup/cpu.max", "max 100000\n");
+        write(root, "sys/fs/cgroup/cpu.stat", "usage_usec 1000\nnr_periods 10\nnr_throttled 0\nthrottled_usec 0\n");
+
+        CgroupFs cgroupFs = new CgroupFs(root);
+        Assert.assertTrue(cgroupFs.isAvailable());
+        Assert.assertEquals(-1, cgroupFs.readCpuQuota(), 0);
+        Assert.assertArrayEquals(new long[] {10, 0, 0}, cgroupFs.readThrottling());
+        Assert.assertEquals(Runtime.getRuntime().availableProcessors(), cgroupFs.getAvailableCpus());
+
+        write(root, "sys/fs/cgroup/cpu.max", "50000 100000\n");
+        Assert.assertEquals(0.5, cgroupFs.readCpuQuota(), 0.001);
+        Assert.assertEquals(1, cgroupFs.getAvailableCpus());
+    }
+
+    @Test
+    public void readMissingCgroup() throws IOException {
+        CgroupFs cgroupFs = new CgroupFs(Files.createTempDirectory("stalker-cgroup").toFile());
+        Assert.assertFalse(cgroupFs.isAvailable());
+        Assert.assertEquals(-1, cgroupFs.readCpuQuota(), 0);
+        Assert.assertNull(cgroupFs.readThrottling());
+    }
+
+    @Test
+    public void throttlingDuringRun() throws IOException {
+        File root = Files.createTempDirectory("stalker-cgroup").toFile();
+        write(root, "proc/self/mountinfo", "30 23 0:26 / /sys/fs/cgroup rw,nosuid - cgroup2 cgroup2 rw\n");
+        write(root, "proc/self/cgroup", "0::/\n");
+        write(root, "sys/fs/cgroup/cpu.max", "100000 100000\n");
+        write(root, "sys/fs/cgroup/cpu.stat", "nr_periods 10\nnr_throttled 1\nthrottled_usec 500\n");
+
+        CgroupMonitor monitor = new CgroupMonitor(new CgroupFs(root));
+        monitor.start(Options.of(), null);
+        write(root, "sys/fs/cgroup/cpu.stat", "nr_periods 30\nnr_throttled 6\nthrottled_usec 80500\n");
+        monitor.stop();
+
+        MeasureResult result = new MeasureResult();
+        monitor.fill(result);
+        Assert.assertTrue(result.isCgroupTracked());
+        Assert.assertTrue(result.isCpuThrottled());
+        Assert.assertEquals(1, result.getCpuQuota(), 0.001);
+        Assert.assertEquals(20, result.getCpuPeriods());
+        Assert.assertEquals(5, result.getThrottledPeriods());
+        Assert.assertEquals(80_000_000, result.getThrottledTime());
+        Assert.assertEquals(25, result.getThrottledPercent(), 0.001);
+    }
+
+    @Test
+    public void concurrensByCpus() {
+        Assert.assertEquals(StalkerConfigManager.getInstance().getAvailableCpus(),
+                Options.of().concurrensByCpus().getConcurrens());
+    }
+
+    private static void write(File root, String path, String content) throws IOException {
+        File file = new File(root, path);
+        Assert.assertTrue(file.getParentFile().isDirectory() || file.getParentFile().mkdirs());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
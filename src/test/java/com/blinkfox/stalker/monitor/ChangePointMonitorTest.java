@@ -0,0 +1,66 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.ChangePoint;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 吞吐量和平均耗时变点检测的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class ChangePointMonitorTest {
+
+    @Test
+    public void intervalByOptions() {
+        Assert.assertEquals(TimeUnit.SECONDS.toNanos(1), ChangePointMonitor.getIntervalNanos(Options.of()));
+        Assert.assertEquals(TimeUnit.SECONDS.toNanos(36),
+                ChangePointMonitor.getIntervalNanos(Options.ofDuration(1, TimeUnit.HOURS)));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(100),
+                ChangePointMonitor.getIntervalNanos(Options.ofDuration(2, TimeUnit.SECONDS)));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(20), ChangePointMonitor.getIntervalNanos(
+                Options.of().changePointInterval(20, TimeUnit.MILLISECONDS)));
+    }
+
+    @Test
+    public void throughputStepChange() {
+        AtomicLong start = new AtomicLong();
+        MeasureResult result = Stalker.runStatis(Options.ofDuration(2, TimeUnit.SECONDS).warmups(0)
+                .changePointInterval(50, TimeUnit.MILLISECONDS), () -> {
+                    start.compareAndSet(0, System.nanoTime());
+                    sleep(System.nanoTime() - start.get() < TimeUnit.SECONDS.toNanos(1) ? 1 : 4);
+                })[0];
+
+        ChangePoint throughput = result.getChangePoints().stream()
+                .filter(changePoint -> !changePoint.isLatency() && changePoint.isDegraded())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(result.getChangePoints().toString()));
+        Assert.assertTrue(throughput.getChangePercent() < -30);
+        Assert.assertEquals(1000, TimeUnit.NANOSECONDS.toMillis(throughput.getOffset()), 150);
+        Assert.assertTrue(result.isPerformanceShifted());
+        Assert.assertTrue(result.getChangePoints().stream().anyMatch(ChangePoint::isLatency));
+    }
+
+    @Test
+    public void disableChangePointStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("change", 2).warmups(0).changePointStats(false),
+                () -> { })[0];
+        Assert.assertTrue(result.getChangePoints().isEmpty());
+        Assert.assertFalse(result.isPerformanceShifted());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * 测量线程 CPU 时间统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class CpuTimeMonitorTest {
+
+    /**
+     * 用于防止忙等的循环被 JIT 优化掉.
+     */
+    private static volatile long sink;
+
+    @Test
+    public void wallCpuRatio() {
+        Assume.assumeTrue(CpuTimeMonitor.isSupported());
+        MeasureResult[] results = Stalker.runStatis(Options.of("cpu", 100).warmups(0),
+                CpuTimeMonitorTest::spin,
+                () -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)));
+
+        MeasureResult busy = results[0];
+        Assert.assertTrue(busy.isCpuTracked());
+        Assert.assertTrue(busy.getCpuTime() > 0);
+        Assert.assertTrue(busy.getCpuAvg() > 0 && busy.getCpuMin() <= busy.getCpuMax());
+        Assert.assertTrue(results[1].toString(), results[1].getWallCpuRatio() > 5);
+        Assert.assertTrue(busy.toString(), busy.getWallCpuRatio() * 2 < results[1].getWallCpuRatio());
+    }
+
+    @Test
+    public void processCpu() {
+        Assume.assumeTrue(ProcessCpuMonitor.isSupported());
+        MeasureResult result = Stalker.runStatis(Options.of("cpu", 4, 4).runs(50).warmups(0),
+                CpuTimeMonitorTest::spin)[0];
+
+        Assert.assertTrue(result.isProcessCpuTracked());
+        Assert.assertTrue(result.getProcessCpuTime() > 0);
+        Assert.assertTrue(result.toString(), result.getCpuCores() > 0.5);
+        Assert.assertTrue(result.getCpuUtilization() > 0);
+        Assert.assertTrue(result.getOpsPerCpuSecond() > 0 && result.getOpsPerCpuSecond() < 1_000_000);
+    }
+
+    @Test
+    public void disableCpuStats() {
+        MeasureResult[] results = Stalker.runStatis(Options.of("cpu", 10).warmups(0).cpuStats(false),
+                CpuTimeMonitorTest::spin);
+        Assert.assertFalse(results[0].isCpuTracked());
+        Assert.assertEquals(0, results[0].getCpuTime());
+    }
+
+    /**
+     * 忙等约 100 微秒.
+     */
+    private static void spin() {
+        long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(100);
+        long count = 0;
+        while (System.nanoTime() < end) {
+            ++count;
+        }
+        sink = count;
+    }
+
+}
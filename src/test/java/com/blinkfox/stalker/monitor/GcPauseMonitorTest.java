@@ -0,0 +1,57 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * GC 停顿关联的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class GcPauseMonitorTest {
+
+    @Test
+    public void gcOverlappedSamples() {
+        Assume.assumeTrue(HotSpotPerfData.getInstance().isAvailable());
+        MeasureResult result = Stalker.runStatis(Options.of("gc", 20).warmups(0), System::gc)[0];
+
+        Assert.assertTrue(result.isGcPauseTracked());
+        Assert.assertTrue(result.toString(), result.getGcPauses() > 0);
+        Assert.assertTrue(result.toString(), result.getGcOverlappedSamples() > 0);
+        Assert.assertTrue(result.toString(), result.getGcTailPercent() > 0);
+        Assert.assertTrue(result.getLatencyP99WithoutGc() <= result.getLatencyP99());
+    }
+
+    @Test
+    public void noGcNoOverlappedSamples() {
+        Assume.assumeTrue(HotSpotPerfData.getInstance().isAvailable());
+        MeasureResult result = Stalker.runStatis(Options.of("sleep", 20).warmups(0), this::sleep)[0];
+
+        Assert.assertTrue(result.isGcPauseTracked());
+        if (result.getGcPauses() == 0) {
+            Assert.assertEquals(result.toString(), 0, result.getGcOverlappedSamples());
+            Assert.assertEquals(result.getLatencyP99(), result.getLatencyP99WithoutGc());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void disableGcPauseStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("gc", 10).warmups(0).gcPauseStats(false), () -> { })[0];
+        Assert.assertFalse(result.isGcPauseTracked());
+        Assert.assertFalse(result.isGcTailSignificant());
+    }
+
+}
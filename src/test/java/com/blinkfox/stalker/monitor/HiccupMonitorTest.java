@@ -0,0 +1,40 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 平台停顿检测的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class HiccupMonitorTest {
+
+    @Test
+    public void hiccups() {
+        MeasureResult result = Stalker.runStatis(Options.of("hiccup", 50).warmups(0).hiccupStats(true),
+                () -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)))[0];
+
+        Assert.assertTrue(result.isHiccupTracked());
+        Assert.assertTrue(result.toString(), result.getHiccupSamples() > 0);
+        Assert.assertTrue(result.getHiccupP50() <= result.getHiccupP99());
+        Assert.assertTrue(result.getHiccupP99() <= result.getHiccupP999());
+        Assert.assertTrue(result.getLatencyP50() >= TimeUnit.MILLISECONDS.toNanos(1) * 0.9);
+        Assert.assertTrue(result.getLatencyP50() <= result.getLatencyP99());
+    }
+
+    @Test
+    public void disableHiccupStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("hiccup", 10).warmups(0).hiccupStats(false), () -> { })[0];
+        Assert.assertFalse(result.isHiccupTracked());
+        Assert.assertEquals(0, result.getHiccupSamples());
+        Assert.assertTrue(result.getLatencyP50() > 0);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * JFR 事件和 JFR 记录的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class JfrMonitorTest {
+
+    @Test
+    public void recordStalkerEvents() throws IOException {
+        Assume.assumeTrue(JfrSupport.isAvailable());
+        File dir = Files.createTempDirectory("stalker-jfr").toFile();
+        MeasureResult result = Stalker.runStatis(Options.of("jfr", 20).warmups(2).jfrRecordingDir(dir.getPath())
+                .jfrSlowThreshold(1, TimeUnit.MILLISECONDS), () -> sleep(2))[0];
+
+        Assert.assertNotNull(result.getJfrFile());
+        File jfrFile = new File(result.getJfrFile());
+        Assert.assertTrue(jfrFile.isFile());
+        Assert.assertTrue(jfrFile.getName().startsWith("jfr-"));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(jfrFile.toPath());
+        Map<String, Long> counts = events.stream()
+                .map(event -> event.getEventType().getName())
+                .filter(name -> name.startsWith("com.blinkfox.stalker."))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Assert.assertEquals(Long.valueOf(1), counts.get("com.blinkfox.stalker.Measurement"));
+        Assert.assertEquals(Long.valueOf(2), counts.get("com.blinkfox.stalker.Phase"));
+        Assert.assertTrue(counts.toString(), counts.getOrDefault("com.blinkfox.stalker.Snapshot", 0L) >= 1);
+        Assert.assertEquals(Long.valueOf(20), counts.get("com.blinkfox.stalker.SlowInvocation"));
+
+        RecordedEvent measurement = events.stream()
+                .filter(event -> "com.blinkfox.stalker.Measurement".equals(event.getEventType().getName()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assert.assertEquals(20, measurement.getLong("success"));
+        Assert.assertEquals("jfr", measurement.getString("name"));
+    }
+
+    @Test
+    public void disableJfr() {
+        MeasureResult result = Stalker.runStatis(Options.of("jfr", 2).warmups(0), () -> { })[0];
+        Assert.assertNull(result.getJfrFile());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JIT 编译活动统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class JitMonitorTest {
+
+    @Test
+    public void jitActivity() {
+        MeasureResult result = Stalker.runStatis(Options.of("jit", 100).warmups(100),
+                () -> Math.sqrt(System.nanoTime()))[0];
+
+        Assert.assertTrue(result.isJitTracked());
+        Assert.assertTrue(result.toString(), result.getWarmupJitTime() >= 0);
+        if (HotSpotPerfData.getInstance().isAvailable()) {
+            Assert.assertTrue(result.getJitCompiles() >= 0 && result.getJitDeopts() >= 0);
+            Assert.assertTrue(result.getWarmupJitCompiles() >= 0 && result.getWarmupJitDeopts() >= 0);
+        }
+    }
+
+    @Test
+    public void noWarmup() {
+        MeasureResult result = Stalker.runStatis(Options.of("jit", 10).warmups(0), () -> { })[0];
+        Assert.assertTrue(result.isJitTracked());
+        Assert.assertEquals(-1, result.getWarmupJitCompiles());
+    }
+
+    @Test
+    public void disableJitStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("jit", 10).warmups(0).jitStats(false), () -> { })[0];
+        Assert.assertFalse(result.isJitTracked());
+    }
+
+}
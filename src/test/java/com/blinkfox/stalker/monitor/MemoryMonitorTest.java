@@ -0,0 +1,47 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * 内存分配和 GC 数据统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class MemoryMonitorTest {
+
+    /**
+     * 用于防止分配的对象被 JIT 优化掉.
+     */
+    private static volatile Object sink;
+
+    @Test
+    public void allocatedBytesPerOp() {
+        Assume.assumeTrue(MemoryMonitor.isAllocationSupported());
+        MeasureResult[] results = Stalker.runStatis(Options.of("memory", 2, 2, 500).warmups(100),
+                () -> sink = new byte[1024],
+                () -> sink = "no allocation");
+
+        Assert.assertTrue(results[0].isMemoryTracked());
+        Assert.assertEquals(1000, results[0].getTotal());
+        Assert.assertTrue(results[0].getAllocatedBytesPerOp() >= 1024);
+        Assert.assertTrue(results[0].getAllocatedBytesPerOp() < 2048);
+        Assert.assertTrue(results[0].getAllocationRate() > 0);
+        Assert.assertTrue(results[1].getAllocatedBytesPerOp() < 64);
+        Assert.assertTrue(results[1].getGcCount() >= 0);
+    }
+
+    @Test
+    public void disableMemoryStats() {
+        MeasureResult[] results = Stalker.runStatis(Options.of("memory", 10).warmups(0).memoryStats(false),
+                () -> sink = new byte[16]);
+        Assert.assertFalse(results[0].isMemoryTracked());
+        Assert.assertEquals(0, results[0].getAllocatedBytes());
+    }
+
+}
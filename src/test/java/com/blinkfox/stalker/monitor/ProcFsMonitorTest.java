@@ -0,0 +1,99 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Linux 运行环境数据统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class ProcFsMonitorTest {
+
+    @Test
+    public void readFixtures() throws IOException {
+        File root = Files.createTempDirectory("stalker-procfs").toFile();
+        write(root, "proc/self/stat", "4242 (java (main)) S 1 4242 4242 0 -1 4194560 1000 0 0 0 "
+                + "250 75 0 0 20 0 30 0 123456 0 0\n");
+        write(root, "proc/thread-self/status", "Name:\tjava\nState:\tR (running)\n"
+                + "voluntary_ctxt_switches:\t12\nnonvoluntary_ctxt_switches:\t3\n");
+        write(root, "proc/loadavg", "1.52 0.88 0.90 2/71 24783\n");
+        write(root, "proc/stat", "cpu  100 20 30 400 50 5 5 10 0 0\ncpu0 50 10 15 200 25 2 3 5 0 0\nctxt 42\n");
+        write(root, "sys/devices/system/cpu/cpu0/cpufreq/scaling_cur_freq", "2400000\n");
+        write(root, "sys/devices/system/cpu/cpu1/cpufreq/scaling_cur_freq", "1800000\n");
+        write(root, "sys/devices/system/cpu/cpufreq/policy0/scaling_cur_freq", "9999999\n");
+
+        ProcFs procFs = new ProcFs(root);
+        Assert.assertTrue(procFs.isAvailable());
+        Assert.assertArrayEquals(new long[] {TimeUnit.MILLISECONDS.toNanos(2500), TimeUnit.MILLISECONDS.toNanos(750)},
+                procFs.readProcessCpuTime());
+        Assert.assertArrayEquals(new long[] {12, 3}, procFs.readThreadContextSwitches());
+        Assert.assertEquals(1.52, procFs.readLoadAverage(), 0.001);
+        Assert.assertArrayEquals(new long[] {120, 40, 450, 10}, procFs.readSystemCpuTicks());
+        Assert.assertEquals(2100, procFs.readCpuFrequency());
+    }
+
+    @Test
+    public void readMissingFixtures() throws IOException {
+        ProcFs procFs = new ProcFs(Files.createTempDirectory("stalker-procfs").toFile());
+        Assert.assertFalse(procFs.isAvailable());
+        Assert.assertNull(procFs.readProcessCpuTime());
+        Assert.assertNull(procFs.readThreadContextSwitches());
+        Assert.assertEquals(-1, procFs.readLoadAverage(), 0);
+        Assert.assertNull(procFs.readSystemCpuTicks());
+        Assert.assertEquals(-1, procFs.readCpuFrequency());
+    }
+
+    @Test
+    public void procStats() {
+        Assume.assumeTrue(ProcFs.getInstance().isAvailable());
+        MeasureResult result = Stalker.runStatis(Options.of("proc", 2).warmups(0).procStats(true), () -> sleep(5))[0];
+
+        Assert.assertTrue(result.isProcTracked());
+        Assert.assertTrue(result.toString(), result.getVoluntaryContextSwitches() >= 2);
+        Assert.assertTrue(result.getInvoluntaryContextSwitches() >= 0);
+        Assert.assertTrue(result.getProcessUserTime() >= 0);
+        Assert.assertTrue(result.getMaxLoadAverage() >= 0);
+    }
+
+    @Test
+    public void disableProcStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("proc", 2).warmups(0).procStats(false), () -> { })[0];
+        Assert.assertFalse(result.isProcTracked());
+        Assert.assertFalse(result.isEnvironmentNoisy());
+    }
+
+    @Test
+    public void noisyEnvironment() {
+        MeasureResult result = new MeasureResult().setProcTracked(true).setCosts(TimeUnit.SECONDS.toNanos(1))
+                .setInvoluntaryContextSwitches(5).setCpuFrequencyStart(3000).setCpuFrequencyMin(2900);
+        Assert.assertFalse(result.isEnvironmentNoisy());
+        Assert.assertTrue(result.setCpuFrequencyMin(2000).isEnvironmentNoisy());
+        Assert.assertTrue(result.setCpuFrequencyMin(2900).setInvoluntaryContextSwitches(500).isEnvironmentNoisy());
+    }
+
+    private static void write(File root, String path, String content) throws IOException {
+        File file = new File(root, path);
+        Assert.assertTrue(file.getParentFile().isDirectory() || file.getParentFile().mkdirs());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.ResourceTrend;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 资源变化趋势统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class ResourceTrendMonitorTest {
+
+    @Test
+    public void fitGrowingAndStable() {
+        double[] hours = new double[20];
+        long[] growing = new long[20];
+        long[] stable = new long[20];
+        for (int i = 0; i < 20; i++) {
+            hours[i] = i / 10.0;
+            growing[i] = 1000 + i * 100 + (i % 2 == 0 ? 30 : -30);
+            stable[i] = 1000 + (i % 2 == 0 ? 30 : -30);
+        }
+
+        ResourceTrend trend = ResourceTrendMonitor.fit("Leak", true, hours, growing, 20);
+        Assert.assertTrue(trend.isGrowing());
+        Assert.assertEquals(1000, trend.getGrowthPerHour(), 50);
+        Assert.assertTrue(trend.getTau() >= 0.6);
+        Assert.assertEquals("+2.00 KB/h",
+                new ResourceTrend("Leak", true, 20, 0, 2048, 2048, 1, true).getEasyReadGrowthPerHour());
+        Assert.assertEquals("-3.00/h",
+                new ResourceTrend("Threads", false, 20, 9, 6, -3, -1, false).getEasyReadGrowthPerHour());
+
+        Assert.assertFalse(ResourceTrendMonitor.fit("Stable", false, hours, stable, 20).isGrowing());
+        Assert.assertFalse(ResourceTrendMonitor.fit("Short", true, hours, growing, 5).isGrowing());
+    }
+
+    @Test
+    public void intervalByOptions() {
+        Assert.assertEquals(TimeUnit.SECONDS.toNanos(1), ResourceTrendMonitor.getIntervalNanos(Options.of()));
+        Assert.assertEquals(TimeUnit.SECONDS.toNanos(30),
+                ResourceTrendMonitor.getIntervalNanos(Options.ofDuration(1, TimeUnit.HOURS)));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(10), ResourceTrendMonitor.getIntervalNanos(
+                Options.ofDuration(1, TimeUnit.HOURS).trendInterval(10, TimeUnit.MILLISECONDS)));
+    }
+
+    @Test
+    public void directMemoryLeak() {
+        List<ByteBuffer> leaked = new ArrayList<>();
+        MeasureResult result = Stalker.runStatis(Options.of("leak", 40).warmups(0)
+                .trendInterval(10, TimeUnit.MILLISECONDS), () -> {
+                    leaked.add(ByteBuffer.allocateDirect(64 * 1024));
+                    sleep(5);
+                })[0];
+
+        ResourceTrend direct = result.getResourceTrends().stream()
+                .filter(trend -> "Direct Memory".equals(trend.getResource()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assert.assertTrue(direct.toString(), direct.isTrendable());
+        Assert.assertTrue(direct.getLast() > direct.getFirst());
+        Assert.assertTrue(direct.isGrowing());
+        Assert.assertTrue(result.isResourceGrowing());
+        leaked.clear();
+    }
+
+    @Test
+    public void disableTrendStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("trend", 2).warmups(0).trendStats(false), () -> { })[0];
+        Assert.assertTrue(result.getResourceTrends().isEmpty());
+        Assert.assertFalse(result.isResourceGrowing());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
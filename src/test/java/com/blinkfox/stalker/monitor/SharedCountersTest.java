@@ -0,0 +1,89 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.test.prepare.MyTestService;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 内存映射共享计数器文件的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class SharedCountersTest {
+
+    @Test
+    public void writeAndRead() throws Exception {
+        File dir = Files.createTempDirectory("stalker-counters").toFile();
+        File file = new File(dir, "1-1" + SharedCountersLayout.FILE_SUFFIX);
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2_000_000);
+        histogram.record(3_000_000);
+
+        SharedCountersWriter writer = new SharedCountersWriter(file, "writeAndRead", 123L);
+        writer.publish(SharedCountersLayout.STATUS_RUNNING, 3, 2, 1, 1_000_000_000L, histogram);
+
+        SharedCountersSnapshot snapshot = SharedCountersReader.read(file);
+        Assert.assertNotNull(snapshot);
+        Assert.assertEquals("writeAndRead", snapshot.getName());
+        Assert.assertEquals(123L, snapshot.getStartMillis());
+        Assert.assertEquals(3, snapshot.getTotal());
+        Assert.assertEquals(2, snapshot.getSuccess());
+        Assert.assertEquals(1, snapshot.getFailure());
+        Assert.assertEquals(3.0, snapshot.getThroughput(), 1e-6);
+        Assert.assertEquals(2, snapshot.getHistogram().getTotalCount());
+        Assert.assertEquals("RUNNING", snapshot.getStatusName(snapshot.getUpdateMillis(), 5000));
+        Assert.assertNotNull(StalkerTop.render(dir.getPath(), SharedCountersReader.readAll(dir), 0));
+    }
+
+    @Test
+    public void publishWhenRunning() throws Exception {
+        File dir = Files.createTempDirectory("stalker-counters").toFile();
+        Stalker.run(Options.of("counters", 20, 4).warmups(0).sharedCounters(dir.getPath()),
+                () -> new MyTestService().fastHello());
+
+        List<SharedCountersSnapshot> snapshots = SharedCountersReader.readAll(dir);
+        Assert.assertEquals(1, snapshots.size());
+        SharedCountersSnapshot snapshot = snapshots.get(0);
+        Assert.assertEquals("counters", snapshot.getName());
+        Assert.assertEquals("COMPLETED", snapshot.getStatusName(System.currentTimeMillis(), 5000));
+        Assert.assertEquals(20, snapshot.getTotal());
+        Assert.assertEquals(snapshot.getSuccess(), snapshot.getHistogram().getTotalCount());
+    }
+
+    @Test
+    public void reuseFileForLaterRuns() throws Exception {
+        File dir = Files.createTempDirectory("stalker-counters").toFile();
+        for (int i = 1; i <= 3; i++) {
+            Stalker.run(Options.of("counters-" + i, 10 * i).warmups(0).sharedCounters(dir.getPath()),
+                    () -> new MyTestService().fastHello());
+        }
+
+        List<SharedCountersSnapshot> snapshots = SharedCountersReader.readAll(dir);
+        Assert.assertEquals(1, snapshots.size());
+        Assert.assertEquals("counters-3", snapshots.get(0).getName());
+        Assert.assertEquals(30, snapshots.get(0).getTotal());
+        Assert.assertEquals("COMPLETED", snapshots.get(0).getStatusName(System.currentTimeMillis(), 5000));
+    }
+
+    @Test
+    public void rewriteHeaderUnderOddSequence() throws Exception {
+        File dir = Files.createTempDirectory("stalker-counters").toFile();
+        File file = new File(dir, "1-1" + SharedCountersLayout.FILE_SUFFIX);
+        new SharedCountersWriter(file, "first", 1L)
+                .publish(SharedCountersLayout.STATUS_COMPLETED, 1, 1, 0, 10, new LatencyHistogram());
+        Assert.assertEquals("first", SharedCountersReader.read(file).getName());
+
+        SharedCountersWriter writer = new SharedCountersWriter(file, "second", 2L);
+        Assert.assertNull(SharedCountersReader.read(file));
+        writer.publish(SharedCountersLayout.STATUS_RUNNING, 0, 0, 0, 0, new LatencyHistogram());
+        Assert.assertEquals("second", SharedCountersReader.read(file).getName());
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.SlowInvocation;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 耗时最长的若干次执行统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class SlowestInvocationsMonitorTest {
+
+    @Test
+    public void slowestInvocations() {
+        AtomicInteger counter = new AtomicInteger();
+        MeasureResult result = Stalker.runStatis(Options.of("slowest", 200).warmups(0).slowest(3), () -> {
+            int i = counter.incrementAndGet();
+            if (i % 50 == 0) {
+                Stalker.tag("slow-" + i);
+                sleep(10 + i / 10);
+            }
+        })[0];
+
+        List<SlowInvocation> invocations = result.getSlowestInvocations();
+        Assert.assertEquals(3, invocations.size());
+        long previous = Long.MAX_VALUE;
+        for (SlowInvocation invocation : invocations) {
+            Assert.assertTrue(invocation.getCost() <= previous);
+            Assert.assertTrue(invocation.getCost() >= TimeUnit.MILLISECONDS.toNanos(10));
+            Assert.assertTrue(invocation.getStartOffset() >= 0);
+            Assert.assertNotNull(invocation.getThreadName());
+            Assert.assertTrue(invocation.getStackTrace().isEmpty());
+            previous = invocation.getCost();
+        }
+        Assert.assertEquals("slow-200", invocations.get(0).getTag());
+        Assert.assertEquals(result.getMax(), invocations.get(0).getCost());
+    }
+
+    @Test
+    public void stackOfRunningInvocation() {
+        MeasureResult result = Stalker.runStatis(Options.of("stack", 2).warmups(0).slowest(1)
+                .slowestStackThreshold(5, TimeUnit.MILLISECONDS), () -> sleep(40))[0];
+
+        SlowInvocation invocation = result.getSlowestInvocations().get(0);
+        Assert.assertNull(invocation.getTag());
+        Assert.assertFalse(invocation.getStackTrace().isEmpty());
+        Assert.assertTrue(invocation.getStackTrace().stream().anyMatch(frame -> frame.contains("sleep")));
+    }
+
+    @Test
+    public void disableSlowest() {
+        MeasureResult result = Stalker.runStatis(Options.of("none", 10).warmups(0).slowest(0), () -> { })[0];
+        Assert.assertTrue(result.getSlowestInvocations().isEmpty());
+    }
+
+    @Test
+    public void skipSamplesBelowHeapTop() {
+        Options options = Options.of("skip", 10).slowest(2);
+        AtomicInteger hooks = new AtomicInteger();
+        SlowestInvocationsMonitor monitor = new SlowestInvocationsMonitor(options) {
+            @Override
+            public void onWorkerSlowSample(long startNanos, long cost) {
+                Assert.assertTrue("耗时为【" + cost + "】的样本不应通知本监视器.", cost >= this.getSlowSampleNanos());
+                hooks.incrementAndGet();
+                super.onWorkerSlowSample(startNanos, cost);
+            }
+        };
+        MeasureMonitors monitors = new MeasureMonitors(Collections.singletonList(monitor));
+        monitors.start(options, null);
+        monitors.onWorkerStart();
+
+        // 与测量线程一样，只有耗时不小于阈值的样本才会通知监视器，堆满之后阈值会随着堆顶一起增大.
+        long[] costs = {50, 80, 10, 20, 50, 30, 90, 5};
+        for (int i = 0; i < costs.length; i++) {
+            if (costs[i] >= monitors.getSlowSampleNanos()) {
+                monitors.onWorkerSlowSample(i, costs[i]);
+            }
+        }
+        monitors.onWorkerEnd();
+
+        Assert.assertEquals(3, hooks.get());
+        Assert.assertEquals(81, monitors.getSlowSampleNanos());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.HotFrame;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 调用栈采样分析的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class StackSamplingMonitorTest {
+
+    /**
+     * 用于防止忙等的循环被 JIT 优化掉.
+     */
+    private static volatile long sink;
+
+    @Test
+    public void collapsedStacks() throws Exception {
+        StackTraceElement run = new StackTraceElement("java.lang.Thread", "run", null, -1);
+        StackTraceElement foo = new StackTraceElement("com.example.Foo", "foo", null, -1);
+        StackTraceElement bar = new StackTraceElement("com.example.Foo", "bar", null, -1);
+        CollapsedStacks stacks = new CollapsedStacks();
+        stacks.add(new StackTraceElement[] {bar, foo, run});
+        stacks.add(new StackTraceElement[] {bar, foo, run});
+        stacks.add(new StackTraceElement[] {foo, run});
+        stacks.add(new StackTraceElement[] {new StackTraceElement("com.example.Foo$$Lambda$1/0x0000000800c03000", "run",
+                null, -1)});
+        stacks.add(new StackTraceElement[0]);
+
+        Assert.assertEquals(4, stacks.getSamples());
+        List<HotFrame> hotFrames = stacks.topFrames(10);
+        Assert.assertEquals(3, hotFrames.size());
+        Assert.assertEquals("com.example.Foo.bar", hotFrames.get(0).getFrame());
+        Assert.assertEquals(2, hotFrames.get(0).getSelfSamples());
+        Assert.assertEquals(1, hotFrames.get(1).getSelfSamples());
+        Assert.assertEquals(3, hotFrames.get(1).getTotalSamples());
+        Assert.assertEquals(1, stacks.topFrames(1).size());
+
+        File file = File.createTempFile("stalker", StackSamplingMonitor.FILE_SUFFIX);
+        stacks.writeTo(file);
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals("java.lang.Thread.run;com.example.Foo.foo;com.example.Foo.bar 2", lines.get(0));
+        Assert.assertTrue(lines.contains("java.lang.Thread.run;com.example.Foo.foo 1"));
+        Assert.assertTrue(lines.contains("com.example.Foo$$Lambda.run 1"));
+    }
+
+    @Test
+    public void profile() throws Exception {
+        File dir = Files.createTempDirectory("stalker-profile").toFile();
+        MeasureResult result = Stalker.runStatis(Options.of("profile", 2, 2).runs(100).warmups(0)
+                .profile(1, TimeUnit.MILLISECONDS).profileDir(dir.getPath()), StackSamplingMonitorTest::spin)[0];
+
+        Assert.assertTrue(result.isProfiled());
+        Assert.assertTrue(result.toString(), result.getProfileSamples() > 0);
+        Assert.assertFalse(result.getHotFrames().isEmpty());
+        Assert.assertTrue(result.getHotFrames().size() <= StackSamplingMonitor.TOP_FRAMES);
+        Assert.assertNotNull(result.getCollapsedStacksFile());
+        Assert.assertTrue(new String(Files.readAllBytes(new File(result.getCollapsedStacksFile()).toPath()),
+                StandardCharsets.UTF_8).contains("StackSamplingMonitorTest.spin"));
+    }
+
+    @Test
+    public void disableProfile() {
+        MeasureResult result = Stalker.runStatis(Options.of("profile", 10).warmups(0), () -> { })[0];
+        Assert.assertFalse(result.isProfiled());
+        Assert.assertTrue(result.getHotFrames().isEmpty());
+    }
+
+    /**
+     * 忙等约 0.2 毫秒.
+     */
+    private static void spin() {
+        long end = System.nanoTime() + 200_000L;
+        long count = 0;
+        while (System.nanoTime() < end) {
+            ++count;
+        }
+        sink = count;
+    }
+
+}
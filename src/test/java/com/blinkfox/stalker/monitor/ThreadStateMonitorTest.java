@@ -0,0 +1,74 @@
+package com.blinkfox.stalker.monitor;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 线程状态和锁竞争统计的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class ThreadStateMonitorTest {
+
+    /**
+     * 测量线程之间竞争的锁.
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * 用于防止忙等的循环被 JIT 优化掉.
+     */
+    private static volatile long sink;
+
+    @Test
+    public void lockContention() {
+        MeasureResult result = Stalker.runStatis(Options.of("lock", 4, 4).runs(100).warmups(0).threadStats(true), () -> {
+            synchronized (LOCK) {
+                spin();
+            }
+        })[0];
+
+        Assert.assertTrue(result.isThreadStateTracked());
+        Assert.assertTrue(result.toString(), result.getBlockedCount() > 0);
+        Assert.assertTrue(result.toString(), result.getThreadStateSamples() > 0);
+        Assert.assertTrue(result.toString(), result.getBlockedPercent() > 0);
+        Assert.assertTrue(result.getContendedLocks().size() <= ThreadStateMonitor.TOP_LOCKS);
+        Assert.assertTrue(result.getContendedLocks().get(0).getLockName().startsWith("java.lang.Object@"));
+    }
+
+    @Test
+    public void waiting() {
+        MeasureResult result = Stalker.runStatis(Options.of("wait", 50).warmups(0).threadStats(true),
+                () -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)))[0];
+
+        Assert.assertTrue(result.toString(), result.getWaitedCount() >= 50);
+        Assert.assertTrue(result.getWaitedCountPerOp() >= 1);
+        Assert.assertTrue(result.toString(), result.getWaitingPercent() > 50);
+    }
+
+    @Test
+    public void disableThreadStats() {
+        MeasureResult result = Stalker.runStatis(Options.of("thread", 10).warmups(0).threadStats(false), () -> { })[0];
+        Assert.assertFalse(result.isThreadStateTracked());
+        Assert.assertEquals("N/A", result.getEasyReadThreadStates());
+    }
+
+    /**
+     * 忙等约 0.5 毫秒.
+     */
+    private static void spin() {
+        long end = System.nanoTime() + 500_000L;
+        long count = 0;
+        while (System.nanoTime() < end) {
+            ++count;
+        }
+        sink = count;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.blinkfox.stalker.output;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.StalkerFuture;
+import com.blinkfox.stalker.test.prepare.MyTestService;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link LiveDashboard} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class LiveDashboardTest {
+
+    /**
+     * 测试按次数运行时，进度需要同时考虑线程数和每个线程的运行次数.
+     */
+    @Test
+    public void getProgressWithRuns() {
+        Options options = Options.of(10, 2).runs(3);
+        Assert.assertEquals(50d, Stalker.getProgress(options, new MeasureResult().setTotal(15)), 1e-6);
+        Assert.assertEquals(100d, Stalker.getProgress(options, new MeasureResult().setTotal(30)), 1e-6);
+    }
+
+    /**
+     * 测试非终端环境下以行模式输出仪表盘.
+     */
+    @Test
+    public void renderWithLineMode() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StalkerFuture fast = Stalker.submit(Options.of("fast", 20, 2).runs(3).warmups(0),
+                () -> new MyTestService().fastHello());
+        StalkerFuture slow = Stalker.submit(Options.of("slow", 10, 2).warmups(0),
+                () -> new MyTestService().hello());
+
+        LiveDashboard.of(fast, slow)
+                .out(new PrintStream(bytes, true, "UTF-8"))
+                .ansi(false)
+                .refreshPeriod(20, TimeUnit.MILLISECONDS)
+                .start()
+                .awaitDone();
+
+        String content = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(content.contains("[fast] [####################] 100.00% | DONE"));
+        Assert.assertTrue(content.contains("[slow]"));
+        Assert.assertFalse(content.contains("\033["));
+        Assert.assertEquals(60, fast.getTotal());
+    }
+
+}
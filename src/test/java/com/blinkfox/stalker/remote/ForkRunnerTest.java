@@ -0,0 +1,81 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.output.AsciiTableOutput;
+import com.blinkfox.stalker.output.MeasureOutput;
+import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.remote.StalkerCoordinatorTest.ParkTask;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import com.blinkfox.stalker.result.WorkerResult.Status;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link ForkRunner} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class ForkRunnerTest {
+
+    /**
+     * 当前 JVM 中被测量方法的调用次数.
+     */
+    private static final AtomicInteger CALLS = new AtomicInteger();
+
+    /**
+     * 用于测试的待测量的静态方法.
+     */
+    public static void call() {
+        CALLS.incrementAndGet();
+    }
+
+    @Test
+    public void runInForks() {
+        MeasureResult[] results = Stalker.runStatisForked(Options.of("fork", 20).warmups(2).forks(2)
+                .forkJvmArgs("-Xmx64m"), ParkTask.class.getName(), ForkRunnerTest.class.getName() + "#call");
+
+        for (MeasureResult result : results) {
+            Assert.assertEquals(40, result.getSuccess());
+            Assert.assertEquals(2, result.getForks());
+            Assert.assertEquals(2, result.getPlannedForks());
+            Assert.assertFalse(result.isForkFailed());
+            Assert.assertEquals(2, result.getMergeableResult().getParts());
+            Assert.assertTrue(result.getForkAvgMean() > 0);
+            Assert.assertTrue(result.getForkAvgStdDev() >= 0);
+            Assert.assertEquals(2, result.getWorkerResults().size());
+            for (WorkerResult forkResult : result.getWorkerResults()) {
+                Assert.assertEquals(Status.DONE, forkResult.getStatus());
+                Assert.assertEquals(20, forkResult.getMeasureResult().getSuccess());
+            }
+        }
+    }
+
+    @Test
+    public void stopWhenForkFailed() {
+        Options options = Options.of("fork", 10).forks(3).outputs(MeasureOutput.ofList(new AsciiTableOutput()));
+        MeasureResult result = ForkRunner.run(options, "com.example.MissingTask");
+        Assert.assertEquals(0, result.getForks());
+        Assert.assertEquals(3, result.getPlannedForks());
+        Assert.assertEquals(1, result.getWorkerResults().size());
+        Assert.assertEquals(0, result.getTotal());
+        Assert.assertTrue(result.isForkFailed());
+
+        String table = (String) new MeasureOutputContext().output(options, result).get(0);
+        Assert.assertTrue(table.contains("计划在 3 个子 JVM 中运行"));
+    }
+
+    @Test
+    public void runInCurrentJvm() {
+        int before = CALLS.get();
+        MeasureResult result = Stalker.runStatisForked(Options.of("fork", 10).warmups(0),
+                ForkRunnerTest.class.getName() + "#call")[0];
+        Assert.assertEquals(10, result.getSuccess());
+        Assert.assertEquals(0, result.getForks());
+        Assert.assertEquals(before + 10, CALLS.get());
+    }
+
+}
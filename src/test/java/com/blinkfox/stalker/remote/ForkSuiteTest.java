@@ -0,0 +1,74 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.remote.ForkSuite.CorePool;
+import com.blinkfox.stalker.remote.StalkerCoordinatorTest.ParkTask;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import com.blinkfox.stalker.result.WorkerResult.Status;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link ForkSuite} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class ForkSuiteTest {
+
+    @Test
+    public void parseCpuList() {
+        Assert.assertEquals(new TreeSet<>(Arrays.asList(0, 1, 2, 3, 8, 10, 11)),
+                ForkSuite.parseCpuList(" 0-3,8,10-11\n"));
+        Assert.assertEquals(new TreeSet<>(Collections.singletonList(5)), ForkSuite.parseCpuList("5"));
+        Assert.assertTrue(ForkSuite.parseCpuList("").isEmpty());
+    }
+
+    @Test
+    public void acquireDisjointCores() throws Exception {
+        CorePool pool = new CorePool(Arrays.asList(Arrays.asList(0, 4), Arrays.asList(1, 5), Arrays.asList(2, 6)));
+        List<Integer> first = pool.acquire(2);
+        Assert.assertEquals(Arrays.asList(0, 4, 1, 5), first);
+
+        // 只剩一个核心时，再申请两个核心会被阻塞，直到第一次申请的核心被回收.
+        CompletableFuture<List<Integer>> second = CompletableFuture.supplyAsync(() -> pool.acquire(2));
+        Thread.sleep(100);
+        Assert.assertFalse(second.isDone());
+        pool.release(first);
+        Assert.assertEquals(Arrays.asList(0, 4, 1, 5), second.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList(2, 6), pool.acquire(1));
+
+        // 申请的核心数超过核心总数时，按核心总数申请.
+        pool.release(Arrays.asList(0, 4, 1, 5, 2, 6));
+        Assert.assertEquals(Arrays.asList(0, 4, 1, 5, 2, 6), pool.acquire(5));
+    }
+
+    @Test
+    public void runSuiteInOrder() {
+        MeasureResult[] results = ForkSuite.of()
+                .add(Options.of("first", 20).forks(2), ParkTask.class.getName())
+                .add(Options.of("second", 10), ForkRunnerTest.class.getName() + "#call")
+                .coresPerFork(1)
+                .runStatis();
+
+        Assert.assertEquals(2, results.length);
+        Assert.assertEquals(40, results[0].getSuccess());
+        Assert.assertEquals(2, results[0].getForks());
+        Assert.assertEquals(10, results[1].getSuccess());
+        Assert.assertEquals(1, results[1].getForks());
+        for (MeasureResult result : results) {
+            for (WorkerResult forkResult : result.getWorkerResults()) {
+                Assert.assertEquals(Status.DONE, forkResult.getStatus());
+            }
+        }
+        Assert.assertTrue(results[1].getWorkerResults().get(0).getWorker().startsWith("task-2-fork-1"));
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.output.AsciiTableOutput;
+import com.blinkfox.stalker.output.MeasureOutput;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link JvmMatrix} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class JvmMatrixTest {
+
+    /**
+     * 用于测试的、每次运行都会分配内存的待测量方法.
+     *
+     * @return 分配的数组
+     */
+    public static long[] allocate() {
+        return new long[1024];
+    }
+
+    @Test
+    public void compareJvmConfigs() {
+        Options options = Options.of("matrix", 200).warmups(10).forkJvmArgs("-Xmx64m")
+                .outputs(MeasureOutput.ofList(new AsciiTableOutput()));
+        JvmMatrix matrix = JvmMatrix.of(options, JvmMatrixTest.class.getName() + "#allocate")
+                .config("serial", "-XX:+UseSerialGC")
+                .config("c1", "-XX:TieredStopAtLevel=1");
+        MeasureResult[] results = matrix.runStatis();
+
+        Assert.assertEquals(2, results.length);
+        Assert.assertEquals("serial", results[0].getJvmConfig());
+        Assert.assertEquals(Arrays.asList("-Xmx64m", "-XX:+UseSerialGC"), results[0].getJvmArgs());
+        Assert.assertEquals("c1", results[1].getJvmConfig());
+        for (MeasureResult result : results) {
+            Assert.assertEquals(200, result.getSuccess());
+            Assert.assertEquals(1, result.getForks());
+            Assert.assertTrue(result.isMemoryTracked());
+            Assert.assertTrue(result.getGcCount() >= 0);
+        }
+
+        String table = (String) matrix.run().get(0);
+        Assert.assertTrue(table.contains("JVM Matrix"));
+        Assert.assertTrue(table.contains("-XX:TieredStopAtLevel=1"));
+    }
+
+    @Test
+    public void reportInvalidJvmArgs() {
+        MeasureResult result = JvmMatrix.of(Options.of("matrix", 10), JvmMatrixTest.class.getName() + "#allocate")
+                .config("invalid", "-XX:+NoSuchStalkerFlag")
+                .runStatis()[0];
+
+        WorkerResult forkResult = result.getWorkerResults().get(0);
+        Assert.assertTrue(forkResult.isFailed());
+        Assert.assertEquals("invalid-fork-1", forkResult.getWorker());
+        Assert.assertTrue(forkResult.getError(), forkResult.getError().contains("NoSuchStalkerFlag"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectDuplicateConfig() {
+        JvmMatrix.of(Options.of(), "Task").config("g1").config("g1");
+    }
+
+}
@@ -0,0 +1,243 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.WorkerResult;
+import com.blinkfox.stalker.result.WorkerResult.Status;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link StalkerCoordinator} 和 {@link StalkerWorker} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class StalkerCoordinatorTest {
+
+    /**
+     * 测试中的工作节点共同使用的访问令牌.
+     */
+    private static final String TOKEN = "stalker-test-token";
+
+    /**
+     * 在本机回环地址上启动一个使用测试令牌的工作节点.
+     *
+     * @return 工作节点
+     */
+    private static StalkerWorker startWorker() {
+        return StalkerWorker.listen(InetAddress.getLoopbackAddress(), 0, false, TOKEN).start();
+    }
+
+    @Test
+    public void encodeTask() {
+        Options options = Options.of("remote", 20).threads(4).concurrens(2).warmups(3).cpuStats(true)
+                .duration(5, TimeUnit.SECONDS).slowest(3).iterations(3).gcBetweenIterations(true);
+        RemoteTask task = RemoteTask.ofBytes(new RemoteTask(options, ParkTask.class.getName(), 1000).toBytes());
+
+        Options decoded = task.getOptions();
+        Assert.assertEquals(ParkTask.class.getName(), task.getTaskClass());
+        Assert.assertEquals(1000, task.getReportInterval());
+        Assert.assertEquals("remote", decoded.getName());
+        Assert.assertEquals(4, decoded.getThreads());
+        Assert.assertEquals(2, decoded.getConcurrens());
+        Assert.assertEquals(3, decoded.getWarmups());
+        Assert.assertEquals(20, decoded.getRuns());
+        Assert.assertTrue(decoded.isCpuStats());
+        Assert.assertEquals(3, decoded.getSlowest());
+        Assert.assertEquals(3, decoded.getIterations());
+        Assert.assertTrue(decoded.isGcBetweenIterations());
+        Assert.assertEquals(5, decoded.getDuration().getAmount());
+        Assert.assertEquals(TimeUnit.SECONDS, decoded.getDuration().getTimeUnit());
+        Assert.assertTrue(task.newRunnable() instanceof ParkTask);
+    }
+
+    @Test
+    public void invokeMethodTask() {
+        CountTask.count = 0;
+        Runnable runnable = new RemoteTask(Options.of("method"), CountTask.class.getName() + "#increase", 0)
+                .newRunnable();
+        runnable.run();
+        runnable.run();
+        Assert.assertEquals(2, CountTask.count);
+
+        Runnable failed = new RemoteTask(Options.of("method"), CountTask.class.getName() + "#fail", 0).newRunnable();
+        try {
+            failed.run();
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+            Assert.assertEquals("fail", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void bindLoopbackByDefault() {
+        StalkerWorker worker = StalkerWorker.listen(0, true);
+        try {
+            Assert.assertEquals(InetAddress.getLoopbackAddress().getHostAddress() + ":" + worker.getPort(),
+                    worker.getAddress());
+        } finally {
+            worker.close();
+        }
+    }
+
+    @Test
+    public void mergeWorkerResults() {
+        StalkerWorker first = startWorker();
+        StalkerWorker second = startWorker();
+        try {
+            DistributedFuture future = StalkerCoordinator.of(Options.of("remote", 30).threads(2).concurrens(2),
+                    ParkTask.class)
+                    .workers(first.getAddress(), second.getAddress())
+                    .token(TOKEN)
+                    .reportInterval(20, TimeUnit.MILLISECONDS)
+                    .submit()
+                    .waitDone(null, 20L);
+
+            Assert.assertTrue(future.isDoneSuccessfully());
+            Assert.assertEquals(120, future.getSuccess());
+            MeasureResult result = future.getMeasureResult();
+            Assert.assertEquals(120, result.getTotal());
+            Assert.assertEquals(2, result.getMergeableResult().getParts());
+            Assert.assertTrue(result.getMin() >= TimeUnit.MICROSECONDS.toNanos(100));
+
+            List<WorkerResult> workerResults = result.getWorkerResults();
+            Assert.assertEquals(2, workerResults.size());
+            for (WorkerResult workerResult : workerResults) {
+                Assert.assertEquals(Status.DONE, workerResult.getStatus());
+                Assert.assertEquals(60, workerResult.getMeasureResult().getSuccess());
+            }
+            Assert.assertFalse(result.isWorkerFailed());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void stopOthersWhenWorkerFailed() {
+        StalkerWorker worker = startWorker();
+        try {
+            DistributedFuture future = StalkerCoordinator.of(Options.of("remote").duration(30, TimeUnit.SECONDS),
+                    ParkTask.class)
+                    .workers(worker.getAddress(), "127.0.0.1:1")
+                    .token(TOKEN)
+                    .timeout(5, TimeUnit.SECONDS)
+                    .submit()
+                    .waitDone(null, 20L);
+
+            Assert.assertFalse(future.isDoneSuccessfully());
+            List<WorkerResult> workerResults = future.getWorkerResults();
+            Assert.assertEquals(Status.STOPPED, workerResults.get(0).getStatus());
+            Assert.assertEquals(Status.FAILED, workerResults.get(1).getStatus());
+            Assert.assertNotNull(workerResults.get(1).getError());
+            Assert.assertTrue(future.getMeasureResult().isWorkerFailed());
+        } finally {
+            worker.close();
+        }
+    }
+
+    @Test
+    public void failWhenTaskClassMissing() {
+        StalkerWorker worker = startWorker();
+        try {
+            DistributedFuture future = StalkerCoordinator.of(Options.of("remote", 10), "com.example.MissingTask")
+                    .workers(worker.getAddress())
+                    .token(TOKEN)
+                    .submit()
+                    .waitDone(null, 20L);
+
+            WorkerResult workerResult = future.getWorkerResults().get(0);
+            Assert.assertFalse(future.isDoneSuccessfully());
+            Assert.assertEquals(Status.FAILED, workerResult.getStatus());
+            Assert.assertTrue(workerResult.getError().contains("com.example.MissingTask"));
+        } finally {
+            worker.close();
+        }
+    }
+
+    @Test
+    public void rejectWrongToken() {
+        StalkerWorker worker = startWorker();
+        try {
+            DistributedFuture future = StalkerCoordinator.of(Options.of("remote", 10), ParkTask.class)
+                    .workers(worker.getAddress())
+                    .token("wrong-token")
+                    .submit()
+                    .waitDone(null, 20L);
+
+            WorkerResult workerResult = future.getWorkerResults().get(0);
+            Assert.assertFalse(future.isDoneSuccessfully());
+            Assert.assertEquals(Status.FAILED, workerResult.getStatus());
+            Assert.assertTrue(workerResult.getError().contains("访问令牌不正确"));
+        } finally {
+            worker.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void requireTokenForExistingWorkers() {
+        StalkerCoordinator.of(Options.of("remote", 10), ParkTask.class).workers("127.0.0.1:1").submit();
+    }
+
+    @Test
+    public void generateWorkerToken() {
+        StalkerWorker first = StalkerWorker.listen(0, true);
+        StalkerWorker second = StalkerWorker.listen(0, true);
+        try {
+            Assert.assertEquals(32, first.getToken().length());
+            Assert.assertNotEquals(first.getToken(), second.getToken());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void runLocalWorkers() {
+        DistributedFuture future = StalkerCoordinator.of(Options.of("remote", 20), ParkTask.class)
+                .localWorkers(2)
+                .jvmArgs("-Xmx64m")
+                .reportInterval(50, TimeUnit.MILLISECONDS)
+                .submit()
+                .waitDone(null, 50L);
+
+        Assert.assertTrue(future.isDoneSuccessfully());
+        Assert.assertEquals(40, future.getTotal());
+        Assert.assertFalse(future.get().isEmpty());
+    }
+
+    /**
+     * 用于测试以实例方法作为待测量任务的类.
+     */
+    public static class CountTask {
+
+        private static int count;
+
+        public void increase() {
+            count++;
+        }
+
+        public static void fail() {
+            throw new IllegalStateException("fail");
+        }
+
+    }
+
+    /**
+     * 用于测试的、每次运行约 100 微秒的任务.
+     */
+    public static class ParkTask implements Runnable {
+
+        @Override
+        public void run() {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+
+    }
+
+}
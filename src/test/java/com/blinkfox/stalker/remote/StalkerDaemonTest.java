@@ -0,0 +1,105 @@
+package com.blinkfox.stalker.remote;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.exception.StalkerException;
+import com.blinkfox.stalker.remote.StalkerDaemon.TaskClassLoader;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.task.DaemonTask;
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link StalkerDaemon} 和 {@link StalkerDaemonClient} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class StalkerDaemonTest {
+
+    @Test
+    public void runInFreshClassLoader() throws Exception {
+        String testClasses = new File(StalkerDaemonTest.class.getProtectionDomain().getCodeSource().getLocation()
+                .toURI()).getAbsolutePath();
+        try (StalkerDaemon daemon = StalkerDaemon.listen(0).start()) {
+            StalkerDaemonClient client = StalkerDaemonClient.of(daemon.getPort(), daemon.getToken())
+                    .classpath(testClasses);
+            for (int i = 0; i < 2; i++) {
+                MeasureResult result = client.runStatis(Options.of("daemon", 50).warmups(5),
+                        DaemonTask.class.getName() + "#call");
+                Assert.assertEquals(50, result.getSuccess());
+                Assert.assertTrue(result.isMemoryTracked());
+            }
+            Assert.assertEquals(0, DaemonTask.CALLS.get());
+        }
+    }
+
+    @Test
+    public void reportTaskError() {
+        try (StalkerDaemon daemon = StalkerDaemon.listen(0).start()) {
+            StalkerDaemonClient.of(daemon.getPort(), daemon.getToken())
+                    .runStatis(Options.of("daemon", 10), "com.example.MissingTask");
+            Assert.fail("守护 JVM 中加载不存在的任务时应该抛出异常.");
+        } catch (StalkerException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("com.example.MissingTask"));
+        }
+    }
+
+    @Test
+    public void rejectWrongToken() {
+        try (StalkerDaemon daemon = StalkerDaemon.listen(0).start()) {
+            StalkerDaemonClient.of(daemon.getPort(), "wrong")
+                    .runStatis(Options.of("daemon", 10), DaemonTask.class.getName() + "#call");
+            Assert.fail("访问令牌不正确时应该抛出异常.");
+        } catch (StalkerException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("令牌"));
+        }
+    }
+
+    @Test
+    public void keepServingAfterTaskError() {
+        try (StalkerDaemon daemon = StalkerDaemon.listen(0).start()) {
+            StalkerDaemonClient client = StalkerDaemonClient.of(daemon.getPort(), daemon.getToken());
+            try {
+                client.runStatis(Options.of("daemon", 10).warmups(1), DaemonTask.class.getName() + "#error");
+                Assert.fail("待测量任务抛出 Error 时应该抛出异常.");
+            } catch (StalkerException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("task error"));
+            }
+
+            MeasureResult result = client.runStatis(Options.of("daemon", 10), DaemonTask.class.getName() + "#call");
+            Assert.assertEquals(10, result.getSuccess());
+        }
+    }
+
+    @Test
+    public void loadStalkerClassesFromParent() throws Exception {
+        URL mainClasses = StalkerDaemon.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader parent = StalkerDaemonTest.class.getClassLoader();
+        try (TaskClassLoader loader = new TaskClassLoader(new URL[] {mainClasses}, parent)) {
+            Assert.assertSame(Options.class, loader.loadClass(Options.class.getName()));
+        }
+    }
+
+    @Test
+    public void excludeStalkerFromDefaultClasspath() throws Exception {
+        String mainClasses = new File(StalkerDaemon.class.getProtectionDomain().getCodeSource().getLocation()
+                .toURI()).getAbsolutePath();
+        List<String> classpath = StalkerDaemonClient.defaultClasspath();
+        Assert.assertFalse(classpath.contains(mainClasses));
+        Assert.assertFalse(classpath.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidPort() {
+        StalkerDaemonClient.of(0, "token");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectEmptyToken() {
+        StalkerDaemonClient.of(7070, "");
+    }
+
+}
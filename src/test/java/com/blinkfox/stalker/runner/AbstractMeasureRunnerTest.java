@@ -0,0 +1,52 @@
+package com.blinkfox.stalker.runner;
+
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.result.MeasureResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link AbstractMeasureRunner} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class AbstractMeasureRunnerTest {
+
+    @Test
+    public void countLegacyEachMeasures() {
+        LegacyRunner runner = new LegacyRunner();
+        MeasureResult result = runner.run(Options.of(3), () -> { });
+
+        Assert.assertEquals(3, result.getSuccess());
+        Assert.assertEquals(600, result.getSum());
+        Assert.assertEquals(100, result.getMin());
+        Assert.assertEquals(300, result.getMax());
+        Assert.assertEquals(200, result.getAvg());
+        Assert.assertEquals(3, runner.getHistogram().getTotalCount());
+    }
+
+    /**
+     * 仍然将每次的耗时写入已过时的 {@code eachMeasures} 队列中的运行器.
+     */
+    @SuppressWarnings("deprecation")
+    private static class LegacyRunner extends AbstractMeasureRunner {
+
+        @Override
+        public MeasureResult run(Options options, Runnable runnable) {
+            for (int i = 1; i <= options.getRuns(); i++) {
+                runnable.run();
+                super.eachMeasures.offer(i * 100L);
+                super.success.increment();
+            }
+            super.completed.compareAndSet(false, true);
+            return super.getMeasureResult();
+        }
+
+        @Override
+        public void stop() {
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.blinkfox.stalker.runner;
+
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.result.MergeableResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link CostAccumulator} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class CostAccumulatorTest {
+
+    @Test
+    public void keepPrecisionWithLowVariation() {
+        // 耗时都在 10 秒左右且只相差 1 纳秒时，平方和约为 1e26，直接用平方和计算偏差平方和会损失全部的有效数字.
+        long base = 10_000_000_000L;
+        int n = 1_000_000;
+        LatencyHistogram histogram = new LatencyHistogram();
+        CostAccumulator first = new CostAccumulator(histogram);
+        CostAccumulator second = new CostAccumulator(histogram);
+        for (int i = 0; i < n; i++) {
+            (i < n / 4 ? first : second).record(i % 2 == 0 ? base - 1 : base + 1);
+        }
+
+        MergeableResult result = second.mergeTo(first.mergeTo(new MergeableResult()));
+        Assert.assertEquals(n, result.getSuccess());
+        Assert.assertEquals(base * n, result.getSum());
+        Assert.assertEquals(base - 1, result.getMin());
+        Assert.assertEquals(base + 1, result.getMax());
+        Assert.assertEquals(n, result.getM2(), 1e-3 * n);
+        Assert.assertEquals(1, result.toMeasureResult().getStdDev(), 1e-3);
+        Assert.assertEquals(n, histogram.getTotalCount());
+    }
+
+    @Test
+    public void skipEmptyAccumulator() {
+        CostAccumulator accumulator = new CostAccumulator(new LatencyHistogram());
+        accumulator.record(3);
+        accumulator.record(5);
+        MergeableResult result = new CostAccumulator(new LatencyHistogram())
+                .mergeTo(accumulator.mergeTo(new MergeableResult()));
+        Assert.assertEquals(2, result.getSuccess());
+        Assert.assertEquals(3, result.getMin());
+        Assert.assertEquals(2, result.getM2(), 1e-9);
+    }
+
+}
@@ -2,7 +2,10 @@ package com.blinkfox.stalker.test;
 
 import com.blinkfox.stalker.Assert;
 import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.monitor.MemoryMonitor;
+import com.blinkfox.stalker.result.MeasureResult;
 import com.blinkfox.stalker.test.prepare.MyTestService;
+import org.junit.Assume;
 import org.junit.Test;
 
 /**
@@ -13,6 +16,11 @@ import org.junit.Test;
  */
 public class AssertTest {
 
+    /**
+     * 用于防止分配的对象被 JIT 优化掉.
+     */
+    private static volatile Object sink;
+
     @Test(expected = AssertionError.class)
     public void fail() {
         Assert.fail();
@@ -32,4 +40,39 @@ public class AssertTest {
                 () -> new MyTestService().fastHello());
     }
 
+    @Test
+    public void assertFasterInterleaved() {
+        Assert.assertFaster(Options.of(40).interleave(5),
+                () -> new MyTestService().fastHello(),
+                () -> new MyTestService().hello());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void assertFasterInterleavedWithFail() {
+        Assert.assertFaster(Options.of(40).interleave(5),
+                () -> new MyTestService().hello(),
+                () -> new MyTestService().fastHello());
+    }
+
+    @Test
+    public void assertZeroAllocation() {
+        Assume.assumeTrue(MemoryMonitor.isAllocationSupported());
+        MeasureResult result = Assert.assertZeroAllocation(Options.of(20000).warmups(20000), () -> sink = "hello");
+        org.junit.Assert.assertTrue(result.getAllocatedBytesPerOp() <= Assert.ZERO_ALLOCATION_BYTES_PER_OP);
+    }
+
+    @Test
+    public void assertAllocatesAtMost() {
+        Assume.assumeTrue(MemoryMonitor.isAllocationSupported());
+        Options options = Options.of(20000).warmups(20000).memoryStats(false);
+        Assert.assertAllocatesAtMost(options, 1024, () -> sink = new byte[64]);
+        org.junit.Assert.assertFalse(options.isMemoryStats());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void assertAllocatesAtMostWithFail() {
+        Assume.assumeTrue(MemoryMonitor.isAllocationSupported());
+        Assert.assertAllocatesAtMost(Options.of(20000).warmups(20000), 16, () -> sink = new byte[64]);
+    }
+
 }
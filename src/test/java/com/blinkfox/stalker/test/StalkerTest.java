@@ -5,6 +5,8 @@ import com.blinkfox.stalker.config.Options;
 import com.blinkfox.stalker.kit.StrKit;
 import com.blinkfox.stalker.output.AsciiTableOutput;
 import com.blinkfox.stalker.output.MeasureOutput;
+import com.blinkfox.stalker.output.MeasureOutputContext;
+import com.blinkfox.stalker.result.MeasureResult;
 import com.blinkfox.stalker.result.StalkerFuture;
 import com.blinkfox.stalker.test.prepare.MyTestService;
 import java.util.concurrent.TimeUnit;
@@ -79,6 +81,64 @@ public class StalkerTest {
                 () -> new MyTestService().fastHello());
     }
 
+    /**
+     * 测试多次迭代时的执行情况.
+     */
+    @Test
+    public void runWithIterations() {
+        Options options = Options.of("iterations", 30).warmups(5).iterations(3).gcBetweenIterations(true)
+                .iterationPause(10, TimeUnit.MILLISECONDS).outputs(MeasureOutput.ofList(new AsciiTableOutput()));
+        MeasureResult result = Stalker.runStatis(options, () -> new MyTestService().fastHello())[0];
+
+        Assert.assertEquals(3, result.getIterations());
+        Assert.assertEquals(90, result.getSuccess());
+        Assert.assertEquals(3, result.getIterationResults().size());
+        for (MeasureResult iterationResult : result.getIterationResults()) {
+            Assert.assertEquals(30, iterationResult.getSuccess());
+            Assert.assertTrue(iterationResult.isMemoryTracked());
+        }
+        Assert.assertTrue(result.getIterationLowerConfidence() <= result.getIterationAvgMean());
+        Assert.assertTrue(result.getIterationUpperConfidence() >= result.getIterationAvgMean());
+
+        String table = (String) new MeasureOutputContext().output(options, result).get(0);
+        Assert.assertTrue(table.contains("Between Iterations"));
+    }
+
+    /**
+     * 测试交替对比测量多个任务时的执行情况.
+     */
+    @Test
+    public void runInterleaved() {
+        Options options = Options.of("interleaved", 30).warmups(2).interleave(3)
+                .outputs(MeasureOutput.ofList(new AsciiTableOutput()));
+        MeasureResult[] results = Stalker.runStatis(options,
+                () -> new MyTestService().fastHello(),
+                () -> new MyTestService().slowHello());
+
+        Assert.assertEquals(10, results[0].getInterleaveRounds());
+        Assert.assertEquals(30, results[0].getTotal());
+        Assert.assertEquals(30, results[1].getTotal());
+        Assert.assertEquals(0, results[0].getRelativeDiff(), 1e-9);
+        Assert.assertTrue(results[1].getRelativeDiffLower() > 0);
+        Assert.assertTrue(results[1].isRelativeDiffSignificant());
+
+        String table = (String) new MeasureOutputContext().output(options, results).get(0);
+        Assert.assertTrue(table.contains("Interleaved Comparison"));
+    }
+
+    /**
+     * 测试交替对比测量时每个任务的运行次数包含线程数.
+     */
+    @Test
+    public void runInterleavedWithThreads() {
+        MeasureResult[] results = Stalker.runStatis(Options.of("interleaved", 10).threads(2).warmups(0).interleave(3),
+                () -> { }, () -> { });
+
+        Assert.assertEquals(7, results[0].getInterleaveRounds());
+        Assert.assertEquals(20, results[0].getTotal());
+        Assert.assertEquals(20, results[1].getTotal());
+    }
+
     /**
      * 测试 Options 为 null 时的执行情况.
      */
@@ -86,4 +86,20 @@ public class OptionsTest {
         Options.of().runs(0).valid();
     }
 
+    /**
+     * 测试迭代次数不对时的 valid 方法.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void validWithIterations() {
+        Options.of().iterations(0).valid();
+    }
+
+    /**
+     * 测试交替对比测量时并发数不对时的 valid 方法.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void validWithInterleave() {
+        Options.of(2, 2).interleave(10).valid();
+    }
+
 }
@@ -18,4 +18,57 @@ public class MathKitTest {
         Assert.assertEquals(2000, MathKit.calcThroughput(150, 75_000_000), 1e-6);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void calcAndMergeM2() {
+        Assert.assertEquals(0, MathKit.calcM2(0, 0, 0), 0);
+        Assert.assertEquals(2, MathKit.calcM2(3, 6, 14), 1e-9);
+        Assert.assertEquals(MathKit.calcM2(5, 15, 55), MathKit.mergeM2(3, 6, 2, 2, 9, 0.5), 1e-9);
+        Assert.assertEquals(0.5, MathKit.mergeM2(0, 0, 0, 2, 9, 0.5), 0);
+    }
+
+    @Test
+    public void calcSlope() {
+        double[] xs = {0, 1, 2, 3};
+        Assert.assertEquals(2, MathKit.calcSlope(xs, new double[] {1, 3, 5, 7}, 4), 1e-9);
+        Assert.assertEquals(0, MathKit.calcSlope(xs, new double[] {1, 1, 1, 1}, 4), 1e-9);
+        Assert.assertEquals(0, MathKit.calcSlope(xs, new double[] {1}, 1), 1e-9);
+    }
+
+    @Test
+    public void calcSampleStdDev() {
+        Assert.assertEquals(Math.sqrt(2.5), MathKit.calcSampleStdDev(new double[] {1, 2, 3, 4, 5}, 5), 1e-9);
+        Assert.assertEquals(0.5 * Math.sqrt(2), MathKit.calcSampleStdDev(new double[] {1, 2, 9}, 2), 1e-9);
+        Assert.assertEquals(0, MathKit.calcSampleStdDev(new double[] {7}, 1), 1e-9);
+    }
+
+    @Test
+    public void calcStudentT975() {
+        Assert.assertEquals(0, MathKit.calcStudentT975(0), 1e-9);
+        Assert.assertEquals(12.706, MathKit.calcStudentT975(1), 1e-9);
+        Assert.assertEquals(2.042, MathKit.calcStudentT975(30), 1e-9);
+        Assert.assertEquals(2.021, MathKit.calcStudentT975(40), 1e-3);
+        Assert.assertEquals(1.984, MathKit.calcStudentT975(100), 1e-3);
+    }
+
+    @Test
+    public void calcKendallTau() {
+        Assert.assertEquals(1, MathKit.calcKendallTau(new double[] {1, 2, 3, 4}, 4), 1e-9);
+        Assert.assertEquals(-1, MathKit.calcKendallTau(new double[] {4, 3, 2, 1}, 4), 1e-9);
+        Assert.assertEquals(0, MathKit.calcKendallTau(new double[] {1, 1, 1, 1}, 4), 1e-9);
+        Assert.assertEquals(2.0 / 3, MathKit.calcKendallTau(new double[] {1, 3, 2, 4}, 4), 1e-9);
+    }
+
+    @Test
+    public void findChangePoints() {
+        double[] ys = new double[30];
+        for (int i = 0; i < ys.length; i++) {
+            ys[i] = (i < 12 ? 1000 : i < 22 ? 600 : 900) + (i % 3 - 1) * 10;
+        }
+        Assert.assertArrayEquals(new int[] {12, 22}, MathKit.findChangePoints(ys, 30, 3, 5, 0.05));
+        Assert.assertArrayEquals(new int[] {12}, MathKit.findChangePoints(ys, 20, 3, 5, 0.05));
+        Assert.assertArrayEquals(new int[0], MathKit.findChangePoints(ys, 12, 3, 5, 0.05));
+        Assert.assertArrayEquals(new int[0], MathKit.findChangePoints(ys, 4, 3, 5, 0.05));
+        Assert.assertArrayEquals(new int[] {3}, MathKit.findChangePoints(new double[] {1, 1, 1, 2, 2, 2}, 6, 3, 5, 0));
+    }
+
+}
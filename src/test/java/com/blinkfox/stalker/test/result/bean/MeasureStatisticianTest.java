@@ -0,0 +1,34 @@
+package com.blinkfox.stalker.test.result.bean;
+
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MeasureStatistician;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link MeasureStatistician} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class MeasureStatisticianTest {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void updateWithEachCosts() {
+        MeasureStatistician statistician = new MeasureStatistician();
+        statistician.update(2, 0, 1000, Arrays.asList(100L, 300L));
+        MeasureResult result = statistician.updateAndGet(4, 1, 2000, Arrays.asList(200L, 400L));
+
+        MeasureResult expected = new MeasureStatistician().updateAndGet(4, 1, 2000, 1000, 100, 400, 50_000);
+        Assert.assertEquals(5, result.getTotal());
+        Assert.assertEquals(1000, result.getSum());
+        Assert.assertEquals(100, result.getMin());
+        Assert.assertEquals(400, result.getMax());
+        Assert.assertEquals(250, result.getAvg());
+        Assert.assertEquals(expected.getStdDev(), result.getStdDev(), 1e-9);
+        Assert.assertEquals(expected.getLowerConfidence(), result.getLowerConfidence(), 1e-9);
+    }
+
+}
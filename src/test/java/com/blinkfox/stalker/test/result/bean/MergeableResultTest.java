@@ -0,0 +1,127 @@
+package com.blinkfox.stalker.test.result.bean;
+
+import com.blinkfox.stalker.Stalker;
+import com.blinkfox.stalker.config.Options;
+import com.blinkfox.stalker.kit.LatencyHistogram;
+import com.blinkfox.stalker.kit.MathKit;
+import com.blinkfox.stalker.result.MeasureResult;
+import com.blinkfox.stalker.result.MergeableResult;
+import com.blinkfox.stalker.result.MergeableResult.MergedRuns;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link MergeableResult} 的单元测试类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public class MergeableResultTest {
+
+    @Test
+    public void mergeExactly() {
+        long[] first = {100, 200, 300, 400};
+        long[] second = {1000, 1500, 2500};
+        MergeableResult merged = of(first, 10_000).merge(of(second, 20_000));
+        MeasureResult expected = of(new long[] {100, 200, 300, 400, 1000, 1500, 2500}, 20_000).toMeasureResult();
+
+        MeasureResult result = merged.toMeasureResult();
+        Assert.assertEquals(2, merged.getParts());
+        Assert.assertEquals(7, result.getSuccess());
+        Assert.assertEquals(20_000, result.getCosts());
+        Assert.assertEquals(100, result.getMin());
+        Assert.assertEquals(2500, result.getMax());
+        Assert.assertEquals(expected.getSum(), result.getSum());
+        Assert.assertEquals(expected.getAvg(), result.getAvg());
+        Assert.assertEquals(expected.getStdDev(), result.getStdDev(), 1e-9);
+        Assert.assertEquals(expected.getLatencyP99(), result.getLatencyP99());
+        Assert.assertNotNull(result.getMergeableResult());
+
+        MergeableResult appended = of(first, 10_000).append(of(second, 20_000));
+        Assert.assertEquals(30_000, appended.getCosts());
+        Assert.assertEquals(expected.getStdDev(), appended.toMeasureResult().getStdDev(), 1e-9);
+    }
+
+    @Test
+    public void mergeEmpty() {
+        MergeableResult merged = new MergeableResult().setFailure(2).merge(of(new long[] {5, 7}, 100));
+        Assert.assertEquals(5, merged.getMin());
+        Assert.assertEquals(7, merged.getMax());
+        Assert.assertEquals(2, merged.getFailure());
+        Assert.assertEquals(1.0, merged.toMeasureResult().getStdDev(), 1e-9);
+    }
+
+    @Test
+    public void encodeAndDecode() {
+        MergeableResult result = of(new long[] {3, 50, 50, 9000, 1_000_000}, 5_000_000).setFailure(1);
+        byte[] bytes = result.toBytes();
+        Assert.assertTrue(bytes.length < 128);
+
+        MergeableResult decoded = MergeableResult.ofBytes(bytes);
+        Assert.assertEquals(result.getParts(), decoded.getParts());
+        Assert.assertEquals(result.getCosts(), decoded.getCosts());
+        Assert.assertEquals(result.getSuccess(), decoded.getSuccess());
+        Assert.assertEquals(result.getFailure(), decoded.getFailure());
+        Assert.assertEquals(result.getSum(), decoded.getSum());
+        Assert.assertEquals(result.getMin(), decoded.getMin());
+        Assert.assertEquals(result.getMax(), decoded.getMax());
+        Assert.assertEquals(result.getM2(), decoded.getM2(), 0);
+        Assert.assertArrayEquals(result.getHistogram().getCounts(), decoded.getHistogram().getCounts());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeBadBytes() {
+        MergeableResult.ofBytes(new byte[] {1, 2, 3, 4, 5});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeTruncatedBytes() {
+        byte[] bytes = of(new long[] {1, 2}, 10).toBytes();
+        MergeableResult.ofBytes(Arrays.copyOf(bytes, bytes.length - 3));
+    }
+
+    @Test
+    public void mergeRuns() {
+        MergedRuns merged = MergeableResult.mergeRuns(Arrays.asList(of(new long[] {100, 300}, 1000), null,
+                new MergeableResult().setFailure(1), of(new long[] {400, 400}, 2000)));
+        Assert.assertEquals(2, merged.getMeasured());
+        Assert.assertEquals(300, merged.getAvgMean(), 1e-9);
+        Assert.assertEquals(Math.sqrt(20000), merged.getAvgStdDev(), 1e-9);
+
+        MeasureResult result = merged.getMeasureResult();
+        Assert.assertEquals(4, result.getSuccess());
+        Assert.assertEquals(1, result.getFailure());
+        Assert.assertEquals(3000, result.getCosts());
+        Assert.assertEquals(300, result.getAvg(), 1e-9);
+        Assert.assertEquals(3, result.getMergeableResult().getParts());
+    }
+
+    @Test
+    public void mergeRunResults() {
+        MeasureResult[] results = Stalker.runStatis(Options.of("merge", 50).warmups(0), () -> { }, () -> { });
+        MergeableResult merged = results[0].getMergeableResult().copy().merge(results[1].getMergeableResult());
+        MeasureResult result = merged.toMeasureResult();
+        Assert.assertEquals(100, result.getSuccess());
+        Assert.assertEquals(results[0].getSum() + results[1].getSum(), result.getSum());
+        Assert.assertEquals(100, result.getMergeableResult().getHistogram().getTotalCount());
+    }
+
+    private static MergeableResult of(long[] costs, long runCosts) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        double squareSum = 0;
+        for (long cost : costs) {
+            histogram.record(cost);
+            sum += cost;
+            min = Math.min(min, cost);
+            max = Math.max(max, cost);
+            squareSum += (double) cost * cost;
+        }
+        return new MergeableResult().setCosts(runCosts).setSuccess(costs.length).setSum(sum).setMin(min).setMax(max)
+                .setM2(MathKit.calcM2(costs.length, sum, squareSum)).setHistogram(histogram);
+    }
+
+}
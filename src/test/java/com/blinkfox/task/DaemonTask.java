@@ -0,0 +1,38 @@
+package com.blinkfox.task;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 用于测试守护 JVM 的待测量任务，该类不在 {@code com.blinkfox.stalker} 包下，因此守护 JVM 会使用新的类加载器重新加载该类.
+ *
+ * @author blinkfox on 2026-10-19.
+ * @since v1.3.0
+ */
+public final class DaemonTask {
+
+    /**
+     * 被测量方法的调用次数，守护 JVM 使用新的类加载器加载本类时，调用的是另一份静态变量.
+     */
+    public static final AtomicInteger CALLS = new AtomicInteger();
+
+    /**
+     * 私有构造方法.
+     */
+    private DaemonTask() {
+    }
+
+    /**
+     * 用于测试的待测量的静态方法.
+     */
+    public static void call() {
+        CALLS.incrementAndGet();
+    }
+
+    /**
+     * 用于测试的会抛出 {@link Error} 的待测量的静态方法.
+     */
+    public static void error() {
+        throw new AssertionError("task error");
+    }
+
+}